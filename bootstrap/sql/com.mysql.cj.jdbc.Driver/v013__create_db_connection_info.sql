@@ -39,3 +39,29 @@ SET json = JSON_INSERT(
     JSON_EXTRACT(json, '$.sourceConfig.config.dbtConfigSource.dbtSecurityConfig.gcsConfig')
 )
 WHERE json -> '$.sourceConfig.config.type' = 'DBT';
+
+-- Usage of an entity over the trailing days is looked up by id and date
+ALTER TABLE entity_usage ADD INDEX entity_usage_id_date_index (id, usageDate);
+
+-- Change events are paged by time, and by the offset they were written at
+ALTER TABLE change_event ADD COLUMN eventOffset BIGINT UNSIGNED NOT NULL AUTO_INCREMENT UNIQUE,
+    ADD INDEX change_event_time_offset_index (eventTime, eventOffset);
+
+-- Superseded change events of an entity are compacted
+ALTER TABLE change_event ADD COLUMN entityId VARCHAR(36) GENERATED ALWAYS AS (json ->> '$.entityId'),
+    ADD INDEX change_event_entity_offset_index (entityId, eventOffset);
+
+-- Ingestion pipeline statuses are looked up by run id
+ALTER TABLE entity_extension_time_series ADD COLUMN runId VARCHAR(256) GENERATED ALWAYS AS (json ->> '$.runId'),
+    ADD INDEX entity_extension_time_series_run_id_index (runId);
+
+-- The latest status of each ingestion pipeline is kept with the pipeline
+INSERT IGNORE INTO entity_extension (id, extension, jsonSchema, json)
+SELECT ip.id, 'ingestionPipeline.latestPipelineStatus', 'ingestionPipelineStatus', ts.json
+FROM ingestion_pipeline_entity ip
+JOIN entity_extension_time_series ts
+  ON ts.entityFQN = ip.fullyQualifiedName AND ts.extension = 'ingestionPipeline.pipelineStatus'
+WHERE ts.timestamp = (
+    SELECT MAX(latest.timestamp) FROM entity_extension_time_series latest
+    WHERE latest.entityFQN = ts.entityFQN AND latest.extension = ts.extension
+);
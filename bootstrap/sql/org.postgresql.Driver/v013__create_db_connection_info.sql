@@ -27,3 +27,30 @@ where serviceType in ('Datalake')
 UPDATE ingestion_pipeline_entity
 SET json = jsonb_set(json::jsonb #- '{sourceConfig,config,dbtConfigSource,dbtSecurityConfig,gcsConfig}', '{sourceConfig,config,dbtConfigSource,dbtSecurityConfig,gcpConfig}', (json#>'{sourceConfig,config,dbtConfigSource,dbtSecurityConfig,gcsConfig}')::jsonb)
 WHERE json#>>'{sourceConfig,config,dbtConfigSource,dbtSecurityConfig}' is not null and json#>>'{sourceConfig,config,dbtConfigSource,dbtSecurityConfig,gcsConfig}' is not null;
+
+-- Usage of an entity over the trailing days is looked up by id and date
+CREATE INDEX IF NOT EXISTS entity_usage_id_date_index ON entity_usage(id, usageDate);
+
+-- Change events are paged by time, and by the offset they were written at
+ALTER TABLE change_event ADD COLUMN IF NOT EXISTS eventOffset BIGSERIAL;
+CREATE INDEX IF NOT EXISTS change_event_time_offset_index ON change_event(eventTime, eventOffset);
+
+-- Superseded change events of an entity are compacted
+ALTER TABLE change_event ADD COLUMN IF NOT EXISTS entityId VARCHAR(36) GENERATED ALWAYS AS (json ->> 'entityId') STORED;
+CREATE INDEX IF NOT EXISTS change_event_entity_offset_index ON change_event(entityId, eventOffset);
+
+-- Ingestion pipeline statuses are looked up by run id
+ALTER TABLE entity_extension_time_series ADD COLUMN IF NOT EXISTS runId VARCHAR(256) GENERATED ALWAYS AS (json ->> 'runId') STORED;
+CREATE INDEX IF NOT EXISTS entity_extension_time_series_run_id_index ON entity_extension_time_series(runId);
+
+-- The latest status of each ingestion pipeline is kept with the pipeline
+INSERT INTO entity_extension (id, extension, jsonSchema, json)
+SELECT ip.id, 'ingestionPipeline.latestPipelineStatus', 'ingestionPipelineStatus', ts.json
+FROM ingestion_pipeline_entity ip
+JOIN entity_extension_time_series ts
+  ON ts.entityFQN = ip.fullyQualifiedName AND ts.extension = 'ingestionPipeline.pipelineStatus'
+WHERE ts.timestamp = (
+    SELECT MAX(latest.timestamp) FROM entity_extension_time_series latest
+    WHERE latest.entityFQN = ts.entityFQN AND latest.extension = ts.extension
+)
+ON CONFLICT (id, extension) DO NOTHING;
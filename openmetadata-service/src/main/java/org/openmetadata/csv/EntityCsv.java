@@ -23,13 +23,17 @@ import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.ws.rs.core.Response;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVFormat.Builder;
@@ -43,11 +47,11 @@ import org.openmetadata.schema.type.TagLabel;
 import org.openmetadata.schema.type.TagLabel.TagSource;
 import org.openmetadata.schema.type.csv.CsvDocumentation;
 import org.openmetadata.schema.type.csv.CsvErrorType;
-import org.openmetadata.schema.type.csv.CsvFile;
 import org.openmetadata.schema.type.csv.CsvHeader;
 import org.openmetadata.schema.type.csv.CsvImportResult;
 import org.openmetadata.schema.type.csv.CsvImportResult.Status;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO.TransactionDAO;
 import org.openmetadata.service.jdbi3.EntityRepository;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.JsonUtils;
@@ -67,11 +71,16 @@ public abstract class EntityCsv<T extends EntityInterface> {
   public static final String IMPORT_STATUS_FAILED = "failure";
   public static final String ENTITY_CREATED = "Entity created";
   public static final String ENTITY_UPDATED = "Entity updated";
+  public static final int BATCH_SIZE = 100;
+  private static final String RECORD_SAVEPOINT = "csvRecord";
   private final String entityType;
   private final List<CsvHeader> csvHeaders;
-  private final CsvImportResult importResult = new CsvImportResult();
+  @Getter private final CsvImportResult importResult = new CsvImportResult();
   protected boolean processRecord; // When set to false record processing is discontinued
-  protected final Map<String, T> dryRunCreatedEntities = new HashMap<>();
+  // References of the entities created by a dry run, by their fully qualified names
+  protected final Map<String, EntityReference> dryRunCreatedEntities = new HashMap<>();
+  private final List<List<String>> pendingResults = new ArrayList<>();
+  private Iterator<CSVRecord> records;
   private final String importedBy;
 
   protected EntityCsv(String entityType, List<CsvHeader> csvHeaders, String importedBy) {
@@ -82,35 +91,81 @@ public abstract class EntityCsv<T extends EntityInterface> {
 
   /** Import entities from a CSV file */
   public final CsvImportResult importCsv(String csv, boolean dryRun) throws IOException {
-    importResult.withDryRun(dryRun);
     StringWriter writer = new StringWriter();
-    CSVPrinter resultsPrinter = getResultsCsv(csvHeaders, writer);
-    if (resultsPrinter == null) {
-      return importResult;
+    importCsv(new StringReader(csv), writer, dryRun);
+    if (!Status.ABORTED.equals(importResult.getStatus())) {
+      importResult.withImportResultsCsv(writer.toString());
     }
+    return importResult;
+  }
+
+  /** Import entities from a CSV file read from the given reader, streaming the import results to the given writer */
+  public final CsvImportResult importCsv(Reader csv, Writer resultsWriter, boolean dryRun) throws IOException {
+    return validateCsv(csv, dryRun) ? importRecords(resultsWriter) : importResult;
+  }
+
+  /**
+   * Parse the CSV file read from the given reader and validate its headers. Returns false when the import is aborted,
+   * with the reason in the import result. Otherwise, the records are imported by {@link #importRecords(Writer)}. This
+   * allows rejecting an invalid CSV file before streaming the import results.
+   */
+  public final boolean validateCsv(Reader csv, boolean dryRun) {
+    importResult.withDryRun(dryRun);
 
     // Parse CSV
-    Iterator<CSVRecord> records = parse(csv);
+    records = parse(csv);
     if (records == null) {
-      return importResult; // Error during parsing
+      return false; // Error during parsing
     }
 
-    // First record is CSV header - Validate headers
-    List<String> expectedHeaders = CsvUtil.getHeaders(csvHeaders);
-    if (!validateHeaders(expectedHeaders, records.next())) {
-      return importResult;
+    try {
+      // First record is CSV header - Validate headers
+      List<String> expectedHeaders = CsvUtil.getHeaders(csvHeaders);
+      if (!records.hasNext()) {
+        documentFailure(invalidHeader(recordToString(expectedHeaders), ""));
+        return false;
+      }
+      if (!validateHeaders(expectedHeaders, records.next())) {
+        return false;
+      }
+    } catch (UncheckedIOException e) {
+      // Records are parsed lazily from the reader and parsing errors are surfaced during iteration
+      documentFailure(failed(e.getMessage(), CsvErrorType.PARSER_FAILURE));
+      return false;
     }
     importResult.withNumberOfRowsPassed(importResult.getNumberOfRowsPassed() + 1);
+    return true;
+  }
+
+  /**
+   * Import the records of the CSV file validated by {@link #validateCsv(Reader, boolean)}. The records are read and
+   * imported in batches of {@link #BATCH_SIZE}, each batch in a transaction, and the import results are written to the
+   * given writer one batch at a time. Hence, neither the CSV file nor the import results are held in memory.
+   */
+  public final CsvImportResult importRecords(Writer resultsWriter) throws IOException {
+    CSVPrinter resultsPrinter = getResultsCsv(csvHeaders, resultsWriter);
+    if (resultsPrinter == null) {
+      return importResult;
+    }
 
     // Validate and load each record
-    while (records.hasNext()) {
-      CSVRecord csvRecord = records.next();
-      processRecord(resultsPrinter, expectedHeaders, csvRecord);
+    List<String> expectedHeaders = CsvUtil.getHeaders(csvHeaders);
+    List<CSVRecord> batch = new ArrayList<>(BATCH_SIZE);
+    try {
+      while (records.hasNext()) {
+        batch.add(records.next());
+        if (batch.size() == BATCH_SIZE) {
+          importBatch(resultsPrinter, expectedHeaders, batch);
+          batch.clear();
+        }
+      }
+      importBatch(resultsPrinter, expectedHeaders, batch);
+    } catch (UncheckedIOException e) {
+      documentFailure(failed(e.getMessage(), CsvErrorType.PARSER_FAILURE));
+      return importResult;
     }
 
-    // Finally, create the entities parsed from the record
     setFinalStatus();
-    importResult.withImportResultsCsv(writer.toString());
     return importResult;
   }
 
@@ -118,20 +173,28 @@ public abstract class EntityCsv<T extends EntityInterface> {
   protected abstract T toEntity(CSVPrinter resultsPrinter, CSVRecord csvRecord) throws IOException;
 
   public final String exportCsv(List<T> entities) throws IOException {
-    CsvFile csvFile = new CsvFile().withHeaders(csvHeaders);
-    List<List<String>> records = new ArrayList<>();
-    for (T entity : entities) {
-      records.add(toRecord(entity));
+    StringWriter writer = new StringWriter();
+    exportCsv(entities.iterator(), writer);
+    return writer.toString();
+  }
+
+  /** Export entities as CSV to the given writer, one record at a time, as they are read from the iterator */
+  public final void exportCsv(Iterator<T> entities, Writer writer) throws IOException {
+    // CSV file is generated by the backend and the data exported is expected to be correct. Hence, no validation
+    List<String> headers = CsvUtil.getHeaders(csvHeaders);
+    CSVFormat csvFormat = Builder.create(CSVFormat.DEFAULT).setHeader(headers.toArray(new String[0])).build();
+    CSVPrinter printer = new CSVPrinter(writer, csvFormat);
+    while (entities.hasNext()) {
+      printer.printRecord(toRecord(entities.next()));
     }
-    csvFile.withRecords(records);
-    return CsvUtil.formatCsv(csvFile);
+    printer.flush();
   }
 
   public static CsvDocumentation getCsvDocumentation(String entityType) {
     LOG.info("Initializing CSV documentation for entity {}", entityType);
     String path = String.format(".*json/data/%s/%sCsvDocumentation.json$", entityType, entityType);
     try {
-      List<String> jsonDataFiles = EntityUtil.getJsonDataResources(path);
+      List<String> jsonDataFiles = EntityUtil.getJsonDataOrSchemaResources(path);
       String json = CommonUtil.getResourceAsStream(EntityRepository.class.getClassLoader(), jsonDataFiles.get(0));
       return JsonUtils.readValue(json, CsvDocumentation.class);
     } catch (IOException e) {
@@ -179,13 +242,14 @@ public abstract class EntityCsv<T extends EntityInterface> {
     return getEntityReference(printer, csvRecord, fieldNumber, entityType, fqn);
   }
 
-  protected EntityInterface getEntityByName(String entityType, String fqn) {
-    EntityInterface entity = entityType.equals(this.entityType) ? dryRunCreatedEntities.get(fqn) : null;
-    if (entity == null) {
+  protected EntityReference getEntityReferenceByName(String entityType, String fqn) {
+    EntityReference ref = entityType.equals(this.entityType) ? dryRunCreatedEntities.get(fqn) : null;
+    if (ref == null) {
       EntityRepository<?> entityRepository = Entity.getEntityRepository(entityType);
-      entity = entityRepository.findByNameOrNull(fqn, "", Include.NON_DELETED);
+      EntityInterface entity = entityRepository.findByNameOrNull(fqn, "", Include.NON_DELETED);
+      ref = entity == null ? null : entity.getEntityReference();
     }
-    return entity;
+    return ref;
   }
 
   protected final EntityReference getEntityReference(
@@ -193,13 +257,12 @@ public abstract class EntityCsv<T extends EntityInterface> {
     if (nullOrEmpty(fqn)) {
       return null;
     }
-    EntityInterface entity = getEntityByName(entityType, fqn);
-    if (entity == null) {
+    EntityReference ref = getEntityReferenceByName(entityType, fqn);
+    if (ref == null) {
       importFailure(printer, entityNotFound(fieldNumber, fqn), csvRecord);
       processRecord = false;
-      return null;
     }
-    return entity.getEntityReference();
+    return ref;
   }
 
   protected final List<EntityReference> getEntityReferences(
@@ -242,7 +305,7 @@ public abstract class EntityCsv<T extends EntityInterface> {
   }
 
   // Create a CSVPrinter to capture the import results
-  private CSVPrinter getResultsCsv(List<CsvHeader> csvHeaders, StringWriter writer) {
+  private CSVPrinter getResultsCsv(List<CsvHeader> csvHeaders, Writer writer) {
     CSVFormat format = Builder.create(CSVFormat.DEFAULT).setHeader(getResultHeaders(csvHeaders)).build();
     try {
       return new CSVPrinter(writer, format);
@@ -252,10 +315,9 @@ public abstract class EntityCsv<T extends EntityInterface> {
     return null;
   }
 
-  private Iterator<CSVRecord> parse(String csv) {
-    Reader in = new StringReader(csv);
+  private Iterator<CSVRecord> parse(Reader csv) {
     try {
-      return CSVFormat.DEFAULT.parse(in).iterator();
+      return CSVFormat.DEFAULT.parse(csv).iterator();
     } catch (IOException e) {
       documentFailure(failed(e.getMessage(), CsvErrorType.PARSER_FAILURE));
     }
@@ -326,7 +388,7 @@ public abstract class EntityCsv<T extends EntityInterface> {
               ? Response.Status.CREATED
               : Response.Status.OK;
       // Track the dryRun created entities, as they may be referred by other entities being created during import
-      dryRunCreatedEntities.put(entity.getFullyQualifiedName(), entity);
+      dryRunCreatedEntities.put(entity.getFullyQualifiedName(), entity.getEntityReference());
     }
 
     if (Response.Status.CREATED.equals(responseStatus)) {
@@ -336,6 +398,63 @@ public abstract class EntityCsv<T extends EntityInterface> {
     }
   }
 
+  /** Import a batch of records and write their results, in the order of the records */
+  private void importBatch(CSVPrinter resultsPrinter, List<String> expectedHeaders, List<CSVRecord> batch)
+      throws IOException {
+    if (batch.isEmpty()) {
+      return;
+    }
+    if (Boolean.FALSE.equals(importResult.getDryRun())) {
+      // The repositories use on-demand DAOs of the same Jdbi, which reuse the handle of the transaction open on the
+      // thread. Hence, the records are created and updated in the transaction of the batch.
+      TransactionDAO transactionDAO = Entity.getEntityRepository(entityType).getDaoCollection().transactionDAO();
+      AtomicInteger processed = new AtomicInteger();
+      try {
+        transactionDAO.useTransaction(
+            transaction -> {
+              for (CSVRecord csvRecord : batch) {
+                // A failing record is rolled back to its savepoint without rolling back the rest of the batch
+                transaction.savepoint(RECORD_SAVEPOINT);
+                processRecord(resultsPrinter, expectedHeaders, csvRecord);
+                if (processRecord) {
+                  transaction.releaseSavepoint(RECORD_SAVEPOINT);
+                } else {
+                  transaction.rollbackToSavepoint(RECORD_SAVEPOINT);
+                }
+                processed.incrementAndGet();
+              }
+            });
+      } catch (Exception ex) {
+        failPendingResults(ex.getMessage());
+        // The record that failed the batch and the records after it are not imported either
+        for (CSVRecord csvRecord : batch.subList(processed.get(), batch.size())) {
+          importFailure(resultsPrinter, ex.getMessage(), csvRecord);
+        }
+      }
+    } else {
+      for (CSVRecord csvRecord : batch) {
+        processRecord(resultsPrinter, expectedHeaders, csvRecord);
+      }
+    }
+    for (List<String> result : pendingResults) {
+      resultsPrinter.printRecord(result);
+    }
+    pendingResults.clear();
+    resultsPrinter.flush();
+  }
+
+  /** The transaction of a batch is rolled back, report the records imported in the batch as failed */
+  private void failPendingResults(String failedReason) {
+    for (List<String> result : pendingResults) {
+      if (IMPORT_STATUS_SUCCESS.equals(result.get(0))) {
+        result.set(0, IMPORT_STATUS_FAILED);
+        result.set(1, failedReason);
+        importResult.withNumberOfRowsPassed(importResult.getNumberOfRowsPassed() - 1);
+        importResult.withNumberOfRowsFailed(importResult.getNumberOfRowsFailed() + 1);
+      }
+    }
+  }
+
   public String failed(String exception, CsvErrorType errorType) {
     return String.format("#%s: Failed to parse the CSV filed - reason %s", errorType, exception);
   }
@@ -379,9 +498,10 @@ public abstract class EntityCsv<T extends EntityInterface> {
   }
 
   private void importSuccess(CSVPrinter printer, CSVRecord inputRecord, String successDetails) throws IOException {
+    // Results are written once the batch of the record is imported
     List<String> recordList = listOf(IMPORT_STATUS_SUCCESS, successDetails);
     recordList.addAll(inputRecord.toList());
-    printer.printRecord(recordList);
+    pendingResults.add(recordList);
     importResult.withNumberOfRowsProcessed((int) inputRecord.getRecordNumber());
     importResult.withNumberOfRowsPassed(importResult.getNumberOfRowsPassed() + 1);
   }
@@ -389,7 +509,7 @@ public abstract class EntityCsv<T extends EntityInterface> {
   protected void importFailure(CSVPrinter printer, String failedReason, CSVRecord inputRecord) throws IOException {
     List<String> recordList = listOf(IMPORT_STATUS_FAILED, failedReason);
     recordList.addAll(inputRecord.toList());
-    printer.printRecord(recordList);
+    pendingResults.add(recordList);
     importResult.withNumberOfRowsProcessed((int) inputRecord.getRecordNumber());
     importResult.withNumberOfRowsFailed(importResult.getNumberOfRowsFailed() + 1);
     processRecord = false;
@@ -65,6 +65,7 @@ import org.glassfish.jersey.media.multipart.MultiPartFeature;
 import org.glassfish.jersey.server.ServerProperties;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.sqlobject.SqlObjects;
 import org.openmetadata.schema.api.configuration.extension.Extension;
@@ -72,7 +73,9 @@ import org.openmetadata.schema.api.configuration.extension.ExtensionConfiguratio
 import org.openmetadata.schema.api.security.AuthenticationConfiguration;
 import org.openmetadata.schema.api.security.AuthorizerConfiguration;
 import org.openmetadata.schema.auth.SSOAuthMechanism;
+import org.openmetadata.service.dataInsight.DataInsightChartResultCache;
 import org.openmetadata.service.elasticsearch.ElasticSearchEventPublisher;
+import org.openmetadata.service.events.ChangeEventRetention;
 import org.openmetadata.service.events.EventFilter;
 import org.openmetadata.service.events.EventPubSub;
 import org.openmetadata.service.events.scheduled.ReportsHandler;
@@ -82,6 +85,7 @@ import org.openmetadata.service.exception.JsonMappingExceptionMapper;
 import org.openmetadata.service.extension.OpenMetadataExtension;
 import org.openmetadata.service.fernet.Fernet;
 import org.openmetadata.service.jdbi3.CollectionDAO;
+import org.openmetadata.service.jdbi3.RequestEntityCache;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareAnnotationSqlLocator;
 import org.openmetadata.service.migration.Migration;
 import org.openmetadata.service.migration.MigrationConfiguration;
@@ -96,6 +100,7 @@ import org.openmetadata.service.secrets.SecretsManagerFactory;
 import org.openmetadata.service.secrets.SecretsManagerUpdateService;
 import org.openmetadata.service.secrets.masker.EntityMaskerFactory;
 import org.openmetadata.service.security.Authorizer;
+import org.openmetadata.service.security.JwtFilter;
 import org.openmetadata.service.security.NoopAuthorizer;
 import org.openmetadata.service.security.NoopFilter;
 import org.openmetadata.service.security.auth.AuthenticatorHandler;
@@ -181,13 +186,21 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     environment.jersey().register(JsonMappingExceptionMapper.class);
     environment.healthChecks().register("OpenMetadataServerHealthCheck", new OpenMetadataServerHealthCheck());
     // start event hub before registering publishers
-    EventPubSub.start();
+    EventPubSub.start(catalogConfig.getEventPubSubConfiguration());
 
     registerResources(catalogConfig, environment, jdbi);
 
     // Register Event Handler
     registerEventFilter(catalogConfig, environment, jdbi);
     environment.lifecycle().manage(new ManagedShutdown());
+    if (catalogConfig.getChangeEventRetentionConfiguration().isEnabled()) {
+      environment
+          .lifecycle()
+          .manage(
+              new ChangeEventRetention(
+                  jdbi.onDemand(CollectionDAO.class).changeEventDAO(),
+                  catalogConfig.getChangeEventRetentionConfiguration()));
+    }
     // Register Event publishers
     registerEventPublisher(catalogConfig, jdbi);
 
@@ -279,6 +292,8 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     }
     // Set the Database type for choosing correct queries from annotations
     jdbi.getConfig(SqlObjects.class).setSqlLocator(new ConnectionAwareAnnotationSqlLocator(dbFactory.getDriverClass()));
+    // Drop the entities cached while serving a request when the request writes to the database
+    jdbi.getConfig(SqlStatements.class).addCustomizer(new RequestEntityCache.WriteStatementCustomizer());
 
     return jdbi;
   }
@@ -423,6 +438,7 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     CollectionRegistry.initialize(extensionResources);
     CollectionRegistry.getInstance().registerResources(jdbi, environment, config, authorizer, authenticatorHandler);
     environment.jersey().register(new JsonPatchProvider());
+    environment.jersey().register(new RequestEntityCache.RequestEntityCacheFilter());
     ErrorPageErrorHandler eph = new ErrorPageErrorHandler();
     eph.addErrorPage(Response.Status.NOT_FOUND.getStatusCode(), "/");
     environment.getApplicationContext().setErrorHandler(eph);
@@ -479,6 +495,8 @@ public class OpenMetadataApplication extends Application<OpenMetadataApplication
     public void stop() throws InterruptedException, SchedulerException {
       EventPubSub.shutdown();
       ReportsHandler.shutDown();
+      DataInsightChartResultCache.shutdown();
+      JwtFilter.shutdown();
       LOG.info("Stopping the application");
     }
   }
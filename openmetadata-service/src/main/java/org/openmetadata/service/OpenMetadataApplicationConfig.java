@@ -35,6 +35,10 @@ import org.openmetadata.schema.api.security.jwt.JWTTokenConfiguration;
 import org.openmetadata.schema.email.SmtpSettings;
 import org.openmetadata.schema.security.secrets.SecretsManagerConfiguration;
 import org.openmetadata.schema.service.configuration.elasticsearch.ElasticSearchConfiguration;
+import org.openmetadata.service.dataInsight.DataInsightConfiguration;
+import org.openmetadata.service.elasticsearch.SearchResultCacheConfiguration;
+import org.openmetadata.service.events.ChangeEventRetentionConfiguration;
+import org.openmetadata.service.events.EventPubSubConfiguration;
 import org.openmetadata.service.migration.MigrationConfiguration;
 import org.openmetadata.service.monitoring.EventMonitorConfiguration;
 
@@ -105,6 +109,19 @@ public class OpenMetadataApplicationConfig extends Configuration {
   @JsonProperty("changeEventConfig")
   private ChangeEventConfiguration changeEventConfiguration;
 
+  @JsonProperty("dataInsightConfiguration")
+  private DataInsightConfiguration dataInsightConfiguration = new DataInsightConfiguration();
+
+  @JsonProperty("searchResultCacheConfiguration")
+  private SearchResultCacheConfiguration searchResultCacheConfiguration = new SearchResultCacheConfiguration();
+
+  @JsonProperty("eventPubSubConfiguration")
+  private EventPubSubConfiguration eventPubSubConfiguration = new EventPubSubConfiguration();
+
+  @JsonProperty("changeEventRetentionConfiguration")
+  private ChangeEventRetentionConfiguration changeEventRetentionConfiguration =
+      new ChangeEventRetentionConfiguration();
+
   @Override
   public String toString() {
     return "catalogConfig{"
@@ -28,7 +28,8 @@ public final class PipelineServiceClientFactory {
 
   @Getter private static PipelineServiceClient pipelineServiceClient;
 
-  public static PipelineServiceClient createPipelineServiceClient(PipelineServiceClientConfiguration config) {
+  public static synchronized PipelineServiceClient createPipelineServiceClient(
+      PipelineServiceClientConfiguration config) {
     if (pipelineServiceClient != null) {
       return pipelineServiceClient;
     }
@@ -0,0 +1,316 @@
+package org.openmetadata.service.dataInsight;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import java.io.IOException;
+import java.text.ParseException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.openmetadata.schema.analytics.ReportData.ReportDataType;
+import org.openmetadata.schema.dataInsight.DataInsightChart;
+import org.openmetadata.schema.dataInsight.DataInsightChartResult;
+import org.openmetadata.schema.dataInsight.DataInsightChartResult.DataInsightChartType;
+import org.openmetadata.schema.type.DataReportIndex;
+import org.openmetadata.service.jdbi3.DataInsightChartRepository;
+import org.openmetadata.service.jdbi3.ReportDataRepository;
+
+/**
+ * Cache of data insight chart results.
+ *
+ * <p>Report data is written once per run of the data insight pipeline, so a chart only changes when new report data
+ * is ingested. The requested time window is normalized to the first and last report data timestamps it contains. This
+ * way dashboards asking for "the last N days" at different moments share the same entry until new report data
+ * arrives, at which point only the results of the charts on that report data and covering its timestamp are
+ * invalidated.
+ */
+@Slf4j
+public class DataInsightChartResultCache {
+  private static final long DAY_IN_MILLIS = TimeUnit.DAYS.toMillis(1);
+  private static final Map<String, ReportDataType> INDEX_REPORT_DATA_TYPES =
+      Map.of(
+          DataReportIndex.ENTITY_REPORT_DATA_INDEX.value(), ReportDataType.ENTITY_REPORT_DATA,
+          DataReportIndex.WEB_ANALYTIC_ENTITY_VIEW_REPORT_DATA_INDEX.value(),
+              ReportDataType.WEB_ANALYTIC_ENTITY_VIEW_REPORT_DATA,
+          DataReportIndex.WEB_ANALYTIC_USER_ACTIVITY_REPORT_DATA_INDEX.value(),
+              ReportDataType.WEB_ANALYTIC_USER_ACTIVITY_REPORT_DATA);
+  // Published through a volatile field, as the requests read it without synchronizing with the initialization
+  private static volatile DataInsightChartResultCache INSTANCE;
+
+  private final DataInsightChartRepository repository;
+  private final RestHighLevelClient client;
+  private final DataInsightConfiguration config;
+  private final Map<DataInsightChartType, String> chartIndexes;
+  private final Cache<ChartResultKey, DataInsightChartResult> chartResults;
+  private final LoadingCache<ReportDataType, NavigableSet<Long>> reportDataTimestamps;
+  private final ExecutorService precomputeExecutor;
+
+  @VisibleForTesting
+  DataInsightChartResultCache(
+      DataInsightChartRepository repository,
+      ReportDataRepository reportDataRepository,
+      RestHighLevelClient client,
+      DataInsightConfiguration config,
+      Map<DataInsightChartType, String> chartIndexes) {
+    this.repository = repository;
+    this.client = client;
+    this.config = config;
+    this.chartIndexes = chartIndexes;
+    this.chartResults =
+        CacheBuilder.newBuilder()
+            .maximumSize(config.getCacheMaxSize())
+            .expireAfterWrite(config.getCacheTtlMinutes(), TimeUnit.MINUTES)
+            .build();
+    this.reportDataTimestamps =
+        CacheBuilder.newBuilder()
+            .expireAfterWrite(config.getCacheTtlMinutes(), TimeUnit.MINUTES)
+            .build(
+                new CacheLoader<>() {
+                  @Override
+                  public NavigableSet<Long> load(@NonNull ReportDataType reportDataType) {
+                    return new TreeSet<>(reportDataRepository.listReportDataTimestamps(reportDataType));
+                  }
+                });
+    this.precomputeExecutor =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "data-insight-chart-precompute");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  // Expected to be called only once from the DataInsightChartResource
+  public static synchronized void initialize(
+      DataInsightChartRepository repository,
+      ReportDataRepository reportDataRepository,
+      RestHighLevelClient client,
+      DataInsightConfiguration config,
+      Map<DataInsightChartType, String> chartIndexes) {
+    if (INSTANCE == null) {
+      INSTANCE = new DataInsightChartResultCache(repository, reportDataRepository, client, config, chartIndexes);
+      LOG.info("Data insight chart result cache is initialized");
+    } else {
+      LOG.info("Data insight chart result cache is already initialized");
+    }
+  }
+
+  public static DataInsightChartResultCache getInstance() {
+    return INSTANCE;
+  }
+
+  /** Get the result of a chart through the cache when it is enabled, or directly from ElasticSearch otherwise */
+  public static DataInsightChartResult getChartResult(
+      DataInsightChartRepository repository,
+      RestHighLevelClient client,
+      Long startTs,
+      Long endTs,
+      String tier,
+      String team,
+      DataInsightChartType dataInsightChartName,
+      String dataReportIndex)
+      throws IOException, ParseException {
+    DataInsightChartResultCache instance = INSTANCE;
+    if (instance == null) {
+      return repository.getDataInsightChartResult(
+          client, startTs, endTs, tier, team, dataInsightChartName, dataReportIndex);
+    }
+    return instance.get(startTs, endTs, tier, team, dataInsightChartName, dataReportIndex);
+  }
+
+  /** Called when report data is written. Invalidates the cached results computed on older report data. */
+  public static void invalidate(ReportDataType reportDataType, Long timestamp) {
+    DataInsightChartResultCache instance = INSTANCE;
+    if (instance != null) {
+      instance.invalidateReportData(reportDataType, timestamp);
+    }
+  }
+
+  /** Called when a run of the data insight pipeline completes */
+  public static void onDataInsightPipelineCompleted() {
+    DataInsightChartResultCache instance = INSTANCE;
+    if (instance != null) {
+      // Results were invalidated as the report data of the run was written, only refresh the timestamps written
+      // through other servers
+      instance.reportDataTimestamps.invalidateAll();
+      if (instance.config.isPrecomputeCharts()) {
+        instance.precomputeExecutor.submit(instance::precomputeCharts);
+      }
+    }
+  }
+
+  public static void shutdown() throws InterruptedException {
+    DataInsightChartResultCache instance = INSTANCE;
+    if (instance != null) {
+      instance.precomputeExecutor.shutdownNow();
+      instance.precomputeExecutor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+
+  /**
+   * Invalidate the results of the charts on the report data of the given type whose time window contains the given
+   * timestamp. Results of windows not containing it keep their key, as their report data timestamps do not change.
+   */
+  @VisibleForTesting
+  void invalidateReportData(ReportDataType reportDataType, Long timestamp) {
+    reportDataTimestamps.invalidate(reportDataType);
+    chartResults
+        .asMap()
+        .keySet()
+        .removeIf(key -> key.reportDataType == reportDataType && (timestamp == null || key.contains(timestamp)));
+  }
+
+  public DataInsightChartResult get(
+      Long startTs,
+      Long endTs,
+      String tier,
+      String team,
+      DataInsightChartType dataInsightChartName,
+      String dataReportIndex)
+      throws IOException, ParseException {
+    ChartResultKey key = getCacheKey(startTs, endTs, tier, team, dataInsightChartName, dataReportIndex);
+    DataInsightChartResult result = key == null ? null : chartResults.getIfPresent(key);
+    if (result == null) {
+      result =
+          repository.getDataInsightChartResult(
+              client, startTs, endTs, tier, team, dataInsightChartName, dataReportIndex);
+      if (key != null) {
+        chartResults.put(key, result);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Key of a chart result, with the time window replaced by the report data timestamps it contains. Returns null when
+   * the report data timestamps of the index are not known, in which case the result is not cached.
+   */
+  private ChartResultKey getCacheKey(
+      Long startTs,
+      Long endTs,
+      String tier,
+      String team,
+      DataInsightChartType dataInsightChartName,
+      String dataReportIndex) {
+    ReportDataType reportDataType = INDEX_REPORT_DATA_TYPES.get(dataReportIndex);
+    if (reportDataType == null) {
+      return null;
+    }
+    NavigableSet<Long> timestamps;
+    try {
+      timestamps = reportDataTimestamps.get(reportDataType);
+    } catch (ExecutionException | UncheckedExecutionException ex) {
+      LOG.warn("Failed to load the report data timestamps of {}", reportDataType, ex);
+      return null;
+    }
+    if (timestamps.isEmpty()) {
+      return null;
+    }
+    Long first = timestamps.ceiling(startTs);
+    Long last = timestamps.floor(endTs);
+    if (first == null || last == null || first > last) {
+      // No report data in the window, such windows share the empty result
+      first = null;
+      last = null;
+    }
+    return new ChartResultKey(dataInsightChartName, reportDataType, first, last, tier, team);
+  }
+
+  @VisibleForTesting
+  int precomputeCharts() {
+    long now = System.currentTimeMillis();
+    int precomputed = 0;
+    for (Map.Entry<DataInsightChartType, String> chartIndex : chartIndexes.entrySet()) {
+      for (int days : config.getPrecomputeWindowsInDays()) {
+        try {
+          get(now - days * DAY_IN_MILLIS, now, null, null, chartIndex.getKey(), chartIndex.getValue());
+          precomputed++;
+        } catch (Exception ex) {
+          LOG.warn("Failed to precompute data insight chart {} for {} days", chartIndex.getKey(), days, ex);
+        }
+      }
+    }
+    LOG.info("Precomputed {} data insight chart results", precomputed);
+    return precomputed;
+  }
+
+  public static Map<DataInsightChartType, String> getChartIndexes(Iterable<DataInsightChart> dataInsightCharts) {
+    Map<DataInsightChartType, String> chartIndexes = new EnumMap<>(DataInsightChartType.class);
+    for (DataInsightChart chart : dataInsightCharts) {
+      try {
+        chartIndexes.put(DataInsightChartType.fromValue(chart.getName()), chart.getDataIndexType().value());
+      } catch (IllegalArgumentException ex) {
+        LOG.warn("Skipping unknown data insight chart {}", chart.getName());
+      }
+    }
+    return chartIndexes;
+  }
+
+  /** Chart result key, with the time window replaced by the first and last report data timestamps it contains */
+  private static final class ChartResultKey {
+    private final DataInsightChartType chartType;
+    private final ReportDataType reportDataType;
+    private final Long first;
+    private final Long last;
+    private final String tier;
+    private final String team;
+
+    private ChartResultKey(
+        DataInsightChartType chartType,
+        ReportDataType reportDataType,
+        Long first,
+        Long last,
+        String tier,
+        String team) {
+      this.chartType = chartType;
+      this.reportDataType = reportDataType;
+      this.first = first;
+      this.last = last;
+      this.tier = tier;
+      this.team = team;
+    }
+
+    /**
+     * Whether report data at the given timestamp is part of the result. Empty windows are always invalidated, as the
+     * window they were requested for is not known anymore.
+     */
+    private boolean contains(long timestamp) {
+      return first == null || (first <= timestamp && timestamp <= last);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ChartResultKey)) {
+        return false;
+      }
+      ChartResultKey other = (ChartResultKey) o;
+      return chartType == other.chartType
+          && reportDataType == other.reportDataType
+          && Objects.equals(first, other.first)
+          && Objects.equals(last, other.last)
+          && Objects.equals(tier, other.tier)
+          && Objects.equals(team, other.team);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(chartType, reportDataType, first, last, tier, team);
+    }
+  }
+}
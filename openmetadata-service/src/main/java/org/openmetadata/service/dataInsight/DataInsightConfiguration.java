@@ -0,0 +1,22 @@
+package org.openmetadata.service.dataInsight;
+
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class DataInsightConfiguration {
+  /** Cache data insight chart results until new report data is ingested */
+  private boolean cacheEnabled = true;
+
+  private int cacheMaxSize = 1000;
+
+  /** Upper bound on the age of a cached result, for report data ingested through another server */
+  private int cacheTtlMinutes = 10;
+
+  /** Compute the charts for the default time windows when the data insight pipeline completes */
+  private boolean precomputeCharts = false;
+
+  private List<Integer> precomputeWindowsInDays = List.of(3, 7, 14, 30);
+}
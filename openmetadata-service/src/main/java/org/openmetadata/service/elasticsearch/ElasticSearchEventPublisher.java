@@ -16,7 +16,10 @@
 package org.openmetadata.service.elasticsearch;
 
 import static org.openmetadata.service.Entity.ADMIN_USER_NAME;
+import static org.openmetadata.service.Entity.FIELD_DESCRIPTION;
 import static org.openmetadata.service.Entity.FIELD_FOLLOWERS;
+import static org.openmetadata.service.Entity.FIELD_OWNER;
+import static org.openmetadata.service.Entity.FIELD_TAGS;
 import static org.openmetadata.service.Entity.FIELD_USAGE_SUMMARY;
 import static org.openmetadata.service.Entity.QUERY;
 import static org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinition.ELASTIC_SEARCH_ENTITY_FQN_STREAM;
@@ -24,21 +27,26 @@ import static org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinitio
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.annotations.VisibleForTesting;
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.exception.ExceptionUtils;
 import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.ElasticsearchStatusException;
 import org.elasticsearch.action.bulk.BulkRequest;
 import org.elasticsearch.action.delete.DeleteRequest;
 import org.elasticsearch.action.search.SearchRequest;
@@ -60,6 +68,7 @@ import org.elasticsearch.script.Script;
 import org.elasticsearch.script.ScriptType;
 import org.elasticsearch.search.SearchHit;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.api.CreateEventPublisherJob;
 import org.openmetadata.schema.entity.classification.Classification;
 import org.openmetadata.schema.entity.classification.Tag;
@@ -103,6 +112,21 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
   private final CollectionDAO dao;
   private static final String SERVICE_NAME = "service.name";
   private static final String DATABASE_NAME = "database.name";
+  /**
+   * Indexes updated with partial documents. Their mappings index the description, owner, followers, tags, tier,
+   * version, updatedAt and updatedBy fields, and the nested fields below, as they are stored in the entity.
+   */
+  private static final Set<ElasticSearchIndexType> PARTIAL_UPDATE_INDEX_TYPES =
+      EnumSet.of(
+          ElasticSearchIndexType.TABLE_SEARCH_INDEX,
+          ElasticSearchIndexType.TOPIC_SEARCH_INDEX,
+          ElasticSearchIndexType.DASHBOARD_SEARCH_INDEX,
+          ElasticSearchIndexType.PIPELINE_SEARCH_INDEX,
+          ElasticSearchIndexType.MLMODEL_SEARCH_INDEX,
+          ElasticSearchIndexType.CONTAINER_SEARCH_INDEX);
+  /** Fields with nested changes that are indexed without building the whole document, by entity type */
+  private static final Map<String, String> PARTIAL_UPDATE_NESTED_FIELDS =
+      Map.of(Entity.TABLE, "columns", Entity.PIPELINE, "tasks");
 
   public ElasticSearchEventPublisher(ElasticSearchConfiguration esConfig, CollectionDAO dao) {
     super(esConfig.getBatchSize());
@@ -302,7 +326,7 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     switch (event.getEventType()) {
       case ENTITY_CREATED:
         index = ElasticSearchIndexFactory.buildIndex(entityType, event.getEntity());
-        updateRequest.doc(JsonUtils.pojoToJson(index.buildESDoc()), XContentType.JSON);
+        updateRequest.doc(index.buildESDocJson(), XContentType.JSON);
         updateRequest.docAsUpsert(true);
         updateElasticSearch(updateRequest);
         break;
@@ -310,6 +334,11 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
         if (Objects.equals(event.getCurrentVersion(), event.getPreviousVersion())) {
           updateRequest = applyChangeEvent(event);
         } else {
+          Map<String, Object> partialDoc = buildPartialDoc(event);
+          if (partialDoc != null && updatePartialDoc(partialDoc, updateRequest)) {
+            break;
+          }
+          updateRequest = new UpdateRequest(indexType.indexName, event.getEntityId().toString());
           index = ElasticSearchIndexFactory.buildIndex(entityType, event.getEntity());
           scriptedUpsert(index.buildESDoc(), updateRequest);
         }
@@ -326,6 +355,71 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     }
   }
 
+  /**
+   * Build a document with only the fields of the ES document that are affected by the changes in the event. Returns
+   * null when a change can't be expressed this way, such as changes to the fields the suggestions are built from, and
+   * the whole document needs to be rebuilt. Only the indexes with verified mappings are updated with partial documents.
+   */
+  @VisibleForTesting
+  static Map<String, Object> buildPartialDoc(ChangeEvent event) {
+    ChangeDescription changeDescription = event.getChangeDescription();
+    String entityType = event.getEntityType();
+    if (changeDescription == null
+        || !PARTIAL_UPDATE_INDEX_TYPES.contains(ElasticSearchIndexDefinition.getIndexMappingByEntityType(entityType))) {
+      return null;
+    }
+    EntityInterface entity = (EntityInterface) event.getEntity();
+    String nestedField = PARTIAL_UPDATE_NESTED_FIELDS.get(entityType);
+    List<FieldChange> fieldChanges = new ArrayList<>(changeDescription.getFieldsAdded());
+    fieldChanges.addAll(changeDescription.getFieldsUpdated());
+    fieldChanges.addAll(changeDescription.getFieldsDeleted());
+
+    Map<String, Object> doc = new HashMap<>();
+    Map<String, Object> entityDoc = null;
+    for (FieldChange fieldChange : fieldChanges) {
+      String fieldName = fieldChange.getName();
+      if (fieldName.equals(FIELD_DESCRIPTION)) {
+        doc.put(FIELD_DESCRIPTION, entity.getDescription());
+      } else if (fieldName.equals(FIELD_OWNER)) {
+        doc.put(FIELD_OWNER, entity.getOwner() != null ? JsonUtils.getMap(entity.getOwner()) : null);
+      } else if (fieldName.equals(FIELD_FOLLOWERS)) {
+        doc.put(FIELD_FOLLOWERS, ElasticSearchIndexUtils.parseFollowers(entity.getFollowers()));
+      } else if (nestedField != null && fieldName.startsWith(nestedField + Entity.SEPARATOR)) {
+        // Changes within the nested fields replace the whole field, which is indexed as is
+        entityDoc = entityDoc != null ? entityDoc : JsonUtils.getMap(entity);
+        doc.put(nestedField, entityDoc.get(nestedField));
+      } else if (!fieldName.equals(FIELD_TAGS)) {
+        return null;
+      }
+      // Tags of the nested fields are also indexed as the tags of the entity
+      if (fieldName.equals(FIELD_TAGS) || fieldName.endsWith(Entity.SEPARATOR + FIELD_TAGS)) {
+        ParseTags parseTags = new ParseTags(Entity.getEntityTags(entityType, entity));
+        doc.put(FIELD_TAGS, parseTags.tags);
+        doc.put("tier", parseTags.tierTag);
+      }
+    }
+    doc.put("version", entity.getVersion());
+    doc.put("updatedAt", entity.getUpdatedAt());
+    doc.put("updatedBy", entity.getUpdatedBy());
+    return doc;
+  }
+
+  /** Apply a partial document update. Returns false when the document does not exist yet and needs to be built */
+  private boolean updatePartialDoc(Map<String, Object> partialDoc, UpdateRequest updateRequest) throws IOException {
+    updateRequest.doc(JsonUtils.pojoToJson(partialDoc), XContentType.JSON);
+    updateRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
+    try {
+      updateElasticSearch(updateRequest);
+      return true;
+    } catch (ElasticsearchStatusException e) {
+      if (e.status() == RestStatus.NOT_FOUND) {
+        LOG.debug("Document {} not found for partial update", updateRequest.id());
+        return false;
+      }
+      throw e;
+    }
+  }
+
   private void updateUser(ChangeEvent event) throws IOException {
     UpdateRequest updateRequest =
         new UpdateRequest(ElasticSearchIndexType.USER_SEARCH_INDEX.indexName, event.getEntityId().toString());
@@ -334,7 +428,7 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     switch (event.getEventType()) {
       case ENTITY_CREATED:
         userIndex = new UserIndex((User) event.getEntity());
-        updateRequest.doc(JsonUtils.pojoToJson(userIndex.buildESDoc()), XContentType.JSON);
+        updateRequest.doc(userIndex.buildESDocJson(), XContentType.JSON);
         updateRequest.docAsUpsert(true);
         updateElasticSearch(updateRequest);
         break;
@@ -362,7 +456,7 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     switch (event.getEventType()) {
       case ENTITY_CREATED:
         teamIndex = new TeamIndex((Team) event.getEntity());
-        updateRequest.doc(JsonUtils.pojoToJson(teamIndex.buildESDoc()), XContentType.JSON);
+        updateRequest.doc(teamIndex.buildESDocJson(), XContentType.JSON);
         updateRequest.docAsUpsert(true);
         updateElasticSearch(updateRequest);
         break;
@@ -391,7 +485,7 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     switch (event.getEventType()) {
       case ENTITY_CREATED:
         glossaryTermIndex = new GlossaryTermIndex((GlossaryTerm) event.getEntity());
-        updateRequest.doc(JsonUtils.pojoToJson(glossaryTermIndex.buildESDoc()), XContentType.JSON);
+        updateRequest.doc(glossaryTermIndex.buildESDocJson(), XContentType.JSON);
         updateRequest.docAsUpsert(true);
         updateElasticSearch(updateRequest);
         break;
@@ -435,7 +529,7 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     switch (event.getEventType()) {
       case ENTITY_CREATED:
         tagIndex = new TagIndex((Tag) event.getEntity());
-        updateRequest.doc(JsonUtils.pojoToJson(tagIndex.buildESDoc()), XContentType.JSON);
+        updateRequest.doc(tagIndex.buildESDocJson(), XContentType.JSON);
         updateRequest.docAsUpsert(true);
         updateElasticSearch(updateRequest);
         break;
@@ -491,6 +585,7 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
         } while (currentHits < totalHits);
         if (request.numberOfActions() > 0) {
           client.bulk(request, RequestOptions.DEFAULT);
+          request.requests().forEach(docRequest -> SearchResultCache.onIndexUpdated(docRequest.index()));
         }
     }
   }
@@ -643,6 +738,7 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
     if (updateRequest != null) {
       LOG.debug(SENDING_REQUEST_TO_ELASTIC_SEARCH, updateRequest);
       client.update(updateRequest, RequestOptions.DEFAULT);
+      SearchResultCache.onIndexUpdated(updateRequest.index());
     }
   }
 
@@ -651,6 +747,7 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
       LOG.debug(SENDING_REQUEST_TO_ELASTIC_SEARCH, deleteRequest);
       deleteRequest.setRefreshPolicy(WriteRequest.RefreshPolicy.WAIT_UNTIL);
       client.delete(deleteRequest, RequestOptions.DEFAULT);
+      SearchResultCache.onIndexUpdated(deleteRequest.index());
     }
   }
 
@@ -659,6 +756,7 @@ public class ElasticSearchEventPublisher extends AbstractEventPublisher {
       LOG.debug(SENDING_REQUEST_TO_ELASTIC_SEARCH, deleteRequest);
       deleteRequest.setRefresh(true);
       client.deleteByQuery(deleteRequest, RequestOptions.DEFAULT);
+      Arrays.stream(deleteRequest.indices()).forEach(SearchResultCache::onIndexUpdated);
     }
   }
 
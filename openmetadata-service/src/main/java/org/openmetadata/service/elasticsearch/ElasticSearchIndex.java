@@ -1,7 +1,34 @@
 package org.openmetadata.service.elasticsearch;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import org.openmetadata.service.util.JsonUtils;
 
 public interface ElasticSearchIndex {
-  Map<String, Object> buildESDoc();
+  /** Entity, or other object, the document is built from */
+  Object getEntity();
+
+  /** Top level fields of the entity that are not indexed */
+  default List<String> getExcludedFields() {
+    return Collections.emptyList();
+  }
+
+  /** Fields added to the document, or replacing the fields of the entity, in order */
+  Map<String, Object> buildESDocFields();
+
+  default Map<String, Object> buildESDoc() {
+    Map<String, Object> fields = buildESDocFields();
+    Map<String, Object> doc = JsonUtils.getMap(getEntity());
+    ElasticSearchIndexUtils.removeNonIndexableFields(doc, getExcludedFields());
+    doc.putAll(fields);
+    return doc;
+  }
+
+  /** JSON of the document written directly from the entity, without building the document as a map first */
+  default String buildESDocJson() throws JsonProcessingException {
+    Map<String, Object> fields = buildESDocFields();
+    return JsonUtils.pojoToJson(getEntity(), getExcludedFields(), fields);
+  }
 }
@@ -201,6 +201,7 @@ public class ElasticSearchIndexDefinition {
         DeleteIndexRequest request = new DeleteIndexRequest(elasticSearchIndexType.indexName);
         AcknowledgedResponse deleteIndexResponse = client.indices().delete(request, RequestOptions.DEFAULT);
         LOG.info("{} Deleted {}", elasticSearchIndexType.indexName, deleteIndexResponse.isAcknowledged());
+        SearchResultCache.onIndexUpdated(elasticSearchIndexType.indexName);
       }
     } catch (IOException e) {
       updateElasticSearchFailureStatus(
@@ -1,11 +1,11 @@
 package org.openmetadata.service.elasticsearch;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.openmetadata.schema.entity.data.Query;
 import org.openmetadata.service.Entity;
-import org.openmetadata.service.util.JsonUtils;
 
 public class QueryIndex implements ElasticSearchIndex {
   final List<String> excludeTopicFields = List.of("changeDescription");
@@ -15,13 +15,23 @@ public class QueryIndex implements ElasticSearchIndex {
     this.query = query;
   }
 
-  public Map<String, Object> buildESDoc() {
-    Map<String, Object> doc = JsonUtils.getMap(query);
+  @Override
+  public Object getEntity() {
+    return query;
+  }
+
+  @Override
+  public List<String> getExcludedFields() {
+    return excludeTopicFields;
+  }
+
+  @Override
+  public Map<String, Object> buildESDocFields() {
+    Map<String, Object> doc = new LinkedHashMap<>();
     List<ElasticSearchSuggest> suggest = new ArrayList<>();
     if (query.getDisplayName() != null) {
       suggest.add(ElasticSearchSuggest.builder().input(query.getName()).weight(10).build());
     }
-    ElasticSearchIndexUtils.removeNonIndexableFields(doc, excludeTopicFields);
 
     ParseTags parseTags = new ParseTags(Entity.getEntityTags(Entity.QUERY, query));
     doc.put("displayName", query.getDisplayName() != null ? query.getDisplayName() : "");
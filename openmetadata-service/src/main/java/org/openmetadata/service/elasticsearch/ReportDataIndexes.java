@@ -1,8 +1,8 @@
 package org.openmetadata.service.elasticsearch;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.openmetadata.schema.analytics.ReportData;
-import org.openmetadata.service.util.JsonUtils;
 
 public class ReportDataIndexes implements ElasticSearchIndex {
 
@@ -13,8 +13,13 @@ public class ReportDataIndexes implements ElasticSearchIndex {
   }
 
   @Override
-  public Map<String, Object> buildESDoc() {
-    Map<String, Object> doc = JsonUtils.getMap(reportData);
+  public Object getEntity() {
+    return reportData;
+  }
+
+  @Override
+  public Map<String, Object> buildESDocFields() {
+    Map<String, Object> doc = new LinkedHashMap<>();
     doc.put("id", null);
     doc.put("timestamp", reportData.getTimestamp());
     doc.put("reportDataType", reportData.getReportDataType());
@@ -0,0 +1,157 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.elasticsearch;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinition.ElasticSearchIndexType;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Cache of search responses.
+ *
+ * <p>Each index has a generation that is incremented whenever this server writes to the index. A cached response is
+ * only returned while the generations of the indexes it was searched on are the same as when it was cached. Aliases,
+ * wildcards and other indexes that are not written to by this server share a single generation incremented on every
+ * write.
+ */
+@Slf4j
+public class SearchResultCache {
+  private static final String ALL_INDEXES = "*";
+  private static final Set<String> INDEX_NAMES =
+      Stream.of(ElasticSearchIndexType.values()).map(indexType -> indexType.indexName).collect(Collectors.toSet());
+  private static final Map<String, IndexGeneration> INDEX_GENERATIONS = new ConcurrentHashMap<>();
+  private static SearchResultCache INSTANCE;
+  private static volatile boolean INITIALIZED = false;
+
+  private final Cache<String, CachedResponse> responses;
+  private final long indexRefreshIntervalMillis;
+  private final Counter hits;
+  private final Counter misses;
+
+  @VisibleForTesting
+  SearchResultCache(SearchResultCacheConfiguration config) {
+    this.responses =
+        CacheBuilder.newBuilder()
+            .maximumWeight(config.getMaxSizeInMB() * 1024L * 1024L)
+            .<String, CachedResponse>weigher((key, response) -> key.length() + response.body.length)
+            .expireAfterWrite(config.getTtlSeconds(), TimeUnit.SECONDS)
+            .build();
+    this.indexRefreshIntervalMillis = config.getIndexRefreshIntervalMillis();
+    this.hits = MicrometerBundleSingleton.searchResultCacheRequests("hit");
+    this.misses = MicrometerBundleSingleton.searchResultCacheRequests("miss");
+  }
+
+  // Expected to be called only once from the SearchResource
+  public static void initialize(SearchResultCacheConfiguration config) {
+    if (!INITIALIZED) {
+      INSTANCE = new SearchResultCache(config);
+      INITIALIZED = true;
+      LOG.info("Search result cache is initialized");
+    } else {
+      LOG.info("Search result cache is already initialized");
+    }
+  }
+
+  public static SearchResultCache getInstance() {
+    return INSTANCE;
+  }
+
+  /** Record a write to the given index so that the responses cached from it are no longer returned */
+  public static void onIndexUpdated(String indexName) {
+    if (!INITIALIZED) {
+      return; // Cache is disabled, there are no cached responses to invalidate
+    }
+    getGeneration(indexName).increment();
+    if (!ALL_INDEXES.equals(indexName)) {
+      getGeneration(ALL_INDEXES).increment();
+    }
+  }
+
+  /**
+   * Get the response of a search from the cache, or run the search with the given loader. The source of the search
+   * request includes the query and all the filters.
+   */
+  public byte[] getResponse(String index, String filterPath, String source, ResponseLoader loader)
+      throws IOException {
+    String key = String.format("%s|%s|%s", index, filterPath, source);
+    long generation = 0;
+    long lastUpdatedAt = 0;
+    for (String indexName : index.split(",")) {
+      IndexGeneration indexGeneration = getGeneration(INDEX_NAMES.contains(indexName) ? indexName : ALL_INDEXES);
+      generation += indexGeneration.generation.get();
+      lastUpdatedAt = Math.max(lastUpdatedAt, indexGeneration.lastUpdatedAt);
+    }
+
+    CachedResponse cachedResponse = responses.getIfPresent(key);
+    if (cachedResponse != null && cachedResponse.generation == generation) {
+      hits.increment();
+      return cachedResponse.body;
+    }
+    misses.increment();
+    long startedAt = System.currentTimeMillis();
+    byte[] body = loader.load();
+    // Recent updates may not be visible yet to the search that was just run
+    if (startedAt - lastUpdatedAt > indexRefreshIntervalMillis) {
+      responses.put(key, new CachedResponse(generation, body));
+    } else {
+      responses.invalidate(key);
+    }
+    return body;
+  }
+
+  private static IndexGeneration getGeneration(String indexName) {
+    return INDEX_GENERATIONS.computeIfAbsent(indexName, IndexGeneration::new);
+  }
+
+  @FunctionalInterface
+  public interface ResponseLoader {
+    byte[] load() throws IOException;
+  }
+
+  private static class CachedResponse {
+    private final long generation;
+    private final byte[] body;
+
+    private CachedResponse(long generation, byte[] body) {
+      this.generation = generation;
+      this.body = body;
+    }
+  }
+
+  private static class IndexGeneration {
+    private final AtomicLong generation = new AtomicLong();
+    private volatile long lastUpdatedAt;
+
+    private IndexGeneration(String indexName) {
+      MicrometerBundleSingleton.searchIndexGeneration(indexName, generation);
+    }
+
+    private void increment() {
+      lastUpdatedAt = System.currentTimeMillis();
+      generation.incrementAndGet();
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package org.openmetadata.service.elasticsearch;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class SearchResultCacheConfiguration {
+  /** Cache search, suggest and aggregate responses until the searched indexes are updated */
+  private boolean enabled = true;
+
+  /** Total size of the cached responses */
+  private int maxSizeInMB = 100;
+
+  /** Upper bound on the age of a cached response, for indexes updated through another server */
+  private int ttlSeconds = 60;
+
+  /**
+   * Responses are not cached for this long after an index is updated, as the update is not visible to searches until
+   * the index is refreshed
+   */
+  private int indexRefreshIntervalMillis = 1000;
+}
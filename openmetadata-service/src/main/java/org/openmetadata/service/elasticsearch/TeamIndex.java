@@ -1,11 +1,11 @@
 package org.openmetadata.service.elasticsearch;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.openmetadata.schema.entity.teams.Team;
 import org.openmetadata.service.Entity;
-import org.openmetadata.service.util.JsonUtils;
 
 public class TeamIndex implements ElasticSearchIndex {
   final Team team;
@@ -15,12 +15,22 @@ public class TeamIndex implements ElasticSearchIndex {
     this.team = team;
   }
 
-  public Map<String, Object> buildESDoc() {
+  @Override
+  public Object getEntity() {
+    return team;
+  }
+
+  @Override
+  public List<String> getExcludedFields() {
+    return excludeFields;
+  }
+
+  @Override
+  public Map<String, Object> buildESDocFields() {
     if (team.getDisplayName() == null) {
       team.setDisplayName(team.getName());
     }
-    Map<String, Object> doc = JsonUtils.getMap(team);
-    ElasticSearchIndexUtils.removeNonIndexableFields(doc, excludeFields);
+    Map<String, Object> doc = new LinkedHashMap<>();
     List<ElasticSearchSuggest> suggest = new ArrayList<>();
     suggest.add(ElasticSearchSuggest.builder().input(team.getName()).weight(5).build());
     suggest.add(ElasticSearchSuggest.builder().input(team.getDisplayName()).weight(10).build());
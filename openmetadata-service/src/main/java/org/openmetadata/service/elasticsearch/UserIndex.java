@@ -1,11 +1,11 @@
 package org.openmetadata.service.elasticsearch;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.service.Entity;
-import org.openmetadata.service.util.JsonUtils;
 
 public class UserIndex implements ElasticSearchIndex {
   final User user;
@@ -15,15 +15,25 @@ public class UserIndex implements ElasticSearchIndex {
     this.user = user;
   }
 
-  public Map<String, Object> buildESDoc() {
+  @Override
+  public Object getEntity() {
+    return user;
+  }
+
+  @Override
+  public List<String> getExcludedFields() {
+    return excludeFields;
+  }
+
+  @Override
+  public Map<String, Object> buildESDocFields() {
     if (user.getDisplayName() == null) {
       user.setDisplayName(user.getName());
     }
     if (user.getIsBot() == null) {
       user.setIsBot(false);
     }
-    Map<String, Object> doc = JsonUtils.getMap(user);
-    ElasticSearchIndexUtils.removeNonIndexableFields(doc, excludeFields);
+    Map<String, Object> doc = new LinkedHashMap<>();
     List<ElasticSearchSuggest> suggest = new ArrayList<>();
     suggest.add(ElasticSearchSuggest.builder().input(user.getName()).weight(5).build());
     suggest.add(ElasticSearchSuggest.builder().input(user.getDisplayName()).weight(10).build());
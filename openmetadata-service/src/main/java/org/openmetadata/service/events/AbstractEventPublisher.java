@@ -2,6 +2,8 @@ package org.openmetadata.service.events;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.type.ChangeEvent;
 import org.openmetadata.service.events.errors.RetriableException;
@@ -16,8 +18,9 @@ public abstract class AbstractEventPublisher implements EventPublisher {
   protected static final int BACKOFF_5_MINUTES = 5 * 60 * 1000;
   protected static final int BACKOFF_1_HOUR = 60 * 60 * 1000;
   protected static final int BACKOFF_24_HOUR = 24 * 60 * 60 * 1000;
-  protected int currentBackoffTime = BACKOFF_NORMAL;
-  protected final List<ChangeEvent> batch = new ArrayList<>();
+  protected volatile int currentBackoffTime = BACKOFF_NORMAL;
+  /** Events to publish of each partition, as the partitions are handled concurrently */
+  private final Map<Integer, List<ChangeEvent>> batches = new ConcurrentHashMap<>();
   private final int batchSize;
 
   protected AbstractEventPublisher(int batchSize) {
@@ -31,6 +34,7 @@ public abstract class AbstractEventPublisher implements EventPublisher {
     ChangeEvent changeEvent = changeEventHolder.getEvent();
 
     // Batch until either the batch has ended or batch size has reached the max size
+    List<ChangeEvent> batch = batches.computeIfAbsent(changeEventHolder.getPartition(), partition -> new ArrayList<>());
     batch.add(changeEventHolder.getEvent());
     if (!endOfBatch && batch.size() < batchSize) {
       return;
@@ -51,7 +55,7 @@ public abstract class AbstractEventPublisher implements EventPublisher {
     }
   }
 
-  protected void setNextBackOff() {
+  protected synchronized void setNextBackOff() {
     if (currentBackoffTime == BACKOFF_NORMAL) {
       currentBackoffTime = BACKOFF_3_SECONDS;
     } else if (currentBackoffTime == BACKOFF_3_SECONDS) {
@@ -14,9 +14,10 @@
 package org.openmetadata.service.events;
 
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
-import static org.openmetadata.service.formatter.util.FormatterUtil.getChangeEventFromResponseContext;
+import static org.openmetadata.service.formatter.util.FormatterUtil.getChangeEventsFromResponseContext;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
 import java.util.List;
 import javax.ws.rs.container.ContainerRequestContext;
 import javax.ws.rs.container.ContainerResponseContext;
@@ -55,48 +56,63 @@ public class ChangeEventHandler implements EventHandler {
     String method = requestContext.getMethod();
     SecurityContext securityContext = requestContext.getSecurityContext();
     String loggedInUserName = securityContext.getUserPrincipal().getName();
+    List<ChangeEvent> changeEvents;
     try {
       notificationHandler.processNotifications(responseContext);
-      ChangeEvent changeEvent = getChangeEventFromResponseContext(responseContext, loggedInUserName, method);
-      if (changeEvent == null) {
-        return null;
-      }
-      // Always set the Change Event Username as context Principal, the one creating the CE
-      changeEvent.setUserName(loggedInUserName);
-      LOG.info(
-          "Recording change event {}:{}:{}:{}",
-          changeEvent.getTimestamp(),
-          changeEvent.getEntityId(),
-          changeEvent.getEventType(),
-          changeEvent.getEntityType());
-      EventPubSub.publish(changeEvent);
-      if (changeEvent.getEntity() != null) {
-        Object entity = changeEvent.getEntity();
-        changeEvent = copyChangeEvent(changeEvent);
-        changeEvent.setEntity(JsonUtils.pojoToMaskedJson(entity));
+      changeEvents = getChangeEventsFromResponseContext(responseContext, loggedInUserName, method);
+    } catch (Exception e) {
+      LOG.error("Failed to capture change event for method {} due to ", method, e);
+      return null;
+    }
+    // Record each event on its own, so that a failure to record one event does not drop the rest
+    for (ChangeEvent changeEvent : changeEvents) {
+      try {
+        recordChangeEvent(changeEvent, loggedInUserName);
+      } catch (Exception e) {
+        LOG.error(
+            "Failed to record change event for method {} of {}:{} due to ",
+            method,
+            changeEvent.getEntityType(),
+            changeEvent.getEntityId(),
+            e);
       }
-      dao.changeEventDAO().insert(JsonUtils.pojoToJson(changeEvent));
+    }
+    return null;
+  }
+
+  private void recordChangeEvent(ChangeEvent changeEvent, String loggedInUserName) throws IOException {
+    // Always set the Change Event Username as context Principal, the one creating the CE
+    changeEvent.setUserName(loggedInUserName);
+    LOG.info(
+        "Recording change event {}:{}:{}:{}",
+        changeEvent.getTimestamp(),
+        changeEvent.getEntityId(),
+        changeEvent.getEventType(),
+        changeEvent.getEntityType());
+    EventPubSub.publish(changeEvent);
+    if (changeEvent.getEntity() != null) {
+      Object entity = changeEvent.getEntity();
+      changeEvent = copyChangeEvent(changeEvent);
+      changeEvent.setEntity(JsonUtils.pojoToMaskedJson(entity));
+    }
+    dao.changeEventDAO().insert(JsonUtils.pojoToJson(changeEvent));
 
-      // Add a new thread to the entity for every change event
-      // for the event to appear in activity feeds
-      if (Entity.shouldDisplayEntityChangeOnFeed(changeEvent.getEntityType())
-          && (AlertUtil.shouldProcessActivityFeedRequest(changeEvent))) {
-        for (Thread thread : listOrEmpty(FeedUtils.getThreads(changeEvent, loggedInUserName))) {
-          // Don't create a thread if there is no message
-          if (thread.getMessage() != null && !thread.getMessage().isEmpty()) {
-            feedDao.create(thread);
-            String jsonThread = mapper.writeValueAsString(thread);
-            WebSocketManager.getInstance().broadCastMessageToAll(WebSocketManager.FEED_BROADCAST_CHANNEL, jsonThread);
-            if (changeEvent.getEventType().equals(EventType.ENTITY_DELETED)) {
-              deleteAllConversationsRelatedToEntity((EntityInterface) changeEvent.getEntity());
-            }
+    // Add a new thread to the entity for every change event
+    // for the event to appear in activity feeds
+    if (Entity.shouldDisplayEntityChangeOnFeed(changeEvent.getEntityType())
+        && (AlertUtil.shouldProcessActivityFeedRequest(changeEvent))) {
+      for (Thread thread : listOrEmpty(FeedUtils.getThreads(changeEvent, loggedInUserName))) {
+        // Don't create a thread if there is no message
+        if (thread.getMessage() != null && !thread.getMessage().isEmpty()) {
+          feedDao.create(thread);
+          String jsonThread = mapper.writeValueAsString(thread);
+          WebSocketManager.getInstance().broadCastMessageToAll(WebSocketManager.FEED_BROADCAST_CHANNEL, jsonThread);
+          if (changeEvent.getEventType().equals(EventType.ENTITY_DELETED)) {
+            deleteAllConversationsRelatedToEntity((EntityInterface) changeEvent.getEntity());
           }
         }
       }
-    } catch (Exception e) {
-      LOG.error("Failed to capture change event for method {} due to ", method, e);
     }
-    return null;
   }
 
   private static ChangeEvent copyChangeEvent(ChangeEvent changeEvent) {
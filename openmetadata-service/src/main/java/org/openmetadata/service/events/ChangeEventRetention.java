@@ -0,0 +1,142 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.dropwizard.lifecycle.Managed;
+import io.micrometer.core.instrument.Timer;
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+/**
+ * Background job removing the change events older than the retention window of their event type, and compacting the
+ * `entityUpdated` events of an entity older than the compaction window to the last one of them.
+ *
+ * <p>Events are deleted in batches with a pause in between, so that the job does not hold locks on the table for long.
+ */
+@Slf4j
+public class ChangeEventRetention implements Managed {
+  private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+  private static final String COMPACTION = "compaction";
+  private static final String RETENTION = "retention";
+
+  private final ChangeEventDAO dao;
+  private final ChangeEventRetentionConfiguration config;
+  private final Timer runs = MicrometerBundleSingleton.changeEventRetentionRuns();
+  private volatile long lastRun;
+  private ScheduledExecutorService executor;
+
+  public ChangeEventRetention(ChangeEventDAO dao, ChangeEventRetentionConfiguration config) {
+    validate(config);
+    this.dao = dao;
+    this.config = config;
+    MicrometerBundleSingleton.changeEventRetentionLastRun(() -> lastRun);
+  }
+
+  /** Fail at startup on retention days set for an unknown event type, which would never be applied */
+  private static void validate(ChangeEventRetentionConfiguration config) {
+    for (String eventType : config.getEventTypeRetentionDays().keySet()) {
+      if (Arrays.stream(EventType.values()).noneMatch(type -> type.value().equals(eventType))) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Unknown event type [%s] in eventTypeRetentionDays, expected one of %s",
+                eventType,
+                Arrays.stream(EventType.values()).map(EventType::value).collect(Collectors.toList())));
+      }
+    }
+  }
+
+  @Override
+  public void start() {
+    executor =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "change-event-retention");
+              thread.setDaemon(true);
+              return thread;
+            });
+    long interval = TimeUnit.MINUTES.toMillis(config.getIntervalMinutes());
+    executor.scheduleWithFixedDelay(this::run, interval, interval, TimeUnit.MILLISECONDS);
+    LOG.info("Change event retention job scheduled every {} minutes", config.getIntervalMinutes());
+  }
+
+  @Override
+  public void stop() throws InterruptedException {
+    if (executor != null) {
+      executor.shutdownNow();
+      executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+  }
+
+  private void run() {
+    try {
+      runs.record(() -> run(System.currentTimeMillis()));
+    } catch (Exception e) {
+      // Keep the job scheduled, the next run picks up where this one stopped
+      LOG.warn("Change event retention job failed", e);
+    }
+  }
+
+  @VisibleForTesting
+  void run(long now) {
+    for (EventType eventType : EventType.values()) {
+      int retentionDays = config.getEventTypeRetentionDays().getOrDefault(eventType.value(), config.getRetentionDays());
+      if (retentionDays > 0) {
+        long before = now - retentionDays * DAY_MILLIS;
+        deleteInBatches(
+            RETENTION, eventType.value(), () -> dao.deleteBefore(eventType.value(), before, config.getBatchSize()));
+      }
+    }
+    if (config.getCompactionDays() > 0) {
+      long before = now - config.getCompactionDays() * DAY_MILLIS;
+      deleteInBatches(
+          COMPACTION,
+          EventType.ENTITY_UPDATED.value(),
+          () -> dao.deleteSupersededUpdates(before, config.getBatchSize()));
+    }
+    lastRun = System.currentTimeMillis();
+  }
+
+  private void deleteInBatches(String operation, String eventType, IntSupplier deleteBatch) {
+    long total = 0;
+    int deleted;
+    do {
+      deleted = deleteBatch.getAsInt();
+      total += deleted;
+      MicrometerBundleSingleton.changeEventsPurged(operation, eventType).increment(deleted);
+      if (deleted == config.getBatchSize()) {
+        pause();
+      }
+    } while (deleted == config.getBatchSize() && !Thread.currentThread().isInterrupted());
+    if (total > 0) {
+      LOG.info("Change event {} removed {} {} events", operation, total, eventType);
+    }
+  }
+
+  private void pause() {
+    try {
+      Thread.sleep(config.getBatchPauseMillis());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class ChangeEventRetentionConfiguration {
+  /** Purge and compact the change events in the background */
+  private boolean enabled = false;
+
+  /** Days change events are kept for, when not set for their event type. Events are kept forever when 0 */
+  private int retentionDays = 90;
+
+  /** Days change events are kept for by event type, such as `entityUpdated` */
+  private Map<String, Integer> eventTypeRetentionDays = new HashMap<>();
+
+  /**
+   * Days after which the `entityUpdated` events of an entity superseded by a later `entityUpdated` event of the entity
+   * are removed. Events are not compacted when 0
+   */
+  private int compactionDays = 7;
+
+  /** Minutes between the runs of the retention job */
+  private int intervalMinutes = 60;
+
+  /** Number of change events removed by each delete statement */
+  private int batchSize = 1000;
+
+  /** Milliseconds to pause between delete statements, to leave room for the other queries on the table */
+  private long batchPauseMillis = 100;
+}
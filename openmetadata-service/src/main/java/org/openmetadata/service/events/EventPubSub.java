@@ -14,49 +14,76 @@
 package org.openmetadata.service.events;
 
 import com.lmax.disruptor.BatchEventProcessor;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
 import com.lmax.disruptor.EventFactory;
 import com.lmax.disruptor.EventHandler;
 import com.lmax.disruptor.ExceptionHandler;
+import com.lmax.disruptor.InsufficientCapacityException;
+import com.lmax.disruptor.LifecycleAware;
 import com.lmax.disruptor.RingBuffer;
+import com.lmax.disruptor.SleepingWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
+import com.lmax.disruptor.dsl.ProducerType;
 import com.lmax.disruptor.util.DaemonThreadFactory;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.type.ChangeEvent;
 import org.openmetadata.service.events.EventPubSub.ChangeEventHolder;
 import org.openmetadata.service.events.errors.EventPublisherException;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
 
-/** Change event PubSub built based on LMAX Disruptor. */
+/**
+ * Change event PubSub built based on LMAX Disruptor.
+ *
+ * <p>Change events are partitioned by entity id into one or more ring buffers, so that publishing an event only waits
+ * for capacity in the ring buffer of its partition, and the events of an entity are handled in order. Each event
+ * handler has a processor on every partition, and handles the partitions concurrently.
+ */
 @Slf4j
 public class EventPubSub {
-  private static Disruptor<ChangeEventHolder> disruptor;
+  private static volatile Partition[] partitions;
   private static ExecutorService executor;
-  private static RingBuffer<ChangeEventHolder> ringBuffer;
-  private static boolean started = false;
+  private static volatile boolean started = false;
 
-  public static void start() {
+  public static synchronized void start(EventPubSubConfiguration config) {
+    if (config.getPartitions() <= 0) {
+      throw new IllegalArgumentException("Event PubSub partitions must be positive: " + config.getPartitions());
+    }
+    if (Integer.bitCount(config.getRingBufferSize()) != 1) {
+      throw new IllegalArgumentException(
+          "Event PubSub ring buffer size must be a power of 2: " + config.getRingBufferSize());
+    }
     if (!started) {
-      disruptor = new Disruptor<>(ChangeEventHolder::new, 1024, DaemonThreadFactory.INSTANCE);
-      disruptor.setDefaultExceptionHandler(new DefaultExceptionHandler());
       executor = Executors.newCachedThreadPool(DaemonThreadFactory.INSTANCE);
-      ringBuffer = disruptor.start();
-      LOG.info("Disruptor started");
+      partitions = new Partition[config.getPartitions()];
+      for (int i = 0; i < partitions.length; i++) {
+        partitions[i] = new Partition(i, config);
+      }
+      LOG.info("Disruptor started with {} partitions of {} events", partitions.length, config.getRingBufferSize());
       started = true;
     }
   }
 
-  public static void shutdown() throws InterruptedException {
+  public static synchronized void shutdown() throws InterruptedException {
     if (started) {
-      disruptor.shutdown();
-      disruptor.halt();
+      for (Partition partition : partitions) {
+        partition.disruptor.shutdown();
+        partition.disruptor.halt();
+      }
       executor.shutdownNow();
       executor.awaitTermination(10, TimeUnit.SECONDS);
-      disruptor = null;
-      ringBuffer = null;
+      partitions = null;
       started = false;
       LOG.info("Disruptor stopped");
     }
@@ -64,6 +91,16 @@ public class EventPubSub {
 
   public static class ChangeEventHolder {
     @Getter @Setter private ChangeEvent event;
+    /** Partition of the ring buffer holding the event, for handlers keeping state per partition */
+    @Getter private final int partition;
+
+    public ChangeEventHolder() {
+      this(0);
+    }
+
+    public ChangeEventHolder(int partition) {
+      this.partition = partition;
+    }
   }
 
   public static class ChangeEventFactory implements EventFactory<ChangeEventHolder> {
@@ -74,32 +111,172 @@ public class EventPubSub {
 
   public static void publish(ChangeEvent event) {
     if (event != null) {
-      RingBuffer<ChangeEventHolder> ringBuffer = disruptor.getRingBuffer();
-      long sequence = ringBuffer.next();
+      Partition partition = getPartition(event);
+      RingBuffer<ChangeEventHolder> ringBuffer = partition.ringBuffer;
+      long sequence;
+      try {
+        sequence = ringBuffer.tryNext();
+      } catch (InsufficientCapacityException e) {
+        // Wait for the slowest handler of the partition to make room for the event
+        long start = System.nanoTime();
+        sequence = ringBuffer.next();
+        partition.publishBlockTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+      }
       ringBuffer.get(sequence).setEvent(event);
       ringBuffer.publish(sequence);
     }
   }
 
-  public static BatchEventProcessor<ChangeEventHolder> addEventHandler(EventHandler<ChangeEventHolder> eventHandler) {
-    BatchEventProcessor<ChangeEventHolder> processor =
-        new BatchEventProcessor<>(ringBuffer, ringBuffer.newBarrier(), eventHandler);
-    processor.setExceptionHandler(new DefaultExceptionHandler());
-    ringBuffer.addGatingSequences(processor.getSequence());
-    executor.execute(processor);
-    LOG.info("Processor added for {}", processor);
-    return processor;
+  public static EventProcessor addEventHandler(EventHandler<ChangeEventHolder> eventHandler) {
+    AtomicInteger runningProcessors = new AtomicInteger();
+    List<BatchEventProcessor<ChangeEventHolder>> processors = new ArrayList<>(partitions.length);
+    for (Partition partition : partitions) {
+      RingBuffer<ChangeEventHolder> ringBuffer = partition.ringBuffer;
+      PartitionEventHandler partitionEventHandler = new PartitionEventHandler(eventHandler, runningProcessors);
+      BatchEventProcessor<ChangeEventHolder> processor =
+          new BatchEventProcessor<>(ringBuffer, ringBuffer.newBarrier(), partitionEventHandler);
+      processor.setExceptionHandler(new DefaultExceptionHandler());
+      ringBuffer.addGatingSequences(processor.getSequence());
+      processors.add(processor);
+    }
+    processors.forEach(executor::execute);
+    EventProcessor eventProcessor = new EventProcessor(eventHandler, processors);
+    LOG.info("Processor added for {}", eventProcessor);
+    return eventProcessor;
+  }
+
+  public static void removeProcessor(EventProcessor eventProcessor) {
+    for (int i = 0; i < partitions.length; i++) {
+      partitions[i].ringBuffer.removeGatingSequence(eventProcessor.processors.get(i).getSequence());
+    }
+    LOG.info("Processor removed for {}", eventProcessor);
+  }
+
+  private static Partition getPartition(ChangeEvent event) {
+    if (partitions.length == 1 || event.getEntityId() == null) {
+      return partitions[0];
+    }
+    return partitions[Math.floorMod(event.getEntityId().hashCode(), partitions.length)];
   }
 
-  public static void removeProcessor(BatchEventProcessor<ChangeEventHolder> processor) {
-    ringBuffer.removeGatingSequence(processor.getSequence());
-    LOG.info("Processor removed for {}", processor);
+  /** Fraction of the ring buffer of a partition holding events not yet handled by all the handlers */
+  private static double getRingFill(int partition) {
+    RingBuffer<ChangeEventHolder> ringBuffer = getRingBuffer(partition);
+    if (ringBuffer == null) {
+      return Double.NaN;
+    }
+    return (double) (ringBuffer.getBufferSize() - ringBuffer.remainingCapacity()) / ringBuffer.getBufferSize();
+  }
+
+  /** Number of events of a partition the slowest handler is behind */
+  private static double getLag(int partition) {
+    RingBuffer<ChangeEventHolder> ringBuffer = getRingBuffer(partition);
+    if (ringBuffer == null) {
+      return Double.NaN;
+    }
+    return Math.max(0, ringBuffer.getCursor() - ringBuffer.getMinimumGatingSequence());
+  }
+
+  private static RingBuffer<ChangeEventHolder> getRingBuffer(int partition) {
+    Partition[] current = partitions;
+    return current != null && partition < current.length ? current[partition].ringBuffer : null;
   }
 
   public void close() {
     /* Nothing to clean up */
   }
 
+  /** The processors of an event handler on all the partitions */
+  public static class EventProcessor {
+    private final EventHandler<ChangeEventHolder> eventHandler;
+    private final List<BatchEventProcessor<ChangeEventHolder>> processors;
+
+    private EventProcessor(
+        EventHandler<ChangeEventHolder> eventHandler, List<BatchEventProcessor<ChangeEventHolder>> processors) {
+      this.eventHandler = eventHandler;
+      this.processors = processors;
+    }
+
+    /** Stop handling events on all the partitions */
+    public void halt() {
+      processors.forEach(BatchEventProcessor::halt);
+    }
+
+    @Override
+    public String toString() {
+      return eventHandler.toString();
+    }
+  }
+
+  /**
+   * Runs an event handler on the processor of one partition. The partitions are handled concurrently, so the handler
+   * keeps the state it builds across events, such as the batch of events to publish, per partition of the events. The
+   * handler is started when the processor of its first partition starts, and shut down when the processor of its
+   * last partition shuts down.
+   */
+  private static class PartitionEventHandler implements EventHandler<ChangeEventHolder>, LifecycleAware {
+    private final EventHandler<ChangeEventHolder> eventHandler;
+    private final AtomicInteger runningProcessors;
+
+    private PartitionEventHandler(EventHandler<ChangeEventHolder> eventHandler, AtomicInteger runningProcessors) {
+      this.eventHandler = eventHandler;
+      this.runningProcessors = runningProcessors;
+    }
+
+    @Override
+    public void onEvent(ChangeEventHolder changeEventHolder, long sequence, boolean endOfBatch) throws Exception {
+      eventHandler.onEvent(changeEventHolder, sequence, endOfBatch);
+    }
+
+    @Override
+    public void onStart() {
+      if (runningProcessors.getAndIncrement() == 0 && eventHandler instanceof LifecycleAware) {
+        ((LifecycleAware) eventHandler).onStart();
+      }
+    }
+
+    @Override
+    public void onShutdown() {
+      if (runningProcessors.decrementAndGet() == 0 && eventHandler instanceof LifecycleAware) {
+        ((LifecycleAware) eventHandler).onShutdown();
+      }
+    }
+  }
+
+  private static class Partition {
+    private final Disruptor<ChangeEventHolder> disruptor;
+    private final RingBuffer<ChangeEventHolder> ringBuffer;
+    private final Timer publishBlockTime;
+
+    private Partition(int id, EventPubSubConfiguration config) {
+      disruptor =
+          new Disruptor<>(
+              () -> new ChangeEventHolder(id),
+              config.getRingBufferSize(),
+              DaemonThreadFactory.INSTANCE,
+              ProducerType.MULTI,
+              getWaitStrategy(config.getWaitStrategy()));
+      disruptor.setDefaultExceptionHandler(new DefaultExceptionHandler());
+      ringBuffer = disruptor.start();
+      publishBlockTime = MicrometerBundleSingleton.eventPubSubPublishBlockTime(id);
+      MicrometerBundleSingleton.eventPubSubPartition(id, () -> getRingFill(id), () -> getLag(id));
+    }
+
+    private static WaitStrategy getWaitStrategy(EventPubSubConfiguration.WaitStrategy waitStrategy) {
+      switch (waitStrategy) {
+        case SLEEPING:
+          return new SleepingWaitStrategy();
+        case YIELDING:
+          return new YieldingWaitStrategy();
+        case BUSY_SPIN:
+          return new BusySpinWaitStrategy();
+        case BLOCKING:
+        default:
+          return new BlockingWaitStrategy();
+      }
+    }
+  }
+
   public static class DefaultExceptionHandler implements ExceptionHandler<ChangeEventHolder> {
     @Override
     public void handleEventException(Throwable throwable, long l, ChangeEventHolder changeEventHolder) {
@@ -0,0 +1,44 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class EventPubSubConfiguration {
+  /**
+   * Number of ring buffers the change events are partitioned into by entity id. Events of an entity always go to the
+   * same partition, so that they are handled in order.
+   */
+  private int partitions = 1;
+
+  /** Number of events each partition holds, must be a power of 2 */
+  private int ringBufferSize = 1024;
+
+  /** How the handlers wait for new events */
+  private WaitStrategy waitStrategy = WaitStrategy.BLOCKING;
+
+  public enum WaitStrategy {
+    /** Wait on a lock, using the least CPU */
+    BLOCKING,
+    /** Spin, then yield, then sleep */
+    SLEEPING,
+    /** Spin, then yield, for lower latency at the cost of CPU */
+    YIELDING,
+    /** Spin, using a core for each handler of each partition */
+    BUSY_SPIN
+  }
+}
@@ -39,9 +39,6 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
 import lombok.extern.slf4j.Slf4j;
-import org.elasticsearch.action.search.SearchRequest;
-import org.elasticsearch.action.search.SearchResponse;
-import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.DataInsightInterface;
@@ -58,6 +55,7 @@ import org.openmetadata.schema.entity.events.TriggerConfig;
 import org.openmetadata.schema.entity.teams.Team;
 import org.openmetadata.schema.type.Include;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.dataInsight.DataInsightChartResultCache;
 import org.openmetadata.service.events.scheduled.template.DataInsightDescriptionAndOwnerTemplate;
 import org.openmetadata.service.events.scheduled.template.DataInsightTotalAssetTemplate;
 import org.openmetadata.service.exception.DataInsightJobException;
@@ -494,11 +492,9 @@ public class DataInsightsReportJob implements Job {
       DataInsightChartResult.DataInsightChartType chartType,
       String indexName)
       throws IOException, ParseException {
-    SearchRequest searchRequestTotalAssets =
-        repository.buildSearchRequest(scheduleTime, currentTime, null, team, chartType, indexName);
-    SearchResponse searchResponseTotalAssets = client.search(searchRequestTotalAssets, RequestOptions.DEFAULT);
     DataInsightChartResult processedDataTotalAssets =
-        repository.processDataInsightChartResult(searchResponseTotalAssets, chartType);
+        DataInsightChartResultCache.getChartResult(
+            repository, client, scheduleTime, currentTime, null, team, chartType, indexName);
     TreeMap<Long, List<Object>> dateWithDataMap = new TreeMap<>();
     for (Object data : processedDataTotalAssets.getData()) {
       DataInsightInterface convertedData = (DataInsightInterface) data;
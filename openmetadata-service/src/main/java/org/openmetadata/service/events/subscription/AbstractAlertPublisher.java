@@ -15,6 +15,8 @@ package org.openmetadata.service.events.subscription;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.entity.events.EventSubscription;
 import org.openmetadata.schema.type.ChangeEvent;
@@ -32,8 +34,9 @@ public abstract class AbstractAlertPublisher implements EventPublisher {
   protected static final int BACKOFF_5_MINUTES = 5 * 60 * 1000;
   protected static final int BACKOFF_1_HOUR = 60 * 60 * 1000;
   protected static final int BACKOFF_24_HOUR = 24 * 60 * 60 * 1000;
-  protected int currentBackoffTime = BACKOFF_NORMAL;
-  protected final List<ChangeEvent> batch = new ArrayList<>();
+  protected volatile int currentBackoffTime = BACKOFF_NORMAL;
+  /** Events to publish of each partition, as the partitions are handled concurrently */
+  private final Map<Integer, List<ChangeEvent>> batches = new ConcurrentHashMap<>();
 
   protected final EventSubscription eventSubscription;
   private final int batchSize;
@@ -62,12 +65,14 @@ public abstract class AbstractAlertPublisher implements EventPublisher {
     }
 
     // Batch until either the batch has ended or batch size has reached the max size
+    List<ChangeEvent> batch = batches.computeIfAbsent(changeEventHolder.getPartition(), partition -> new ArrayList<>());
     batch.add(changeEventHolder.getEvent());
     if (!endOfBatch && batch.size() < batchSize) {
       return;
     }
 
-    EventList list = new EventList(batch, null, null, batch.size());
+    // The batch is sent asynchronously, so publish a copy of it
+    EventList list = new EventList(new ArrayList<>(batch), null, null, batch.size());
     try {
       publish(list);
       batch.clear();
@@ -80,7 +85,7 @@ public abstract class AbstractAlertPublisher implements EventPublisher {
     }
   }
 
-  public void setNextBackOff() {
+  public synchronized void setNextBackOff() {
     if (currentBackoffTime == BACKOFF_NORMAL) {
       currentBackoffTime = BACKOFF_3_SECONDS;
     } else if (currentBackoffTime == BACKOFF_3_SECONDS) {
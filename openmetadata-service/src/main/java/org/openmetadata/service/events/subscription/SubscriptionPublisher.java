@@ -18,8 +18,12 @@ import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.AW
 import static org.openmetadata.schema.entity.events.SubscriptionStatus.Status.FAILED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.lmax.disruptor.BatchEventProcessor;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import lombok.Getter;
 import lombok.SneakyThrows;
@@ -34,8 +38,8 @@ import org.openmetadata.service.resources.events.EventResource;
 
 /**
  * SubscriptionPublisher publishes events to the alert endpoint using POST http requests/ Email. There is one instance
- * of SubscriptionPublisher per alert subscription. Each SubscriptionPublisher is an EventHandler that runs in a
- * separate thread and receives events from LMAX Disruptor {@link EventPubSub} through {@link BatchEventProcessor}.
+ * of SubscriptionPublisher per alert subscription. Each SubscriptionPublisher is an EventHandler that receives events
+ * from LMAX Disruptor {@link EventPubSub} through an {@link EventPubSub.EventProcessor}.
  *
  * <p>The failures during callback to Alert are handled in this class as follows:
  *
@@ -47,12 +51,27 @@ import org.openmetadata.service.resources.events.EventResource;
  *       all the 5 delivery attempts fail, the alerts state is marked as "retryLimitReached" and no further attempt is
  *       made to deliver the events.
  * </ul>
+ *
+ * <p>The batches are sent without blocking the event handler, one batch at a time: the next batch of a subscription is
+ * sent once the messages of the previous batch are delivered or have failed after the retries.
  */
 @Slf4j
 public class SubscriptionPublisher extends AbstractAlertPublisher {
+  /** Sends the batches of all the subscriptions, so that the event handlers don't wait for the alert endpoints */
+  private static final ExecutorService BATCH_SENDER =
+      Executors.newCachedThreadPool(
+          runnable -> {
+            Thread thread = new Thread(runnable, "subscription-batch-sender");
+            thread.setDaemon(true);
+            return thread;
+          });
   private final CountDownLatch shutdownLatch = new CountDownLatch(1);
-  @Getter private BatchEventProcessor<EventPubSub.ChangeEventHolder> processor;
+  @Getter private EventPubSub.EventProcessor processor;
   private final EventSubscriptionRepository eventSubscriptionRepository;
+  /** End of the backoff window started by the last failed delivery */
+  private long backOffUntil = 0;
+  /** Completes once the messages of the last batch are delivered or have failed */
+  private CompletableFuture<Void> lastBatch = CompletableFuture.completedFuture(null);
 
   public SubscriptionPublisher(EventSubscription eventSub, CollectionDAO dao) {
     super(eventSub);
@@ -96,11 +115,25 @@ public class SubscriptionPublisher extends AbstractAlertPublisher {
     throw new RuntimeException(reason);
   }
 
+  /**
+   * Advance the backoff after a failed delivery, once for all the deliveries failing within the same backoff window,
+   * such as the messages of a batch sent together. Returns the backoff before retrying the delivery.
+   */
+  public synchronized long setNextBackOff(long failureTime) {
+    if (failureTime >= backOffUntil) {
+      setNextBackOff();
+      backOffUntil = failureTime + currentBackoffTime;
+    }
+    return currentBackoffTime;
+  }
+
   public synchronized void setAwaitingRetry(Long attemptTime, int statusCode, String reason) {
     setStatus(AWAITING_RETRY, attemptTime, statusCode, reason, attemptTime + currentBackoffTime);
   }
 
   public synchronized SubscriptionStatus setSuccessStatus(Long updateTime) {
+    currentBackoffTime = BACKOFF_NORMAL;
+    backOffUntil = 0;
     SubscriptionStatus subStatus =
         AlertUtil.buildSubscriptionStatus(ACTIVE, updateTime, null, null, null, updateTime, updateTime);
     eventSubscription.setStatusDetails(subStatus);
@@ -115,17 +148,24 @@ public class SubscriptionPublisher extends AbstractAlertPublisher {
     return subStatus;
   }
 
+  public boolean isShutdown() {
+    return shutdownLatch.getCount() == 0;
+  }
+
   public void awaitShutdown() throws InterruptedException {
     LOG.info("Awaiting shutdown alertActionPublisher-lifecycle {}", eventSubscription.getName());
     shutdownLatch.await(5, TimeUnit.SECONDS);
   }
 
-  public void setProcessor(BatchEventProcessor<EventPubSub.ChangeEventHolder> processor) {
+  public void setProcessor(EventPubSub.EventProcessor processor) {
     this.processor = processor;
   }
 
-  protected void sendAlert(EventResource.EventList list) throws InterruptedException, JsonProcessingException {
+  /** Send the alerts for a batch of events, returning the deliveries of the messages that are still in flight */
+  protected List<CompletableFuture<Void>> sendAlert(EventResource.EventList list)
+      throws InterruptedException, JsonProcessingException {
     /* This method needs to be over-ridden by specific Publisher for sending Alert */
+    return Collections.emptyList();
   }
 
   protected void onStartDelegate() {
@@ -141,17 +181,30 @@ public class SubscriptionPublisher extends AbstractAlertPublisher {
   }
 
   @Override
-  public void publish(EventResource.EventList list) throws EventPublisherException {
-    // Publish to the given Alert Actions
+  public synchronized void publish(EventResource.EventList list) throws EventPublisherException {
+    // Publish to the given Alert Actions once the previous batch is done
+    LOG.info(
+        "Sending Alert {}:{}:{}",
+        eventSubscription.getName(),
+        eventSubscription.getStatusDetails().getStatus(),
+        list.getData().size());
+    lastBatch = lastBatch.thenComposeAsync(previous -> send(list), BATCH_SENDER);
+  }
+
+  private CompletableFuture<Void> send(EventResource.EventList list) {
+    if (isShutdown()) {
+      return CompletableFuture.completedFuture(null);
+    }
     try {
-      LOG.info(
-          "Sending Alert {}:{}:{}",
-          eventSubscription.getName(),
-          eventSubscription.getStatusDetails().getStatus(),
-          batch.size());
-      sendAlert(list);
+      List<CompletableFuture<Void>> deliveries = sendAlert(list);
+      // The failed deliveries are already recorded in the status of the subscription
+      return CompletableFuture.allOf(deliveries.toArray(new CompletableFuture[0])).exceptionally(error -> null);
+    } catch (InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Interrupted while sending Alert {}", eventSubscription.getName());
     } catch (Exception ex) {
-      LOG.warn("Invalid Exception in Alert {}", eventSubscription.getName());
+      LOG.warn("Invalid Exception in Alert {}", eventSubscription.getName(), ex);
     }
+    return CompletableFuture.completedFuture(null);
   }
 }
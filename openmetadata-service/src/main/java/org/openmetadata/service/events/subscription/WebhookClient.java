@@ -0,0 +1,268 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events.subscription;
+
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.channels.UnresolvedAddressException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.core.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.entity.events.EventSubscription;
+
+/**
+ * Client shared by all the subscription publishers to post messages to webhooks.
+ *
+ * <p>Messages are sent asynchronously over pooled connections, so that a slow webhook does not hold the thread of the
+ * publisher. At most {@link #MAX_CONCURRENT_REQUESTS_PER_DESTINATION} requests are sent to a destination at a time,
+ * and the other requests are queued. Posting a message waits while {@link #MAX_QUEUED_REQUESTS_PER_DESTINATION}
+ * requests are queued for its destination, so that messages are never dropped. Messages that fail with 4xx, 5xx or a
+ * timeout are retried with the backoff of the publisher, up to {@link #MAX_RETRIES} times, on a scheduler instead of
+ * sleeping.
+ */
+@Slf4j
+public class WebhookClient {
+  static final int MAX_CONCURRENT_REQUESTS_PER_DESTINATION = 4;
+  static final int MAX_QUEUED_REQUESTS_PER_DESTINATION = 1000;
+  static final int MAX_RETRIES = 5;
+  private static WebhookClient INSTANCE;
+
+  /** Clients by connection timeout, as the connection timeout can only be set on the client */
+  private final Map<Integer, HttpClient> httpClients = new ConcurrentHashMap<>();
+
+  private final Map<String, Destination> destinations = new ConcurrentHashMap<>();
+  /** Schedules the retries, and sends the queued requests */
+  private final ScheduledExecutorService retryScheduler;
+  private final int maxConcurrentRequests;
+  private final int maxQueuedRequests;
+
+  WebhookClient(int maxConcurrentRequests, int maxQueuedRequests) {
+    this.maxConcurrentRequests = maxConcurrentRequests;
+    this.maxQueuedRequests = maxQueuedRequests;
+    this.retryScheduler =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "webhook-client");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
+
+  public static synchronized WebhookClient getInstance() {
+    if (INSTANCE == null) {
+      INSTANCE = new WebhookClient(MAX_CONCURRENT_REQUESTS_PER_DESTINATION, MAX_QUEUED_REQUESTS_PER_DESTINATION);
+    }
+    return INSTANCE;
+  }
+
+  /**
+   * Post a JSON message to a webhook on behalf of a publisher, updating the status of the publisher with the result.
+   * Waits while too many messages are queued for the destination. The returned future completes once the message is
+   * delivered, or has failed after the retries.
+   */
+  public CompletableFuture<Void> post(
+      SubscriptionPublisher publisher, String url, Map<String, String> headers, String json)
+      throws InterruptedException {
+    EventSubscription eventSubscription = publisher.getEventSubscription();
+    HttpRequest.Builder requestBuilder =
+        HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofSeconds(eventSubscription.getReadTimeout()))
+            .header("Content-Type", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofString(json));
+    headers.forEach(requestBuilder::header);
+    HttpRequest request = requestBuilder.build();
+
+    HttpClient httpClient =
+        httpClients.computeIfAbsent(
+            eventSubscription.getTimeout(),
+            timeout ->
+                HttpClient.newBuilder()
+                    .connectTimeout(Duration.ofSeconds(timeout))
+                    .followRedirects(HttpClient.Redirect.NEVER)
+                    .build());
+    Destination destination =
+        destinations.computeIfAbsent(
+            request.uri().getScheme() + "://" + request.uri().getAuthority(),
+            key -> new Destination(maxConcurrentRequests, maxQueuedRequests));
+
+    Delivery delivery = new Delivery(publisher, httpClient, request, destination);
+    send(delivery, false);
+    return delivery.result;
+  }
+
+  /** Send a message, waiting for room in the queue of its destination unless it is retried */
+  private void send(Delivery delivery, boolean retry) throws InterruptedException {
+    delivery.destination.submit(
+        () -> {
+          long attemptTime = System.currentTimeMillis();
+          try {
+            delivery
+                .httpClient
+                .sendAsync(delivery.request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete(
+                    (response, error) -> {
+                      sendNext(delivery.destination);
+                      onResponse(delivery, attemptTime, response, error);
+                    });
+          } catch (RuntimeException e) {
+            sendNext(delivery.destination);
+            onResponse(delivery, attemptTime, null, e);
+          }
+        },
+        retry);
+  }
+
+  private void retry(Delivery delivery) {
+    try {
+      send(delivery, true);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      delivery.result.completeExceptionally(e);
+    }
+  }
+
+  private void sendNext(Destination destination) {
+    Runnable next = destination.complete();
+    if (next != null) {
+      retryScheduler.execute(next);
+    }
+  }
+
+  private void onResponse(Delivery delivery, long attemptTime, HttpResponse<Void> response, Throwable error) {
+    SubscriptionPublisher publisher = delivery.publisher;
+    try {
+      Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+      int statusCode = response != null ? response.statusCode() : 0;
+      LOG.debug(
+          "Subscription Publisher Posted Message {}:{} received response {}",
+          publisher.getEventSubscription().getName(),
+          publisher.getEventSubscription().getBatchSize(),
+          statusCode);
+      if (cause == null && statusCode >= 200 && statusCode < 300) {
+        publisher.setSuccessStatus(System.currentTimeMillis());
+        delivery.result.complete(null);
+      } else if (cause == null && statusCode >= 300 && statusCode < 400) {
+        // 3xx response/redirection is not allowed for callback. Set the webhook state as in error
+        delivery.result.completeExceptionally(new IllegalStateException(getReason(statusCode)));
+        publisher.setErrorStatus(attemptTime, statusCode, getReason(statusCode));
+      } else if (isUnknownHost(cause)) {
+        LOG.warn("Invalid webhook {} endpoint {}", publisher.getEventSubscription().getName(), delivery.request.uri());
+        delivery.result.completeExceptionally(cause);
+        publisher.setErrorStatus(attemptTime, 400, "UnknownHostException");
+      } else {
+        // 4xx, 5xx response or timeout, retry delivering the message after the backoff
+        String reason = cause != null ? cause.getClass().getSimpleName() : getReason(statusCode);
+        long backOff = publisher.setNextBackOff(attemptTime);
+        publisher.setAwaitingRetry(attemptTime, statusCode, reason);
+        if (delivery.attempt < MAX_RETRIES && !publisher.isShutdown()) {
+          delivery.attempt++;
+          retryScheduler.schedule(() -> retry(delivery), backOff, TimeUnit.MILLISECONDS);
+        } else {
+          LOG.warn(
+              "Failed to deliver message of subscription {} to {} after {} attempts",
+              publisher.getEventSubscription().getName(),
+              delivery.request.uri(),
+              delivery.attempt + 1);
+          delivery.result.completeExceptionally(
+              cause != null ? cause : new IllegalStateException(getReason(statusCode)));
+        }
+      }
+    } catch (Exception e) {
+      // Setting the error status removes the publisher by throwing an exception
+      LOG.debug("Exception occurred while handling webhook response", e);
+      delivery.result.completeExceptionally(e);
+    }
+  }
+
+  private static boolean isUnknownHost(Throwable error) {
+    for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+      if (cause instanceof UnknownHostException || cause instanceof UnresolvedAddressException) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String getReason(int statusCode) {
+    Response.Status status = Response.Status.fromStatusCode(statusCode);
+    return status != null ? status.getReasonPhrase() : String.valueOf(statusCode);
+  }
+
+  private static class Delivery {
+    private final SubscriptionPublisher publisher;
+    private final HttpClient httpClient;
+    private final HttpRequest request;
+    private final Destination destination;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+    private int attempt = 0;
+
+    private Delivery(
+        SubscriptionPublisher publisher, HttpClient httpClient, HttpRequest request, Destination destination) {
+      this.publisher = publisher;
+      this.httpClient = httpClient;
+      this.request = request;
+      this.destination = destination;
+    }
+  }
+
+  /** Limits the number of requests sent to a destination at a time, and the number of requests waiting to be sent */
+  private static class Destination {
+    private final int maxConcurrentRequests;
+    private final int maxQueuedRequests;
+    private final Queue<Runnable> queued = new ArrayDeque<>();
+    private int inFlight = 0;
+
+    private Destination(int maxConcurrentRequests, int maxQueuedRequests) {
+      this.maxConcurrentRequests = maxConcurrentRequests;
+      this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    /** Send a request, or queue it. Waits while the queue is full, except for retries that were already accepted */
+    private void submit(Runnable request, boolean retry) throws InterruptedException {
+      synchronized (this) {
+        while (!retry && inFlight >= maxConcurrentRequests && queued.size() >= maxQueuedRequests) {
+          wait();
+        }
+        if (inFlight >= maxConcurrentRequests) {
+          queued.add(request);
+          return;
+        }
+        inFlight++;
+      }
+      request.run();
+    }
+
+    /** Complete a request, and get the next queued request to send in its place */
+    private synchronized Runnable complete() {
+      Runnable next = queued.poll();
+      if (next == null) {
+        inFlight--;
+      }
+      notifyAll();
+      return next;
+    }
+  }
+}
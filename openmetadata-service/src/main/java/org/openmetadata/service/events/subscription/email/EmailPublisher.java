@@ -17,8 +17,11 @@ import static org.openmetadata.schema.api.events.CreateEventSubscription.Subscri
 import static org.openmetadata.service.util.SubscriptionUtil.buildReceiversListFromActions;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.alert.type.EmailAlertConfig;
@@ -61,7 +64,8 @@ public class EmailPublisher extends SubscriptionPublisher {
   }
 
   @Override
-  public void sendAlert(EventResource.EventList list) throws InterruptedException, JsonProcessingException {
+  public List<CompletableFuture<Void>> sendAlert(EventResource.EventList list)
+      throws InterruptedException, JsonProcessingException {
     for (ChangeEvent event : list.getData()) {
       try {
         Set<String> receivers = buildReceiversList(event);
@@ -77,6 +81,7 @@ public class EmailPublisher extends SubscriptionPublisher {
         throw new EventPublisherException(message);
       }
     }
+    return Collections.emptyList();
   }
 
   private Set<String> buildReceiversList(ChangeEvent changeEvent) {
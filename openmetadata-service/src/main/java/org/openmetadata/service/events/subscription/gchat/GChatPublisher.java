@@ -14,14 +14,13 @@
 package org.openmetadata.service.events.subscription.gchat;
 
 import static org.openmetadata.schema.api.events.CreateEventSubscription.SubscriptionType.G_CHAT_WEBHOOK;
-import static org.openmetadata.service.util.SubscriptionUtil.getClient;
 import static org.openmetadata.service.util.SubscriptionUtil.getTargetsForWebhook;
 import static org.openmetadata.service.util.SubscriptionUtil.postWebhookMessage;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.ArrayList;
 import java.util.List;
-import javax.ws.rs.client.Client;
-import javax.ws.rs.client.Invocation;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.entity.events.EventSubscription;
@@ -40,8 +39,7 @@ import org.openmetadata.service.util.JsonUtils;
 public class GChatPublisher extends SubscriptionPublisher {
   private final MessageDecorator<GChatMessage> gChatMessageMessageDecorator = new GChatMessageDecorator();
   private final Webhook webhook;
-  private Invocation.Builder target;
-  private final Client client;
+  private String target;
   private final CollectionDAO daoCollection;
 
   public GChatPublisher(EventSubscription eventSub, CollectionDAO dao) {
@@ -50,14 +48,11 @@ public class GChatPublisher extends SubscriptionPublisher {
       this.daoCollection = dao;
       this.webhook = JsonUtils.convertValue(eventSub.getSubscriptionConfig(), Webhook.class);
 
-      // Build Client
-      client = getClient(eventSub.getTimeout(), eventSub.getReadTimeout());
-
       // Build Target
       if (webhook.getEndpoint() != null) {
         String gChatWebhookURL = webhook.getEndpoint().toString();
         if (!CommonUtil.nullOrEmpty(gChatWebhookURL)) {
-          target = client.target(gChatWebhookURL).request();
+          target = gChatWebhookURL;
         }
       }
     } else {
@@ -71,23 +66,18 @@ public class GChatPublisher extends SubscriptionPublisher {
   }
 
   @Override
-  protected void onShutdownDelegate() {
-    if (null != client) {
-      client.close();
-    }
-  }
-
-  @Override
-  protected void sendAlert(EventResource.EventList list) throws JsonProcessingException {
+  protected List<CompletableFuture<Void>> sendAlert(EventResource.EventList list)
+      throws JsonProcessingException, InterruptedException {
+    List<CompletableFuture<Void>> deliveries = new ArrayList<>();
     for (ChangeEvent event : list.getData()) {
       try {
         GChatMessage gchatMessage = gChatMessageMessageDecorator.buildMessage(event);
-        List<Invocation.Builder> targets = getTargetsForWebhook(webhook, G_CHAT_WEBHOOK, client, daoCollection, event);
+        List<String> targets = getTargetsForWebhook(webhook, G_CHAT_WEBHOOK, daoCollection, event);
         if (target != null) {
           targets.add(target);
         }
-        for (Invocation.Builder actionTarget : targets) {
-          postWebhookMessage(this, actionTarget, gchatMessage);
+        for (String actionTarget : targets) {
+          deliveries.add(postWebhookMessage(this, actionTarget, gchatMessage));
         }
       } catch (Exception e) {
         String message = CatalogExceptionMessage.eventPublisherFailedToPublish(G_CHAT_WEBHOOK, event, e.getMessage());
@@ -95,5 +85,6 @@ public class GChatPublisher extends SubscriptionPublisher {
         throw new EventPublisherException(message);
       }
     }
+    return deliveries;
   }
 }
@@ -14,15 +14,14 @@
 package org.openmetadata.service.events.subscription.generic;
 
 import static org.openmetadata.schema.api.events.CreateEventSubscription.SubscriptionType.GENERIC_WEBHOOK;
-import static org.openmetadata.service.util.SubscriptionUtil.getClient;
 import static org.openmetadata.service.util.SubscriptionUtil.getTargetsForWebhook;
 import static org.openmetadata.service.util.SubscriptionUtil.postWebhookMessage;
 
-import java.net.UnknownHostException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import javax.ws.rs.client.Client;
-import javax.ws.rs.client.Invocation;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.entity.events.EventSubscription;
@@ -38,7 +37,6 @@ import org.openmetadata.service.util.RestUtil;
 
 @Slf4j
 public class GenericPublisher extends SubscriptionPublisher {
-  private final Client client;
   private final Webhook webhook;
   private final CollectionDAO daoCollection;
 
@@ -47,9 +45,6 @@ public class GenericPublisher extends SubscriptionPublisher {
     if (eventSub.getSubscriptionType() == GENERIC_WEBHOOK) {
       this.daoCollection = dao;
       this.webhook = JsonUtils.convertValue(eventSub.getSubscriptionConfig(), Webhook.class);
-
-      // Build Client
-      client = getClient(eventSub.getTimeout(), eventSub.getReadTimeout());
     } else {
       throw new IllegalArgumentException("GenericWebhook Alert Invoked with Illegal Type and Settings.");
     }
@@ -61,48 +56,35 @@ public class GenericPublisher extends SubscriptionPublisher {
   }
 
   @Override
-  public void onShutdownDelegate() {
-    if (client != null) {
-      client.close();
-    }
-  }
-
-  private Invocation.Builder getTarget() {
-    Map<String, String> authHeaders = SecurityUtil.authHeaders("admin@open-metadata.org");
-    return SecurityUtil.addHeaders(client.target(webhook.getEndpoint()), authHeaders);
-  }
-
-  @Override
-  public void sendAlert(EventResource.EventList list) throws EventPublisherException, InterruptedException {
-    long attemptTime = System.currentTimeMillis();
+  public List<CompletableFuture<Void>> sendAlert(EventResource.EventList list)
+      throws EventPublisherException, InterruptedException {
+    List<CompletableFuture<Void>> deliveries = new ArrayList<>();
     try {
       // Post Message to default
       String json = JsonUtils.pojoToJson(list);
       if (webhook.getEndpoint() != null) {
+        Map<String, String> headers = new HashMap<>(SecurityUtil.authHeaders("admin@open-metadata.org"));
         if (webhook.getSecretKey() != null && !webhook.getSecretKey().isEmpty()) {
           String hmac = "sha256=" + CommonUtil.calculateHMAC(webhook.getSecretKey(), json);
-          postWebhookMessage(this, getTarget().header(RestUtil.SIGNATURE_HEADER, hmac), json);
-        } else {
-          postWebhookMessage(this, getTarget(), json);
+          headers.put(RestUtil.SIGNATURE_HEADER, hmac);
         }
+        deliveries.add(postWebhookMessage(this, webhook.getEndpoint().toString(), headers, json));
       }
 
       // Post to Generic Webhook with Actions
       for (ChangeEvent event : list.getData()) {
         String eventJson = JsonUtils.pojoToJson(event);
-        List<Invocation.Builder> targets = getTargetsForWebhook(webhook, GENERIC_WEBHOOK, client, daoCollection, event);
-        for (Invocation.Builder actionTarget : targets) {
-          postWebhookMessage(this, actionTarget, eventJson);
+        List<String> targets = getTargetsForWebhook(webhook, GENERIC_WEBHOOK, daoCollection, event);
+        for (String actionTarget : targets) {
+          deliveries.add(postWebhookMessage(this, actionTarget, eventJson));
         }
       }
+    } catch (InterruptedException ex) {
+      throw ex;
     } catch (Exception ex) {
-      Throwable cause = ex.getCause();
-      if (cause != null && cause.getClass() == UnknownHostException.class) {
-        LOG.warn("Invalid webhook {} endpoint {}", eventSubscription.getName(), webhook.getEndpoint());
-        setErrorStatus(attemptTime, 400, "UnknownHostException");
-      } else {
-        LOG.debug("Exception occurred while publishing webhook", ex);
-      }
+      LOG.warn("Exception occurred while publishing webhook {}", eventSubscription.getName(), ex);
+      setErrorStatus(System.currentTimeMillis(), 500, ex.getMessage());
     }
+    return deliveries;
   }
 }
@@ -22,6 +22,8 @@ import static javax.ws.rs.core.Response.Status.UNAUTHORIZED;
 
 import io.dropwizard.jersey.errors.ErrorMessage;
 import java.sql.SQLIntegrityConstraintViolationException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 import javax.ws.rs.Path;
 import javax.ws.rs.ProcessingException;
@@ -39,46 +41,30 @@ import org.slf4j.LoggerFactory;
 
 @Slf4j
 public class CatalogGenericExceptionMapper implements ExceptionMapper<Throwable> {
+  /** Whether the class of a stack frame is a resource, by class name */
+  private static final Map<String, Boolean> RESOURCE_CLASSES = new ConcurrentHashMap<>();
+
   @Override
   public Response toResponse(Throwable ex) {
     LOG.debug(ex.getMessage());
-    if (ex instanceof ProcessingException
+    if (ex instanceof EntityNotFoundException) {
+      return errorResponse(NOT_FOUND, ex.getMessage());
+    } else if (ex instanceof ProcessingException
         || ex instanceof IllegalArgumentException
         || ex instanceof javax.ws.rs.BadRequestException) {
-      final Response response = BadRequestException.of().getResponse();
-      return Response.fromResponse(response)
-          .type(MediaType.APPLICATION_JSON_TYPE)
-          .entity(new ErrorMessage(response.getStatus(), ex.getLocalizedMessage()))
-          .build();
+      return errorResponse(BAD_REQUEST, ex.getLocalizedMessage());
     } else if (ex instanceof UnableToExecuteStatementException) {
       // TODO This is a complete hack, there needs to be a better way to do this
       if (ex.getCause() instanceof SQLIntegrityConstraintViolationException
           || ex.getCause() instanceof PSQLException && ex.getCause().getMessage().contains("duplicate")) {
-        return Response.status(CONFLICT)
-            .type(MediaType.APPLICATION_JSON_TYPE)
-            .entity(new ErrorMessage(CONFLICT.getStatusCode(), CatalogExceptionMessage.ENTITY_ALREADY_EXISTS))
-            .build();
+        return errorResponse(CONFLICT, CatalogExceptionMessage.ENTITY_ALREADY_EXISTS);
       }
-    } else if (ex instanceof EntityNotFoundException) {
-      return Response.status(NOT_FOUND)
-          .type(MediaType.APPLICATION_JSON_TYPE)
-          .entity(new ErrorMessage(NOT_FOUND.getStatusCode(), ex.getMessage()))
-          .build();
     } else if (ex instanceof IngestionPipelineDeploymentException) {
-      return Response.status(BAD_REQUEST)
-          .type(MediaType.APPLICATION_JSON_TYPE)
-          .entity(new ErrorMessage(BAD_REQUEST.getStatusCode(), ex.getMessage()))
-          .build();
+      return errorResponse(BAD_REQUEST, ex.getMessage());
     } else if (ex instanceof AuthenticationException) {
-      return Response.status(UNAUTHORIZED)
-          .type(MediaType.APPLICATION_JSON_TYPE)
-          .entity(new ErrorMessage(UNAUTHORIZED.getStatusCode(), ex.getMessage()))
-          .build();
+      return errorResponse(UNAUTHORIZED, ex.getMessage());
     } else if (ex instanceof AuthorizationException) {
-      return Response.status(FORBIDDEN)
-          .type(MediaType.APPLICATION_JSON_TYPE)
-          .entity(new ErrorMessage(FORBIDDEN.getStatusCode(), ex.getMessage()))
-          .build();
+      return errorResponse(FORBIDDEN, ex.getMessage());
     } else if (ex instanceof WebServiceException) {
       final Response response = ((WebServiceException) ex).getResponse();
       Family family = response.getStatusInfo().getFamily();
@@ -100,6 +86,18 @@ public class CatalogGenericExceptionMapper implements ExceptionMapper<Throwable>
     return new UnhandledServerException(ex.getMessage()).getResponse();
   }
 
+  /** Resources registered in the {@link org.openmetadata.service.resources.CollectionRegistry} */
+  public static void registerResourceClass(Class<?> resourceClass) {
+    RESOURCE_CLASSES.put(resourceClass.getName(), true);
+  }
+
+  private static Response errorResponse(Response.Status status, String message) {
+    return Response.status(status)
+        .type(MediaType.APPLICATION_JSON_TYPE)
+        .entity(new ErrorMessage(status.getStatusCode(), message))
+        .build();
+  }
+
   private void logUnhandledException(Throwable ex) {
     String errMessage =
         String.format("Got exception: [%s] / message [%s]", ex.getClass().getSimpleName(), ex.getMessage());
@@ -132,21 +130,26 @@ public class CatalogGenericExceptionMapper implements ExceptionMapper<Throwable>
 
   private StackTraceElement findFirstResourceCallFromCallStack(StackTraceElement[] stackTrace) {
     for (StackTraceElement stackTraceElement : stackTrace) {
-      try {
-        Class<?> aClass = Class.forName(stackTraceElement.getClassName());
-        Path pathAnnotation = aClass.getAnnotation(Path.class);
-
-        if (pathAnnotation != null) {
-          return stackTraceElement;
-        }
-      } catch (ClassNotFoundException e) {
-        // skip
+      if (isResourceClass(stackTraceElement.getClassName())) {
+        return stackTraceElement;
       }
     }
-
     return null;
   }
 
+  static boolean isResourceClass(String className) {
+    return RESOURCE_CLASSES.computeIfAbsent(className, CatalogGenericExceptionMapper::hasPathAnnotation);
+  }
+
+  private static boolean hasPathAnnotation(String className) {
+    try {
+      return Class.forName(className).getAnnotation(Path.class) != null;
+    } catch (ClassNotFoundException | LinkageError e) {
+      // Generated classes, such as lambdas, are not resources
+      return false;
+    }
+  }
+
   private Logger getEffectiveLogger(String resourceClassName) {
     Logger log = LOG;
     if (resourceClassName != null) {
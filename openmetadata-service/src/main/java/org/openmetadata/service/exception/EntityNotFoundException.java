@@ -43,6 +43,11 @@ public class EntityNotFoundException extends WebServiceException {
     return new EntityNotFoundException(msg);
   }
 
+  /** Entity not found by a lookup of the entities stored, without a stack trace */
+  public static EntityNotFoundException byLookup(String msg) {
+    return new LookupNotFoundException(msg);
+  }
+
   public static EntityNotFoundException byName(String name) {
     return new EntityNotFoundException(buildMessageByName(name));
   }
@@ -94,4 +99,20 @@ public class EntityNotFoundException extends WebServiceException {
   private static String buildMessageByParserSchema(String id) {
     return String.format(BY_PARSER_SCHEMA_MESSAGE, id);
   }
+
+  /**
+   * Entities not being found is an expected outcome of the lookups of the entities stored, and the stack trace is not
+   * logged when mapped to a response. The stack trace is not filled in, as that is most of the cost of creating the
+   * exception.
+   */
+  private static final class LookupNotFoundException extends EntityNotFoundException {
+    private LookupNotFoundException(String message) {
+      super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+      return this;
+    }
+  }
 }
@@ -18,23 +18,36 @@ import static org.openmetadata.service.exception.CatalogExceptionMessage.FIELD_A
 import static org.openmetadata.service.exception.CatalogExceptionMessage.FIELD_NOT_TOKENIZED;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import com.macasaet.fernet.Key;
 import com.macasaet.fernet.StringValidator;
 import com.macasaet.fernet.Token;
 import com.macasaet.fernet.Validator;
+import io.micrometer.core.instrument.Counter;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.TemporalAmount;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import org.openmetadata.schema.api.fernet.FernetConfiguration;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
 
 public class Fernet {
   private static Fernet instance;
   private String fernetKey;
+  /** Keys parsed from the fernet key, with the values decrypted with them */
+  private volatile FernetKeys keys;
+  /** Whether the values decrypted with the keys are kept, set before the fernet key */
+  private boolean decryptCacheEnabled = true;
+  private final Counter decryptCacheHits = MicrometerBundleSingleton.fernetDecryptCacheRequests("hit");
+  private final Counter decryptCacheMisses = MicrometerBundleSingleton.fernetDecryptCacheRequests("miss");
   public static final String FERNET_PREFIX = "fernet:";
   public static final String FERNET_NO_ENCRYPTION = "no_encryption_at_rest";
   private final Validator<String> validator =
@@ -57,6 +70,7 @@ public class Fernet {
   public void setFernetKey(OpenMetadataApplicationConfig config) {
     FernetConfiguration fernetConfiguration = config.getFernetConfiguration();
     if (fernetConfiguration != null && !FERNET_NO_ENCRYPTION.equals(fernetConfiguration.getFernetKey())) {
+      decryptCacheEnabled = !Boolean.FALSE.equals(fernetConfiguration.getDecryptCacheEnabled());
       setFernetKey(fernetConfiguration.getFernetKey());
     }
   }
@@ -66,11 +80,23 @@ public class Fernet {
     if (fernetKey != null) {
       // convert base64 to base64url
       this.fernetKey = fernetKey.replace("/", "_").replace("+", "-").replace("=", "");
+      this.keys = new FernetKeys(this.fernetKey, decryptCacheEnabled);
     } else {
       this.fernetKey = null;
+      this.keys = null;
     }
   }
 
+  @VisibleForTesting
+  public String getFernetKey() {
+    return fernetKey;
+  }
+
+  @VisibleForTesting
+  public void setDecryptCacheEnabled(boolean decryptCacheEnabled) {
+    this.decryptCacheEnabled = decryptCacheEnabled;
+  }
+
   public boolean isKeyDefined() {
     return fernetKey != null;
   }
@@ -95,10 +121,20 @@ public class Fernet {
       throw new IllegalArgumentException(FERNET_KEY_NULL);
     }
     if (tokenized != null && tokenized.startsWith(FERNET_PREFIX)) {
-      String str = tokenized.split(FERNET_PREFIX, 2)[1];
-      Token token = Token.fromString(str);
-      List<Key> keys = Arrays.stream(fernetKey.split(",")).map(Key::new).collect(Collectors.toList());
-      return token.validateAndDecrypt(keys, validator);
+      FernetKeys fernetKeys = keys;
+      if (fernetKeys.decrypted == null) {
+        return validateAndDecrypt(fernetKeys, tokenized);
+      }
+      String digest = Hashing.sha256().hashString(tokenized, StandardCharsets.UTF_8).toString();
+      String decrypted = fernetKeys.decrypted.getIfPresent(digest);
+      if (decrypted != null) {
+        decryptCacheHits.increment();
+        return decrypted;
+      }
+      decryptCacheMisses.increment();
+      decrypted = validateAndDecrypt(fernetKeys, tokenized);
+      fernetKeys.decrypted.put(digest, decrypted);
+      return decrypted;
     }
     throw new IllegalArgumentException(FIELD_NOT_TOKENIZED);
   }
@@ -112,4 +148,29 @@ public class Fernet {
   public String encryptIfApplies(@NonNull String secret) {
     return isTokenized(secret) ? secret : encrypt(secret);
   }
+
+  private String validateAndDecrypt(FernetKeys fernetKeys, String tokenized) {
+    String str = tokenized.split(FERNET_PREFIX, 2)[1];
+    Token token = Token.fromString(str);
+    return token.validateAndDecrypt(fernetKeys.keys, validator);
+  }
+
+  /**
+   * The keys of a fernet key, and the values they decrypted keyed by the digest of their token, so that the tokens
+   * read again and again, such as the connections of the services, are only validated and decrypted once. The
+   * decrypted values are dropped with the keys when the fernet key changes. The decrypted values are not kept when the
+   * cache is disabled.
+   */
+  private static class FernetKeys {
+    private final List<Key> keys;
+    private final Cache<String, String> decrypted;
+
+    private FernetKeys(String fernetKey, boolean decryptCacheEnabled) {
+      this.keys = Arrays.stream(fernetKey.split(",")).map(Key::new).collect(Collectors.toList());
+      this.decrypted =
+          decryptCacheEnabled
+              ? CacheBuilder.newBuilder().maximumSize(1000).expireAfterAccess(10, TimeUnit.MINUTES).build()
+              : null;
+    }
+  }
 }
@@ -241,6 +241,16 @@ public class FormatterUtil {
     return messages;
   }
 
+  /** Change events of a response, which changes the fields of many entities when reporting usage in bulk */
+  public static List<ChangeEvent> getChangeEventsFromResponseContext(
+      ContainerResponseContext responseContext, String updateBy, String method) {
+    if (responseContext.getEntity() instanceof RestUtil.BulkChangeResponse) {
+      return ((RestUtil.BulkChangeResponse<?>) responseContext.getEntity()).getChangeEvents();
+    }
+    ChangeEvent changeEvent = getChangeEventFromResponseContext(responseContext, updateBy, method);
+    return changeEvent == null ? Collections.emptyList() : List.of(changeEvent);
+  }
+
   public static ChangeEvent getChangeEventFromResponseContext(
       ContainerResponseContext responseContext, String updateBy, String method) {
     // GET operations don't produce change events
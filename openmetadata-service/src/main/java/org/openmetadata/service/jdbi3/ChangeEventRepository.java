@@ -13,19 +13,21 @@
 
 package org.openmetadata.service.jdbi3;
 
-import static org.openmetadata.schema.type.EventType.ENTITY_CREATED;
-import static org.openmetadata.schema.type.EventType.ENTITY_DELETED;
-import static org.openmetadata.schema.type.EventType.ENTITY_SOFT_DELETED;
-import static org.openmetadata.schema.type.EventType.ENTITY_UPDATED;
+import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO.ChangeEventRecord;
 import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.RestUtil;
+import org.openmetadata.service.util.ResultList;
 
 public class ChangeEventRepository {
+  private static final String ALL_ENTITIES = "*";
   private final CollectionDAO.ChangeEventDAO dao;
 
   public ChangeEventRepository(CollectionDAO dao) {
@@ -36,12 +38,18 @@ public class ChangeEventRepository {
   public List<ChangeEvent> list(
       long timestamp, List<String> entityCreatedList, List<String> entityUpdatedList, List<String> entityDeletedList)
       throws IOException {
-    List<String> jsons = new ArrayList<>();
-    jsons.addAll(dao.list(ENTITY_CREATED.value(), entityCreatedList, timestamp));
-    jsons.addAll(dao.list(ENTITY_UPDATED.value(), entityUpdatedList, timestamp));
-    jsons.addAll(dao.list(ENTITY_DELETED.value(), entityDeletedList, timestamp));
-    jsons.addAll(dao.list(ENTITY_SOFT_DELETED.value(), entityDeletedList, timestamp));
-
+    if (nullOrEmpty(entityCreatedList) && nullOrEmpty(entityUpdatedList) && nullOrEmpty(entityDeletedList)) {
+      return new ArrayList<>();
+    }
+    List<String> jsons =
+        dao.list(
+            isAllEntities(entityCreatedList),
+            getEntityTypes(entityCreatedList),
+            isAllEntities(entityUpdatedList),
+            getEntityTypes(entityUpdatedList),
+            isAllEntities(entityDeletedList),
+            getEntityTypes(entityDeletedList),
+            timestamp);
     List<ChangeEvent> changeEvents = new ArrayList<>();
     for (String json : jsons) {
       changeEvents.add(JsonUtils.readValue(json, ChangeEvent.class));
@@ -49,6 +57,76 @@ public class ChangeEventRepository {
     return changeEvents;
   }
 
+  /**
+   * List a page of change events from the given timestamp, in the order they happened. The page continues after the
+   * event the cursor {@code after} points to, when given.
+   */
+  public ResultList<ChangeEvent> listAfter(
+      long timestamp,
+      List<String> entityCreatedList,
+      List<String> entityUpdatedList,
+      List<String> entityDeletedList,
+      int limit,
+      String after)
+      throws IOException {
+    // Events are ordered by time, and by the offset they were written at for the events with the same time
+    long eventTime = timestamp;
+    long eventOffset = -1;
+    if (after != null) {
+      long[] cursor = decodeCursor(after);
+      eventTime = Math.max(timestamp, cursor[0]);
+      eventOffset = eventTime == cursor[0] ? cursor[1] : -1;
+    }
+    if (nullOrEmpty(entityCreatedList) && nullOrEmpty(entityUpdatedList) && nullOrEmpty(entityDeletedList)) {
+      return new ResultList<>(Collections.emptyList(), null, after, 0);
+    }
+
+    List<ChangeEventRecord> records =
+        dao.listAfter(
+            isAllEntities(entityCreatedList),
+            getEntityTypes(entityCreatedList),
+            isAllEntities(entityUpdatedList),
+            getEntityTypes(entityUpdatedList),
+            isAllEntities(entityDeletedList),
+            getEntityTypes(entityDeletedList),
+            eventTime,
+            eventOffset,
+            limit);
+    List<ChangeEvent> changeEvents = new ArrayList<>(records.size());
+    for (ChangeEventRecord changeEventRecord : records) {
+      changeEvents.add(JsonUtils.readValue(changeEventRecord.getJson(), ChangeEvent.class));
+    }
+    String afterCursor = after;
+    if (!records.isEmpty()) {
+      ChangeEventRecord last = records.get(records.size() - 1);
+      afterCursor = RestUtil.encodeCursor(last.getEventTime() + "," + last.getEventOffset());
+    }
+    return new ResultList<>(changeEvents, null, afterCursor, changeEvents.size());
+  }
+
+  /** The (eventTime, eventOffset) of the event a cursor points to */
+  static long[] decodeCursor(String after) {
+    try {
+      String[] cursor = RestUtil.decodeCursor(after).split(",");
+      if (cursor.length == 2) {
+        return new long[] {Long.parseLong(cursor[0]), Long.parseLong(cursor[1])};
+      }
+    } catch (IllegalArgumentException e) {
+      // Not base64, or not numbers
+    }
+    throw new IllegalArgumentException(String.format("Invalid after cursor [%s]", after));
+  }
+
+  /** Whether the events of all the entities are requested, with `*` */
+  static boolean isAllEntities(List<String> entityTypes) {
+    return !nullOrEmpty(entityTypes) && entityTypes.get(0).equals(ALL_ENTITIES);
+  }
+
+  /** The entity types the events are requested for, none when the events of all the entities are requested */
+  static List<String> getEntityTypes(List<String> entityTypes) {
+    return nullOrEmpty(entityTypes) || isAllEntities(entityTypes) ? Collections.emptyList() : entityTypes;
+  }
+
   @Transaction
   public void deleteAll(String entityType) {
     dao.deleteAll(entityType);
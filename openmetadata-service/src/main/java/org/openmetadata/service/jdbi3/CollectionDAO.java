@@ -26,15 +26,18 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.Builder;
 import lombok.Getter;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.commons.lang3.tuple.Triple;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
@@ -46,8 +49,10 @@ import org.jdbi.v3.sqlobject.customizer.BindBeanList;
 import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.BindMap;
 import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.sqlobject.transaction.Transactional;
 import org.openmetadata.api.configuration.LogoConfiguration;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.TokenInterface;
@@ -112,6 +117,7 @@ import org.openmetadata.service.Entity;
 import org.openmetadata.service.jdbi3.CollectionDAO.TagUsageDAO.TagLabelMapper;
 import org.openmetadata.service.jdbi3.CollectionDAO.UsageDAO.UsageDetailsMapper;
 import org.openmetadata.service.jdbi3.FeedRepository.FilterType;
+import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlBatch;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlQuery;
 import org.openmetadata.service.jdbi3.locator.ConnectionAwareSqlUpdate;
 import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
@@ -271,6 +277,15 @@ public interface CollectionDAO {
   @CreateSqlObject
   DataModelDAO dashboardDataModelDAO();
 
+  @CreateSqlObject
+  TransactionDAO transactionDAO();
+
+  /**
+   * Runs a unit of work in a transaction. The calls made through the other DAOs on the same thread while the unit of
+   * work runs share its handle, and hence join the transaction.
+   */
+  interface TransactionDAO extends Transactional<TransactionDAO> {}
+
   interface DashboardDAO extends EntityDAO<Dashboard> {
     @Override
     default String getTableName() {
@@ -522,6 +537,8 @@ public interface CollectionDAO {
   }
 
   interface EntityExtensionDAO {
+    int CUSTOM_PROPERTIES_BATCH_SIZE = 1000;
+
     @ConnectionAwareSqlUpdate(
         value =
             "REPLACE INTO entity_extension(id, extension, jsonSchema, json) "
@@ -549,6 +566,49 @@ public interface CollectionDAO {
             + "ORDER BY extension")
     List<ExtensionRecord> getExtensions(@Bind("id") String id, @Bind("extensionPrefix") String extensionPrefix);
 
+    /**
+     * The custom properties of the given entities, stored together in the row named by the prefix, or one per row
+     * named by the prefix and the property name
+     */
+    @RegisterRowMapper(EntityExtensionMapper.class)
+    @SqlQuery(
+        "SELECT id, extension, json FROM entity_extension WHERE id IN (<ids>) AND (extension = :extensionPrefix "
+            + "OR extension LIKE CONCAT (:extensionPrefix, '.%')) "
+            + "ORDER BY extension")
+    List<EntityExtensionRecord> getCustomProperties(
+        @BindList("ids") List<String> ids, @Bind("extensionPrefix") String extensionPrefix);
+
+    /** Like {@link #getCustomProperties}, with one query per batch of ids to stay within the bind parameter limits */
+    default List<EntityExtensionRecord> getCustomPropertiesInBatches(List<String> ids, String extensionPrefix) {
+      List<EntityExtensionRecord> records = new ArrayList<>();
+      for (int from = 0; from < ids.size(); from += CUSTOM_PROPERTIES_BATCH_SIZE) {
+        int to = Math.min(ids.size(), from + CUSTOM_PROPERTIES_BATCH_SIZE);
+        records.addAll(getCustomProperties(ids.subList(from, to), extensionPrefix));
+      }
+      return records;
+    }
+
+    @SqlUpdate(
+        "DELETE FROM entity_extension WHERE id = :id AND (extension = :extensionPrefix "
+            + "OR extension LIKE CONCAT (:extensionPrefix, '.%'))")
+    void deleteCustomProperties(@Bind("id") String id, @Bind("extensionPrefix") String extensionPrefix);
+
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE entity_extension SET json = JSON_REMOVE(json, CONCAT('$.\"', :propertyName, '\"')) "
+                + "WHERE extension = :extensionPrefix",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value = "UPDATE entity_extension SET json = json - (:propertyName :: text) WHERE extension = :extensionPrefix",
+        connectionType = POSTGRES)
+    void deleteCustomProperty(
+        @Bind("extensionPrefix") String extensionPrefix, @Bind("propertyName") String propertyName);
+
+    @RegisterRowMapper(EntityExtensionMapper.class)
+    @SqlQuery("SELECT id, extension, json FROM entity_extension WHERE id IN (<ids>) AND extension = :extension")
+    List<EntityExtensionRecord> getExtensionOfEntities(
+        @BindList("ids") List<String> ids, @Bind("extension") String extension);
+
     @SqlUpdate("DELETE FROM entity_extension WHERE id = :id AND extension = :extension")
     void delete(@Bind("id") String id, @Bind("extension") String extension);
 
@@ -586,6 +646,25 @@ public interface CollectionDAO {
     }
   }
 
+  class EntityExtensionRecord {
+    @Getter private final String id;
+    @Getter private final String extensionName;
+    @Getter private final String extensionJson;
+
+    public EntityExtensionRecord(String id, String extensionName, String extensionJson) {
+      this.id = id;
+      this.extensionName = extensionName;
+      this.extensionJson = extensionJson;
+    }
+  }
+
+  class EntityExtensionMapper implements RowMapper<EntityExtensionRecord> {
+    @Override
+    public EntityExtensionRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
+      return new EntityExtensionRecord(rs.getString("id"), rs.getString("extension"), rs.getString("json"));
+    }
+  }
+
   @Getter
   @Builder
   class EntityRelationshipRecord {
@@ -604,6 +683,14 @@ public interface CollectionDAO {
     private int relation;
   }
 
+  @Getter
+  @Builder
+  class TeamParentRecord {
+    private UUID teamId;
+    private UUID parentId;
+    private String parentName;
+  }
+
   @Getter
   @Builder
   class ReportDataRow {
@@ -739,6 +826,16 @@ public interface CollectionDAO {
     List<EntityRelationshipRecord> findFrom(
         @Bind("toId") String toId, @Bind("toEntity") String toEntity, @Bind("relation") int relation);
 
+    @SqlQuery(
+        "SELECT fromId, toId, fromEntity, toEntity, relation FROM entity_relationship "
+            + "WHERE toId IN (<toIds>) AND toEntity = :toEntity AND relation = :relation AND fromEntity = :fromEntity")
+    @RegisterRowMapper(RelationshipObjectMapper.class)
+    List<EntityRelationshipObject> findFromBatch(
+        @BindList("toIds") List<String> toIds,
+        @Bind("toEntity") String toEntity,
+        @Bind("relation") int relation,
+        @Bind("fromEntity") String fromEntity);
+
     @ConnectionAwareSqlQuery(
         value =
             "SELECT fromId, fromEntity, json FROM entity_relationship "
@@ -811,6 +908,19 @@ public interface CollectionDAO {
       }
     }
 
+    class RelationshipObjectMapper implements RowMapper<EntityRelationshipObject> {
+      @Override
+      public EntityRelationshipObject map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return EntityRelationshipObject.builder()
+            .fromId(rs.getString("fromId"))
+            .toId(rs.getString("toId"))
+            .fromEntity(rs.getString("fromEntity"))
+            .toEntity(rs.getString("toEntity"))
+            .relation(rs.getInt("relation"))
+            .build();
+      }
+    }
+
     class ToRelationshipMapper implements RowMapper<EntityRelationshipRecord> {
       @Override
       public EntityRelationshipRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
@@ -1852,6 +1962,26 @@ public interface CollectionDAO {
       return "name";
     }
 
+    @SqlQuery(
+        "SELECT er.toId, er.fromId, te.name FROM entity_relationship er JOIN team_entity te ON te.id = er.fromId "
+            + "WHERE er.fromEntity = 'team' AND er.toEntity = 'team' AND er.relation = :relation")
+    @RegisterRowMapper(TeamParentMapper.class)
+    List<TeamParentRecord> listParents(@Bind("relation") int relation);
+
+    @SqlQuery("SELECT MAX(updatedAt) FROM team_entity")
+    Long getLastUpdatedAt();
+
+    class TeamParentMapper implements RowMapper<TeamParentRecord> {
+      @Override
+      public TeamParentRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return TeamParentRecord.builder()
+            .teamId(UUID.fromString(rs.getString("toId")))
+            .parentId(UUID.fromString(rs.getString("fromId")))
+            .parentName(rs.getString("name"))
+            .build();
+      }
+    }
+
     @Override
     default int listCount(ListFilter filter) {
       String parentTeam = filter.getQueryParam("parentTeam");
@@ -2093,6 +2223,69 @@ public interface CollectionDAO {
         @Bind("entityType") String entityType,
         @Bind("count1") int count1);
 
+    @SqlBatch
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30) "
+                + "VALUES (:date, :id, :entityType, :count1, :count7, :count30) "
+                + "ON DUPLICATE KEY UPDATE count7 = count7 - count1 + :count1, count30 = count30 - count1 + :count1, "
+                + "count1 = :count1",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO entity_usage (usageDate, id, entityType, count1, count7, count30) "
+                + "VALUES ((:date :: date), :id, :entityType, :count1, :count7, :count30) "
+                + "ON CONFLICT (usageDate, id) DO UPDATE SET "
+                + "count7 = entity_usage.count7 - entity_usage.count1 + :count1, "
+                + "count30 = entity_usage.count30 - entity_usage.count1 + :count1, count1 = :count1",
+        connectionType = POSTGRES)
+    void insertOrReplaceCountBatchInternal(
+        @Bind("date") String date,
+        @Bind("id") List<String> ids,
+        @Bind("entityType") String entityType,
+        @Bind("count1") List<Integer> count1,
+        @Bind("count7") List<Integer> count7,
+        @Bind("count30") List<Integer> count30);
+
+    /**
+     * Same as {@link #insertOrReplaceCount} for the counts of many entities on the same date. The trailing 7 and 30 day
+     * windows of all the entities are read with a single query and the rows are written in one batch.
+     */
+    default void insertOrReplaceCountBatch(String date, String entityType, List<String> ids, List<Integer> counts) {
+      if (ids.isEmpty()) {
+        return;
+      }
+      Map<String, RollingUsageCount> trailing = new HashMap<>();
+      for (RollingUsageCount rollingCount : getTrailingCounts(ids, date)) {
+        trailing.put(rollingCount.getId(), rollingCount);
+      }
+      List<Integer> count7 = new ArrayList<>(ids.size());
+      List<Integer> count30 = new ArrayList<>(ids.size());
+      for (int i = 0; i < ids.size(); i++) {
+        RollingUsageCount rollingCount = trailing.get(ids.get(i));
+        count7.add(counts.get(i) + (rollingCount == null ? 0 : rollingCount.getCount7()));
+        count30.add(counts.get(i) + (rollingCount == null ? 0 : rollingCount.getCount30()));
+      }
+      insertOrReplaceCountBatchInternal(date, ids, entityType, counts, count7, count30);
+    }
+
+    /** Usage of the given entities over the 6 and 29 days preceding the given date */
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT id, SUM(CASE WHEN usageDate >= :date - INTERVAL 6 DAY THEN count1 ELSE 0 END) AS count7, "
+                + "SUM(count1) AS count30 FROM entity_usage "
+                + "WHERE id IN (<ids>) AND usageDate >= :date - INTERVAL 29 DAY AND usageDate < :date GROUP BY id",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlQuery(
+        value =
+            "SELECT id, SUM(CASE WHEN usageDate >= (:date :: date) - INTERVAL '6 days' THEN count1 ELSE 0 END) AS count7, "
+                + "SUM(count1) AS count30 FROM entity_usage "
+                + "WHERE id IN (<ids>) AND usageDate >= (:date :: date) - INTERVAL '29 days' "
+                + "AND usageDate < (:date :: date) GROUP BY id",
+        connectionType = POSTGRES)
+    @RegisterRowMapper(RollingUsageCountMapper.class)
+    List<RollingUsageCount> getTrailingCounts(@BindList("ids") List<String> ids, @Bind("date") String date);
+
     @ConnectionAwareSqlQuery(
         value =
             "SELECT id, usageDate, entityType, count1, count7, count30, "
@@ -2114,26 +2307,39 @@ public interface CollectionDAO {
             + "WHERE usageDate IN (SELECT MAX(usageDate) FROM entity_usage WHERE id = :id) AND id = :id")
     UsageDetails getLatestUsage(@Bind("id") String id);
 
+    /** Latest usage record of each of the given entities, read in a single query */
+    default Map<String, UsageDetails> getLatestUsage(List<String> ids) {
+      Map<String, UsageDetails> latestUsage = new HashMap<>();
+      if (!ids.isEmpty()) {
+        getLatestUsageBatch(ids).forEach(usage -> latestUsage.put(usage.getId(), usage.getUsage()));
+      }
+      return latestUsage;
+    }
+
+    @SqlQuery(
+        "SELECT u.id, u.usageDate, u.entityType, u.count1, u.count7, u.count30, "
+            + "u.percentile1, u.percentile7, u.percentile30 FROM entity_usage u JOIN ("
+            + "SELECT id, MAX(usageDate) AS latestDate FROM entity_usage WHERE id IN (<ids>) GROUP BY id) latest "
+            + "ON u.id = latest.id AND u.usageDate = latest.latestDate")
+    @RegisterRowMapper(LatestUsageMapper.class)
+    List<LatestUsage> getLatestUsageBatch(@BindList("ids") List<String> ids);
+
     @SqlUpdate("DELETE FROM entity_usage WHERE id = :id")
     void delete(@Bind("id") String id);
 
     /**
-     * TODO: Not sure I get what the next comment means, but tests now use mysql 8 so maybe tests can be improved here
-     * Note not using in following percentile computation PERCENT_RANK function as unit tests use mysql5.7, and it does
-     * not have window function
+     * Rank all the entities of a type on a date in a single pass. The rank of an entity is the number of entities with
+     * strictly lower usage, which is what {@code RANK() - 1} computes over the ordered partition.
      */
     @ConnectionAwareSqlUpdate(
         value =
             "UPDATE entity_usage u JOIN ( "
-                + "SELECT u1.id, "
-                + "(SELECT COUNT(*) FROM entity_usage as u2 WHERE u2.count1 <  u1.count1 AND u2.entityType = :entityType "
-                + "AND u2.usageDate = :date) as p1, "
-                + "(SELECT COUNT(*) FROM entity_usage as u3 WHERE u3.count7 <  u1.count7 AND u3.entityType = :entityType "
-                + "AND u3.usageDate = :date) as p7, "
-                + "(SELECT COUNT(*) FROM entity_usage as u4 WHERE u4.count30 <  u1.count30 AND u4.entityType = :entityType "
-                + "AND u4.usageDate = :date) as p30, "
-                + "(SELECT COUNT(*) FROM entity_usage WHERE entityType = :entityType AND usageDate = :date) as total "
-                + "FROM entity_usage u1 WHERE u1.entityType = :entityType AND u1.usageDate = :date"
+                + "SELECT id, "
+                + "RANK() OVER (ORDER BY count1) - 1 AS p1, "
+                + "RANK() OVER (ORDER BY count7) - 1 AS p7, "
+                + "RANK() OVER (ORDER BY count30) - 1 AS p30, "
+                + "COUNT(*) OVER () AS total "
+                + "FROM entity_usage WHERE entityType = :entityType AND usageDate = :date"
                 + ") vals ON u.id = vals.id AND usageDate = :date "
                 + "SET u.percentile1 = ROUND(100 * p1/total, 2), u.percentile7 = ROUND(p7 * 100/total, 2), u.percentile30 ="
                 + " ROUND(p30*100/total, 2)",
@@ -2143,18 +2349,50 @@ public interface CollectionDAO {
             "UPDATE entity_usage u "
                 + "SET percentile1 = ROUND(100 * p1 / total, 2), percentile7 = ROUND(p7 * 100 / total, 2), percentile30 = ROUND(p30 * 100 / total, 2) "
                 + "FROM ("
-                + "   SELECT u1.id, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u2 WHERE u2.count1 < u1.count1 AND u2.entityType = :entityType AND u2.usageDate = (:date :: date)) as p1, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u3 WHERE u3.count7 < u1.count7 AND u3.entityType = :entityType AND u3.usageDate = (:date :: date)) as p7, "
-                + "       (SELECT COUNT(*) FROM entity_usage as u4 WHERE u4.count30 < u1.count30 AND u4.entityType = :entityType AND u4.usageDate = (:date :: date)) as p30, "
-                + "       (SELECT COUNT(*) FROM entity_usage WHERE entityType = :entityType AND usageDate = (:date :: date)"
-                + "   ) as total FROM entity_usage u1 "
-                + "   WHERE u1.entityType = :entityType AND u1.usageDate = (:date :: date)"
+                + "   SELECT id, "
+                + "       RANK() OVER (ORDER BY count1) - 1 AS p1, "
+                + "       RANK() OVER (ORDER BY count7) - 1 AS p7, "
+                + "       RANK() OVER (ORDER BY count30) - 1 AS p30, "
+                + "       COUNT(*) OVER () AS total "
+                + "   FROM entity_usage WHERE entityType = :entityType AND usageDate = (:date :: date)"
                 + ") vals "
                 + "WHERE u.id = vals.id AND usageDate = (:date :: date);",
         connectionType = POSTGRES)
     void computePercentile(@Bind("entityType") String entityType, @Bind("date") String date);
 
+    @Getter
+    @Builder
+    class RollingUsageCount {
+      private String id;
+      private int count7;
+      private int count30;
+    }
+
+    class RollingUsageCountMapper implements RowMapper<RollingUsageCount> {
+      @Override
+      public RollingUsageCount map(ResultSet r, StatementContext ctx) throws SQLException {
+        return RollingUsageCount.builder()
+            .id(r.getString("id"))
+            .count7(r.getInt("count7"))
+            .count30(r.getInt("count30"))
+            .build();
+      }
+    }
+
+    @Getter
+    @Builder
+    class LatestUsage {
+      private String id;
+      private UsageDetails usage;
+    }
+
+    class LatestUsageMapper implements RowMapper<LatestUsage> {
+      @Override
+      public LatestUsage map(ResultSet r, StatementContext ctx) throws SQLException {
+        return LatestUsage.builder().id(r.getString("id")).usage(new UsageDetailsMapper().map(r, ctx)).build();
+      }
+    }
+
     class UsageDetailsMapper implements RowMapper<UsageDetails> {
       @Override
       public UsageDetails map(ResultSet r, StatementContext ctx) throws SQLException {
@@ -2459,30 +2697,98 @@ public interface CollectionDAO {
     @SqlUpdate("DELETE FROM change_event WHERE entityType = :entityType")
     void deleteAll(@Bind("entityType") String entityType);
 
-    default List<String> list(String eventType, List<String> entityTypes, long timestamp) {
-      if (CommonUtil.nullOrEmpty(entityTypes)) {
-        return Collections.emptyList();
-      }
-      if (entityTypes.get(0).equals("*")) {
-        return listWithoutEntityFilter(eventType, timestamp);
-      }
-      return listWithEntityFilter(eventType, entityTypes, timestamp);
-    }
+    @ConnectionAwareSqlUpdate(
+        value = "DELETE FROM change_event WHERE eventType = :eventType AND eventTime < :before LIMIT :limit",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "DELETE FROM change_event WHERE ctid IN (SELECT ctid FROM change_event "
+                + "WHERE eventType = :eventType AND eventTime < :before LIMIT :limit)",
+        connectionType = POSTGRES)
+    int deleteBefore(@Bind("eventType") String eventType, @Bind("before") long before, @Bind("limit") int limit);
+
+    /** Delete the `entityUpdated` events before the given time followed by a later `entityUpdated` event of the entity */
+    @ConnectionAwareSqlUpdate(
+        value =
+            "DELETE FROM change_event WHERE eventOffset IN (SELECT eventOffset FROM ("
+                + "SELECT ce.eventOffset FROM change_event ce "
+                + "WHERE ce.eventType = 'entityUpdated' AND ce.eventTime < :before AND EXISTS ("
+                + "SELECT 1 FROM change_event later WHERE later.entityId = ce.entityId "
+                + "AND later.eventOffset > ce.eventOffset AND later.eventType = 'entityUpdated' "
+                + "AND later.eventTime < :before) LIMIT :limit) superseded)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "DELETE FROM change_event WHERE ctid IN ("
+                + "SELECT ce.ctid FROM change_event ce "
+                + "WHERE ce.eventType = 'entityUpdated' AND ce.eventTime < :before AND EXISTS ("
+                + "SELECT 1 FROM change_event later WHERE later.entityId = ce.entityId "
+                + "AND later.eventOffset > ce.eventOffset AND later.eventType = 'entityUpdated' "
+                + "AND later.eventTime < :before) LIMIT :limit)",
+        connectionType = POSTGRES)
+    int deleteSupersededUpdates(@Bind("before") long before, @Bind("limit") int limit);
+
+    /**
+     * Condition matching the events of the requested event types. An event type matches the events of all the entities
+     * when its `all` flag is set, else the events of its entity types. An event type without entity types matches no
+     * events, as its empty list binds to `null`.
+     */
+    String EVENT_TYPE_CONDITION =
+        "((eventType = 'entityCreated' AND (:allCreated OR entityType IN (<createdTypes>))) "
+            + "OR (eventType = 'entityUpdated' AND (:allUpdated OR entityType IN (<updatedTypes>))) "
+            + "OR (eventType IN ('entityDeleted', 'entitySoftDeleted') "
+            + "AND (:allDeleted OR entityType IN (<deletedTypes>))))";
 
     @SqlQuery(
         "SELECT json FROM change_event WHERE "
-            + "eventType = :eventType AND (entityType IN (<entityTypes>)) AND eventTime >= :timestamp "
-            + "ORDER BY eventTime ASC")
-    List<String> listWithEntityFilter(
-        @Bind("eventType") String eventType,
-        @BindList("entityTypes") List<String> entityTypes,
+            + EVENT_TYPE_CONDITION
+            + " AND eventTime >= :timestamp ORDER BY eventTime ASC, eventOffset ASC")
+    List<String> list(
+        @Bind("allCreated") boolean allCreated,
+        @BindList(value = "createdTypes", onEmpty = BindList.EmptyHandling.NULL_STRING) List<String> createdTypes,
+        @Bind("allUpdated") boolean allUpdated,
+        @BindList(value = "updatedTypes", onEmpty = BindList.EmptyHandling.NULL_STRING) List<String> updatedTypes,
+        @Bind("allDeleted") boolean allDeleted,
+        @BindList(value = "deletedTypes", onEmpty = BindList.EmptyHandling.NULL_STRING) List<String> deletedTypes,
         @Bind("timestamp") long timestamp);
 
+    /** List the events after the event at (eventTime, eventOffset), in the order they happened */
     @SqlQuery(
-        "SELECT json FROM change_event WHERE "
-            + "eventType = :eventType AND eventTime >= :timestamp "
-            + "ORDER BY eventTime ASC")
-    List<String> listWithoutEntityFilter(@Bind("eventType") String eventType, @Bind("timestamp") long timestamp);
+        "SELECT eventTime, eventOffset, json FROM change_event WHERE "
+            + EVENT_TYPE_CONDITION
+            + " AND eventTime >= :eventTime AND (eventTime > :eventTime OR eventOffset > :eventOffset) "
+            + "ORDER BY eventTime ASC, eventOffset ASC LIMIT :limit")
+    @RegisterRowMapper(ChangeEventRecordMapper.class)
+    List<ChangeEventRecord> listAfter(
+        @Bind("allCreated") boolean allCreated,
+        @BindList(value = "createdTypes", onEmpty = BindList.EmptyHandling.NULL_STRING) List<String> createdTypes,
+        @Bind("allUpdated") boolean allUpdated,
+        @BindList(value = "updatedTypes", onEmpty = BindList.EmptyHandling.NULL_STRING) List<String> updatedTypes,
+        @Bind("allDeleted") boolean allDeleted,
+        @BindList(value = "deletedTypes", onEmpty = BindList.EmptyHandling.NULL_STRING) List<String> deletedTypes,
+        @Bind("eventTime") long eventTime,
+        @Bind("eventOffset") long eventOffset,
+        @Bind("limit") int limit);
+
+    @Getter
+    class ChangeEventRecord {
+      private final long eventTime;
+      private final long eventOffset;
+      private final String json;
+
+      public ChangeEventRecord(long eventTime, long eventOffset, String json) {
+        this.eventTime = eventTime;
+        this.eventOffset = eventOffset;
+        this.json = json;
+      }
+    }
+
+    class ChangeEventRecordMapper implements RowMapper<ChangeEventRecord> {
+      @Override
+      public ChangeEventRecord map(ResultSet rs, StatementContext ctx) throws SQLException {
+        return new ChangeEventRecord(rs.getLong("eventTime"), rs.getLong("eventOffset"), rs.getString("json"));
+      }
+    }
   }
 
   interface TypeEntityDAO extends EntityDAO<Type> {
@@ -2816,6 +3122,103 @@ public interface CollectionDAO {
         @Bind("timestamp") Long timestamp,
         @Bind("operation") String operation);
 
+    @SqlBatch
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO entity_extension_time_series(entityFQN, extension, jsonSchema, json) "
+                + "VALUES (:entityFQN, :extension, :jsonSchema, :json)",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value =
+            "INSERT INTO entity_extension_time_series(entityFQN, extension, jsonSchema, json) "
+                + "VALUES (:entityFQN, :extension, :jsonSchema, (:json :: jsonb))",
+        connectionType = POSTGRES)
+    void insertBatch(
+        @Bind("entityFQN") List<String> entityFQNs,
+        @Bind("extension") String extension,
+        @Bind("jsonSchema") String jsonSchema,
+        @Bind("json") List<String> jsons);
+
+    @SqlBatch(
+        "DELETE FROM entity_extension_time_series WHERE entityFQN = :entityFQN AND extension = :extension AND timestamp = :timestamp")
+    void deleteBatchAtTimestamp(
+        @Bind("entityFQN") List<String> entityFQNs,
+        @Bind("extension") String extension,
+        @Bind("timestamp") List<Long> timestamps);
+
+    @SqlBatch
+    @ConnectionAwareSqlBatch(
+        value =
+            "DELETE FROM entity_extension_time_series WHERE entityFQN = :entityFQN AND extension = :extension "
+                + "AND timestamp = :timestamp AND JSON_UNQUOTE(JSON_EXTRACT(json, '$.operation')) = :operation",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlBatch(
+        value =
+            "DELETE FROM entity_extension_time_series WHERE entityFQN = :entityFQN AND extension = :extension "
+                + "AND timestamp = :timestamp AND json #>>'{operation}' = :operation",
+        connectionType = POSTGRES)
+    void deleteBatchAtTimestampWithOperation(
+        @Bind("entityFQN") String entityFQN,
+        @Bind("extension") String extension,
+        @Bind("timestamp") List<Long> timestamps,
+        @Bind("operation") List<String> operations);
+
+    /**
+     * Replace the records at the given timestamps in two round trips: one batched delete of any stored record followed
+     * by one batched insert. Callers must run this inside a transaction. Of the records with the same entity and
+     * timestamp, the last one is stored, as when the records are written one at a time.
+     */
+    default void upsertBatch(
+        List<String> entityFQNs, String extension, String jsonSchema, List<Long> timestamps, List<String> jsons) {
+      if (entityFQNs.isEmpty()) {
+        return;
+      }
+      Map<Pair<String, Long>, Integer> lastRecords = new LinkedHashMap<>();
+      for (int i = 0; i < entityFQNs.size(); i++) {
+        lastRecords.put(Pair.of(entityFQNs.get(i), timestamps.get(i)), i);
+      }
+      List<String> batchFQNs = new ArrayList<>(lastRecords.size());
+      List<Long> batchTimestamps = new ArrayList<>(lastRecords.size());
+      List<String> batchJsons = new ArrayList<>(lastRecords.size());
+      for (int i : lastRecords.values()) {
+        batchFQNs.add(entityFQNs.get(i));
+        batchTimestamps.add(timestamps.get(i));
+        batchJsons.add(jsons.get(i));
+      }
+      deleteBatchAtTimestamp(batchFQNs, extension, batchTimestamps);
+      insertBatch(batchFQNs, extension, jsonSchema, batchJsons);
+    }
+
+    /**
+     * Same as {@link #upsertBatch} for records of a single entity that are keyed by timestamp and operation. Of the
+     * records with the same timestamp and operation, the last one is stored.
+     */
+    default void upsertBatchWithOperation(
+        String entityFQN,
+        String extension,
+        String jsonSchema,
+        List<Long> timestamps,
+        List<String> operations,
+        List<String> jsons) {
+      if (timestamps.isEmpty()) {
+        return;
+      }
+      Map<Pair<Long, String>, Integer> lastRecords = new LinkedHashMap<>();
+      for (int i = 0; i < timestamps.size(); i++) {
+        lastRecords.put(Pair.of(timestamps.get(i), operations.get(i)), i);
+      }
+      List<Long> batchTimestamps = new ArrayList<>(lastRecords.size());
+      List<String> batchOperations = new ArrayList<>(lastRecords.size());
+      List<String> batchJsons = new ArrayList<>(lastRecords.size());
+      for (int i : lastRecords.values()) {
+        batchTimestamps.add(timestamps.get(i));
+        batchOperations.add(operations.get(i));
+        batchJsons.add(jsons.get(i));
+      }
+      deleteBatchAtTimestampWithOperation(entityFQN, extension, batchTimestamps, batchOperations);
+      insertBatch(Collections.nCopies(batchJsons.size(), entityFQN), extension, jsonSchema, batchJsons);
+    }
+
     @SqlQuery("SELECT json FROM entity_extension_time_series WHERE entityFQN = :entityFQN AND extension = :extension")
     String getExtension(@Bind("entityFQN") String entityId, @Bind("extension") String extension);
 
@@ -2937,6 +3340,11 @@ public interface CollectionDAO {
         @Bind("startTs") Long startTs,
         @Bind("endTs") long endTs);
 
+    @SqlQuery(
+        "SELECT DISTINCT timestamp FROM entity_extension_time_series "
+            + "WHERE entityFQN = :entityFQN AND extension = :extension")
+    List<Long> listDistinctTimestamps(@Bind("entityFQN") String entityFQN, @Bind("extension") String extension);
+
     @SqlQuery(
         "SELECT json FROM entity_extension_time_series where entityFQN = :entityFQN and extension = :extension "
             + " AND timestamp >= :startTs and timestamp <= :endTs ORDER BY timestamp <orderBy>")
@@ -2947,6 +3355,28 @@ public interface CollectionDAO {
         @Bind("endTs") long endTs,
         @Define("orderBy") OrderBy orderBy);
 
+    @SqlQuery(
+        "SELECT json FROM entity_extension_time_series WHERE runId = :runId AND entityFQN = :entityFQN "
+            + "AND extension = :extension ORDER BY timestamp DESC LIMIT 1")
+    String getExtensionByRunId(
+        @Bind("runId") String runId, @Bind("entityFQN") String entityFQN, @Bind("extension") String extension);
+
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE entity_extension_time_series SET json = :json "
+                + "WHERE runId = :runId AND entityFQN = :entityFQN AND extension = :extension",
+        connectionType = MYSQL)
+    @ConnectionAwareSqlUpdate(
+        value =
+            "UPDATE entity_extension_time_series SET json = (:json :: jsonb) "
+                + "WHERE runId = :runId AND entityFQN = :entityFQN AND extension = :extension",
+        connectionType = POSTGRES)
+    void updateExtensionByRunId(
+        @Bind("runId") String runId,
+        @Bind("entityFQN") String entityFQN,
+        @Bind("extension") String extension,
+        @Bind("json") String json);
+
     default void updateExtensionByKey(String key, String value, String entityFQN, String extension, String json) {
 
       String mysqlCond = String.format("AND JSON_UNQUOTE(JSON_EXTRACT(json, '$.%s')) = :value", key);
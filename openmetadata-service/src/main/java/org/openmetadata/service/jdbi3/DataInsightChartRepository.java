@@ -9,6 +9,8 @@ import java.util.List;
 import java.util.concurrent.TimeUnit;
 import org.elasticsearch.action.search.SearchRequest;
 import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.common.unit.TimeValue;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
@@ -129,6 +131,20 @@ public class DataInsightChartRepository extends EntityRepository<DataInsightChar
     return searchRequest;
   }
 
+  public DataInsightChartResult getDataInsightChartResult(
+      RestHighLevelClient client,
+      Long startTs,
+      Long endTs,
+      String tier,
+      String team,
+      DataInsightChartResult.DataInsightChartType dataInsightChartName,
+      String dataReportIndex)
+      throws IOException, ParseException {
+    SearchRequest searchRequest = buildSearchRequest(startTs, endTs, tier, team, dataInsightChartName, dataReportIndex);
+    SearchResponse searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
+    return processDataInsightChartResult(searchResponse, dataInsightChartName);
+  }
+
   public DataInsightChartResult processDataInsightChartResult(
       SearchResponse searchResponse, DataInsightChartResult.DataInsightChartType dataInsightChartName)
       throws ParseException {
@@ -21,10 +21,17 @@ import static org.openmetadata.service.jdbi3.locator.ConnectionType.POSTGRES;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import lombok.SneakyThrows;
 import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.customizer.Define;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
@@ -99,6 +106,12 @@ public interface EntityDAO<T extends EntityInterface> {
       @Bind("name") String name,
       @Define("cond") String cond);
 
+  @SqlQuery("SELECT <nameColumn> FROM <table> WHERE <nameColumn> IN (<names>)")
+  List<String> findNames(
+      @Define("table") String table,
+      @Define("nameColumn") String nameColumn,
+      @BindList("names") List<String> names);
+
   @SqlQuery("SELECT count(*) FROM <table> <cond>")
   int listCount(@Define("table") String table, @Define("nameColumn") String nameColumn, @Define("cond") String cond);
 
@@ -141,6 +154,9 @@ public interface EntityDAO<T extends EntityInterface> {
   @SqlQuery("SELECT EXISTS (SELECT * FROM <table> WHERE id = :id)")
   boolean exists(@Define("table") String table, @Bind("id") String id);
 
+  @SqlQuery("SELECT json FROM <table> WHERE id IN (<ids>)")
+  List<String> findByIds(@Define("table") String table, @BindList("ids") List<String> ids);
+
   @SqlQuery("SELECT EXISTS (SELECT * FROM <table> WHERE <nameColumn> = :fqn)")
   boolean existsByName(@Define("table") String table, @Define("nameColumn") String nameColumn, @Bind("fqn") String fqn);
 
@@ -200,7 +216,7 @@ public interface EntityDAO<T extends EntityInterface> {
     }
     if (entity == null) {
       String entityType = Entity.getEntityTypeFromClass(clz);
-      throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(entityType, identity));
+      throw EntityNotFoundException.byLookup(CatalogExceptionMessage.entityNotFound(entityType, identity));
     }
     return entity;
   }
@@ -229,6 +245,11 @@ public interface EntityDAO<T extends EntityInterface> {
     return findByName(getTableName(), getNameColumn(), fqn, getCondition(include));
   }
 
+  /** Names of the entities with the given fully qualified names, including the deleted ones, in a single query */
+  default Set<String> findExistingFqns(List<String> fqns) {
+    return fqns.isEmpty() ? new HashSet<>() : new HashSet<>(findNames(getTableName(), getNameColumn(), fqns));
+  }
+
   default int listCount(ListFilter filter) {
     return listCount(getTableName(), getNameColumn(), filter.getCondition());
   }
@@ -256,14 +277,39 @@ public interface EntityDAO<T extends EntityInterface> {
   default void exists(UUID id) {
     if (!exists(getTableName(), id.toString())) {
       String entityType = Entity.getEntityTypeFromClass(getEntityClass());
-      throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(entityType, id));
+      throw EntityNotFoundException.byLookup(CatalogExceptionMessage.entityNotFound(entityType, id));
+    }
+  }
+
+  /**
+   * Entities with the given ids as stored, including the deleted ones, read in a single query without their
+   * relationship fields. The entities are returned in the order of the ids.
+   */
+  default List<T> findEntitiesByIds(List<UUID> ids) throws IOException {
+    List<T> entities = new ArrayList<>();
+    if (ids.isEmpty()) {
+      return entities;
+    }
+    Map<UUID, T> entitiesById = new HashMap<>();
+    for (String json : findByIds(getTableName(), ids.stream().map(UUID::toString).collect(Collectors.toList()))) {
+      T entity = JsonUtils.readValue(json, getEntityClass());
+      entitiesById.put(entity.getId(), entity);
+    }
+    for (UUID id : ids) {
+      T entity = entitiesById.get(id);
+      if (entity == null) {
+        String entityType = Entity.getEntityTypeFromClass(getEntityClass());
+        throw EntityNotFoundException.byLookup(CatalogExceptionMessage.entityNotFound(entityType, id));
+      }
+      entities.add(entity);
     }
+    return entities;
   }
 
   default void existsByName(String fqn) {
     if (!existsByName(getTableName(), getNameColumn(), fqn)) {
       String entityType = Entity.getEntityTypeFromClass(getEntityClass());
-      throw EntityNotFoundException.byMessage(CatalogExceptionMessage.entityNotFound(entityType, fqn));
+      throw EntityNotFoundException.byLookup(CatalogExceptionMessage.entityNotFound(entityType, fqn));
     }
   }
 
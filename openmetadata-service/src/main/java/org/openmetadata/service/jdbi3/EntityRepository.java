@@ -48,6 +48,8 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.ValidationMessage;
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -58,9 +60,11 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
@@ -72,6 +76,7 @@ import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.common.utils.CommonUtil;
+import org.openmetadata.csv.EntityCsv;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.api.VoteRequest;
 import org.openmetadata.schema.api.teams.CreateTeam;
@@ -95,13 +100,13 @@ import org.openmetadata.schema.type.TagLabel.TagSource;
 import org.openmetadata.schema.type.TaskDetails;
 import org.openmetadata.schema.type.TaskType;
 import org.openmetadata.schema.type.Votes;
-import org.openmetadata.schema.type.csv.CsvImportResult;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
 import org.openmetadata.service.TypeRegistry;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.exception.UnhandledServerException;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityExtensionRecord;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityVersionPair;
 import org.openmetadata.service.jdbi3.CollectionDAO.ExtensionRecord;
@@ -155,7 +160,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
   private final Class<T> entityClass;
   @Getter protected final String entityType;
   @Getter protected final EntityDAO<T> dao;
-  protected final CollectionDAO daoCollection;
+  @Getter protected final CollectionDAO daoCollection;
   @Getter protected final List<String> allowedFields;
   public final boolean supportsSoftDelete;
   @Getter protected final boolean supportsTags;
@@ -296,10 +301,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
    * org.openmetadata.service.resources.teams.RoleResource#initialize(OpenMetadataApplicationConfig)}
    */
   public void initSeedDataFromResources() throws IOException {
-    List<T> entities = getEntitiesFromSeedData();
-    for (T entity : entities) {
-      initializeEntity(entity);
-    }
+    initializeEntities(getEntitiesFromSeedData());
   }
 
   public List<T> getEntitiesFromSeedData() throws IOException {
@@ -312,7 +314,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   public static <U> List<U> getEntitiesFromSeedData(String entityType, String path, Class<U> clazz) throws IOException {
     List<U> entities = new ArrayList<>();
-    List<String> jsonDataFiles = EntityUtil.getJsonDataResources(path);
+    List<String> jsonDataFiles = EntityUtil.getJsonDataOrSchemaResources(path);
     jsonDataFiles.forEach(
         jsonDataFile -> {
           try {
@@ -343,6 +345,23 @@ public abstract class EntityRepository<T extends EntityInterface> {
     LOG.info("Created a new {} {}", entityType, entity.getFullyQualifiedName());
   }
 
+  /**
+   * Initialize the given seed entities in order. The entities already initialized are looked up with a single query,
+   * and the others are initialized one by one.
+   */
+  public void initializeEntities(List<T> entities) throws IOException {
+    List<String> fqns =
+        entities.stream().map(T::getFullyQualifiedName).filter(Objects::nonNull).collect(Collectors.toList());
+    Set<String> existingFqns = dao.findExistingFqns(fqns);
+    for (T entity : entities) {
+      if (existingFqns.contains(entity.getFullyQualifiedName())) {
+        LOG.info("{} {} is already initialized", entityType, entity.getFullyQualifiedName());
+      } else {
+        initializeEntity(entity);
+      }
+    }
+  }
+
   public EntityUpdater getUpdater(T original, T updated, Operation operation) {
     return new EntityUpdater(original, updated, operation);
   }
@@ -354,12 +373,12 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   @Transaction
   public final T get(UriInfo uriInfo, UUID id, Fields fields, Include include) throws IOException {
-    return withHref(uriInfo, setFieldsInternal(dao.findEntityById(id, include), fields));
+    return withHref(uriInfo, setFieldsInternal(findEntityById(id, include), fields));
   }
 
   @Transaction
   public final T findOrNull(UUID id, String fields, Include include) throws IOException {
-    String json = dao.findJsonById(id, include);
+    String json = RequestEntityCache.getJsonById(entityType, id, include, () -> dao.findJsonById(id, include));
     return json == null ? null : setFieldsInternal(JsonUtils.readValue(json, entityClass), getFields(fields));
   }
 
@@ -370,29 +389,71 @@ public abstract class EntityRepository<T extends EntityInterface> {
 
   @Transaction
   public final T getByName(UriInfo uriInfo, String fqn, Fields fields, Include include) throws IOException {
-    return withHref(uriInfo, setFieldsInternal(dao.findEntityByName(fqn, include), fields));
+    return withHref(uriInfo, setFieldsInternal(findEntityByName(fqn, include), fields));
   }
 
   @Transaction
   public final T findByNameOrNull(String fqn, String fields, Include include) {
-    String json = dao.findJsonByFqn(fqn, include);
     try {
+      String json = RequestEntityCache.getJsonByName(entityType, fqn, include, () -> dao.findJsonByFqn(fqn, include));
       return json == null ? null : setFieldsInternal(JsonUtils.readValue(json, entityClass), getFields(fields));
     } catch (IOException e) {
       return null;
     }
   }
 
+  /** Read an entity, reusing the entity if it has already been read while serving the current request */
+  private T findEntityById(UUID id, Include include) throws IOException {
+    String json = RequestEntityCache.getJsonById(entityType, id, include, () -> dao.findJsonById(id, include));
+    return dao.jsonToEntity(json, id.toString());
+  }
+
+  private T findEntityByName(String fqn, Include include) throws IOException {
+    String json = RequestEntityCache.getJsonByName(entityType, fqn, include, () -> dao.findJsonByFqn(fqn, include));
+    return dao.jsonToEntity(json, fqn);
+  }
+
   @Transaction
   public final List<T> listAll(Fields fields, ListFilter filter) throws IOException {
     // forward scrolling, if after == null then first page is being asked
     List<String> jsons = dao.listAfter(filter, Integer.MAX_VALUE, "");
-    List<T> entities = new ArrayList<>();
-    for (String json : jsons) {
-      T entity = setFieldsInternal(JsonUtils.readValue(json, entityClass), fields);
-      entities.add(entity);
-    }
-    return entities;
+    return setFieldsInternal(jsons, fields);
+  }
+
+  /**
+   * Iterate over the entities in the order of the name column, reading them from the database one page of {@code
+   * batchSize} entities at a time instead of loading all of them in memory.
+   */
+  public final Iterator<T> listAllIterator(Fields fields, ListFilter filter, int batchSize) {
+    return new Iterator<>() {
+      private Iterator<T> page = Collections.emptyIterator();
+      private String after = "";
+      private boolean lastPage = false;
+
+      @Override
+      public boolean hasNext() {
+        if (!page.hasNext() && !lastPage) {
+          List<String> jsons = dao.listAfter(filter, batchSize, after);
+          lastPage = jsons.size() < batchSize;
+          try {
+            page = setFieldsInternal(jsons, fields).iterator();
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }
+        return page.hasNext();
+      }
+
+      @Override
+      public T next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        T entity = page.next();
+        after = entity.getFullyQualifiedName();
+        return entity;
+      }
+    };
   }
 
   @Transaction
@@ -404,9 +465,8 @@ public abstract class EntityRepository<T extends EntityInterface> {
       // forward scrolling, if after == null then first page is being asked
       List<String> jsons = dao.listAfter(filter, limitParam + 1, after == null ? "" : RestUtil.decodeCursor(after));
 
-      for (String json : jsons) {
-        T entity = withHref(uriInfo, setFieldsInternal(JsonUtils.readValue(json, entityClass), fields));
-        entities.add(entity);
+      for (T entity : setFieldsInternal(jsons, fields)) {
+        entities.add(withHref(uriInfo, entity));
       }
 
       String beforeCursor;
@@ -471,9 +531,8 @@ public abstract class EntityRepository<T extends EntityInterface> {
     List<String> jsons = dao.listBefore(filter, limitParam + 1, RestUtil.decodeCursor(before));
 
     List<T> entities = new ArrayList<>();
-    for (String json : jsons) {
-      T entity = withHref(uriInfo, setFieldsInternal(JsonUtils.readValue(json, entityClass), fields));
-      entities.add(entity);
+    for (T entity : setFieldsInternal(jsons, fields)) {
+      entities.add(withHref(uriInfo, entity));
     }
     int total = dao.listCount(filter);
 
@@ -544,9 +603,37 @@ public abstract class EntityRepository<T extends EntityInterface> {
   }
 
   T setFieldsInternal(T entity, Fields fields) throws IOException {
-    entity.setOwner(fields.contains(FIELD_OWNER) ? getOwner(entity) : null);
-    entity.setTags(fields.contains(FIELD_TAGS) ? getTags(entity.getFullyQualifiedName()) : null);
-    entity.setExtension(fields.contains(FIELD_EXTENSION) ? getExtension(entity) : null);
+    return setFieldsInternal(entity, fields, null);
+  }
+
+  /** Set the fields of a page of entities, reading the custom properties of all of them with a single query */
+  private List<T> setFieldsInternal(List<String> jsons, Fields fields) throws IOException {
+    List<T> entities = new ArrayList<>(jsons.size());
+    for (String json : jsons) {
+      entities.add(JsonUtils.readValue(json, entityClass));
+    }
+    Map<UUID, ObjectNode> extensions = fields.contains(FIELD_EXTENSION) ? getExtensions(entities) : null;
+    for (T entity : entities) {
+      setFieldsInternal(entity, fields, extensions);
+    }
+    return entities;
+  }
+
+  private T setFieldsInternal(T entity, Fields fields, Map<UUID, ObjectNode> extensions) throws IOException {
+    entity.setOwner(
+        fields.contains(FIELD_OWNER)
+            ? RequestEntityCache.getOwner(entityType, entity.getId(), () -> getOwner(entity))
+            : null);
+    entity.setTags(
+        fields.contains(FIELD_TAGS)
+            ? RequestEntityCache.getTags(
+                entityType, entity.getFullyQualifiedName(), () -> getTags(entity.getFullyQualifiedName()))
+            : null);
+    if (fields.contains(FIELD_EXTENSION)) {
+      entity.setExtension(extensions != null ? extensions.get(entity.getId()) : getExtension(entity));
+    } else {
+      entity.setExtension(null);
+    }
     setFields(entity, fields);
     setInheritedFields(entity);
     return entity;
@@ -612,7 +699,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
   @Transaction
   public final PatchResponse<T> patch(UriInfo uriInfo, UUID id, String user, JsonPatch patch) throws IOException {
     // Get all the fields in the original entity that can be updated during PATCH operation
-    T original = setFieldsInternal(dao.findEntityById(id), patchFields);
+    T original = setFieldsInternal(findEntityById(id, NON_DELETED), patchFields);
 
     // Apply JSON patch to the original entity to get the updated entity
     T updated = JsonUtils.applyPatch(original, patch, entityClass);
@@ -764,7 +851,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
   public final DeleteResponse<T> deleteInternalByName(
       String updatedBy, String name, boolean recursive, boolean hardDelete) throws IOException {
     // Validate entity
-    T entity = dao.findEntityByName(name, ALL);
+    T entity = findEntityByName(name, ALL);
     return delete(updatedBy, entity, recursive, hardDelete);
   }
 
@@ -772,7 +859,7 @@ public abstract class EntityRepository<T extends EntityInterface> {
   public final DeleteResponse<T> deleteInternal(String updatedBy, UUID id, boolean recursive, boolean hardDelete)
       throws IOException {
     // Validate entity
-    T entity = dao.findEntityById(id, ALL);
+    T entity = findEntityById(id, ALL);
     return delete(updatedBy, entity, recursive, hardDelete);
   }
 
@@ -920,52 +1007,72 @@ public abstract class EntityRepository<T extends EntityInterface> {
     }
   }
 
+  /** Store the custom properties of an entity together in one row, named by the custom property prefix */
   public void storeExtension(EntityInterface entity) throws JsonProcessingException {
     JsonNode jsonNode = JsonUtils.valueToTree(entity.getExtension());
-    Iterator<Entry<String, JsonNode>> customFields = jsonNode.fields();
-    while (customFields.hasNext()) {
-      Entry<String, JsonNode> entry = customFields.next();
-      String fieldName = entry.getKey();
-      JsonNode value = entry.getValue();
-      storeCustomProperty(entity, fieldName, value);
+    if (jsonNode == null || jsonNode.isEmpty()) {
+      return;
     }
+    daoCollection
+        .entityExtensionDAO()
+        .insert(
+            entity.getId().toString(),
+            TypeRegistry.getCustomPropertyFQNPrefix(entityType),
+            "customFieldSchema",
+            JsonUtils.pojoToJson(jsonNode));
   }
 
+  /** Remove the custom properties of an entity, including the ones stored one per row */
   public void removeExtension(EntityInterface entity) {
-    JsonNode jsonNode = JsonUtils.valueToTree(entity.getExtension());
-    Iterator<Entry<String, JsonNode>> customFields = jsonNode.fields();
-    while (customFields.hasNext()) {
-      Entry<String, JsonNode> entry = customFields.next();
-      removeCustomProperty(entity, entry.getKey());
-    }
-  }
-
-  private void storeCustomProperty(EntityInterface entity, String fieldName, JsonNode value)
-      throws JsonProcessingException {
-    String fieldFQN = TypeRegistry.getCustomPropertyFQN(entityType, fieldName);
     daoCollection
         .entityExtensionDAO()
-        .insert(entity.getId().toString(), fieldFQN, "customFieldSchema", JsonUtils.pojoToJson(value));
+        .deleteCustomProperties(entity.getId().toString(), TypeRegistry.getCustomPropertyFQNPrefix(entityType));
   }
 
-  private void removeCustomProperty(EntityInterface entity, String fieldName) {
-    String fieldFQN = TypeRegistry.getCustomPropertyFQN(entityType, fieldName);
-    daoCollection.entityExtensionDAO().delete(entity.getId().toString(), fieldFQN);
+  public ObjectNode getExtension(T entity) throws JsonProcessingException {
+    return getExtensions(List.of(entity)).get(entity.getId());
   }
 
-  public ObjectNode getExtension(T entity) throws JsonProcessingException {
+  /**
+   * Custom properties of the given entities by entity id, read with one query per batch of entities. Custom
+   * properties are stored together in one row per entity, or one per row when stored before that.
+   */
+  private Map<UUID, ObjectNode> getExtensions(List<T> entities) throws JsonProcessingException {
+    if (entities.isEmpty()) {
+      return new HashMap<>();
+    }
+    List<String> ids = entities.stream().map(entity -> entity.getId().toString()).collect(Collectors.toList());
     String fieldFQNPrefix = TypeRegistry.getCustomPropertyFQNPrefix(entityType);
-    List<ExtensionRecord> records =
-        daoCollection.entityExtensionDAO().getExtensions(entity.getId().toString(), fieldFQNPrefix);
-    if (records.isEmpty()) {
-      return null;
+    return mergeCustomProperties(
+        daoCollection.entityExtensionDAO().getCustomPropertiesInBatches(ids, fieldFQNPrefix), fieldFQNPrefix);
+  }
+
+  /**
+   * Merge the custom property rows of entities by entity id. When a property is both in the row named by the prefix
+   * and in a row of its own stored before that, the value in the row named by the prefix is used.
+   */
+  static Map<UUID, ObjectNode> mergeCustomProperties(List<EntityExtensionRecord> records, String fieldFQNPrefix)
+      throws JsonProcessingException {
+    Map<UUID, Map<String, JsonNode>> properties = new HashMap<>();
+    for (EntityExtensionRecord extensionRecord : records) {
+      Map<String, JsonNode> entityProperties =
+          properties.computeIfAbsent(UUID.fromString(extensionRecord.getId()), id -> new TreeMap<>());
+      JsonNode value = JsonUtils.readTree(extensionRecord.getExtensionJson());
+      if (extensionRecord.getExtensionName().equals(fieldFQNPrefix)) {
+        value.fields().forEachRemaining(field -> entityProperties.put(field.getKey(), field.getValue()));
+      } else {
+        entityProperties.putIfAbsent(TypeRegistry.getPropertyName(extensionRecord.getExtensionName()), value);
+      }
     }
-    ObjectNode objectNode = JsonUtils.getObjectNode();
-    for (ExtensionRecord extensionRecord : records) {
-      String fieldName = TypeRegistry.getPropertyName(extensionRecord.getExtensionName());
-      objectNode.set(fieldName, JsonUtils.readTree(extensionRecord.getExtensionJson()));
+    Map<UUID, ObjectNode> extensions = new HashMap<>();
+    for (Entry<UUID, Map<String, JsonNode>> entry : properties.entrySet()) {
+      if (!entry.getValue().isEmpty()) {
+        ObjectNode objectNode = JsonUtils.getObjectNode();
+        entry.getValue().forEach(objectNode::set);
+        extensions.put(entry.getKey(), objectNode);
+      }
     }
-    return objectNode;
+    return extensions;
   }
 
   /** Validate given list of tags and add derived tags to it */
@@ -1361,13 +1468,13 @@ public abstract class EntityRepository<T extends EntityInterface> {
     return Entity.getEntityReferenceById(owner.getType(), owner.getId(), ALL);
   }
 
-  /** Override this method to support downloading CSV functionality */
-  public String exportToCsv(String name, String user) throws IOException {
+  /** Override this method to support downloading CSV functionality, streaming the CSV to the writer */
+  public void exportToCsv(String name, String user, Writer writer) throws IOException {
     throw new IllegalArgumentException(csvNotSupported(entityType));
   }
 
-  /** Load CSV provided for bulk upload */
-  public CsvImportResult importFromCsv(String name, String csv, boolean dryRun, String user) throws IOException {
+  /** Override this method to support loading CSV provided for bulk upload */
+  public EntityCsv<?> getEntityCsv(String name, String user) throws IOException {
     throw new IllegalArgumentException(csvNotSupported(entityType));
   }
 
@@ -15,7 +15,6 @@ package org.openmetadata.service.jdbi3;
 
 import static org.openmetadata.schema.api.events.CreateEventSubscription.SubscriptionType.ACTIVITY_FEED;
 
-import com.lmax.disruptor.BatchEventProcessor;
 import java.io.IOException;
 import java.util.Comparator;
 import java.util.List;
@@ -105,7 +104,7 @@ public class EventSubscriptionRepository extends EntityRepository<EventSubscript
           eventSubscription.setStatusDetails(getSubscriptionStatusAtCurrentTime(SubscriptionStatus.Status.DISABLED));
         } else {
           eventSubscription.setStatusDetails(getSubscriptionStatusAtCurrentTime(SubscriptionStatus.Status.ACTIVE));
-          BatchEventProcessor<EventPubSub.ChangeEventHolder> processor = EventPubSub.addEventHandler(publisher);
+          EventPubSub.EventProcessor processor = EventPubSub.addEventHandler(publisher);
           publisher.setProcessor(processor);
         }
         subscriptionPublisherMap.put(eventSubscription.getId(), publisher);
@@ -148,8 +147,7 @@ public class EventSubscriptionRepository extends EntityRepository<EventSubscript
           previousPublisher.updateEventSubscription(eventSubscription);
           if (status != SubscriptionStatus.Status.ACTIVE && status != SubscriptionStatus.Status.AWAITING_RETRY) {
             // Restart the previously stopped publisher (in states notStarted, error, retryLimitReached)
-            BatchEventProcessor<EventPubSub.ChangeEventHolder> processor =
-                EventPubSub.addEventHandler(previousPublisher);
+            EventPubSub.EventProcessor processor = EventPubSub.addEventHandler(previousPublisher);
             previousPublisher.setProcessor(processor);
             LOG.info("Webhook publisher restarted for {}", eventSubscription.getName());
           }
@@ -26,9 +26,10 @@ import static org.openmetadata.csv.CsvUtil.addTagLabels;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
+import java.io.Writer;
 import java.net.URI;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
@@ -36,7 +37,6 @@ import org.apache.commons.csv.CSVPrinter;
 import org.apache.commons.csv.CSVRecord;
 import org.openmetadata.csv.CsvUtil;
 import org.openmetadata.csv.EntityCsv;
-import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.api.data.TermReference;
 import org.openmetadata.schema.entity.data.Glossary;
 import org.openmetadata.schema.entity.data.GlossaryTerm;
@@ -48,7 +48,6 @@ import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.schema.type.TagLabel.TagSource;
 import org.openmetadata.schema.type.csv.CsvDocumentation;
 import org.openmetadata.schema.type.csv.CsvHeader;
-import org.openmetadata.schema.type.csv.CsvImportResult;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
@@ -120,21 +119,22 @@ public class GlossaryRepository extends EntityRepository<Glossary> {
 
   /** Export glossary as CSV */
   @Override
-  public String exportToCsv(String name, String user) throws IOException {
+  public void exportToCsv(String name, String user, Writer writer) throws IOException {
     Glossary glossary = getByName(null, name, Fields.EMPTY_FIELDS); // Validate glossary name
     GlossaryTermRepository repository = (GlossaryTermRepository) Entity.getEntityRepository(Entity.GLOSSARY_TERM);
     ListFilter filter = new ListFilter(Include.NON_DELETED).addQueryParam("parent", name);
-    List<GlossaryTerm> terms = repository.listAll(repository.getFields("owner,reviewers,tags,relatedTerms"), filter);
-    terms.sort(Comparator.comparing(EntityInterface::getFullyQualifiedName));
-    return new GlossaryCsv(glossary, user).exportCsv(terms);
+    // Terms are listed in the order of fullyQualifiedName so that a parent term is exported before its children
+    Iterator<GlossaryTerm> terms =
+        repository.listAllIterator(
+            repository.getFields("owner,reviewers,tags,relatedTerms"), filter, EntityCsv.BATCH_SIZE);
+    new GlossaryCsv(glossary, user).exportCsv(terms, writer);
   }
 
   /** Load CSV provided for bulk upload */
   @Override
-  public CsvImportResult importFromCsv(String name, String csv, boolean dryRun, String user) throws IOException {
+  public EntityCsv<?> getEntityCsv(String name, String user) throws IOException {
     Glossary glossary = getByName(null, name, Fields.EMPTY_FIELDS); // Validate glossary name
-    GlossaryCsv glossaryCsv = new GlossaryCsv(glossary, user);
-    return glossaryCsv.importCsv(csv, dryRun);
+    return new GlossaryCsv(glossary, user);
   }
 
   private List<EntityReference> getReviewers(Glossary entity) throws IOException {
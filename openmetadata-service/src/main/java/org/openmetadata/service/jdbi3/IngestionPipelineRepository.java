@@ -15,8 +15,12 @@ package org.openmetadata.service.jdbi3;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import java.io.IOException;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.stream.Collectors;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
@@ -25,6 +29,8 @@ import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.entity.services.ingestionPipelines.AirflowConfig;
 import org.openmetadata.schema.entity.services.ingestionPipelines.IngestionPipeline;
 import org.openmetadata.schema.entity.services.ingestionPipelines.PipelineStatus;
+import org.openmetadata.schema.entity.services.ingestionPipelines.PipelineStatusType;
+import org.openmetadata.schema.entity.services.ingestionPipelines.PipelineType;
 import org.openmetadata.schema.metadataIngestion.LogLevels;
 import org.openmetadata.schema.services.connections.metadata.OpenMetadataConnection;
 import org.openmetadata.schema.type.ChangeDescription;
@@ -36,6 +42,8 @@ import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.sdk.PipelineServiceClient;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.dataInsight.DataInsightChartResultCache;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityExtensionRecord;
 import org.openmetadata.service.resources.services.ingestionpipelines.IngestionPipelineResource;
 import org.openmetadata.service.secrets.SecretsManager;
 import org.openmetadata.service.secrets.SecretsManagerFactory;
@@ -52,7 +60,7 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
 
   private static final String PIPELINE_STATUS_JSON_SCHEMA = "ingestionPipelineStatus";
   private static final String PIPELINE_STATUS_EXTENSION = "ingestionPipeline.pipelineStatus";
-  private static final String RUN_ID_EXTENSION_KEY = "runId";
+  private static final String LATEST_PIPELINE_STATUS_EXTENSION = "ingestionPipeline.latestPipelineStatus";
   private PipelineServiceClient pipelineServiceClient;
 
   public IngestionPipelineRepository(CollectionDAO dao) {
@@ -91,6 +99,7 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
     daoCollection
         .entityExtensionTimeSeriesDao()
         .delete(ingestionPipeline.getFullyQualifiedName(), PIPELINE_STATUS_EXTENSION);
+    daoCollection.entityExtensionDAO().delete(ingestionPipeline.getId().toString(), LATEST_PIPELINE_STATUS_EXTENSION);
     setFieldsInternal(ingestionPipeline, Fields.EMPTY_FIELDS);
     return ingestionPipeline;
   }
@@ -174,17 +183,13 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
         JsonUtils.readValue(
             daoCollection
                 .entityExtensionTimeSeriesDao()
-                .getLatestExtensionByKey(
-                    RUN_ID_EXTENSION_KEY,
-                    pipelineStatus.getRunId(),
-                    ingestionPipeline.getFullyQualifiedName(),
-                    PIPELINE_STATUS_EXTENSION),
+                .getExtensionByRunId(
+                    pipelineStatus.getRunId(), ingestionPipeline.getFullyQualifiedName(), PIPELINE_STATUS_EXTENSION),
             PipelineStatus.class);
     if (storedPipelineStatus != null) {
       daoCollection
           .entityExtensionTimeSeriesDao()
-          .updateExtensionByKey(
-              RUN_ID_EXTENSION_KEY,
+          .updateExtensionByRunId(
               pipelineStatus.getRunId(),
               ingestionPipeline.getFullyQualifiedName(),
               PIPELINE_STATUS_EXTENSION,
@@ -198,6 +203,12 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
               PIPELINE_STATUS_JSON_SCHEMA,
               JsonUtils.pojoToJson(pipelineStatus));
     }
+    storeLatestPipelineStatus(ingestionPipeline, pipelineStatus);
+    if (ingestionPipeline.getPipelineType() == PipelineType.DATA_INSIGHT
+        && (pipelineStatus.getPipelineState() == PipelineStatusType.SUCCESS
+            || pipelineStatus.getPipelineState() == PipelineStatusType.PARTIAL_SUCCESS)) {
+      DataInsightChartResultCache.onDataInsightPipelineCompleted();
+    }
     ChangeDescription change =
         addPipelineStatusChangeDescription(ingestionPipeline.getVersion(), pipelineStatus, storedPipelineStatus);
     ChangeEvent changeEvent =
@@ -222,24 +233,59 @@ public class IngestionPipelineRepository extends EntityRepository<IngestionPipel
         allPipelineStatusList, String.valueOf(startTs), String.valueOf(endTs), allPipelineStatusList.size());
   }
 
+  /**
+   * The latest status of each pipeline is kept with the pipeline, so that the latest statuses of a page of pipelines
+   * are read with a single query instead of reading the statuses of each of them.
+   */
+  private void storeLatestPipelineStatus(IngestionPipeline ingestionPipeline, PipelineStatus pipelineStatus)
+      throws IOException {
+    PipelineStatus latestPipelineStatus = getLatestPipelineStatus(ingestionPipeline);
+    if (latestPipelineStatus == null
+        || Objects.equals(latestPipelineStatus.getRunId(), pipelineStatus.getRunId())
+        || latestPipelineStatus.getTimestamp() <= pipelineStatus.getTimestamp()) {
+      daoCollection
+          .entityExtensionDAO()
+          .insert(
+              ingestionPipeline.getId().toString(),
+              LATEST_PIPELINE_STATUS_EXTENSION,
+              PIPELINE_STATUS_JSON_SCHEMA,
+              JsonUtils.pojoToJson(pipelineStatus));
+    }
+  }
+
   public PipelineStatus getLatestPipelineStatus(IngestionPipeline ingestionPipeline) throws IOException {
     return JsonUtils.readValue(
         daoCollection
-            .entityExtensionTimeSeriesDao()
-            .getLatestExtensionByFQN(ingestionPipeline.getFullyQualifiedName(), PIPELINE_STATUS_JSON_SCHEMA),
+            .entityExtensionDAO()
+            .getExtension(ingestionPipeline.getId().toString(), LATEST_PIPELINE_STATUS_EXTENSION),
         PipelineStatus.class);
   }
 
+  /** Set the latest status of each of the given pipelines, reading them with a single query */
+  public void setLatestPipelineStatuses(List<IngestionPipeline> ingestionPipelines) throws IOException {
+    if (ingestionPipelines.isEmpty()) {
+      return;
+    }
+    List<String> ids =
+        ingestionPipelines.stream().map(pipeline -> pipeline.getId().toString()).collect(Collectors.toList());
+    Map<String, String> latestPipelineStatuses = new HashMap<>();
+    for (EntityExtensionRecord extensionRecord :
+        daoCollection.entityExtensionDAO().getExtensionOfEntities(ids, LATEST_PIPELINE_STATUS_EXTENSION)) {
+      latestPipelineStatuses.put(extensionRecord.getId(), extensionRecord.getExtensionJson());
+    }
+    for (IngestionPipeline ingestionPipeline : ingestionPipelines) {
+      String json = latestPipelineStatuses.get(ingestionPipeline.getId().toString());
+      ingestionPipeline.setPipelineStatuses(JsonUtils.readValue(json, PipelineStatus.class));
+    }
+  }
+
   public PipelineStatus getPipelineStatus(String ingestionPipelineFQN, UUID pipelineStatusRunId) throws IOException {
     IngestionPipeline ingestionPipeline = dao.findEntityByName(ingestionPipelineFQN);
     return JsonUtils.readValue(
         daoCollection
             .entityExtensionTimeSeriesDao()
-            .getExtensionByKey(
-                RUN_ID_EXTENSION_KEY,
-                pipelineStatusRunId.toString(),
-                ingestionPipeline.getFullyQualifiedName(),
-                PIPELINE_STATUS_EXTENSION),
+            .getExtensionByRunId(
+                pipelineStatusRunId.toString(), ingestionPipeline.getFullyQualifiedName(), PIPELINE_STATUS_EXTENSION),
         PipelineStatus.class);
   }
 
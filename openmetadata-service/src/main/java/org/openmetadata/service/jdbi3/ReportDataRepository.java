@@ -7,6 +7,7 @@ import javax.ws.rs.core.Response;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.schema.analytics.ReportData;
 import org.openmetadata.schema.analytics.ReportData.ReportDataType;
+import org.openmetadata.service.dataInsight.DataInsightChartResultCache;
 import org.openmetadata.service.util.JsonUtils;
 import org.openmetadata.service.util.ResultList;
 
@@ -30,6 +31,7 @@ public class ReportDataRepository {
             REPORT_DATA_EXTENSION,
             "reportData",
             JsonUtils.pojoToJson(reportData));
+    DataInsightChartResultCache.invalidate(reportData.getReportDataType(), reportData.getTimestamp());
 
     return Response.ok(reportData).build();
   }
@@ -46,4 +48,10 @@ public class ReportDataRepository {
 
     return new ResultList<>(reportData, String.valueOf(startTs), String.valueOf(endTs), reportData.size());
   }
+
+  public List<Long> listReportDataTimestamps(ReportDataType reportDataType) {
+    return daoCollection
+        .entityExtensionTimeSeriesDao()
+        .listDistinctTimestamps(reportDataType.value(), REPORT_DATA_EXTENSION);
+  }
 }
@@ -0,0 +1,161 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import java.io.IOException;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.ext.Provider;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.TagLabel;
+import org.openmetadata.service.util.EntityUtil;
+
+/**
+ * Entities read while serving a request, so that an entity read to authorize the request is not read again from the
+ * database to perform it. For example, a GET or PATCH request reads the entity with its owner and tags to evaluate the
+ * policies, and then reads it again with the requested fields.
+ *
+ * <p>The stored JSON of the entities, their owner and their tags are kept for the thread serving the request, from
+ * the start of the request until its response, and are dropped before any statement writing to the database, such as
+ * writes to entities, relationships or tags. Reads outside a request are not cached.
+ */
+public final class RequestEntityCache {
+  private static final ThreadLocal<Map<String, Object>> CACHE = new ThreadLocal<>();
+  private static final Pattern READ_STATEMENT = Pattern.compile("^\\s*(SELECT|WITH|SHOW)\\b", Pattern.CASE_INSENSITIVE);
+
+  private RequestEntityCache() {}
+
+  public static void start() {
+    CACHE.set(new HashMap<>());
+  }
+
+  public static void end() {
+    CACHE.remove();
+  }
+
+  /** Drop the cached entities after a write, as they may no longer be the same as the stored entities */
+  public static void invalidate() {
+    Map<String, Object> cache = CACHE.get();
+    if (cache != null) {
+      cache.clear();
+    }
+  }
+
+  static String getJsonById(String entityType, UUID id, Include include, Loader<String> loader) throws IOException {
+    return getJson(entityType, "id", id.toString(), include, loader);
+  }
+
+  static String getJsonByName(String entityType, String fqn, Include include, Loader<String> loader)
+      throws IOException {
+    return getJson(entityType, "name", fqn, include, loader);
+  }
+
+  static EntityReference getOwner(String entityType, UUID id, Loader<EntityReference> loader) throws IOException {
+    EntityReference owner = get(String.format("%s|owner|%s", entityType, id), loader);
+    // The entities the owner is set on may change it
+    return owner == null
+        ? null
+        : EntityUtil.copy(owner, new EntityReference())
+            .withDescription(owner.getDescription())
+            .withHref(owner.getHref());
+  }
+
+  static List<TagLabel> getTags(String entityType, String fqn, Loader<List<TagLabel>> loader) throws IOException {
+    List<TagLabel> tags = get(String.format("%s|tags|%s", entityType, fqn), loader);
+    // The entities the tags are set on may add to them
+    return tags == null ? null : new ArrayList<>(tags);
+  }
+
+  private static String getJson(String entityType, String keyType, String key, Include include, Loader<String> loader)
+      throws IOException {
+    Map<String, Object> cache = CACHE.get();
+    if (cache != null && include == Include.ALL) {
+      // An entity that is not deleted is the same when reading all the entities
+      String json = (String) cache.get(jsonKey(entityType, keyType, key, Include.NON_DELETED));
+      if (json != null) {
+        return json;
+      }
+    }
+    String json = get(jsonKey(entityType, keyType, key, include), loader);
+    if (json == null && cache != null) {
+      // Entity may be created later in the request
+      cache.remove(jsonKey(entityType, keyType, key, include));
+    }
+    return json;
+  }
+
+  private static String jsonKey(String entityType, String keyType, String key, Include include) {
+    return String.format("%s|%s|%s|%s", entityType, keyType, key, include == null ? Include.NON_DELETED : include);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <V> V get(String key, Loader<V> loader) throws IOException {
+    Map<String, Object> cache = CACHE.get();
+    if (cache == null) {
+      return loader.load();
+    }
+    if (cache.containsKey(key)) {
+      return (V) cache.get(key);
+    }
+    V value = loader.load();
+    cache.put(key, value);
+    return value;
+  }
+
+  /** Drop the cached entities before a statement that is not a read */
+  static void invalidateOnWrite(String sql) {
+    if (CACHE.get() != null && (sql == null || !READ_STATEMENT.matcher(sql).find())) {
+      invalidate();
+    }
+  }
+
+  @FunctionalInterface
+  interface Loader<V> {
+    V load() throws IOException;
+  }
+
+  /** Drops the cache before the statements writing to the database, including the ones run directly with the DAOs */
+  public static class WriteStatementCustomizer implements StatementCustomizer {
+    @Override
+    public void beforeExecution(PreparedStatement statement, StatementContext context) {
+      invalidateOnWrite(context.getRenderedSql());
+    }
+  }
+
+  /** Scopes the cache to each request */
+  @Provider
+  public static class RequestEntityCacheFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+      start();
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+      end();
+    }
+  }
+}
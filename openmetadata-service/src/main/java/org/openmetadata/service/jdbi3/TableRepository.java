@@ -337,99 +337,51 @@ public class TableRepository extends EntityRepository<Table> {
   public Table addTableProfileData(UUID tableId, CreateTableProfile createTableProfile) throws IOException {
     // Validate the request content
     Table table = dao.findEntityById(tableId);
-    TableProfile storedTableProfile =
-        JsonUtils.readValue(
-            daoCollection
-                .entityExtensionTimeSeriesDao()
-                .getExtensionAtTimestamp(
-                    table.getFullyQualifiedName(),
-                    TABLE_PROFILE_EXTENSION,
-                    createTableProfile.getTableProfile().getTimestamp()),
-            TableProfile.class);
-    if (storedTableProfile != null) {
-      daoCollection
-          .entityExtensionTimeSeriesDao()
-          .update(
-              table.getFullyQualifiedName(),
-              TABLE_PROFILE_EXTENSION,
-              JsonUtils.pojoToJson(createTableProfile.getTableProfile()),
-              createTableProfile.getTableProfile().getTimestamp());
-    } else {
-      daoCollection
-          .entityExtensionTimeSeriesDao()
-          .insert(
-              table.getFullyQualifiedName(),
-              TABLE_PROFILE_EXTENSION,
-              "tableProfile",
-              JsonUtils.pojoToJson(createTableProfile.getTableProfile()));
-    }
-
-    for (ColumnProfile columnProfile : createTableProfile.getColumnProfile()) {
-      // Validate all the columns
+    TableProfile tableProfile = createTableProfile.getTableProfile();
+    daoCollection
+        .entityExtensionTimeSeriesDao()
+        .upsertBatch(
+            List.of(table.getFullyQualifiedName()),
+            TABLE_PROFILE_EXTENSION,
+            "tableProfile",
+            List.of(tableProfile.getTimestamp()),
+            List.of(JsonUtils.pojoToJson(tableProfile)));
+
+    // Validate all the columns before writing, then store all the column profiles in a single batch
+    List<String> columnFQNs = new ArrayList<>();
+    List<Long> columnTimestamps = new ArrayList<>();
+    List<String> columnProfileJsons = new ArrayList<>();
+    for (ColumnProfile columnProfile : listOrEmpty(createTableProfile.getColumnProfile())) {
       Column column = getColumnNameForProfiler(table.getColumns(), columnProfile, null);
       if (column == null) {
         throw new IllegalArgumentException("Invalid column name " + columnProfile.getName());
       }
-      ColumnProfile storedColumnProfile =
-          JsonUtils.readValue(
-              daoCollection
-                  .entityExtensionTimeSeriesDao()
-                  .getExtensionAtTimestamp(
-                      column.getFullyQualifiedName(), TABLE_COLUMN_PROFILE_EXTENSION, columnProfile.getTimestamp()),
-              ColumnProfile.class);
-
-      if (storedColumnProfile != null) {
-        daoCollection
-            .entityExtensionTimeSeriesDao()
-            .update(
-                column.getFullyQualifiedName(),
-                TABLE_COLUMN_PROFILE_EXTENSION,
-                JsonUtils.pojoToJson(columnProfile),
-                storedColumnProfile.getTimestamp());
-      } else {
-        daoCollection
-            .entityExtensionTimeSeriesDao()
-            .insert(
-                column.getFullyQualifiedName(),
-                TABLE_COLUMN_PROFILE_EXTENSION,
-                "columnProfile",
-                JsonUtils.pojoToJson(columnProfile));
-      }
+      columnFQNs.add(column.getFullyQualifiedName());
+      columnTimestamps.add(columnProfile.getTimestamp());
+      columnProfileJsons.add(JsonUtils.pojoToJson(columnProfile));
     }
-
-    List<SystemProfile> systemProfiles = createTableProfile.getSystemProfile();
-    if (systemProfiles != null && !systemProfiles.isEmpty()) {
-      for (SystemProfile systemProfile : createTableProfile.getSystemProfile()) {
-        SystemProfile storedSystemProfile =
-            JsonUtils.readValue(
-                daoCollection
-                    .entityExtensionTimeSeriesDao()
-                    .getExtensionAtTimestampWithOperation(
-                        table.getFullyQualifiedName(),
-                        SYSTEM_PROFILE_EXTENSION,
-                        systemProfile.getTimestamp(),
-                        systemProfile.getOperation().value()),
-                SystemProfile.class);
-        if (storedSystemProfile != null) {
-          daoCollection
-              .entityExtensionTimeSeriesDao()
-              .updateExtensionByOperation(
-                  table.getFullyQualifiedName(),
-                  SYSTEM_PROFILE_EXTENSION,
-                  JsonUtils.pojoToJson(systemProfile),
-                  storedSystemProfile.getTimestamp(),
-                  storedSystemProfile.getOperation().value());
-        } else {
-          daoCollection
-              .entityExtensionTimeSeriesDao()
-              .insert(
-                  table.getFullyQualifiedName(),
-                  SYSTEM_PROFILE_EXTENSION,
-                  "systemProfile",
-                  JsonUtils.pojoToJson(systemProfile));
-        }
-      }
+    daoCollection
+        .entityExtensionTimeSeriesDao()
+        .upsertBatch(columnFQNs, TABLE_COLUMN_PROFILE_EXTENSION, "columnProfile", columnTimestamps, columnProfileJsons);
+
+    List<SystemProfile> systemProfiles = listOrEmpty(createTableProfile.getSystemProfile());
+    List<Long> systemTimestamps = new ArrayList<>();
+    List<String> systemOperations = new ArrayList<>();
+    List<String> systemProfileJsons = new ArrayList<>();
+    for (SystemProfile systemProfile : systemProfiles) {
+      systemTimestamps.add(systemProfile.getTimestamp());
+      systemOperations.add(systemProfile.getOperation().value());
+      systemProfileJsons.add(JsonUtils.pojoToJson(systemProfile));
     }
+    daoCollection
+        .entityExtensionTimeSeriesDao()
+        .upsertBatchWithOperation(
+            table.getFullyQualifiedName(),
+            SYSTEM_PROFILE_EXTENSION,
+            "systemProfile",
+            systemTimestamps,
+            systemOperations,
+            systemProfileJsons);
 
     setFieldsInternal(table, Fields.EMPTY_FIELDS);
     return table.withProfile(createTableProfile.getTableProfile());
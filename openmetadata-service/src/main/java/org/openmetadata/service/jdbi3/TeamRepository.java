@@ -14,7 +14,6 @@
 package org.openmetadata.service.jdbi3;
 
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
-import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 import static org.openmetadata.csv.CsvUtil.addEntityReferences;
 import static org.openmetadata.csv.CsvUtil.addField;
 import static org.openmetadata.schema.api.teams.CreateTeam.TeamType.BUSINESS_UNIT;
@@ -39,15 +38,23 @@ import static org.openmetadata.service.exception.CatalogExceptionMessage.invalid
 import static org.openmetadata.service.exception.CatalogExceptionMessage.invalidParentCount;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.common.collect.Iterators;
 import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVPrinter;
@@ -63,10 +70,10 @@ import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.schema.type.csv.CsvDocumentation;
 import org.openmetadata.schema.type.csv.CsvErrorType;
 import org.openmetadata.schema.type.csv.CsvHeader;
-import org.openmetadata.schema.type.csv.CsvImportResult;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.EntityNotFoundException;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.jdbi3.CollectionDAO.TeamParentRecord;
 import org.openmetadata.service.resources.teams.TeamResource;
 import org.openmetadata.service.security.policyevaluator.SubjectCache;
 import org.openmetadata.service.util.EntityUtil;
@@ -167,6 +174,7 @@ public class TeamRepository extends EntityRepository<Team> {
     for (EntityReference policy : listOrEmpty(team.getPolicies())) {
       addRelationship(team.getId(), policy.getId(), TEAM, POLICY, Relationship.HAS);
     }
+    SubjectCache.getInstance().invalidateTeamHierarchy();
   }
 
   @Override
@@ -195,19 +203,19 @@ public class TeamRepository extends EntityRepository<Team> {
     }
     super.cleanup(team);
     SubjectCache.getInstance().invalidateTeam(team.getId());
+    SubjectCache.getInstance().invalidateTeamHierarchy();
   }
 
   @Override
-  public String exportToCsv(String parentTeam, String user) throws IOException {
+  public void exportToCsv(String parentTeam, String user, Writer writer) throws IOException {
     Team team = getByName(null, parentTeam, Fields.EMPTY_FIELDS); // Validate team name
-    return new TeamCsv(team, user).exportCsv();
+    new TeamCsv(team, user).exportCsv(writer);
   }
 
   @Override
-  public CsvImportResult importFromCsv(String name, String csv, boolean dryRun, String user) throws IOException {
+  public EntityCsv<?> getEntityCsv(String name, String user) throws IOException {
     Team team = getByName(null, name, Fields.EMPTY_FIELDS); // Validate team name
-    TeamCsv teamCsv = new TeamCsv(team, user);
-    return teamCsv.importCsv(csv, dryRun);
+    return new TeamCsv(team, user);
   }
 
   private List<EntityReference> getInheritedRoles(Team team) throws IOException {
@@ -226,93 +234,57 @@ public class TeamRepository extends EntityRepository<Team> {
         .withChildren(null);
   }
 
-  private TeamHierarchy deepCopy(TeamHierarchy team) {
-    TeamHierarchy newTeam =
-        new TeamHierarchy()
-            .withId(team.getId())
-            .withTeamType(team.getTeamType())
-            .withName(team.getName())
-            .withDisplayName(team.getDisplayName())
-            .withHref(team.getHref())
-            .withFullyQualifiedName(team.getFullyQualifiedName())
-            .withIsJoinable(team.getIsJoinable());
-    if (team.getChildren() != null) {
-      List<TeamHierarchy> children = new ArrayList<>();
-      for (TeamHierarchy n : team.getChildren()) {
-        children.add(deepCopy(n));
-      }
-      newTeam.withChildren(children);
-    }
-    return newTeam;
-  }
-
-  private TeamHierarchy mergeTrees(TeamHierarchy team1, TeamHierarchy team2) {
-    List<TeamHierarchy> team1Children = team1.getChildren();
-    List<TeamHierarchy> team2Children = team2.getChildren();
-    if (team1Children != null && team2Children != null) {
-      List<TeamHierarchy> toMerge = new ArrayList<>(team1Children);
-      toMerge.retainAll(team2Children);
-
-      for (TeamHierarchy n : toMerge) mergeTrees(n, team2Children.get(team2Children.indexOf(n)));
-    }
-    if (team2Children != null) {
-      List<TeamHierarchy> toAdd = new ArrayList<>(team2Children);
-      if (team1Children != null) {
-        toAdd.removeAll(team1Children);
-      } else {
-        team1.setChildren(new ArrayList<>());
-      }
-      for (TeamHierarchy n : toAdd) team1.getChildren().add(deepCopy(n));
-    }
-
-    return team1;
-  }
-
   public List<TeamHierarchy> listHierarchy(ListFilter filter, int limit, Boolean isJoinable) throws IOException {
-    Fields fields = getFields(PARENTS_FIELD);
-    Map<UUID, TeamHierarchy> map = new HashMap<>();
-    ResultList<Team> resultList = listAfter(null, fields, filter, limit, null);
-    List<Team> allTeams = resultList.getData();
+    ResultList<Team> resultList = listAfter(null, Fields.EMPTY_FIELDS, filter, limit, null);
+    Map<UUID, Team> allTeams = new HashMap<>();
+    resultList.getData().forEach(team -> allTeams.put(team.getId(), team));
     List<Team> joinableTeams =
-        allTeams.stream()
+        resultList.getData().stream()
             .filter(Boolean.TRUE.equals(isJoinable) ? Team::getIsJoinable : t -> true)
             .filter(t -> !t.getName().equals(ORGANIZATION_NAME))
             .collect(Collectors.toList());
-    // build hierarchy of joinable teams
-    joinableTeams.forEach(
-        team -> {
-          Team currentTeam = team;
-          TeamHierarchy currentHierarchy = getTeamHierarchy(team);
-          while (currentTeam != null
-              && !currentTeam.getParents().isEmpty()
-              && !currentTeam.getParents().get(0).getName().equals(ORGANIZATION_NAME)) {
-            EntityReference parentRef = currentTeam.getParents().get(0);
-            Team parent =
-                allTeams.stream()
-                    .filter(t -> t.getId().equals(parentRef.getId()))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException(TEAM_HIERARCHY));
-            currentHierarchy = getTeamHierarchy(parent).withChildren(new ArrayList<>(List.of(currentHierarchy)));
-            if (map.containsKey(parent.getId())) {
-              TeamHierarchy parentTeam = map.get(parent.getId());
-              currentHierarchy = mergeTrees(parentTeam, currentHierarchy);
-              currentTeam =
-                  allTeams.stream()
-                      .filter(t -> t.getId().equals(parent.getId()))
-                      .findFirst()
-                      .orElseThrow(() -> new IllegalArgumentException(TEAM_HIERARCHY));
-            } else {
-              currentTeam = parent;
-            }
-          }
-          UUID currentId = currentHierarchy.getId();
-          if (!map.containsKey(currentId)) {
-            map.put(currentId, currentHierarchy);
-          } else {
-            map.put(currentId, mergeTrees(map.get(currentId), currentHierarchy));
-          }
-        });
-    return new ArrayList<>(map.values());
+
+    // Build hierarchy of joinable teams by walking up the first parent of each team until the organization. Each team
+    // in the hierarchy is created only once and added to the children of its parent.
+    SubjectCache subjectCache = SubjectCache.getInstance();
+    Map<UUID, TeamHierarchy> hierarchies = new HashMap<>();
+    Map<UUID, TeamHierarchy> roots = new LinkedHashMap<>();
+    for (Team team : joinableTeams) {
+      Team currentTeam = team;
+      TeamHierarchy child = null;
+      while (currentTeam != null) {
+        TeamHierarchy currentHierarchy = hierarchies.get(currentTeam.getId());
+        boolean visited = currentHierarchy != null;
+        if (!visited) {
+          currentHierarchy = getTeamHierarchy(currentTeam);
+          hierarchies.put(currentTeam.getId(), currentHierarchy);
+        }
+        if (child != null) {
+          addChild(currentHierarchy, child);
+        }
+        if (visited) {
+          break; // Team is already in the hierarchy along with its ancestors
+        }
+        List<UUID> parents = subjectCache.getParentTeams(currentTeam.getId());
+        if (parents.isEmpty() || parents.get(0).equals(organization.getId())) {
+          roots.put(currentTeam.getId(), currentHierarchy);
+          break;
+        }
+        child = currentHierarchy;
+        currentTeam = allTeams.get(parents.get(0));
+        if (currentTeam == null) {
+          throw new IllegalArgumentException(TEAM_HIERARCHY);
+        }
+      }
+    }
+    return new ArrayList<>(roots.values());
+  }
+
+  private static void addChild(TeamHierarchy parent, TeamHierarchy child) {
+    if (parent.getChildren() == null) {
+      parent.setChildren(new ArrayList<>());
+    }
+    parent.getChildren().add(child);
   }
 
   private List<EntityReference> getUsers(Team team) throws IOException {
@@ -619,25 +591,97 @@ public class TeamRepository extends EntityRepository<Team> {
       return String.format("#%s: Field %d error - %s", CsvErrorType.INVALID_FIELD, field + 1, error);
     }
 
-    private List<Team> listTeams(TeamRepository repository, String parentTeam, List<Team> teams, Fields fields)
-        throws IOException {
+    public void exportCsv(Writer writer) throws IOException {
       // Export the entire hierarchy of teams
-      final ListFilter filter = new ListFilter(Include.NON_DELETED).addQueryParam("parentTeam", parentTeam);
-      List<Team> list = repository.listAll(fields, filter);
-      if (nullOrEmpty(list)) {
-        return teams;
-      }
-      teams.addAll(list);
-      for (Team teamEntry : list) {
-        listTeams(repository, teamEntry.getName(), teams, fields);
+      TeamRepository repository = (TeamRepository) Entity.getEntityRepository(TEAM);
+      final Fields fields = repository.getFields("owner,defaultRoles,parents,policies");
+      // The entities of a team are its child teams - remember their names to visit them next without listing again
+      final List<String> childTeams = new ArrayList<>();
+      exportCsv(
+          new TeamHierarchyIterator<>(
+              team.getName(),
+              parentTeam ->
+                  Iterators.transform(
+                      repository.listChildren(parentTeam, fields),
+                      child -> {
+                        childTeams.add(child.getName());
+                        return child;
+                      }),
+              parentTeam -> {
+                Iterator<String> children = new ArrayList<>(childTeams).iterator();
+                childTeams.clear();
+                return children;
+              }),
+          writer);
+    }
+  }
+
+  /** All the parent-child relationships between the teams, along with the names of the parents */
+  public List<TeamParentRecord> getParentRelationships() {
+    return daoCollection.teamDAO().listParents(Relationship.PARENT_OF.ordinal());
+  }
+
+  /**
+   * Version of the team hierarchy. Changing the parents or children of a team updates the team, and deleting a team
+   * removes it or updates it. Either changes the version.
+   */
+  public String getHierarchyVersion() {
+    return daoCollection.teamDAO().listTotalCount() + ":" + daoCollection.teamDAO().getLastUpdatedAt();
+  }
+
+  /** Iterate over the children of the given team, one page at a time */
+  public Iterator<Team> listChildren(String parentTeam, Fields fields) {
+    ListFilter filter = new ListFilter(Include.NON_DELETED).addQueryParam("parentTeam", parentTeam);
+    return listAllIterator(fields, filter, EntityCsv.BATCH_SIZE);
+  }
+
+  /**
+   * Iterates over the entities that belong to the teams in a team hierarchy. Teams are visited in depth first order,
+   * returning the entities of a team before visiting its children. Only the names of the child teams yet to be visited
+   * are held in memory, and entities are read one page at a time. The child teams of a team are requested only after
+   * all the entities of that team are returned.
+   */
+  public static class TeamHierarchyIterator<T> implements Iterator<T> {
+    private final Function<String, Iterator<T>> teamEntities;
+    private final Function<String, Iterator<String>> childTeams;
+    private final Deque<Iterator<String>> teamsToVisit = new ArrayDeque<>();
+    private Iterator<T> entities;
+    private String currentTeam;
+
+    public TeamHierarchyIterator(
+        String rootTeam, Function<String, Iterator<T>> teamEntities, Function<String, Iterator<String>> childTeams) {
+      this.teamEntities = teamEntities;
+      this.childTeams = childTeams;
+      this.currentTeam = rootTeam;
+      this.entities = teamEntities.apply(rootTeam);
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (!entities.hasNext()) {
+        if (currentTeam != null) {
+          // Done with the entities of the current team - visit its children next
+          teamsToVisit.push(childTeams.apply(currentTeam));
+          currentTeam = null;
+        }
+        while (!teamsToVisit.isEmpty() && !teamsToVisit.peek().hasNext()) {
+          teamsToVisit.pop();
+        }
+        if (teamsToVisit.isEmpty()) {
+          return false;
+        }
+        currentTeam = teamsToVisit.peek().next();
+        entities = teamEntities.apply(currentTeam);
       }
-      return teams;
+      return true;
     }
 
-    public String exportCsv() throws IOException {
-      TeamRepository repository = (TeamRepository) Entity.getEntityRepository(TEAM);
-      final Fields fields = repository.getFields("owner,defaultRoles,parents,policies");
-      return exportCsv(listTeams(repository, team.getName(), new ArrayList<>(), fields));
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return entities.next();
     }
   }
 
@@ -668,6 +712,7 @@ public class TeamRepository extends EntityRepository<Team> {
       updateParents(original, updated);
       updateChildren(original, updated);
       updatePolicies(original, updated);
+      SubjectCache.getInstance().invalidateTeamHierarchy();
     }
 
     private void updateUsers(Team origTeam, Team updatedTeam) throws JsonProcessingException {
@@ -213,6 +213,9 @@ public class TypeRepository extends EntityRepository<Type> {
               Relationship.HAS.ordinal());
       // Delete all the data stored in the entity extension for the custom property
       daoCollection.entityExtensionDAO().deleteExtension(customPropertyFQN);
+      daoCollection
+          .entityExtensionDAO()
+          .deleteCustomProperty(getCustomPropertyFQNPrefix(updated.getName()), property.getName());
     }
 
     private void updateCustomPropertyDescription(
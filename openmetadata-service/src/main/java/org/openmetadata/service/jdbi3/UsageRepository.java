@@ -23,7 +23,10 @@ import static org.openmetadata.service.util.EntityUtil.fieldUpdated;
 import java.io.IOException;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import javax.ws.rs.core.Response;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +34,9 @@ import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.sqlobject.transaction.Transaction;
 import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.api.data.BulkUsageResult;
+import org.openmetadata.schema.api.data.CreateBulkUsage;
+import org.openmetadata.schema.api.data.EntityDailyCount;
 import org.openmetadata.schema.entity.data.Chart;
 import org.openmetadata.schema.entity.data.Dashboard;
 import org.openmetadata.schema.entity.data.MlModel;
@@ -42,11 +48,13 @@ import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.schema.type.EntityUsage;
 import org.openmetadata.schema.type.EventType;
 import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.schema.type.UsageDetails;
 import org.openmetadata.schema.type.UsageStats;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.exception.UnhandledServerException;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipObject;
 import org.openmetadata.service.util.RestUtil;
 
 @Slf4j
@@ -101,6 +109,46 @@ public class UsageRepository {
     return addUsage(PUT, entityType, ref.getId().toString(), usage);
   }
 
+  @Transaction
+  public RestUtil.BulkChangeResponse<BulkUsageResult> createBulk(String entityType, CreateBulkUsage bulkUsage)
+      throws IOException {
+    String type = entityType.toLowerCase();
+    if (!List.of(TABLE, DASHBOARD, CHART, MLMODEL).contains(type)) {
+      LOG.error("Invalid Usage Entity Type");
+      throw new UnhandledServerException(CatalogExceptionMessage.entityTypeNotSupported(entityType));
+    }
+    List<UUID> ids = new ArrayList<>();
+    List<String> entityIds = new ArrayList<>();
+    List<Integer> counts = new ArrayList<>();
+    for (EntityDailyCount usage : bulkUsage.getUsage()) {
+      ids.add(usage.getId());
+      entityIds.add(usage.getId().toString());
+      counts.add(usage.getCount());
+    }
+    // we accept usage for deleted entities
+    List<? extends EntityInterface> entities = Entity.getEntityRepository(type).getDao().findEntitiesByIds(ids);
+    Map<String, UsageDetails> previousUsage = dao.usageDAO().getLatestUsage(entityIds);
+    dao.usageDAO().insertOrReplaceCountBatch(bulkUsage.getDate(), type, entityIds, counts);
+    if (type.equals(TABLE)) {
+      addTableUsageToParents(bulkUsage.getDate(), entityIds, counts);
+    }
+    Map<String, UsageDetails> updatedUsage = dao.usageDAO().getLatestUsage(entityIds);
+
+    // Record the change of the usage summary of each entity, as when the usage of the entities is reported one by one
+    List<ChangeEvent> changeEvents = new ArrayList<>();
+    for (EntityInterface entity : entities) {
+      String id = entity.getId().toString();
+      ChangeDescription change = getChangeDescription(entity.getVersion(), updatedUsage.get(id), previousUsage.get(id));
+      changeEvents.add(getChangeEvent(entity.getEntityReference(), change, entity.getVersion()));
+    }
+    BulkUsageResult result =
+        new BulkUsageResult()
+            .withEntityType(type)
+            .withDate(bulkUsage.getDate())
+            .withEntitiesUpdated(changeEvents.size());
+    return new RestUtil.BulkChangeResponse<>(result, changeEvents);
+  }
+
   @Transaction
   public void computePercentile(String entityType, String date) {
     dao.usageDAO().computePercentile(entityType, date);
@@ -194,6 +242,47 @@ public class UsageRepository {
     }
   }
 
+  /** Add the usage of tables to their schemas and databases with a single write per parent entity */
+  private void addTableUsageToParents(String date, List<String> tableIds, List<Integer> counts) {
+    Map<String, Integer> tableCounts = new HashMap<>();
+    for (int i = 0; i < tableIds.size(); i++) {
+      tableCounts.merge(tableIds.get(i), counts.get(i), Integer::sum);
+    }
+    Map<String, Integer> schemaCounts = sumCountsByParent(tableCounts, TABLE, Entity.DATABASE_SCHEMA);
+    Map<String, Integer> databaseCounts = sumCountsByParent(schemaCounts, Entity.DATABASE_SCHEMA, Entity.DATABASE);
+    schemaCounts.forEach(
+        (schemaId, count) -> dao.usageDAO().insertOrUpdateCount(date, schemaId, Entity.DATABASE_SCHEMA, count));
+    databaseCounts.forEach(
+        (databaseId, count) -> dao.usageDAO().insertOrUpdateCount(date, databaseId, Entity.DATABASE, count));
+  }
+
+  private Map<String, Integer> sumCountsByParent(Map<String, Integer> counts, String entityType, String parentType) {
+    Map<String, Integer> parentCounts = new HashMap<>();
+    if (counts.isEmpty()) {
+      return parentCounts;
+    }
+    List<EntityRelationshipObject> records =
+        dao.relationshipDAO()
+            .findFromBatch(new ArrayList<>(counts.keySet()), entityType, Relationship.CONTAINS.ordinal(), parentType);
+    for (EntityRelationshipObject record : records) {
+      parentCounts.merge(record.getFromId(), counts.get(record.getToId()), Integer::sum);
+    }
+    return parentCounts;
+  }
+
+  /** Change event of the usage of an entity reported in bulk, which refers to the entity without carrying it */
+  private ChangeEvent getChangeEvent(EntityReference entity, ChangeDescription change, Double version) {
+    return new ChangeEvent()
+        .withChangeDescription(change)
+        .withEventType(EventType.ENTITY_UPDATED)
+        .withEntityType(entity.getType())
+        .withEntityId(entity.getId())
+        .withEntityFullyQualifiedName(entity.getFullyQualifiedName())
+        .withTimestamp(System.currentTimeMillis())
+        .withCurrentVersion(version)
+        .withPreviousVersion(version);
+  }
+
   private ChangeEvent getChangeEvent(
       EntityInterface updated, ChangeDescription change, String entityType, Double prevVersion) {
     return new ChangeEvent()
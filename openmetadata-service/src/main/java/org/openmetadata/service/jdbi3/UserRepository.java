@@ -14,14 +14,15 @@
 package org.openmetadata.service.jdbi3;
 
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
-import static org.openmetadata.common.utils.CommonUtil.nullOrEmpty;
 import static org.openmetadata.csv.CsvUtil.addEntityReferences;
 import static org.openmetadata.csv.CsvUtil.addField;
 import static org.openmetadata.service.Entity.ROLE;
 import static org.openmetadata.service.Entity.TEAM;
 import static org.openmetadata.service.Entity.USER;
 
+import com.google.common.collect.Iterators;
 import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -44,11 +45,11 @@ import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.schema.type.csv.CsvDocumentation;
 import org.openmetadata.schema.type.csv.CsvErrorType;
 import org.openmetadata.schema.type.csv.CsvHeader;
-import org.openmetadata.schema.type.csv.CsvImportResult;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
 import org.openmetadata.service.exception.CatalogExceptionMessage;
 import org.openmetadata.service.jdbi3.CollectionDAO.EntityRelationshipRecord;
+import org.openmetadata.service.jdbi3.TeamRepository.TeamHierarchyIterator;
 import org.openmetadata.service.resources.teams.UserResource;
 import org.openmetadata.service.secrets.SecretsManager;
 import org.openmetadata.service.secrets.SecretsManagerFactory;
@@ -165,17 +166,15 @@ public class UserRepository extends EntityRepository<User> {
   }
 
   @Override
-  public String exportToCsv(String importingTeam, String user) throws IOException {
+  public void exportToCsv(String importingTeam, String user, Writer writer) throws IOException {
     Team team = daoCollection.teamDAO().findEntityByName(importingTeam);
-    return new UserCsv(team, user).exportCsv();
+    new UserCsv(team, user).exportCsv(writer);
   }
 
   @Override
-  public CsvImportResult importFromCsv(String importingTeam, String csv, boolean dryRun, String user)
-      throws IOException {
+  public EntityCsv<?> getEntityCsv(String importingTeam, String user) throws IOException {
     Team team = daoCollection.teamDAO().findEntityByName(importingTeam);
-    UserCsv userCsv = new UserCsv(team, user);
-    return userCsv.importCsv(csv, dryRun);
+    return new UserCsv(team, user);
   }
 
   public boolean isTeamJoinable(String teamId) throws IOException {
@@ -367,35 +366,21 @@ public class UserRepository extends EntityRepository<User> {
       return recordList;
     }
 
-    private List<User> listUsers(
-        TeamRepository teamRepository,
-        UserRepository userRepository,
-        String parentTeam,
-        List<User> users,
-        Fields fields)
-        throws IOException {
+    public void exportCsv(Writer writer) throws IOException {
       // Export the users by listing users for the entire team hierarchy
-      ListFilter filter = new ListFilter(Include.NON_DELETED).addQueryParam("team", parentTeam);
-
-      // Add users for the given team
-      List<User> userList = userRepository.listAll(fields, filter);
-      if (!nullOrEmpty(userList)) {
-        users.addAll(userList);
-      }
-
-      filter = new ListFilter(Include.NON_DELETED).addQueryParam("parentTeam", parentTeam);
-      List<Team> teamList = teamRepository.listAll(Fields.EMPTY_FIELDS, filter);
-      for (Team teamEntry : teamList) {
-        listUsers(teamRepository, userRepository, teamEntry.getName(), users, fields);
-      }
-      return users;
-    }
-
-    public String exportCsv() throws IOException {
       UserRepository userRepository = (UserRepository) Entity.getEntityRepository(USER);
       TeamRepository teamRepository = (TeamRepository) Entity.getEntityRepository(TEAM);
       final Fields fields = userRepository.getFields("roles,teams");
-      return exportCsv(listUsers(teamRepository, userRepository, team.getName(), new ArrayList<>(), fields));
+      exportCsv(
+          new TeamHierarchyIterator<>(
+              team.getName(),
+              teamName -> {
+                ListFilter filter = new ListFilter(Include.NON_DELETED).addQueryParam("team", teamName);
+                return userRepository.listAllIterator(fields, filter, EntityCsv.BATCH_SIZE);
+              },
+              teamName ->
+                  Iterators.transform(teamRepository.listChildren(teamName, Fields.EMPTY_FIELDS), Team::getName)),
+          writer);
     }
 
     private List<EntityReference> getTeams(CSVPrinter printer, CSVRecord csvRecord, String user) throws IOException {
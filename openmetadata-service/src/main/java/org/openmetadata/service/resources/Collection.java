@@ -25,4 +25,10 @@ public @interface Collection {
 
   /** Order of initialization of resource starting from 0. Only order from 0 to 9 (inclusive) are allowed */
   int order() default 9;
+
+  /**
+   * Whether the resource can be initialized in parallel with the other resources of the same order, such as resources
+   * only loading their own seed data. Other resources are initialized one at a time.
+   */
+  boolean parallelInitialization() default false;
 }
@@ -29,6 +29,11 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.ws.rs.Path;
 import lombok.Getter;
 import lombok.Setter;
@@ -39,6 +44,7 @@ import org.openmetadata.schema.Function;
 import org.openmetadata.schema.type.CollectionDescriptor;
 import org.openmetadata.schema.type.CollectionInfo;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
+import org.openmetadata.service.exception.CatalogGenericExceptionMapper;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.security.Authorizer;
 import org.openmetadata.service.security.auth.AuthenticatorHandler;
@@ -54,6 +60,8 @@ import org.reflections.util.ConfigurationBuilder;
  */
 @Slf4j
 public final class CollectionRegistry {
+  private static final int INITIALIZER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+  private static final AtomicInteger INITIALIZER_THREAD_ID = new AtomicInteger();
   private static CollectionRegistry instance = null;
   private static volatile boolean initialized = false;
 
@@ -155,28 +163,43 @@ public final class CollectionRegistry {
     getInstance().testResources.add(testResource);
   }
 
-  /** Register resources from CollectionRegistry */
+  /**
+   * Register resources from CollectionRegistry. The resources are created in order, and then initialized with their
+   * seed data by the order of their collections. The resources of the same order opting in with {@link
+   * Collection#parallelInitialization()} are initialized in parallel.
+   */
   public void registerResources(
       Jdbi jdbi,
       Environment environment,
       OpenMetadataApplicationConfig config,
       Authorizer authorizer,
       AuthenticatorHandler authenticatorHandler) {
+    long start = System.currentTimeMillis();
     // Build list of ResourceDescriptors
+    List<CollectionDetails> collections = new ArrayList<>();
     for (Map.Entry<String, CollectionDetails> e : collectionMap.entrySet()) {
       CollectionDetails details = e.getValue();
       String resourceClass = details.resourceClass;
       try {
         CollectionDAO daoObject = jdbi.onDemand(CollectionDAO.class);
         Objects.requireNonNull(daoObject, "CollectionDAO must not be null");
-        Object resource = createResource(daoObject, resourceClass, config, authorizer, authenticatorHandler);
+        Object resource = createResource(daoObject, resourceClass, authorizer, authenticatorHandler);
         details.setResource(resource);
-        environment.jersey().register(resource);
-        LOG.info("Registering {} with order {}", resourceClass, details.order);
+        collections.add(details);
       } catch (Exception ex) {
         LOG.warn("Failed to create resource for class {} {}", resourceClass, ex);
       }
     }
+    long created = System.currentTimeMillis();
+
+    initializeResources(collections, config);
+    long initialized = System.currentTimeMillis();
+
+    for (CollectionDetails details : collections) {
+      environment.jersey().register(details.resource);
+      CatalogGenericExceptionMapper.registerResourceClass(details.resource.getClass());
+      LOG.info("Registering {} with order {}", details.resourceClass, details.order);
+    }
 
     // Now add test resources
     testResources.forEach(
@@ -184,11 +207,72 @@ public final class CollectionRegistry {
           LOG.info("Registering test resource {}", object);
           environment.jersey().register(object);
         });
+    LOG.info(
+        "Registered {} resources in {} ms, created in {} ms and initialized in {} ms",
+        collections.size(),
+        System.currentTimeMillis() - start,
+        created - start,
+        initialized - created);
+  }
+
+  private static void initializeResources(List<CollectionDetails> collections, OpenMetadataApplicationConfig config) {
+    initializeResources(collections, config, INITIALIZER_THREADS);
+  }
+
+  /**
+   * Initialize the resources one order at a time, and an order starts only after all the resources of the previous
+   * order are initialized. Within an order, the resources opting in to parallel initialization run on {@code threads}
+   * threads, while the other resources run one at a time on the calling thread.
+   */
+  @VisibleForTesting
+  static void initializeResources(
+      List<CollectionDetails> collections, OpenMetadataApplicationConfig config, int threads) {
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              Thread thread = new Thread(runnable, "resource-initializer-" + INITIALIZER_THREAD_ID.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      for (int order = 0; order < 10; order++) { // Ordering @Collection order 0 to 9
+        long start = System.currentTimeMillis();
+        List<Future<?>> futures = new ArrayList<>();
+        List<CollectionDetails> sequential = new ArrayList<>();
+        for (CollectionDetails details : collections) {
+          if (details.order == order && details.parallelInitialization) {
+            futures.add(executor.submit(() -> initializeResource(details.resource, config)));
+          } else if (details.order == order) {
+            sequential.add(details);
+          }
+        }
+        for (CollectionDetails details : sequential) {
+          initializeResource(details.resource, config);
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+        int count = futures.size() + sequential.size();
+        if (count > 0) {
+          long elapsed = System.currentTimeMillis() - start;
+          LOG.info("Initialized {} resources of order {} in {} ms", count, order, elapsed);
+        }
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while initializing the resources", e);
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Failed to initialize the resources", e.getCause());
+    } finally {
+      executor.shutdownNow();
+    }
   }
 
   /** Get collection details based on annotations in Resource classes */
   private static CollectionDetails getCollection(Class<?> cl) {
     int order = 0;
+    boolean parallelInitialization = false;
     CollectionInfo collectionInfo = new CollectionInfo();
     for (Annotation a : cl.getAnnotations()) {
       if (a instanceof Path) {
@@ -202,11 +286,12 @@ public final class CollectionRegistry {
         Collection collection = (Collection) a;
         collectionInfo.withName(collection.name());
         order = collection.order();
+        parallelInitialization = collection.parallelInitialization();
       }
     }
     CollectionDescriptor cd = new CollectionDescriptor();
     cd.setCollection(collectionInfo);
-    return new CollectionDetails(cd, cl.getCanonicalName(), order);
+    return new CollectionDetails(cd, cl.getCanonicalName(), order, parallelInitialization);
   }
 
   /** Compile a list of REST collections based on Resource classes marked with {@code Collection} annotation */
@@ -231,11 +316,7 @@ public final class CollectionRegistry {
 
   /** Create a resource class based on dependencies declared in @Collection annotation */
   private static Object createResource(
-      CollectionDAO daoObject,
-      String resourceClass,
-      OpenMetadataApplicationConfig config,
-      Authorizer authorizer,
-      AuthenticatorHandler authHandler)
+      CollectionDAO daoObject, String resourceClass, Authorizer authorizer, AuthenticatorHandler authHandler)
       throws ClassNotFoundException, NoSuchMethodException, IllegalAccessException, InvocationTargetException,
           InstantiationException {
     Object resource;
@@ -253,7 +334,12 @@ public final class CollectionRegistry {
         resource = Class.forName(resourceClass).getConstructor().newInstance();
       }
     }
+    return resource;
+  }
 
+  /** Initialize a resource, such as with its seed data, and upgrade it */
+  private static void initializeResource(Object resource, OpenMetadataApplicationConfig config) {
+    long start = System.currentTimeMillis();
     // Call initialize method, if it exists
     try {
       Method initializeMethod = resource.getClass().getMethod("initialize", OpenMetadataApplicationConfig.class);
@@ -273,7 +359,7 @@ public final class CollectionRegistry {
     } catch (Exception ex) {
       LOG.warn("Encountered exception ", ex);
     }
-    return resource;
+    LOG.info("Initialized {} in {} ms", resource.getClass().getSimpleName(), System.currentTimeMillis() - start);
   }
 
   public static class CollectionDetails {
@@ -281,11 +367,13 @@ public final class CollectionRegistry {
     @Getter @Setter private Object resource;
     private final CollectionDescriptor cd;
     private final int order;
+    private final boolean parallelInitialization;
 
-    CollectionDetails(CollectionDescriptor cd, String resourceClass, int order) {
+    CollectionDetails(CollectionDescriptor cd, String resourceClass, int order, boolean parallelInitialization) {
       this.cd = cd;
       this.resourceClass = resourceClass;
       this.order = order;
+      this.parallelInitialization = parallelInitialization;
     }
   }
 }
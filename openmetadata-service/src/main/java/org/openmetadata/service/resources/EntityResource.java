@@ -5,19 +5,34 @@ import static org.openmetadata.schema.type.MetadataOperation.CREATE;
 import static org.openmetadata.schema.type.MetadataOperation.VIEW_BASIC;
 import static org.openmetadata.service.util.EntityUtil.createOrUpdateOperation;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.UUID;
 import javax.json.JsonPatch;
+import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.csv.EntityCsv;
 import org.openmetadata.schema.CreateEntity;
 import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.type.EntityHistory;
@@ -37,6 +52,7 @@ import org.openmetadata.service.security.policyevaluator.ResourceContext.Resourc
 import org.openmetadata.service.security.policyevaluator.ResourceContextInterface;
 import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.EntityUtil.Fields;
+import org.openmetadata.service.util.JsonUtils;
 import org.openmetadata.service.util.RestUtil;
 import org.openmetadata.service.util.RestUtil.DeleteResponse;
 import org.openmetadata.service.util.RestUtil.PatchResponse;
@@ -45,6 +61,7 @@ import org.openmetadata.service.util.ResultList;
 
 @Slf4j
 public abstract class EntityResource<T extends EntityInterface, K extends EntityRepository<T>> {
+  private static final String IMPORT_RESULTS_CSV = "importResultsCsv";
   protected final Class<T> entityClass;
   protected final String entityType;
   protected final List<String> allowedFields;
@@ -269,17 +286,86 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
     return response.toResponse();
   }
 
-  public String exportCsvInternal(SecurityContext securityContext, String name) throws IOException {
+  public Response exportCsvInternal(SecurityContext securityContext, String name) throws IOException {
     OperationContext operationContext = new OperationContext(entityType, MetadataOperation.VIEW_ALL);
     authorizer.authorize(securityContext, operationContext, getResourceContextByName(name));
-    return repository.exportToCsv(name, securityContext.getUserPrincipal().getName());
+    String user = securityContext.getUserPrincipal().getName();
+    // Stream the CSV as the entities are read instead of building the entire CSV in memory
+    StreamingOutput csv =
+        output -> {
+          Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+          repository.exportToCsv(name, user, writer);
+          writer.flush();
+        };
+    return Response.ok(csv, MediaType.TEXT_PLAIN_TYPE).build();
   }
 
-  protected CsvImportResult importCsvInternal(SecurityContext securityContext, String name, String csv, boolean dryRun)
+  /**
+   * Import CSV, returning the import result as JSON. The CSV headers are validated before responding, and an invalid
+   * CSV is reported with the aborted import result. The import results CSV is streamed as a JSON string while the
+   * records are processed instead of building it in memory. When the import fails while streaming, the JSON object is
+   * still completed, with the aborted status and the reason of the failure.
+   */
+  protected Response importCsvInternal(SecurityContext securityContext, String name, InputStream csv, boolean dryRun)
       throws IOException {
     OperationContext operationContext = new OperationContext(entityType, MetadataOperation.EDIT_ALL);
     authorizer.authorize(securityContext, operationContext, getResourceContextByName(name));
-    return repository.importFromCsv(name, csv, dryRun, securityContext.getUserPrincipal().getName());
+    EntityCsv<?> entityCsv = repository.getEntityCsv(name, securityContext.getUserPrincipal().getName());
+    if (!entityCsv.validateCsv(getReader(csv), dryRun)) {
+      return Response.ok(entityCsv.getImportResult(), MediaType.APPLICATION_JSON_TYPE).build();
+    }
+    StreamingOutput importResult =
+        output -> {
+          JsonGenerator generator = JsonUtils.createGenerator(output);
+          generator.writeStartObject();
+          generator.writeFieldName(IMPORT_RESULTS_CSV);
+          generator.writeRawValue("\"");
+          CsvImportResult result = entityCsv.getImportResult();
+          try {
+            entityCsv.importRecords(new JsonStringWriter(generator));
+          } catch (Exception e) {
+            LOG.error("Failed to import CSV to {} {}", entityType, name, e);
+            result.withStatus(CsvImportResult.Status.ABORTED).withAbortReason(e.getMessage());
+          }
+          generator.writeRaw('"');
+          // Rest of the import result fields follow the import results CSV in the same JSON object
+          Iterator<Map.Entry<String, JsonNode>> fields = JsonUtils.valueToTree(result).fields();
+          while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            if (!IMPORT_RESULTS_CSV.equals(field.getKey())) {
+              generator.writeObjectField(field.getKey(), field.getValue());
+            }
+          }
+          generator.writeEndObject();
+          generator.flush();
+        };
+    return Response.ok(importResult, MediaType.APPLICATION_JSON_TYPE).build();
+  }
+
+  /**
+   * Import CSV, streaming the import results CSV back as the records are processed. As with {@link
+   * #importCsvInternal}, an invalid CSV is reported with the aborted import result in JSON.
+   */
+  protected Response importCsvStreamInternal(
+      SecurityContext securityContext, String name, InputStream csv, boolean dryRun) throws IOException {
+    OperationContext operationContext = new OperationContext(entityType, MetadataOperation.EDIT_ALL);
+    authorizer.authorize(securityContext, operationContext, getResourceContextByName(name));
+    EntityCsv<?> entityCsv = repository.getEntityCsv(name, securityContext.getUserPrincipal().getName());
+    if (!entityCsv.validateCsv(getReader(csv), dryRun)) {
+      // Invalid CSV is reported before any import results are streamed
+      return Response.ok(entityCsv.getImportResult(), MediaType.APPLICATION_JSON_TYPE).build();
+    }
+    StreamingOutput importResults =
+        output -> {
+          Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+          entityCsv.importRecords(writer);
+          writer.flush();
+        };
+    return Response.ok(importResults, MediaType.TEXT_PLAIN_TYPE).build();
+  }
+
+  private static Reader getReader(InputStream csv) {
+    return new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8));
   }
 
   public T copy(T entity, CreateEntity request, String updatedBy) throws IOException {
@@ -349,4 +435,29 @@ public abstract class EntityResource<T extends EntityInterface, K extends Entity
       }
     }
   }
+
+  /** Writer that writes the characters written to it, escaped, as the contents of a JSON string being generated */
+  private static class JsonStringWriter extends Writer {
+    private final JsonGenerator generator;
+
+    private JsonStringWriter(JsonGenerator generator) {
+      this.generator = generator;
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+      char[] escaped = JsonStringEncoder.getInstance().quoteAsString(new String(cbuf, off, len));
+      generator.writeRaw(escaped, 0, escaped.length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+      generator.flush();
+    }
+
+    @Override
+    public void close() {
+      // The generator is completed and flushed by the import
+    }
+  }
 }
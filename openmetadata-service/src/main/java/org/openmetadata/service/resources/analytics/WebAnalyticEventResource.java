@@ -61,7 +61,7 @@ import org.openmetadata.service.util.ResultList;
 @Hidden
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
-@Collection(name = "analytics")
+@Collection(name = "analytics", parallelInitialization = true)
 public class WebAnalyticEventResource extends EntityResource<WebAnalyticEvent, WebAnalyticEventRepository> {
   public static final String COLLECTION_PATH = WebAnalyticEventRepository.COLLECTION_PATH;
   static final String FIELDS = "owner";
@@ -90,9 +90,7 @@ public class WebAnalyticEventResource extends EntityResource<WebAnalyticEvent, W
     // Find the existing webAnalyticEventTypes and add them from json files
     List<WebAnalyticEvent> webAnalyticEvents =
         repository.getEntitiesFromSeedData(".*json/data/analytics/webAnalyticEvents/.*\\.json$");
-    for (WebAnalyticEvent webAnalyticEvent : webAnalyticEvents) {
-      repository.initializeEntity(webAnalyticEvent);
-    }
+    repository.initializeEntities(webAnalyticEvents);
   }
 
   @GET
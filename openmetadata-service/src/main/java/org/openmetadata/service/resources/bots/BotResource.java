@@ -103,8 +103,8 @@ public class BotResource extends EntityResource<Bot, BotRepository> {
       user.setRoles(getRoleForBot(bot.getName()));
       user = UserUtil.addOrUpdateBotUser(user, config);
       bot.withBotUser(user.getEntityReference());
-      repository.initializeEntity(bot);
     }
+    repository.initializeEntities(bots);
   }
 
   @Override
@@ -38,9 +38,6 @@ import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
-import org.elasticsearch.action.search.SearchRequest;
-import org.elasticsearch.action.search.SearchResponse;
-import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.openmetadata.schema.api.data.RestoreEntity;
 import org.openmetadata.schema.api.dataInsight.CreateDataInsightChart;
@@ -52,9 +49,12 @@ import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.MetadataOperation;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
+import org.openmetadata.service.dataInsight.DataInsightChartResultCache;
+import org.openmetadata.service.dataInsight.DataInsightConfiguration;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.DataInsightChartRepository;
 import org.openmetadata.service.jdbi3.ListFilter;
+import org.openmetadata.service.jdbi3.ReportDataRepository;
 import org.openmetadata.service.resources.Collection;
 import org.openmetadata.service.resources.EntityResource;
 import org.openmetadata.service.security.Authorizer;
@@ -72,6 +72,7 @@ import org.openmetadata.service.util.ResultList;
 @Collection(name = "analytics")
 public class DataInsightChartResource extends EntityResource<DataInsightChart, DataInsightChartRepository> {
   private RestHighLevelClient client;
+  private final ReportDataRepository reportDataRepository;
   public static final String COLLECTION_PATH = DataInsightChartRepository.COLLECTION_PATH;
   public static final String FIELDS = "owner";
 
@@ -84,6 +85,7 @@ public class DataInsightChartResource extends EntityResource<DataInsightChart, D
 
   public DataInsightChartResource(CollectionDAO dao, Authorizer authorizer) {
     super(DataInsightChart.class, new DataInsightChartRepository(dao), authorizer);
+    this.reportDataRepository = new ReportDataRepository(dao);
   }
 
   public static class DataInsightChartList extends ResultList<DataInsightChart> {
@@ -102,8 +104,15 @@ public class DataInsightChartResource extends EntityResource<DataInsightChart, D
     }
     // Find the existing webAnalyticEventTypes and add them from json files
     List<DataInsightChart> dataInsightCharts = repository.getEntitiesFromSeedData(".*json/data/dataInsight/.*\\.json$");
-    for (DataInsightChart dataInsightChart : dataInsightCharts) {
-      repository.initializeEntity(dataInsightChart);
+    repository.initializeEntities(dataInsightCharts);
+    DataInsightConfiguration dataInsightConfig = config.getDataInsightConfiguration();
+    if (client != null && dataInsightConfig != null && dataInsightConfig.isCacheEnabled()) {
+      DataInsightChartResultCache.initialize(
+          repository,
+          reportDataRepository,
+          client,
+          dataInsightConfig,
+          DataInsightChartResultCache.getChartIndexes(dataInsightCharts));
     }
   }
 
@@ -464,12 +473,10 @@ public class DataInsightChartResource extends EntityResource<DataInsightChart, D
     OperationContext operationContext = new OperationContext(Entity.DATA_INSIGHT_CHART, MetadataOperation.VIEW_ALL);
     authorizer.authorize(securityContext, operationContext, getResourceContext());
 
-    SearchRequest searchRequest =
-        repository.buildSearchRequest(startTs, endTs, tier, team, dataInsightChartName, dataReportIndex);
-    SearchResponse searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
-
     return Response.status(OK)
-        .entity(repository.processDataInsightChartResult(searchResponse, dataInsightChartName))
+        .entity(
+            DataInsightChartResultCache.getChartResult(
+                repository, client, startTs, endTs, tier, team, dataInsightChartName, dataReportIndex))
         .build();
   }
 
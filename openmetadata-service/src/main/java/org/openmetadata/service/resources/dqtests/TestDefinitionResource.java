@@ -61,7 +61,7 @@ import org.openmetadata.service.util.ResultList;
             + "that run against data to capture data quality.")
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
-@Collection(name = "TestDefinitions")
+@Collection(name = "TestDefinitions", parallelInitialization = true)
 public class TestDefinitionResource extends EntityResource<TestDefinition, TestDefinitionRepository> {
   public static final String COLLECTION_PATH = "/v1/dataQuality/testDefinitions";
   static final String FIELDS = "owner";
@@ -81,9 +81,7 @@ public class TestDefinitionResource extends EntityResource<TestDefinition, TestD
   public void initialize(OpenMetadataApplicationConfig config) throws IOException {
     // Find tag definitions and load classification from the json file, if necessary
     List<TestDefinition> testDefinitions = repository.getEntitiesFromSeedData(".*json/data/tests/.*\\.json$");
-    for (TestDefinition testDefinition : testDefinitions) {
-      repository.initializeEntity(testDefinition);
-    }
+    repository.initializeEntities(testDefinitions);
   }
 
   public static class TestDefinitionList extends ResultList<TestDefinition> {
@@ -23,7 +23,10 @@ import java.io.IOException;
 import java.util.List;
 import java.util.Objects;
 import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
 import javax.ws.rs.Consumes;
+import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
 import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
@@ -38,7 +41,6 @@ import org.openmetadata.service.jdbi3.ChangeEventRepository;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.resources.Collection;
 import org.openmetadata.service.security.Authorizer;
-import org.openmetadata.service.util.EntityUtil;
 import org.openmetadata.service.util.ResultList;
 
 @Path("/v1/events")
@@ -117,7 +119,71 @@ public class EventResource {
     List<String> entityUpdatedList = EntityList.getEntityList("entityUpdated", entityUpdated);
     List<String> entityDeletedList = EntityList.getEntityList("entityDeleted", entityDeleted);
     List<ChangeEvent> events = dao.list(timestamp, entityCreatedList, entityUpdatedList, entityDeletedList);
-    events.sort(EntityUtil.compareChangeEvent); // Sort change events based on time
     return new EventList(events, null, null, events.size());
   }
+
+  @GET
+  @Path("/feed")
+  @Valid
+  @Operation(
+      operationId = "listChangeEventFeed",
+      summary = "Get a page of change events",
+      description =
+          "Get a page of change events matching event types, entity type, from a given date, in the order they "
+              + "happened. Use the `after` cursor of a page to get the next page.",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Entity events",
+            content = @Content(mediaType = "application/json", schema = @Schema(implementation = EventList.class)))
+      })
+  public EventList getFeed(
+      @Context UriInfo uriInfo,
+      @Parameter(
+              description =
+                  "List of comma separated entities requested for "
+                      + "`entityCreated` event. When set to `*` all entities will be "
+                      + "returned",
+              schema = @Schema(type = "string", example = "table,dashboard,..."))
+          @QueryParam("entityCreated")
+          String entityCreated,
+      @Parameter(
+              description =
+                  "List of comma separated entities requested for "
+                      + "`entityUpdated` event. When set to `*` all entities will be "
+                      + "returned",
+              schema = @Schema(type = "string", example = "table,dashboard,..."))
+          @QueryParam("entityUpdated")
+          String entityUpdated,
+      @Parameter(
+              description =
+                  "List of comma separated entities requested for "
+                      + "`entityDeleted` event. When set to `*` all entities will be "
+                      + "returned",
+              schema = @Schema(type = "string", example = "table,dashboard,..."))
+          @QueryParam("entityDeleted")
+          String entityDeleted,
+      @Parameter(
+              description = "Events starting from this unix timestamp in milliseconds",
+              required = true,
+              schema = @Schema(type = "long", example = "1426349294842"))
+          @QueryParam("timestamp")
+          long timestamp,
+      @Parameter(description = "Limit the number of events returned. (1 to 1000, default = 100)")
+          @DefaultValue("100")
+          @Min(1)
+          @Max(1000)
+          @QueryParam("limit")
+          int limitParam,
+      @Parameter(description = "Returns the events after this cursor", schema = @Schema(type = "string"))
+          @QueryParam("after")
+          String after)
+      throws IOException {
+    List<String> entityCreatedList = EntityList.getEntityList("entityCreated", entityCreated);
+    List<String> entityUpdatedList = EntityList.getEntityList("entityUpdated", entityUpdated);
+    List<String> entityDeletedList = EntityList.getEntityList("entityDeleted", entityDeleted);
+    ResultList<ChangeEvent> events =
+        dao.listAfter(timestamp, entityCreatedList, entityUpdatedList, entityDeletedList, limitParam, after);
+    return new EventList(events.getData(), null, events.getPaging().getAfter(), events.getPaging().getTotal());
+  }
 }
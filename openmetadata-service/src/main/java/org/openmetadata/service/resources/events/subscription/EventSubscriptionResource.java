@@ -595,7 +595,8 @@ public class EventSubscriptionResource extends EntityResource<EventSubscription,
   }
 
   public static List<SubscriptionResourceDescriptor> getDescriptors() throws IOException {
-    List<String> jsonDataFiles = EntityUtil.getJsonDataResources(".*json/data/EventSubResourceDescriptor.json$");
+    List<String> jsonDataFiles =
+        EntityUtil.getJsonDataOrSchemaResources(".*json/data/EventSubResourceDescriptor.json$");
     if (jsonDataFiles.size() != 1) {
       LOG.warn("Invalid number of jsonDataFiles {}. Only one expected.", jsonDataFiles.size());
       return Collections.emptyList();
@@ -15,11 +15,11 @@ package org.openmetadata.service.resources.feeds;
 
 import static org.openmetadata.service.exception.CatalogExceptionMessage.INVALID_ENTITY_LINK;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
@@ -30,36 +30,21 @@ public final class MessageParser {
   private MessageParser() {}
 
   private static final String ENTITY_LINK_SEPARATOR = "::";
-  // Pattern to match the following markdown entity links:
+  private static final String ENTITY_LINK_START = "<#E" + ENTITY_LINK_SEPARATOR;
+  private static final int MAX_ENTITY_LINK_PARTS = 5;
+  // Entity links in the following markdown formats are matched:
   // <#E::{entityType}::{entityFQN}>  -- <#E::table::bigquery_gcp.shopify.raw_product_catalog>
   // <#E::{entityType}::{entityFQN}::{fieldName}> -- <#E::table::bigquery_gcp.shopify.raw_product_catalog::description>
   // <#E::{entityType}::{entityFQN}::{fieldName}::{arrayFieldName}>
   // -- <#E::table::bigquery_gcp.shopify.raw_product_catalog::columns::comment>
   // <#E::{entityType}::{entityFQN}::{fieldName}::{arrayFieldName}::{arrayFieldValue}>
   // -- <#E::table::bigquery_gcp.shopify.raw_product_catalog::columns::comment::description>
-  private static final Pattern ENTITY_LINK_PATTERN =
-      Pattern.compile(
-          "<#E"
-              + ENTITY_LINK_SEPARATOR
-              + // Match initial string <#E::
-              "([^<>]+?)"
-              + // Non-greedy collection group 1 for {entityType}
-              ENTITY_LINK_SEPARATOR
-              + "([^<>]+?)"
-              + // Non-greedy collection group 2 for {entityFQN}
-              "("
-              + ENTITY_LINK_SEPARATOR
-              + "([^<>]+?))?"
-              + // Non-greedy collection group 3 for optional ::{fieldName} and 4 for fieldName
-              "("
-              + ENTITY_LINK_SEPARATOR
-              + "([^<>]+?))?"
-              + // Non-greedy collection group 5 for optional ::{arrayFieldName} // and 6 for arrayFieldName
-              "("
-              + ENTITY_LINK_SEPARATOR
-              + "([^<>]+?))?"
-              + // Non-greedy collection group 7 for optional ::{arrayFieldValue} // and 8 for arrayFieldValue
-              ">"); // Match for end of link name
+  //
+  // The parts of a link are separated by the first `::` after at least one character, and may not contain `<` or `>`.
+  // Any `::` after the last of the parts belongs to the last part.
+
+  // Entity links are immutable, and the same links are parsed again and again from the messages of threads
+  private static final Cache<String, EntityLink> ENTITY_LINKS = CacheBuilder.newBuilder().maximumSize(10000).build();
 
   public static class EntityLink {
     @Getter private final LinkType linkType;
@@ -132,30 +117,39 @@ public final class MessageParser {
     }
 
     public static EntityLink parse(String link) {
+      EntityLink entityLink = ENTITY_LINKS.getIfPresent(link);
+      if (entityLink == null) {
+        entityLink = parseLink(link);
+        ENTITY_LINKS.put(link, entityLink);
+      }
+      return entityLink;
+    }
+
+    private static EntityLink parseLink(String link) {
       // Entity links also have support for fallback texts with "|"
       // example: <#E::user::user1|[@User One](http://localhost:8585/user/user1)>
       // Extract the entity link alone if the string has a fallback text
       if (link.contains("|")) {
         link = link.substring(0, link.indexOf("|")) + ">";
       }
-      Matcher matcher = ENTITY_LINK_PATTERN.matcher(link);
-      EntityLink entityLink = null;
-      while (matcher.find()) {
-        if (entityLink == null) {
-          String entityFQN = matcher.group(2);
-          if (entityFQN == null) {
-            throw new IllegalArgumentException("Invalid Entity Link. Entity FQN is missing in " + link);
-          }
-          entityLink =
-              new EntityLink(matcher.group(1), entityFQN, matcher.group(4), matcher.group(6), matcher.group(8));
-        } else {
-          throw new IllegalArgumentException("Unexpected multiple entity links in " + link);
-        }
-      }
-      if (entityLink == null) {
+      int end = findEntityLinkEnd(link, 0);
+      if (end < 0) {
         throw new IllegalArgumentException("Entity link was not found in " + link);
       }
-      return entityLink;
+      if (findEntityLinkEnd(link, end + 1) >= 0) {
+        throw new IllegalArgumentException("Unexpected multiple entity links in " + link);
+      }
+      String[] parts = new String[MAX_ENTITY_LINK_PARTS];
+      int partStart = link.lastIndexOf('<', end) + ENTITY_LINK_START.length();
+      int part = 0;
+      for (int separator = findSeparator(link, partStart, end);
+          separator >= 0 && part < MAX_ENTITY_LINK_PARTS - 1;
+          separator = findSeparator(link, partStart, end)) {
+        parts[part++] = link.substring(partStart, separator);
+        partStart = separator + ENTITY_LINK_SEPARATOR.length();
+      }
+      parts[part] = link.substring(partStart, end);
+      return new EntityLink(parts[0], parts[1], parts[2], parts[3], parts[4]);
     }
 
     @Override
@@ -191,10 +185,39 @@ public final class MessageParser {
   /** Parse the message and get the mentions */
   public static List<EntityLink> getEntityLinks(String message) {
     List<EntityLink> links = new ArrayList<>();
-    Matcher matcher = ENTITY_LINK_PATTERN.matcher(message);
-    while (matcher.find()) {
-      links.add(EntityLink.parse(matcher.group()));
+    for (int end = findEntityLinkEnd(message, 0); end >= 0; end = findEntityLinkEnd(message, end + 1)) {
+      // Parts of entity links have no '<', so the link starts at the last '<' before its end
+      links.add(EntityLink.parse(message.substring(message.lastIndexOf('<', end), end + 1)));
     }
     return links;
   }
+
+  /** Index of the '>' ending the first entity link found from the given index of the text, or -1 if there is none */
+  private static int findEntityLinkEnd(String text, int from) {
+    for (int start = text.indexOf(ENTITY_LINK_START, from);
+        start >= 0;
+        start = text.indexOf(ENTITY_LINK_START, start + 1)) {
+      int partStart = start + ENTITY_LINK_START.length();
+      int end = partStart;
+      while (end < text.length() && text.charAt(end) != '<' && text.charAt(end) != '>') {
+        end++;
+      }
+      // An entity link has at least the entity type and the entity FQN
+      if (end < text.length() && text.charAt(end) == '>' && findSeparator(text, partStart, end) >= 0) {
+        return end;
+      }
+    }
+    return -1;
+  }
+
+  /** Index of the separator ending the part of a link starting at the given index, or -1 if it is the last part */
+  private static int findSeparator(String text, int partStart, int end) {
+    // Parts have at least one character, and a separator is followed by a part
+    for (int i = partStart + 1; i + ENTITY_LINK_SEPARATOR.length() < end; i++) {
+      if (text.startsWith(ENTITY_LINK_SEPARATOR, i)) {
+        return i;
+      }
+    }
+    return -1;
+  }
 }
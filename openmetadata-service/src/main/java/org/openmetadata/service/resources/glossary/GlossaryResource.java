@@ -23,6 +23,7 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 import javax.json.JsonPatch;
@@ -45,6 +46,7 @@ import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
+import org.glassfish.jersey.media.multipart.FormDataParam;
 import org.openmetadata.schema.api.data.CreateGlossary;
 import org.openmetadata.schema.api.data.RestoreEntity;
 import org.openmetadata.schema.entity.data.Glossary;
@@ -410,7 +412,7 @@ public class GlossaryResource extends EntityResource<Glossary, GlossaryRepositor
             description = "Exported csv with glossary terms",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
       })
-  public String exportCsv(
+  public Response exportCsv(
       @Context SecurityContext securityContext,
       @Parameter(description = "Name of the glossary", schema = @Schema(type = "string")) @PathParam("name")
           String name)
@@ -433,7 +435,7 @@ public class GlossaryResource extends EntityResource<Glossary, GlossaryRepositor
             content =
                 @Content(mediaType = "application/json", schema = @Schema(implementation = CsvImportResult.class)))
       })
-  public CsvImportResult importCsv(
+  public Response importCsv(
       @Context SecurityContext securityContext,
       @Parameter(description = "Name of the glossary", schema = @Schema(type = "string")) @PathParam("name")
           String name,
@@ -444,11 +446,45 @@ public class GlossaryResource extends EntityResource<Glossary, GlossaryRepositor
           @DefaultValue("true")
           @QueryParam("dryRun")
           boolean dryRun,
-      String csv)
+      InputStream csv)
       throws IOException {
     return importCsvInternal(securityContext, name, csv, dryRun);
   }
 
+  @PUT
+  @Path("/name/{name}/importFile")
+  @Consumes(MediaType.MULTIPART_FORM_DATA)
+  @Produces({MediaType.TEXT_PLAIN, MediaType.APPLICATION_JSON})
+  @Valid
+  @Reindex(jobName = "reIndexGlossary", entities = "glossaryTerm")
+  @Operation(
+      operationId = "importGlossaryFile",
+      summary = "Import a CSV file of glossary terms to create, and update glossary terms, streaming back the results",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import results in CSV format, or the aborted import result when the CSV is invalid",
+            content = {
+              @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class)),
+              @Content(mediaType = "application/json", schema = @Schema(implementation = CsvImportResult.class))
+            })
+      })
+  public Response importCsvFile(
+      @Context SecurityContext securityContext,
+      @Parameter(description = "Name of the glossary", schema = @Schema(type = "string")) @PathParam("name")
+          String name,
+      @Parameter(
+              description =
+                  "Dry-run when true is used for validating the CSV without really importing it. (default=true)",
+              schema = @Schema(type = "boolean"))
+          @DefaultValue("true")
+          @QueryParam("dryRun")
+          boolean dryRun,
+      @FormDataParam("file") InputStream csv)
+      throws IOException {
+    return importCsvStreamInternal(securityContext, name, csv, dryRun);
+  }
+
   private Glossary getGlossary(CreateGlossary create, String user) throws IOException {
     return copy(new Glossary(), create, user)
         .withReviewers(getEntityReferences(Entity.USER, create.getReviewers()))
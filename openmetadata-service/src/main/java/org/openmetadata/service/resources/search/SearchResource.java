@@ -21,6 +21,7 @@ import static org.openmetadata.service.Entity.FIELD_NAME;
 import static org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinition.ELASTIC_SEARCH_ENTITY_FQN_STREAM;
 import static org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinition.ELASTIC_SEARCH_EXTENSION;
 
+import com.google.common.annotations.VisibleForTesting;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,10 +29,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
 import javax.validation.Valid;
 import javax.ws.rs.DefaultValue;
 import javax.ws.rs.GET;
@@ -45,11 +48,13 @@ import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
+import javax.ws.rs.core.StreamingOutput;
 import javax.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
-import org.elasticsearch.action.search.SearchRequest;
+import org.apache.http.HttpEntity;
+import org.apache.http.util.EntityUtils;
 import org.elasticsearch.action.search.SearchResponse;
-import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.Request;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.common.lucene.search.function.CombineFunction;
 import org.elasticsearch.common.settings.Settings;
@@ -74,6 +79,7 @@ import org.elasticsearch.search.aggregations.BucketOrder;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
 import org.elasticsearch.search.fetch.subphase.FetchSourceContext;
 import org.elasticsearch.search.fetch.subphase.highlight.HighlightBuilder;
+import org.elasticsearch.search.sort.SortBuilders;
 import org.elasticsearch.search.sort.SortOrder;
 import org.elasticsearch.search.suggest.Suggest;
 import org.elasticsearch.search.suggest.SuggestBuilder;
@@ -84,6 +90,7 @@ import org.openmetadata.schema.api.CreateEventPublisherJob;
 import org.openmetadata.schema.system.EventPublisherJob;
 import org.openmetadata.service.OpenMetadataApplicationConfig;
 import org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinition;
+import org.openmetadata.service.elasticsearch.SearchResultCache;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.resources.Collection;
 import org.openmetadata.service.security.Authorizer;
@@ -114,6 +121,9 @@ public class SearchResource {
   private static final String QUERY_NGRAM = "query.ngram";
   private static final String DESCRIPTION = "description";
   private static final String UNIFIED = "unified";
+  private static final String ID_FIELD = "id.keyword";
+  private static final String SUGGEST_FILTER_PATH = "suggest";
+  private static final Pattern INDEX_PATTERN = Pattern.compile("[\\w*][\\w.,*+-]*");
   private static final NamedXContentRegistry xContentRegistry;
   private final CollectionDAO dao;
   private final Authorizer authorizer;
@@ -133,6 +143,9 @@ public class SearchResource {
       this.client = ElasticSearchClientUtils.createElasticSearchClient(config.getElasticSearchConfiguration());
       ElasticSearchIndexDefinition elasticSearchIndexDefinition = new ElasticSearchIndexDefinition(client, dao);
       ReIndexingHandler.initialize(client, elasticSearchIndexDefinition, dao);
+      if (config.getSearchResultCacheConfiguration().isEnabled()) {
+        SearchResultCache.initialize(config.getSearchResultCacheConfiguration());
+      }
     }
   }
 
@@ -143,7 +156,8 @@ public class SearchResource {
       summary = "Search entities",
       description =
           "Search entities using query test. Use query params `from` and `size` for pagination. Use "
-              + "`sort_field` to sort the results in `sort_order`.",
+              + "`sort_field` to sort the results in `sort_order`. To paginate beyond the first 10000 results, use "
+              + "`search_after` instead of `from`.",
       responses = {
         @ApiResponse(
             responseCode = "200",
@@ -215,7 +229,13 @@ public class SearchResource {
               description =
                   "Get only selected fields of the document body for each hit. Empty value will return all fields")
           @QueryParam("include_source_fields")
-          List<String> includeSourceFields)
+          List<String> includeSourceFields,
+      @Parameter(
+              description =
+                  "Cursor to paginate the results without `from` offsets. Pass an empty value to get the first page "
+                      + "and the `sort` values of the last hit as a JSON array to get the next page")
+          @QueryParam("search_after")
+          String searchAfter)
       throws IOException {
 
     if (nullOrEmpty(query)) {
@@ -296,6 +316,10 @@ public class SearchResource {
       searchSourceBuilder.sort(sortFieldParam, sortOrder);
     }
 
+    if (searchAfter != null) {
+      addSearchAfter(searchSourceBuilder, searchAfter);
+    }
+
     /* for performance reasons ElasticSearch doesn't provide accurate hits
     if we enable trackTotalHits parameter it will try to match every result, count and return hits
     however in most cases for search results an approximate value is good enough.
@@ -311,10 +335,7 @@ public class SearchResource {
     }
 
     searchSourceBuilder.timeout(new TimeValue(30, TimeUnit.SECONDS));
-    String response =
-        client.search(new SearchRequest(index).source(searchSourceBuilder), RequestOptions.DEFAULT).toString();
-
-    return Response.status(OK).entity(response).build();
+    return search(index, searchSourceBuilder, null);
   }
 
   @GET
@@ -382,12 +403,7 @@ public class SearchResource {
         .suggest(suggestBuilder)
         .timeout(new TimeValue(30, TimeUnit.SECONDS))
         .fetchSource(new FetchSourceContext(fetchSource, includeSourceFields.toArray(String[]::new), new String[] {}));
-    SearchRequest searchRequest = new SearchRequest(index).source(searchSourceBuilder);
-
-    SearchResponse searchResponse = client.search(searchRequest, RequestOptions.DEFAULT);
-    Suggest suggest = searchResponse.getSuggest();
-
-    return Response.status(OK).entity(suggest.toString()).build();
+    return search(index, searchSourceBuilder, SUGGEST_FILTER_PATH);
   }
 
   @GET
@@ -420,9 +436,7 @@ public class SearchResource {
             AggregationBuilders.terms(fieldName).field(fieldName).size(MAX_AGGREGATE_SIZE).order(BucketOrder.key(true)))
         .size(0);
     searchSourceBuilder.timeout(new TimeValue(30, TimeUnit.SECONDS));
-    String response =
-        client.search(new SearchRequest(index).source(searchSourceBuilder), RequestOptions.DEFAULT).toString();
-    return Response.status(OK).entity(response).build();
+    return search(index, searchSourceBuilder, null);
   }
 
   @GET
@@ -546,6 +560,79 @@ public class SearchResource {
     return Response.status(Response.Status.OK).entity(ReIndexingHandler.getInstance().stopRunningJob(id)).build();
   }
 
+  /**
+   * Run the search with the low level client and pass the response body through as is. This avoids parsing the
+   * response into a {@link SearchResponse} only to serialize it back to JSON. Use {@code filterPath} to return only a
+   * part of the response. Responses are cached, when enabled, until the searched indexes are updated.
+   */
+  private Response search(String index, SearchSourceBuilder searchSourceBuilder, String filterPath)
+      throws IOException {
+    String endpoint = getSearchEndpoint(index);
+    String source = searchSourceBuilder.toString();
+    SearchResultCache searchResultCache = SearchResultCache.getInstance();
+    if (searchResultCache != null) {
+      byte[] response =
+          searchResultCache.getResponse(
+              index, filterPath, source, () -> EntityUtils.toByteArray(performSearch(endpoint, source, filterPath)));
+      return Response.status(OK).entity(response).build();
+    }
+    HttpEntity entity = performSearch(endpoint, source, filterPath);
+    StreamingOutput streamingOutput =
+        output -> {
+          try (InputStream content = entity.getContent()) {
+            content.transferTo(output);
+          }
+        };
+    return Response.status(OK).entity(streamingOutput).build();
+  }
+
+  private HttpEntity performSearch(String endpoint, String source, String filterPath) throws IOException {
+    Request request = new Request("POST", endpoint);
+    if (filterPath != null) {
+      request.addParameter("filter_path", filterPath);
+    }
+    request.setJsonEntity(source);
+    return client.getLowLevelClient().performRequest(request).getEntity();
+  }
+
+  /**
+   * The search endpoint of the given indexes. The index is a part of the request path, so only the characters allowed
+   * in index names, aliases, comma separated lists and wildcards are accepted. This prevents the index from changing
+   * the path or adding query parameters to the request sent to Elasticsearch.
+   */
+  @VisibleForTesting
+  static String getSearchEndpoint(String index) {
+    if (nullOrEmpty(index) || !INDEX_PATTERN.matcher(index).matches()) {
+      throw new IllegalArgumentException(String.format("Invalid index %s", index));
+    }
+    return String.format("/%s/_search", index);
+  }
+
+  /**
+   * Deep pagination with search_after. Unlike `from` offsets, each shard only returns `size` hits after the cursor, and
+   * the results are not limited by the max result window of the index. Hits are sorted by score when no sort field is
+   * given, and then by the entity id as the tiebreaker to get a stable order of the hits with the same sort values.
+   */
+  @VisibleForTesting
+  static void addSearchAfter(SearchSourceBuilder searchSourceBuilder, String searchAfter) {
+    if (nullOrEmpty(searchSourceBuilder.sorts())) {
+      searchSourceBuilder.sort(SortBuilders.scoreSort());
+    }
+    searchSourceBuilder.sort(SortBuilders.fieldSort(ID_FIELD).order(SortOrder.ASC).unmappedType("keyword")).from(0);
+    if (!searchAfter.isEmpty()) {
+      Object[] sortValues;
+      try {
+        sortValues = JsonUtils.readValue(searchAfter, Object[].class);
+      } catch (IOException ex) {
+        throw new IllegalArgumentException(String.format("Invalid search_after cursor %s", searchAfter));
+      }
+      if (sortValues == null || sortValues.length != searchSourceBuilder.sorts().size()) {
+        throw new IllegalArgumentException(String.format("Invalid search_after cursor %s", searchAfter));
+      }
+      searchSourceBuilder.searchAfter(sortValues);
+    }
+  }
+
   private SearchSourceBuilder buildAggregateSearchBuilder(String query, int from, int size) {
     QueryStringQueryBuilder queryBuilder = QueryBuilders.queryStringQuery(query).lenient(true);
     SearchSourceBuilder searchSourceBuilder = searchBuilder(queryBuilder, null, from, size);
@@ -47,7 +47,7 @@ import org.openmetadata.service.util.ResultList;
 @Hidden
 @Produces(MediaType.APPLICATION_JSON)
 @Consumes(MediaType.APPLICATION_JSON)
-@Collection(name = "TestConnectionDefinitions")
+@Collection(name = "TestConnectionDefinitions", parallelInitialization = true)
 public class TestConnectionDefinitionResource
     extends EntityResource<TestConnectionDefinition, TestConnectionDefinitionRepository> {
   public static final String COLLECTION_PATH = "/v1/services/testConnectionDefinitions";
@@ -246,10 +246,10 @@ public class IngestionPipelineResource extends EntityResource<IngestionPipeline,
     ResultList<IngestionPipeline> ingestionPipelines =
         super.listInternal(uriInfo, securityContext, fieldsParam, filter, limitParam, before, after);
 
+    if (fieldsParam != null && fieldsParam.contains(FIELD_PIPELINE_STATUS)) {
+      repository.setLatestPipelineStatuses(listOrEmpty(ingestionPipelines.getData()));
+    }
     for (IngestionPipeline ingestionPipeline : listOrEmpty(ingestionPipelines.getData())) {
-      if (fieldsParam != null && fieldsParam.contains(FIELD_PIPELINE_STATUS)) {
-        ingestionPipeline.setPipelineStatuses(repository.getLatestPipelineStatus(ingestionPipeline));
-      }
       decryptOrNullify(securityContext, ingestionPipeline, false);
     }
     return ingestionPipelines;
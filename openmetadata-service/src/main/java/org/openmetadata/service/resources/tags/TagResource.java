@@ -190,9 +190,7 @@ public class TagResource extends EntityResource<Tag, TagRepository> {
       // Sort tags based on tag hierarchy
       EntityUtil.sortByTagHierarchy(tagsToCreate);
 
-      for (Tag tag : tagsToCreate) {
-        repository.initializeEntity(tag);
-      }
+      repository.initializeEntities(tagsToCreate);
     }
   }
 
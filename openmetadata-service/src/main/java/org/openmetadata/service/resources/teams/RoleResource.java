@@ -110,8 +110,8 @@ public class RoleResource extends EntityResource<Role, RoleRepository> {
         EntityReference ref = Entity.getEntityReferenceByName(Entity.POLICY, policy.getName(), Include.NON_DELETED);
         policy.setId(ref.getId());
       }
-      repository.initializeEntity(role);
     }
+    repository.initializeEntities(roles);
     RoleCache.initialize();
   }
 
@@ -28,6 +28,7 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID;
 import javax.json.JsonPatch;
@@ -50,6 +51,7 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
+import org.glassfish.jersey.media.multipart.FormDataParam;
 import org.openmetadata.schema.api.data.RestoreEntity;
 import org.openmetadata.schema.api.teams.CreateTeam;
 import org.openmetadata.schema.api.teams.CreateTeam.TeamType;
@@ -476,7 +478,8 @@ public class TeamResource extends EntityResource<Team, TeamRepository> {
             description = "Exported csv with teams information",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
       })
-  public String exportCsv(@Context SecurityContext securityContext, @PathParam("name") String name) throws IOException {
+  public Response exportCsv(@Context SecurityContext securityContext, @PathParam("name") String name)
+      throws IOException {
     return exportCsvInternal(securityContext, name);
   }
 
@@ -494,7 +497,7 @@ public class TeamResource extends EntityResource<Team, TeamRepository> {
             content =
                 @Content(mediaType = "application/json", schema = @Schema(implementation = CsvImportResult.class)))
       })
-  public CsvImportResult importCsv(
+  public Response importCsv(
       @Context SecurityContext securityContext,
       @PathParam("name") String name,
       @Parameter(
@@ -504,11 +507,43 @@ public class TeamResource extends EntityResource<Team, TeamRepository> {
           @DefaultValue("true")
           @QueryParam("dryRun")
           boolean dryRun,
-      String csv)
+      InputStream csv)
       throws IOException {
     return importCsvInternal(securityContext, name, csv, dryRun);
   }
 
+  @PUT
+  @Path("/name/{name}/importFile")
+  @Consumes(MediaType.MULTIPART_FORM_DATA)
+  @Produces({MediaType.TEXT_PLAIN, MediaType.APPLICATION_JSON})
+  @Valid
+  @Operation(
+      operationId = "importTeamsFile",
+      summary = "Import a CSV file to create, and update teams, streaming back the import results",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import results in CSV format, or the aborted import result when the CSV is invalid",
+            content = {
+              @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class)),
+              @Content(mediaType = "application/json", schema = @Schema(implementation = CsvImportResult.class))
+            })
+      })
+  public Response importCsvFile(
+      @Context SecurityContext securityContext,
+      @PathParam("name") String name,
+      @Parameter(
+              description =
+                  "Dry-run when true is used for validating the CSV without really importing it. (default=true)",
+              schema = @Schema(type = "boolean"))
+          @DefaultValue("true")
+          @QueryParam("dryRun")
+          boolean dryRun,
+      @FormDataParam("file") InputStream csv)
+      throws IOException {
+    return importCsvStreamInternal(securityContext, name, csv, dryRun);
+  }
+
   private Team getTeam(CreateTeam ct, String user) throws IOException {
     if (ct.getTeamType().equals(TeamType.ORGANIZATION)) {
       throw new IllegalArgumentException(CREATE_ORGANIZATION);
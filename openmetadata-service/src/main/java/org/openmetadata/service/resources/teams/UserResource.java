@@ -40,6 +40,7 @@ import io.swagger.v3.oas.annotations.parameters.RequestBody;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Base64;
@@ -70,6 +71,7 @@ import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.glassfish.jersey.media.multipart.FormDataParam;
 import org.jetbrains.annotations.Nullable;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.EntityInterface;
@@ -1178,7 +1180,7 @@ public class UserResource extends EntityResource<User, UserRepository> {
             description = "Exported csv with user information",
             content = @Content(mediaType = "application/json", schema = @Schema(implementation = String.class)))
       })
-  public String exportUsersCsv(
+  public Response exportUsersCsv(
       @Context SecurityContext securityContext,
       @Parameter(
               description = "Name of the team to under which the users are imported to",
@@ -1204,7 +1206,7 @@ public class UserResource extends EntityResource<User, UserRepository> {
             content =
                 @Content(mediaType = "application/json", schema = @Schema(implementation = CsvImportResult.class)))
       })
-  public CsvImportResult importCsv(
+  public Response importCsv(
       @Context SecurityContext securityContext,
       @Parameter(
               description = "Name of the team to under which the users are imported to",
@@ -1219,11 +1221,48 @@ public class UserResource extends EntityResource<User, UserRepository> {
           @DefaultValue("true")
           @QueryParam("dryRun")
           boolean dryRun,
-      String csv)
+      InputStream csv)
       throws IOException {
     return importCsvInternal(securityContext, team, csv, dryRun);
   }
 
+  @PUT
+  @Path("/importFile")
+  @Consumes(MediaType.MULTIPART_FORM_DATA)
+  @Produces({MediaType.TEXT_PLAIN, MediaType.APPLICATION_JSON})
+  @Valid
+  @Operation(
+      operationId = "importUsersFile",
+      summary = "Import a CSV file to create, and update users, streaming back the import results",
+      responses = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Import results in CSV format, or the aborted import result when the CSV is invalid",
+            content = {
+              @Content(mediaType = "text/plain", schema = @Schema(implementation = String.class)),
+              @Content(mediaType = "application/json", schema = @Schema(implementation = CsvImportResult.class))
+            })
+      })
+  public Response importCsvFile(
+      @Context SecurityContext securityContext,
+      @Parameter(
+              description = "Name of the team to under which the users are imported to",
+              required = true,
+              schema = @Schema(type = "string"))
+          @QueryParam("team")
+          String team,
+      @Parameter(
+              description =
+                  "Dry-run when true is used for validating the CSV without really importing it. (default=true)",
+              schema = @Schema(type = "boolean"))
+          @DefaultValue("true")
+          @QueryParam("dryRun")
+          boolean dryRun,
+      @FormDataParam("file") InputStream csv)
+      throws IOException {
+    return importCsvStreamInternal(securityContext, team, csv, dryRun);
+  }
+
   private User getUser(SecurityContext securityContext, CreateUser create) {
     return new User()
         .withId(UUID.randomUUID())
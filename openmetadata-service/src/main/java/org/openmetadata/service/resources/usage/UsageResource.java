@@ -38,6 +38,8 @@ import javax.ws.rs.core.Response;
 import javax.ws.rs.core.SecurityContext;
 import javax.ws.rs.core.UriInfo;
 import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.api.data.BulkUsageResult;
+import org.openmetadata.schema.api.data.CreateBulkUsage;
 import org.openmetadata.schema.type.DailyCount;
 import org.openmetadata.schema.type.EntityUsage;
 import org.openmetadata.schema.type.MetadataOperation;
@@ -307,6 +309,41 @@ public class UsageResource {
     return dao.createOrUpdateByName(entity, fullyQualifiedName, usage).toResponse();
   }
 
+  @POST
+  @Path("/{entity}/bulk")
+  @Operation(
+      operationId = "reportBulkEntityUsage",
+      summary = "Report usage of many entities",
+      description =
+          "Report usage information for many entities of the same type on a given date in a single request. "
+              + "Usage reported for an entity on the same date replaces the earlier usage.",
+      responses = {
+        @ApiResponse(
+            responseCode = "201",
+            description = "Usage recorded",
+            content =
+                @Content(mediaType = "application/json", schema = @Schema(implementation = BulkUsageResult.class))),
+        @ApiResponse(responseCode = "400", description = "Bad request"),
+        @ApiResponse(responseCode = "404", description = "Entity for one of the ids is not found")
+      })
+  public Response createBulk(
+      @Context UriInfo uriInfo,
+      @Context SecurityContext securityContext,
+      @Parameter(
+              description = "Entity type for which usage is reported",
+              required = true,
+              schema = @Schema(type = "string", example = "table, report, metrics, or dashboard"))
+          @PathParam("entity")
+          String entity,
+      @Parameter(description = "Usage information of the entities on a given date") @Valid CreateBulkUsage usage)
+      throws IOException {
+    OperationContext operationContext = new OperationContext(entity, MetadataOperation.EDIT_USAGE);
+    ResourceContext resourceContext =
+        EntityResource.getResourceContext(entity, Entity.getEntityRepository(entity)).build();
+    authorizer.authorize(securityContext, operationContext, resourceContext);
+    return dao.createBulk(entity, usage).toResponse();
+  }
+
   @POST
   @Path("/compute.percentile/{entity}/{date}")
   @Operation(
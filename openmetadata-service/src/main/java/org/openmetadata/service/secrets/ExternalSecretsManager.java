@@ -13,19 +13,75 @@
 
 package org.openmetadata.service.secrets;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.RateLimiter;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.schema.security.secrets.SecretsManagerProvider;
 
+/**
+ * Secrets manager storing the secrets in an external store.
+ *
+ * <p>Upserting a secret stores it before returning, and fails if the store fails. Upserting the value a secret already
+ * has in the store does nothing. Calls to the store are paced to stay under its quotas, and the values of the secrets
+ * known to be in the store are cached for {@link #SECRETS_CACHE_TTL}.
+ *
+ * <p>Bulk updates, such as re-encrypting all the entities at startup, write the secrets behind between {@link
+ * #startWriteBehind()} and {@link #flush()}: upserting a secret queues it, and a writer thread stores the queued
+ * secrets, so that encrypting many entities does not wait for the store. Upserting a secret that is still queued
+ * replaces the queued value. A secret failing to be stored is queued again, up to {@link #MAX_WRITE_ATTEMPTS} times.
+ * Flushing waits for the queued secrets and returns the secrets that could not be stored.
+ */
+@Slf4j
 public abstract class ExternalSecretsManager extends SecretsManager {
   public static final String NULL_SECRET_STRING = "null";
   public static final String SECRET_FIELD_PREFIX = "secret:";
+  static final long SECRETS_CACHE_TTL = TimeUnit.MINUTES.toMillis(10);
+  static final int MAX_WRITE_ATTEMPTS = 3;
+
+  /** Paces the calls to the store, or null when they are not paced */
+  private final RateLimiter storeCallLimiter;
+
+  /** Secret values known to be in the store */
+  private final Cache<String, String> storedSecrets;
+
+  /** Secret values waiting to be stored, in the order they were first upserted */
+  private final Map<String, String> pendingSecrets = new LinkedHashMap<>();
+
+  /** Failed attempts to write each secret behind since the write behind started */
+  private final Map<String, Integer> failedWrites = new HashMap<>();
 
-  private final long WAIT_TIME_BETWEEN_STORE_CALLS;
+  /** Secrets that failed to be written behind after all the attempts since the write behind started */
+  private final Set<String> failedSecrets = new LinkedHashSet<>();
+
+  private final ExecutorService writer;
+  private boolean writeBehind = false;
+  private boolean writing = false;
 
   protected ExternalSecretsManager(
       SecretsManagerProvider secretsManagerProvider, String clusterPrefix, long waitTimeBetweenCalls) {
     super(secretsManagerProvider, clusterPrefix);
-    WAIT_TIME_BETWEEN_STORE_CALLS = waitTimeBetweenCalls;
+    // delay reaching secrets manager quotas
+    storeCallLimiter = waitTimeBetweenCalls > 0 ? RateLimiter.create(1000.0 / waitTimeBetweenCalls) : null;
+    storedSecrets =
+        CacheBuilder.newBuilder().maximumSize(10000).expireAfterWrite(SECRETS_CACHE_TTL, TimeUnit.MILLISECONDS).build();
+    writer =
+        Executors.newSingleThreadExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "secrets-writer");
+              thread.setDaemon(true);
+              return thread;
+            });
   }
 
   @Override
@@ -42,23 +98,52 @@ public abstract class ExternalSecretsManager extends SecretsManager {
     }
   }
 
+  /** Store a secret, or queue it to be stored when writing behind */
   public void upsertSecret(String secretName, String secretValue) {
-    if (existSecret(secretName)) {
-      updateSecret(secretName, secretValue != null ? secretValue : NULL_SECRET_STRING);
-      sleep();
-    } else {
-      storeSecret(secretName, secretValue != null ? secretValue : NULL_SECRET_STRING);
-      sleep();
+    String value = secretValue != null ? secretValue : NULL_SECRET_STRING;
+    synchronized (pendingSecrets) {
+      if (writeBehind) {
+        if (!pendingSecrets.containsKey(secretName) && value.equals(storedSecrets.getIfPresent(secretName))) {
+          return;
+        }
+        pendingSecrets.put(secretName, value);
+        if (!writing) {
+          writing = true;
+          writer.execute(this::writePendingSecrets);
+        }
+        return;
+      }
     }
+    writeSecret(secretName, value);
   }
 
   public boolean existSecret(String secretName) {
-    try {
-      boolean exists = getSecret(secretName) != null;
-      sleep();
-      return exists;
-    } catch (Exception e) {
-      return false;
+    synchronized (pendingSecrets) {
+      if (pendingSecrets.containsKey(secretName)) {
+        return true;
+      }
+    }
+    return storedSecrets.getIfPresent(secretName) != null || readSecret(secretName) != null;
+  }
+
+  @Override
+  public void startWriteBehind() {
+    synchronized (pendingSecrets) {
+      writeBehind = true;
+    }
+  }
+
+  @Override
+  public Set<String> flush() throws InterruptedException {
+    synchronized (pendingSecrets) {
+      while (writing) {
+        pendingSecrets.wait();
+      }
+      writeBehind = false;
+      Set<String> failed = new LinkedHashSet<>(failedSecrets);
+      failedSecrets.clear();
+      failedWrites.clear();
+      return failed;
     }
   }
 
@@ -68,14 +153,84 @@ public abstract class ExternalSecretsManager extends SecretsManager {
 
   abstract String getSecret(String secretName);
 
-  private void sleep() {
-    // delay reaching secrets manager quotas
-    if (WAIT_TIME_BETWEEN_STORE_CALLS > 0) {
+  private void writePendingSecrets() {
+    while (true) {
+      String secretName;
+      String secretValue;
+      synchronized (pendingSecrets) {
+        Iterator<Map.Entry<String, String>> iterator = pendingSecrets.entrySet().iterator();
+        if (!iterator.hasNext()) {
+          writing = false;
+          pendingSecrets.notifyAll();
+          return;
+        }
+        Map.Entry<String, String> entry = iterator.next();
+        secretName = entry.getKey();
+        secretValue = entry.getValue();
+      }
+      boolean written = true;
       try {
-        Thread.sleep(WAIT_TIME_BETWEEN_STORE_CALLS);
-      } catch (InterruptedException e) {
-        throw new RuntimeException(e);
+        writeSecret(secretName, secretValue);
+      } catch (Exception e) {
+        written = false;
+        LOG.error("Failed to store secret {}", secretName, e);
+      }
+      synchronized (pendingSecrets) {
+        // Keep the secret queued if it was upserted again while being written
+        if (!pendingSecrets.remove(secretName, secretValue)) {
+          continue;
+        }
+        if (written) {
+          failedWrites.remove(secretName);
+          failedSecrets.remove(secretName);
+        } else if (failedWrites.merge(secretName, 1, Integer::sum) < MAX_WRITE_ATTEMPTS) {
+          // Retry after the other queued secrets
+          pendingSecrets.put(secretName, secretValue);
+        } else {
+          failedSecrets.add(secretName);
+        }
+      }
+    }
+  }
+
+  private void writeSecret(String secretName, String secretValue) {
+    try {
+      String storedValue = storedSecrets.getIfPresent(secretName);
+      if (storedValue == null) {
+        storedValue = readSecret(secretName);
+      }
+      if (storedValue == null) {
+        acquireStoreCall();
+        storeSecret(secretName, secretValue);
+      } else if (!storedValue.equals(secretValue)) {
+        acquireStoreCall();
+        updateSecret(secretName, secretValue);
       }
+      storedSecrets.put(secretName, secretValue);
+    } catch (RuntimeException e) {
+      // The next upsert of the secret checks the store again
+      storedSecrets.invalidate(secretName);
+      throw e;
+    }
+  }
+
+  /** Read a secret from the store, or null if it does not exist */
+  private String readSecret(String secretName) {
+    try {
+      acquireStoreCall();
+      String value = getSecret(secretName);
+      if (value != null) {
+        storedSecrets.put(secretName, value);
+      }
+      return value;
+    } catch (Exception e) {
+      return null;
+    }
+  }
+
+  private void acquireStoreCall() {
+    if (storeCallLimiter != null) {
+      storeCallLimiter.acquire();
     }
   }
 }
@@ -13,8 +13,8 @@
 
 package org.openmetadata.service.secrets;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.Getter;
 import org.openmetadata.schema.security.secrets.SecretsManagerProvider;
 import org.openmetadata.service.exception.SecretsManagerException;
@@ -24,7 +24,7 @@ public class InMemorySecretsManager extends ExternalSecretsManager {
 
   private static InMemorySecretsManager INSTANCE;
 
-  @Getter private final Map<String, String> secretsMap = new HashMap<>();
+  @Getter private final Map<String, String> secretsMap = new ConcurrentHashMap<>();
 
   protected InMemorySecretsManager(String clusterPrefix) {
     super(SecretsManagerProvider.IN_MEMORY, clusterPrefix, 0);
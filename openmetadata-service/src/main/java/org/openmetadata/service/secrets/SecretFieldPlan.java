@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.secrets;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import lombok.Getter;
+import org.openmetadata.annotations.PasswordField;
+import org.openmetadata.service.exception.ReflectionException;
+import org.openmetadata.service.util.ReflectionUtil;
+
+/**
+ * The fields of a class that are password fields, or that may hold objects with password fields, found once per class
+ * so that encrypting, decrypting, masking and unmasking an object does not look up its methods and annotations again.
+ *
+ * <p>Fields are read and written through lambdas bound to their getters and setters once, which the JIT compiles like
+ * direct calls, unlike method handles held in fields that are not static final. Getters returning final classes
+ * outside of OpenMetadata, such as strings and numbers, are left out unless they are password fields, as they can not
+ * hold password fields.
+ */
+public final class SecretFieldPlan {
+  private static final String OPENMETADATA_PACKAGE = "org.openmetadata";
+  private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+  private static final MethodType GETTER_FACTORY_TYPE = MethodType.methodType(Function.class);
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+  private static final MethodType SETTER_FACTORY_TYPE = MethodType.methodType(BiConsumer.class);
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+  private static final Map<Class<?>, SecretFieldPlan> PLANS = new ConcurrentHashMap<>();
+
+  @Getter private final List<SecretField> fields;
+
+  private SecretFieldPlan(Class<?> clazz) {
+    List<SecretField> secretFields = new ArrayList<>();
+    for (Method method : clazz.getMethods()) {
+      if (ReflectionUtil.isGetMethodOfObject(method)) {
+        boolean password = method.getAnnotation(PasswordField.class) != null;
+        if (password || mayHoldSecretFields(method.getReturnType())) {
+          secretFields.add(new SecretField(clazz, method, password));
+        }
+      }
+    }
+    this.fields = Collections.unmodifiableList(secretFields);
+  }
+
+  public static SecretFieldPlan of(Class<?> clazz) {
+    return PLANS.computeIfAbsent(clazz, SecretFieldPlan::new);
+  }
+
+  /** Objects of OpenMetadata classes are walked for password fields */
+  public static boolean isOpenMetadataObject(Object obj) {
+    return obj.getClass().getPackageName().startsWith(OPENMETADATA_PACKAGE);
+  }
+
+  private static boolean mayHoldSecretFields(Class<?> type) {
+    return !Modifier.isFinal(type.getModifiers()) || type.getPackageName().startsWith(OPENMETADATA_PACKAGE);
+  }
+
+  public static final class SecretField {
+    /** Name of the field as in its getter and setter, such as `Password` */
+    @Getter private final String name;
+
+    @Getter private final boolean password;
+    private final Function<Object, Object> getter;
+    private final BiConsumer<Object, String> setter;
+    private final String setterName;
+
+    private SecretField(Class<?> clazz, Method getMethod, boolean password) {
+      this.name = getMethod.getName().substring("get".length());
+      this.password = password;
+      this.setterName = String.format("%s.set%s(java.lang.String)", clazz.getName(), name);
+      try {
+        this.getter = bindGetter(getMethod);
+        this.setter = password ? findSetter(clazz, name) : null;
+      } catch (Throwable e) {
+        throw new ReflectionException(e.getMessage());
+      }
+    }
+
+    public Object get(Object object) {
+      try {
+        return getter.apply(object);
+      } catch (RuntimeException e) {
+        throw new ReflectionException(e.getMessage());
+      }
+    }
+
+    public void set(Object object, String value) {
+      if (setter == null) {
+        throw new ReflectionException(setterName);
+      }
+      try {
+        setter.accept(object, value);
+      } catch (RuntimeException e) {
+        throw new ReflectionException(e.getMessage());
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> bindGetter(Method getMethod) throws Throwable {
+      MethodHandle getter = LOOKUP.unreflect(getMethod);
+      CallSite site =
+          LambdaMetafactory.metafactory(LOOKUP, "apply", GETTER_FACTORY_TYPE, GETTER_TYPE, getter, getter.type());
+      return (Function<Object, Object>) site.getTarget().invokeExact();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, String> findSetter(Class<?> clazz, String name) throws Throwable {
+      Method setMethod;
+      try {
+        setMethod = clazz.getMethod("set" + name, String.class);
+      } catch (NoSuchMethodException e) {
+        // Fails when a value is set, as when looking up the setter on each call
+        return null;
+      }
+      MethodHandle setter = LOOKUP.unreflect(setMethod);
+      CallSite site =
+          LambdaMetafactory.metafactory(LOOKUP, "accept", SETTER_FACTORY_TYPE, SETTER_TYPE, setter, setter.type());
+      return (BiConsumer<Object, String>) site.getTarget().invokeExact();
+    }
+  }
+}
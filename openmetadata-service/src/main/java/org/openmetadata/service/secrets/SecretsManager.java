@@ -16,13 +16,12 @@ package org.openmetadata.service.secrets;
 import static java.util.Objects.isNull;
 
 import com.google.common.annotations.VisibleForTesting;
-import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.Locale;
 import java.util.Set;
 import javax.ws.rs.core.Response;
 import lombok.Getter;
-import org.openmetadata.annotations.PasswordField;
 import org.openmetadata.schema.auth.BasicAuthMechanism;
 import org.openmetadata.schema.entity.automations.Workflow;
 import org.openmetadata.schema.entity.services.ServiceType;
@@ -210,61 +209,62 @@ public abstract class SecretsManager {
 
   private Object encryptPasswordFields(Object toEncryptObject, String secretId, boolean store) {
     if (!DO_NOT_ENCRYPT_CLASSES.contains(toEncryptObject.getClass())) {
-      // for each get method
-      Arrays.stream(toEncryptObject.getClass().getMethods())
-          .filter(ReflectionUtil::isGetMethodOfObject)
-          .forEach(
-              method -> {
-                Object obj = ReflectionUtil.getObjectFromMethod(method, toEncryptObject);
-                String fieldName = method.getName().replaceFirst("get", "");
-                // if the object matches the package of openmetadata
-                if (obj != null && obj.getClass().getPackageName().startsWith("org.openmetadata")) {
-                  // encryptPasswordFields
-                  encryptPasswordFields(obj, buildSecretId(false, secretId, fieldName.toLowerCase(Locale.ROOT)), store);
-                  // check if it has annotation
-                } else if (obj != null && method.getAnnotation(PasswordField.class) != null) {
-                  // store value if proceed
-                  String newFieldValue = storeValue(fieldName, fernet.decryptIfApplies((String) obj), secretId, store);
-                  // get setMethod
-                  Method toSet = ReflectionUtil.getToSetMethod(toEncryptObject, obj, fieldName);
-                  // set new value
-                  ReflectionUtil.setValueInMethod(
-                      toEncryptObject,
-                      Fernet.isTokenized(newFieldValue)
-                          ? newFieldValue
-                          : store ? fernet.encrypt(newFieldValue) : newFieldValue,
-                      toSet);
-                }
-              });
+      // for each field that may hold a password
+      for (SecretFieldPlan.SecretField field : SecretFieldPlan.of(toEncryptObject.getClass()).getFields()) {
+        Object obj = field.get(toEncryptObject);
+        String fieldName = field.getName();
+        // if the object matches the package of openmetadata
+        if (obj != null && SecretFieldPlan.isOpenMetadataObject(obj)) {
+          // encryptPasswordFields
+          encryptPasswordFields(obj, buildSecretId(false, secretId, fieldName.toLowerCase(Locale.ROOT)), store);
+          // check if it is a password field
+        } else if (obj != null && field.isPassword()) {
+          // store value if proceed
+          String newFieldValue = storeValue(fieldName, fernet.decryptIfApplies((String) obj), secretId, store);
+          // set new value
+          field.set(
+              toEncryptObject,
+              Fernet.isTokenized(newFieldValue)
+                  ? newFieldValue
+                  : store ? fernet.encrypt(newFieldValue) : newFieldValue);
+        }
+      }
     }
     return toEncryptObject;
   }
 
   private Object decryptPasswordFields(Object toDecryptObject) {
-    // for each get method
-    Arrays.stream(toDecryptObject.getClass().getMethods())
-        .filter(ReflectionUtil::isGetMethodOfObject)
-        .forEach(
-            method -> {
-              Object obj = ReflectionUtil.getObjectFromMethod(method, toDecryptObject);
-              String fieldName = method.getName().replaceFirst("get", "");
-              // if the object matches the package of openmetadata
-              if (obj != null && obj.getClass().getPackageName().startsWith("org.openmetadata")) {
-                // encryptPasswordFields
-                decryptPasswordFields(obj);
-                // check if it has annotation
-              } else if (obj != null && method.getAnnotation(PasswordField.class) != null) {
-                String fieldValue = (String) obj;
-                // get setMethod
-                Method toSet = ReflectionUtil.getToSetMethod(toDecryptObject, obj, fieldName);
-                // set new value
-                ReflectionUtil.setValueInMethod(
-                    toDecryptObject, Fernet.isTokenized(fieldValue) ? fernet.decrypt(fieldValue) : fieldValue, toSet);
-              }
-            });
+    // for each field that may hold a password
+    for (SecretFieldPlan.SecretField field : SecretFieldPlan.of(toDecryptObject.getClass()).getFields()) {
+      Object obj = field.get(toDecryptObject);
+      // if the object matches the package of openmetadata
+      if (obj != null && SecretFieldPlan.isOpenMetadataObject(obj)) {
+        // encryptPasswordFields
+        decryptPasswordFields(obj);
+        // check if it is a password field
+      } else if (obj != null && field.isPassword()) {
+        String fieldValue = (String) obj;
+        // set new value
+        field.set(toDecryptObject, Fernet.isTokenized(fieldValue) ? fernet.decrypt(fieldValue) : fieldValue);
+      }
+    }
     return toDecryptObject;
   }
 
+  /** Write the secrets upserted from now on behind, until {@link #flush()}, for bulk updates of many secrets */
+  public void startWriteBehind() {
+    /* Secrets are stored when upserted */
+  }
+
+  /**
+   * Wait until the secrets written behind are stored, and store the next secrets when upserted. Returns the names of
+   * the secrets that could not be stored.
+   */
+  public Set<String> flush() throws InterruptedException {
+    /* Secrets are stored when upserted */
+    return Collections.emptySet();
+  }
+
   protected abstract String storeValue(String fieldName, String value, String secretId, boolean store);
 
   protected String getSecretSeparator() {
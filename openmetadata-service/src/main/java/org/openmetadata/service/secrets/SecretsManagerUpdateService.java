@@ -13,14 +13,19 @@
 
 package org.openmetadata.service.secrets;
 
+import static org.openmetadata.service.secrets.ExternalSecretsManager.SECRET_FIELD_PREFIX;
+
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.schema.EntityInterface;
 import org.openmetadata.schema.ServiceConnectionEntityInterface;
 import org.openmetadata.schema.ServiceEntityInterface;
 import org.openmetadata.schema.entity.automations.Workflow;
@@ -28,6 +33,7 @@ import org.openmetadata.schema.entity.services.ingestionPipelines.IngestionPipel
 import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.exception.SecretsManagerUpdateException;
+import org.openmetadata.service.jdbi3.EntityDAO;
 import org.openmetadata.service.jdbi3.IngestionPipelineRepository;
 import org.openmetadata.service.jdbi3.ListFilter;
 import org.openmetadata.service.jdbi3.ServiceEntityRepository;
@@ -37,6 +43,7 @@ import org.openmetadata.service.resources.CollectionRegistry;
 import org.openmetadata.service.resources.CollectionRegistry.CollectionDetails;
 import org.openmetadata.service.resources.services.ServiceEntityResource;
 import org.openmetadata.service.util.EntityUtil;
+import org.openmetadata.service.util.JsonUtils;
 
 /**
  * Update service using the configured secret manager.
@@ -46,6 +53,9 @@ import org.openmetadata.service.util.EntityUtil;
  * <p>- It will update all the user bots with authentication mechanism
  *
  * <p>- It will update all the ingestion pipelines of type metadata with DBT config
+ *
+ * <p>The secrets are written behind while encrypting the entities, and the entities are only persisted once their
+ * secrets are stored, so that no entity references a secret missing from the store.
  */
 @Slf4j
 public class SecretsManagerUpdateService {
@@ -54,6 +64,8 @@ public class SecretsManagerUpdateService {
   private final UserRepository userRepository;
   private final IngestionPipelineRepository ingestionPipelineRepository;
   private final WorkflowRepository workflowRepository;
+  /** Entities encrypted with the new secrets manager, waiting for their secrets to be stored */
+  private final List<EncryptedEntity> encryptedEntities = new ArrayList<>();
 
   private final Map<Class<? extends ServiceConnectionEntityInterface>, ServiceEntityRepository<?, ?>>
       connectionTypeRepositoriesMap;
@@ -70,10 +82,19 @@ public class SecretsManagerUpdateService {
   }
 
   public void updateEntities() {
-    updateServices();
-    updateBotUsers();
-    updateIngestionPipelines();
-    updateWorkflows();
+    // Write the secrets of all the entities behind, instead of waiting for the store on each entity
+    secretManager.startWriteBehind();
+    try {
+      updateServices();
+      updateBotUsers();
+      updateIngestionPipelines();
+      updateWorkflows();
+    } catch (RuntimeException e) {
+      flushSecrets();
+      encryptedEntities.clear();
+      throw e;
+    }
+    persistEntities(flushSecrets());
   }
 
   private void updateServices() {
@@ -108,6 +129,48 @@ public class SecretsManagerUpdateService {
     retrieveWorkflows().forEach(this::updateWorkflow);
   }
 
+  private Set<String> flushSecrets() {
+    try {
+      return secretManager.flush();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SecretsManagerUpdateException(e.getMessage(), e);
+    }
+  }
+
+  /** Persist the encrypted entities, except the ones referencing secrets that could not be stored */
+  private void persistEntities(Set<String> failedSecrets) {
+    List<String> notUpdated = new ArrayList<>();
+    try {
+      for (EncryptedEntity encryptedEntity : encryptedEntities) {
+        EntityInterface entity = encryptedEntity.entity;
+        String json = JsonUtils.pojoToJson(entity);
+        List<String> missingSecrets =
+            failedSecrets.stream()
+                .filter(secret -> json.contains("\"" + SECRET_FIELD_PREFIX + secret + "\""))
+                .collect(Collectors.toList());
+        if (missingSecrets.isEmpty()) {
+          encryptedEntity.dao.update(entity.getId(), json);
+        } else {
+          LOG.error(
+              "Not updating {} [{}] as its secrets {} could not be stored",
+              entity.getClass().getSimpleName(),
+              entity.getFullyQualifiedName(),
+              missingSecrets);
+          notUpdated.add(entity.getFullyQualifiedName());
+        }
+      }
+    } catch (IOException e) {
+      throw new SecretsManagerUpdateException(e.getMessage(), e.getCause());
+    } finally {
+      encryptedEntities.clear();
+    }
+    if (!failedSecrets.isEmpty()) {
+      throw new SecretsManagerUpdateException(
+          String.format("Failed to store the secrets %s, the entities %s were not updated", failedSecrets, notUpdated));
+    }
+  }
+
   private void updateService(ServiceEntityInterface serviceEntityInterface) {
     ServiceEntityRepository<?, ?> repository =
         connectionTypeRepositoriesMap.get(serviceEntityInterface.getConnection().getClass());
@@ -127,7 +190,7 @@ public class SecretsManagerUpdateService {
                   service.getServiceType().value(),
                   service.getName(),
                   repository.getServiceType()));
-      repository.getDao().update(service);
+      encryptedEntities.add(new EncryptedEntity(repository.getDao(), service));
     } catch (IOException e) {
       throw new SecretsManagerUpdateException(e.getMessage(), e.getCause());
     }
@@ -215,7 +278,7 @@ public class SecretsManagerUpdateService {
       User user = userRepository.getDao().findEntityById(botUser.getId());
       oldSecretManager.decryptAuthenticationMechanism(botUser.getName(), user.getAuthenticationMechanism());
       secretManager.encryptAuthenticationMechanism(botUser.getName(), user.getAuthenticationMechanism());
-      userRepository.getDao().update(user);
+      encryptedEntities.add(new EncryptedEntity(userRepository.getDao(), user));
     } catch (IOException e) {
       throw new SecretsManagerUpdateException(e.getMessage(), e.getCause());
     }
@@ -257,7 +320,7 @@ public class SecretsManagerUpdateService {
       // we have to decrypt using the old secrets manager and encrypt again with the new one
       oldSecretManager.decryptIngestionPipeline(ingestionPipeline);
       secretManager.encryptIngestionPipeline(ingestionPipeline);
-      ingestionPipelineRepository.getDao().update(ingestion);
+      encryptedEntities.add(new EncryptedEntity(ingestionPipelineRepository.getDao(), ingestion));
     } catch (IOException e) {
       throw new SecretsManagerUpdateException(e.getMessage(), e.getCause());
     }
@@ -269,9 +332,19 @@ public class SecretsManagerUpdateService {
       // we have to decrypt using the old secrets manager and encrypt again with the new one
       workflowObject = oldSecretManager.decryptWorkflow(workflowObject);
       workflowObject = secretManager.encryptWorkflow(workflowObject);
-      ingestionPipelineRepository.getDao().update(workflowObject);
+      encryptedEntities.add(new EncryptedEntity(workflowRepository.getDao(), workflowObject));
     } catch (IOException e) {
       throw new SecretsManagerUpdateException(e.getMessage(), e.getCause());
     }
   }
+
+  private static class EncryptedEntity {
+    private final EntityDAO<?> dao;
+    private final EntityInterface entity;
+
+    private EncryptedEntity(EntityDAO<?> dao, EntityInterface entity) {
+      this.dao = dao;
+      this.entity = entity;
+    }
+  }
 }
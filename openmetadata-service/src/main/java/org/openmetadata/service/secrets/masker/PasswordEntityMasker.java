@@ -13,17 +13,15 @@
 
 package org.openmetadata.service.secrets.masker;
 
-import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import org.openmetadata.annotations.PasswordField;
 import org.openmetadata.schema.entity.automations.Workflow;
 import org.openmetadata.schema.entity.services.ServiceType;
 import org.openmetadata.schema.entity.services.ingestionPipelines.IngestionPipeline;
 import org.openmetadata.schema.entity.teams.AuthenticationMechanism;
 import org.openmetadata.service.exception.EntityMaskException;
 import org.openmetadata.service.fernet.Fernet;
+import org.openmetadata.service.secrets.SecretFieldPlan;
 import org.openmetadata.service.secrets.SecretsUtil;
 import org.openmetadata.service.secrets.converter.ClassConverterFactory;
 import org.openmetadata.service.util.AuthenticationMechanismBuilder;
@@ -166,77 +164,63 @@ public class PasswordEntityMasker extends EntityMasker {
 
   private void maskPasswordFields(Object toMaskObject) {
     if (!DO_NOT_MASK_CLASSES.contains(toMaskObject.getClass())) {
-      // for each get method
-      Arrays.stream(toMaskObject.getClass().getMethods())
-          .filter(ReflectionUtil::isGetMethodOfObject)
-          .forEach(
-              method -> {
-                Object obj = ReflectionUtil.getObjectFromMethod(method, toMaskObject);
-                String fieldName = method.getName().replaceFirst("get", "");
-                // if the object matches the package of openmetadata
-                if (obj != null && obj.getClass().getPackageName().startsWith("org.openmetadata")) {
-                  // maskPasswordFields
-                  maskPasswordFields(obj);
-                  // check if it has PasswordField annotation
-                } else if (obj != null && method.getAnnotation(PasswordField.class) != null) {
-                  // get setMethod
-                  Method toSet = ReflectionUtil.getToSetMethod(toMaskObject, obj, fieldName);
-                  // set new value
-                  ReflectionUtil.setValueInMethod(toMaskObject, PASSWORD_MASK, toSet);
-                }
-              });
+      // for each field that may hold a password
+      for (SecretFieldPlan.SecretField field : SecretFieldPlan.of(toMaskObject.getClass()).getFields()) {
+        Object obj = field.get(toMaskObject);
+        // if the object matches the package of openmetadata
+        if (obj != null && SecretFieldPlan.isOpenMetadataObject(obj)) {
+          // maskPasswordFields
+          maskPasswordFields(obj);
+          // check if it is a password field
+        } else if (obj != null && field.isPassword()) {
+          // set new value
+          field.set(toMaskObject, PASSWORD_MASK);
+        }
+      }
     }
   }
 
   private void unmaskPasswordFields(Object toUnmaskObject, String key, Map<String, String> passwordsMap) {
     if (!DO_NOT_MASK_CLASSES.contains(toUnmaskObject.getClass())) {
-      // for each get method
-      Arrays.stream(toUnmaskObject.getClass().getMethods())
-          .filter(ReflectionUtil::isGetMethodOfObject)
-          .forEach(
-              method -> {
-                Object obj = ReflectionUtil.getObjectFromMethod(method, toUnmaskObject);
-                String fieldName = method.getName().replaceFirst("get", "");
-                // if the object matches the package of openmetadata
-                if (obj != null && obj.getClass().getPackageName().startsWith("org.openmetadata")) {
-                  // maskPasswordFields
-                  unmaskPasswordFields(obj, createKey(key, fieldName), passwordsMap);
-                  // check if it has PasswordField annotation
-                } else if (obj != null && method.getAnnotation(PasswordField.class) != null) {
-                  String valueToSet =
-                      PASSWORD_MASK.equals(obj)
-                          ? passwordsMap.getOrDefault(createKey(key, fieldName), PASSWORD_MASK)
-                          : Fernet.getInstance().decryptIfApplies((String) obj);
-                  // get setMethod
-                  Method toSet = ReflectionUtil.getToSetMethod(toUnmaskObject, obj, fieldName);
-                  // set new value
-                  ReflectionUtil.setValueInMethod(toUnmaskObject, valueToSet, toSet);
-                }
-              });
+      // for each field that may hold a password
+      for (SecretFieldPlan.SecretField field : SecretFieldPlan.of(toUnmaskObject.getClass()).getFields()) {
+        Object obj = field.get(toUnmaskObject);
+        String fieldName = field.getName();
+        // if the object matches the package of openmetadata
+        if (obj != null && SecretFieldPlan.isOpenMetadataObject(obj)) {
+          // maskPasswordFields
+          unmaskPasswordFields(obj, createKey(key, fieldName), passwordsMap);
+          // check if it is a password field
+        } else if (obj != null && field.isPassword()) {
+          String valueToSet =
+              PASSWORD_MASK.equals(obj)
+                  ? passwordsMap.getOrDefault(createKey(key, fieldName), PASSWORD_MASK)
+                  : Fernet.getInstance().decryptIfApplies((String) obj);
+          // set new value
+          field.set(toUnmaskObject, valueToSet);
+        }
+      }
     }
   }
 
   private void buildPasswordsMap(Object toMapObject, String key, Map<String, String> passwordsMap) {
     if (!DO_NOT_MASK_CLASSES.contains(toMapObject.getClass())) {
-      // for each get method
-      Arrays.stream(toMapObject.getClass().getMethods())
-          .filter(ReflectionUtil::isGetMethodOfObject)
-          .forEach(
-              method -> {
-                Object obj = ReflectionUtil.getObjectFromMethod(method, toMapObject);
-                String fieldName = method.getName().replaceFirst("get", "");
-                // if the object matches the package of openmetadata
-                if (obj != null && obj.getClass().getPackageName().startsWith("org.openmetadata")) {
-                  // maskPasswordFields
-                  buildPasswordsMap(obj, createKey(key, fieldName), passwordsMap);
-                  // check if it has PasswordField annotation
-                } else if (obj != null && method.getAnnotation(PasswordField.class) != null) {
-                  // get value
-                  String value = Fernet.getInstance().decryptIfApplies((String) obj);
-                  // store in passwordsMap
-                  passwordsMap.put(createKey(key, fieldName), value);
-                }
-              });
+      // for each field that may hold a password
+      for (SecretFieldPlan.SecretField field : SecretFieldPlan.of(toMapObject.getClass()).getFields()) {
+        Object obj = field.get(toMapObject);
+        String fieldName = field.getName();
+        // if the object matches the package of openmetadata
+        if (obj != null && SecretFieldPlan.isOpenMetadataObject(obj)) {
+          // maskPasswordFields
+          buildPasswordsMap(obj, createKey(key, fieldName), passwordsMap);
+          // check if it is a password field
+        } else if (obj != null && field.isPassword()) {
+          // get value
+          String value = Fernet.getInstance().decryptIfApplies((String) obj);
+          // store in passwordsMap
+          passwordsMap.put(createKey(key, fieldName), value);
+        }
+      }
     }
   }
 
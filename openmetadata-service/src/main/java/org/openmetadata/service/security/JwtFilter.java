@@ -50,6 +50,7 @@ import org.openmetadata.schema.auth.ServiceTokenType;
 import org.openmetadata.service.security.auth.BotTokenCache;
 import org.openmetadata.service.security.auth.CatalogSecurityContext;
 import org.openmetadata.service.security.auth.UserTokenCache;
+import org.openmetadata.service.security.auth.VerifiedTokenCache;
 import org.openmetadata.service.security.saml.JwtTokenCacheManager;
 
 @Slf4j
@@ -63,6 +64,7 @@ public class JwtFilter implements ContainerRequestFilter {
   private String principalDomain;
   private boolean enforcePrincipalDomain;
   private String providerType;
+  private VerifiedTokenCache verifiedTokenCache;
   public static final List<String> EXCLUDED_ENDPOINTS =
       List.of(
           "v1/system/config",
@@ -92,6 +94,7 @@ public class JwtFilter implements ContainerRequestFilter {
     this.jwkProvider = new MultiUrlJwkProvider(publicKeyUrlsBuilder.build());
     this.principalDomain = authorizerConfiguration.getPrincipalDomain();
     this.enforcePrincipalDomain = authorizerConfiguration.getEnforcePrincipalDomain();
+    this.verifiedTokenCache = VerifiedTokenCache.getInstance();
   }
 
   @VisibleForTesting
@@ -104,6 +107,7 @@ public class JwtFilter implements ContainerRequestFilter {
     this.jwtPrincipalClaims = jwtPrincipalClaims;
     this.principalDomain = principalDomain;
     this.enforcePrincipalDomain = enforcePrincipalDomain;
+    this.verifiedTokenCache = new VerifiedTokenCache();
   }
 
   @SneakyThrows
@@ -125,6 +129,22 @@ public class JwtFilter implements ContainerRequestFilter {
       validateTokenIsNotUsedAfterLogout(tokenFromHeader);
     }
 
+    // Tokens used for many requests, such as the tokens of the ingestion bots, are verified only once
+    String userName = verifiedTokenCache.getUserName(tokenFromHeader);
+    if (userName == null) {
+      userName = validateToken(tokenFromHeader);
+    }
+
+    // Setting Security Context
+    CatalogPrincipal catalogPrincipal = new CatalogPrincipal(userName);
+    String scheme = requestContext.getUriInfo().getRequestUri().getScheme();
+    CatalogSecurityContext catalogSecurityContext =
+        new CatalogSecurityContext(catalogPrincipal, scheme, SecurityContext.DIGEST_AUTH);
+    LOG.debug("SecurityContext {}", catalogSecurityContext);
+    requestContext.setSecurityContext(catalogSecurityContext);
+  }
+
+  private String validateToken(String tokenFromHeader) {
     DecodedJWT jwt = validateAndReturnDecodedJwtToken(tokenFromHeader);
 
     Map<String, Claim> claims = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
@@ -143,13 +163,8 @@ public class JwtFilter implements ContainerRequestFilter {
       validatePersonalAccessToken(tokenFromHeader, userName);
     }
 
-    // Setting Security Context
-    CatalogPrincipal catalogPrincipal = new CatalogPrincipal(userName);
-    String scheme = requestContext.getUriInfo().getRequestUri().getScheme();
-    CatalogSecurityContext catalogSecurityContext =
-        new CatalogSecurityContext(catalogPrincipal, scheme, SecurityContext.DIGEST_AUTH);
-    LOG.debug("SecurityContext {}", catalogSecurityContext);
-    requestContext.setSecurityContext(catalogSecurityContext);
+    verifiedTokenCache.put(tokenFromHeader, userName, jwt.getExpiresAt());
+    return userName;
   }
 
   @SneakyThrows
@@ -212,6 +227,11 @@ public class JwtFilter implements ContainerRequestFilter {
     return userName;
   }
 
+  /** Stop refreshing the signing keys in the background */
+  public static void shutdown() throws InterruptedException {
+    MultiUrlJwkProvider.shutdown();
+  }
+
   protected static String extractToken(MultivaluedMap<String, String> headers) {
     LOG.debug("Request Headers:{}", headers);
     String source = headers.getFirst(AUTHORIZATION_HEADER);
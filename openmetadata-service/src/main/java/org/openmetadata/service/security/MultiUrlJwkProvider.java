@@ -18,28 +18,202 @@ import com.auth0.jwk.JwkException;
 import com.auth0.jwk.JwkProvider;
 import com.auth0.jwk.SigningKeyNotFoundException;
 import com.auth0.jwk.UrlJwkProvider;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
 import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
 
+/**
+ * Signing keys from one or more public key urls.
+ *
+ * <p>Keys are cached by key id and refreshed in the background, so that authenticating a request does not fetch the
+ * keys from the identity provider. Each successful fetch of a url replaces all the keys of that url. A key id that is
+ * not cached triggers a single fetch shared by all the requests waiting on it, and at most one such fetch runs every
+ * {@link #MIN_FETCH_INTERVAL}. Key ids that are still unknown after a fetch are rejected without fetching again until
+ * the next fetch is allowed, so that tokens with bogus key ids can't flood the identity provider.
+ */
+@Slf4j
 final class MultiUrlJwkProvider implements JwkProvider {
+  /** Key used for the tokens without a key id, when the keys of a url have a single key */
+  private static final String NO_KEY_ID = "";
+
+  static final Duration REFRESH_INTERVAL = Duration.ofMinutes(15);
+  static final Duration KEY_TTL = Duration.ofHours(1);
+  static final Duration MIN_FETCH_INTERVAL = Duration.ofSeconds(10);
+
+  private static final ScheduledExecutorService REFRESH_EXECUTOR =
+      Executors.newSingleThreadScheduledExecutor(
+          runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+          });
+
   private final List<UrlJwkProvider> urlJwkProviders;
+  private final Ticker ticker;
+  /** Keys of each url from its last successful fetch, guarded by the fetch lock */
+  private final Map<UrlJwkProvider, FetchedKeys> fetchedKeys = new HashMap<>();
+  /** Keys of all the urls by key id, replaced after each fetch */
+  private volatile Map<String, FetchedKey> keys = Collections.emptyMap();
+  private final Cache<String, Boolean> unknownKeys;
+  private final Object fetchLock = new Object();
+  private volatile long lastFetchedAt;
+  private volatile boolean fetched = false;
+
+  private final Counter hits = MicrometerBundleSingleton.jwksRequests("hit");
+  private final Counter misses = MicrometerBundleSingleton.jwksRequests("miss");
+  private final Counter rejected = MicrometerBundleSingleton.jwksRequests("rejected");
+  private final Counter refreshes = MicrometerBundleSingleton.jwksRefreshes("success");
+  private final Counter refreshFailures = MicrometerBundleSingleton.jwksRefreshes("failure");
 
   public MultiUrlJwkProvider(List<URL> publicKeyUris) {
-    this.urlJwkProviders = publicKeyUris.stream().map(UrlJwkProvider::new).collect(Collectors.toUnmodifiableList());
+    this(
+        publicKeyUris.stream().map(UrlJwkProvider::new).collect(Collectors.toUnmodifiableList()),
+        Ticker.systemTicker());
+    REFRESH_EXECUTOR.scheduleWithFixedDelay(this::refresh, 0, REFRESH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+  }
+
+  @VisibleForTesting
+  MultiUrlJwkProvider(List<UrlJwkProvider> urlJwkProviders, Ticker ticker) {
+    this.urlJwkProviders = urlJwkProviders;
+    this.ticker = ticker;
+    this.unknownKeys =
+        CacheBuilder.newBuilder()
+            .ticker(ticker)
+            .expireAfterWrite(MIN_FETCH_INTERVAL.toMillis(), TimeUnit.MILLISECONDS)
+            .build();
+  }
+
+  /** Stop refreshing the keys of all the providers */
+  static void shutdown() throws InterruptedException {
+    REFRESH_EXECUTOR.shutdownNow();
+    REFRESH_EXECUTOR.awaitTermination(10, TimeUnit.SECONDS);
   }
 
   @Override
   public Jwk get(String keyId) throws JwkException {
-    JwkException lastException =
-        new SigningKeyNotFoundException("JWT Token keyID doesn't match the configured keyID.", null);
+    String key = keyId == null ? NO_KEY_ID : keyId;
+    Jwk jwk = getCachedKey(key);
+    if (jwk != null) {
+      hits.increment();
+      return jwk;
+    }
+    if (unknownKeys.getIfPresent(key) != null) {
+      rejected.increment();
+      throw keyNotFound();
+    }
+
+    misses.increment();
+    boolean keysFetched = false;
+    synchronized (fetchLock) {
+      // The key may have been fetched while waiting for the lock
+      jwk = getCachedKey(key);
+      if (jwk == null && (!fetched || ticker.read() - lastFetchedAt >= MIN_FETCH_INTERVAL.toNanos())) {
+        keysFetched = fetch();
+        jwk = getCachedKey(key);
+      }
+    }
+    if (jwk == null) {
+      // Only a key missing from the keys just fetched is known to be unknown
+      if (keysFetched) {
+        unknownKeys.put(key, Boolean.TRUE);
+      }
+      throw keyNotFound();
+    }
+    return jwk;
+  }
+
+  /** Fetch the keys from the public key urls, keeping the cached keys of the urls that could not be fetched */
+  @VisibleForTesting
+  void refresh() {
+    synchronized (fetchLock) {
+      fetch();
+    }
+  }
+
+  /** Fetch the keys from the public key urls. Returns true when the keys of at least one url were fetched */
+  private boolean fetch() {
+    long now = ticker.read();
+    lastFetchedAt = now;
+    fetched = true;
+    boolean success = false;
     for (UrlJwkProvider jwkProvider : urlJwkProviders) {
       try {
-        return jwkProvider.get(keyId);
-      } catch (JwkException e) {
-        lastException.addSuppressed(e);
+        fetchedKeys.put(jwkProvider, new FetchedKeys(jwkProvider.getAll(), now));
+        refreshes.increment();
+        success = true;
+      } catch (JwkException | RuntimeException e) {
+        refreshFailures.increment();
+        LOG.warn("Failed to fetch the signing keys", e);
+      }
+    }
+
+    Map<String, FetchedKey> newKeys = new HashMap<>();
+    boolean hasNoKeyIdKey = false;
+    for (UrlJwkProvider jwkProvider : urlJwkProviders) {
+      FetchedKeys urlKeys = fetchedKeys.get(jwkProvider);
+      if (urlKeys == null || now - urlKeys.fetchedAt >= KEY_TTL.toNanos()) {
+        continue;
       }
+      // Same as UrlJwkProvider, a key id is verified with the key of the first url having it
+      for (Jwk jwk : urlKeys.jwks) {
+        if (jwk.getId() != null) {
+          newKeys.putIfAbsent(jwk.getId(), new FetchedKey(jwk, urlKeys.fetchedAt));
+        }
+      }
+      // And a token without key id is verified with the key of the first url having a single key
+      if (!hasNoKeyIdKey && urlKeys.jwks.size() == 1) {
+        newKeys.put(NO_KEY_ID, new FetchedKey(urlKeys.jwks.get(0), urlKeys.fetchedAt));
+        hasNoKeyIdKey = true;
+      }
+    }
+    keys = newKeys;
+    unknownKeys.invalidateAll(newKeys.keySet());
+    return success;
+  }
+
+  private Jwk getCachedKey(String key) {
+    FetchedKey fetchedKey = keys.get(key);
+    if (fetchedKey == null || ticker.read() - fetchedKey.fetchedAt >= KEY_TTL.toNanos()) {
+      return null;
+    }
+    return fetchedKey.jwk;
+  }
+
+  private static JwkException keyNotFound() {
+    return new SigningKeyNotFoundException("JWT Token keyID doesn't match the configured keyID.", null);
+  }
+
+  private static final class FetchedKeys {
+    private final List<Jwk> jwks;
+    private final long fetchedAt;
+
+    private FetchedKeys(List<Jwk> jwks, long fetchedAt) {
+      this.jwks = jwks;
+      this.fetchedAt = fetchedAt;
+    }
+  }
+
+  private static final class FetchedKey {
+    private final Jwk jwk;
+    private final long fetchedAt;
+
+    private FetchedKey(Jwk jwk, long fetchedAt) {
+      this.jwk = jwk;
+      this.fetchedAt = fetchedAt;
     }
-    throw lastException;
   }
 }
@@ -46,6 +46,7 @@ public class BotTokenCache {
   public void invalidateToken(String botName) {
     try {
       BOTS_TOKEN_CACHE.invalidate(botName);
+      VerifiedTokenCache.getInstance().invalidateTokens(botName);
     } catch (Exception ex) {
       LOG.error("Failed to invalidate Bot token cache for Bot {}", botName, ex);
     }
@@ -59,6 +59,7 @@ public class UserTokenCache {
   public void invalidateToken(String userName) {
     try {
       USER_TOKEN_CACHE.invalidate(userName);
+      VerifiedTokenCache.getInstance().invalidateTokens(userName);
     } catch (Exception ex) {
       LOG.error("Failed to invalidate User token cache for User {}", userName, ex);
     }
@@ -0,0 +1,70 @@
+package org.openmetadata.service.security.auth;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cache of the tokens already verified by the JwtFilter, with the user name they were issued for, so that the
+ * signature and the claims of a token used for many requests are only verified once. Tokens are keyed by their hash,
+ * are removed once they expire, and are kept no longer than the bot and personal access tokens in {@link
+ * BotTokenCache} and {@link UserTokenCache}.
+ */
+@Slf4j
+public class VerifiedTokenCache {
+  private static final VerifiedTokenCache INSTANCE = new VerifiedTokenCache();
+  private final Cache<String, VerifiedToken> verifiedTokens;
+
+  public VerifiedTokenCache() {
+    verifiedTokens = CacheBuilder.newBuilder().maximumSize(10000).expireAfterWrite(2, TimeUnit.MINUTES).build();
+  }
+
+  /** Get the user name of a verified token, or null if the token is not verified yet or has expired */
+  public String getUserName(String token) {
+    String key = hash(token);
+    VerifiedToken verifiedToken = verifiedTokens.getIfPresent(key);
+    if (verifiedToken == null) {
+      return null;
+    }
+    if (verifiedToken.expiresAt != null && verifiedToken.expiresAt <= System.currentTimeMillis()) {
+      verifiedTokens.invalidate(key);
+      return null;
+    }
+    return verifiedToken.userName;
+  }
+
+  public void put(String token, String userName, Date expiresAt) {
+    verifiedTokens.put(hash(token), new VerifiedToken(userName, expiresAt == null ? null : expiresAt.getTime()));
+  }
+
+  /** Remove the tokens of a user, when the user's bot or personal access tokens are revoked */
+  public void invalidateTokens(String userName) {
+    try {
+      verifiedTokens.asMap().values().removeIf(verifiedToken -> verifiedToken.userName.equals(userName));
+    } catch (Exception ex) {
+      LOG.error("Failed to invalidate verified tokens for User {}", userName, ex);
+    }
+  }
+
+  public static VerifiedTokenCache getInstance() {
+    return INSTANCE;
+  }
+
+  private static String hash(String token) {
+    return Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+  }
+
+  private static class VerifiedToken {
+    private final String userName;
+    private final Long expiresAt;
+
+    private VerifiedToken(String userName, Long expiresAt) {
+      this.userName = userName;
+      this.expiresAt = expiresAt;
+    }
+  }
+}
@@ -22,7 +22,7 @@ import com.google.common.util.concurrent.UncheckedExecutionException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Stack;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -53,6 +53,8 @@ public class SubjectCache {
   protected static Fields USER_FIELDS;
   protected static TeamRepository TEAM_REPOSITORY;
   protected static Fields TEAM_FIELDS;
+  private static volatile TeamHierarchyIndex TEAM_HIERARCHY;
+  private static final long TEAM_HIERARCHY_CHECK_MILLIS = TimeUnit.SECONDS.toMillis(10);
 
   // Expected to be called only once from the DefaultAuthorizer
   public static void initialize() {
@@ -141,36 +143,57 @@ public class SubjectCache {
 
   /** Return true if given list of teams is part of the hierarchy of parentTeam */
   public boolean isInTeam(String parentTeam, EntityReference team) {
-    Stack<EntityReference> stack = new Stack<>();
-    stack.push(team); // Start with team and see if the parent matches
-    while (!stack.empty()) {
-      Team parent = getTeam(stack.pop().getId());
-      if (parent.getName().equals(parentTeam)) {
+    // Start with team and see if any of the teams up the chain of parents matches
+    for (UUID teamId : getTeamHierarchy().getAncestors(team.getId())) {
+      if (getTeam(teamId).getName().equals(parentTeam)) {
         return true;
       }
-      listOrEmpty(parent.getParents()).forEach(stack::push); // Continue to go up the chain of parents
     }
     return false;
   }
 
   /** Return true if the given user has any roles the list of roles */
   public boolean hasRole(User user, String role) {
-    Stack<EntityReference> stack = new Stack<>();
     // If user has one of the roles directly assigned then return true
     if (hasRole(user.getRoles(), role)) {
       return true;
     }
-    listOrEmpty(user.getTeams()).forEach(stack::push); // Continue to go up the chain of parents
-    while (!stack.empty()) {
-      Team parent = getTeam(stack.pop().getId());
-      if (hasRole(parent.getDefaultRoles(), role)) {
-        return true;
+    TeamHierarchyIndex teamHierarchy = getTeamHierarchy();
+    for (EntityReference team : listOrEmpty(user.getTeams())) {
+      // Go up the chain of parents
+      for (UUID teamId : teamHierarchy.getAncestors(team.getId())) {
+        if (hasRole(getTeam(teamId).getDefaultRoles(), role)) {
+          return true;
+        }
       }
-      listOrEmpty(parent.getParents()).forEach(stack::push); // Continue to go up the chain of parents
     }
     return false;
   }
 
+  /** Return the ids of the parent teams of the given team */
+  public List<UUID> getParentTeams(UUID teamId) {
+    return getTeamHierarchy().getParents(teamId);
+  }
+
+  private TeamHierarchyIndex getTeamHierarchy() {
+    TeamHierarchyIndex teamHierarchy = TEAM_HIERARCHY;
+    long now = System.currentTimeMillis();
+    if (teamHierarchy != null && now - teamHierarchy.getCheckedAt() < TEAM_HIERARCHY_CHECK_MILLIS) {
+      return teamHierarchy;
+    }
+    // Changes from other servers are picked up by periodically checking the version of the team hierarchy. The index
+    // is rebuilt only when the version changes.
+    String version = TEAM_REPOSITORY.getHierarchyVersion();
+    if (teamHierarchy != null && Objects.equals(teamHierarchy.getVersion(), version)) {
+      teamHierarchy.setCheckedAt(now);
+      return teamHierarchy;
+    }
+    UUID organizationId = getTeamByName(Entity.ORGANIZATION_NAME).getId();
+    teamHierarchy = new TeamHierarchyIndex(organizationId, version, TEAM_REPOSITORY.getParentRelationships());
+    TEAM_HIERARCHY = teamHierarchy;
+    return teamHierarchy;
+  }
+
   private static boolean hasRole(List<EntityReference> userRoles, String expectedRole) {
     return listOrEmpty(userRoles).stream().anyMatch(userRole -> userRole.getName().equals(expectedRole));
   }
@@ -179,6 +202,7 @@ public class SubjectCache {
     LOG.info("Subject cache is cleaned up");
     USER_CACHE.invalidateAll();
     TEAM_CACHE_WITH_ID.invalidateAll();
+    TEAM_HIERARCHY = null;
     INITIALIZED = false;
   }
 
@@ -198,13 +222,17 @@ public class SubjectCache {
     }
   }
 
+  /** Invalidate the team hierarchy when the parents or children of a team change */
+  public void invalidateTeamHierarchy() {
+    TEAM_HIERARCHY = null;
+  }
+
   public List<EntityReference> getRolesForTeams(List<EntityReference> teams) {
     List<EntityReference> roles = new ArrayList<>();
+    TeamHierarchyIndex teamHierarchy = getTeamHierarchy();
     for (EntityReference teamRef : listOrEmpty(teams)) {
-      Team team = getTeam(teamRef.getId());
-      if (team != null) {
-        roles.addAll(team.getDefaultRoles());
-        roles.addAll(getRolesForTeams(team.getParents()));
+      for (UUID teamId : teamHierarchy.getAncestors(teamRef.getId())) {
+        roles.addAll(listOrEmpty(getTeam(teamId).getDefaultRoles()));
       }
     }
     return roles.stream().distinct().collect(Collectors.toList());
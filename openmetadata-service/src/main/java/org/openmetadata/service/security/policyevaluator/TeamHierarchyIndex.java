@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.security.policyevaluator;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import org.openmetadata.service.jdbi3.CollectionDAO.TeamParentRecord;
+
+/**
+ * In-memory index of the team hierarchy built from all the team {@code PARENT_OF} relationships. It replaces walking
+ * up the hierarchy one team at a time with lookups of the parents and the memoized ancestors of a team.
+ */
+final class TeamHierarchyIndex {
+  private final UUID organizationId;
+  private final String version;
+  private volatile long checkedAt = System.currentTimeMillis();
+  private final Map<UUID, List<UUID>> parents = new HashMap<>();
+  private final Map<UUID, Set<UUID>> ancestors = new ConcurrentHashMap<>();
+
+  TeamHierarchyIndex(UUID organizationId, String version, List<TeamParentRecord> parentRecords) {
+    this.organizationId = organizationId;
+    this.version = version;
+    // Parents are ordered by name, same as the parents of a team returned by the TeamRepository
+    List<TeamParentRecord> sortedRecords = new ArrayList<>(parentRecords);
+    sortedRecords.sort(Comparator.comparing(TeamParentRecord::getParentName));
+    for (TeamParentRecord parentRecord : sortedRecords) {
+      parents.computeIfAbsent(parentRecord.getTeamId(), id -> new ArrayList<>()).add(parentRecord.getParentId());
+    }
+  }
+
+  /** Version of the team hierarchy the index was built from */
+  String getVersion() {
+    return version;
+  }
+
+  /** Time when the index was last verified to be of the current version of the team hierarchy */
+  long getCheckedAt() {
+    return checkedAt;
+  }
+
+  void setCheckedAt(long checkedAt) {
+    this.checkedAt = checkedAt;
+  }
+
+  /** Parents of a team. Teams without parents are under the organization. */
+  List<UUID> getParents(UUID teamId) {
+    List<UUID> teamParents = parents.get(teamId);
+    if (teamParents != null) {
+      return teamParents;
+    }
+    return teamId.equals(organizationId) ? Collections.emptyList() : List.of(organizationId);
+  }
+
+  /**
+   * The team itself followed by its ancestors, in the order they are visited by walking up the hierarchy depth first
+   * from the team.
+   */
+  Set<UUID> getAncestors(UUID teamId) {
+    Set<UUID> teamAncestors = ancestors.get(teamId);
+    if (teamAncestors == null) {
+      teamAncestors = Collections.unmodifiableSet(computeAncestors(teamId));
+      ancestors.put(teamId, teamAncestors);
+    }
+    return teamAncestors;
+  }
+
+  private Set<UUID> computeAncestors(UUID teamId) {
+    Set<UUID> visited = new LinkedHashSet<>();
+    Deque<UUID> stack = new ArrayDeque<>();
+    stack.push(teamId);
+    while (!stack.isEmpty()) {
+      UUID id = stack.pop();
+      if (visited.add(id)) {
+        List<UUID> teamParents = getParents(id);
+        for (int i = teamParents.size() - 1; i >= 0; i--) {
+          stack.push(teamParents.get(i)); // Push in reverse to visit the parents in order
+        }
+      }
+    }
+    return visited;
+  }
+}
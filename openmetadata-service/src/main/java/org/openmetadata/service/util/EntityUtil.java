@@ -54,6 +54,8 @@ import org.openmetadata.service.security.policyevaluator.ResourceContext;
 
 @Slf4j
 public final class EntityUtil {
+  private static final Pattern JSON_RESOURCES = Pattern.compile(".*json/(data|schema)/.*\\.json$");
+  private static volatile List<String> jsonResources;
 
   //
   // Comparators used for sorting list based on the given type
@@ -219,6 +221,37 @@ public final class EntityUtil {
     return CommonUtil.getResources(Pattern.compile(path));
   }
 
+  /**
+   * Like {@link #getJsonDataResources(String)}, but only for {@code .json} resources under {@code json/data/} or
+   * {@code json/schema/}. Those are scanned from the classpath once and each lookup filters them, so a path matching
+   * any other resource finds nothing.
+   */
+  public static List<String> getJsonDataOrSchemaResources(String path) throws IOException {
+    Pattern pattern = Pattern.compile(path);
+    List<String> resources = new ArrayList<>();
+    for (String resource : getJsonResources()) {
+      if (pattern.matcher(resource).matches()) {
+        resources.add(resource);
+      }
+    }
+    return resources;
+  }
+
+  /** Json data and schema resources on the classpath, scanned when they are first looked up. */
+  private static List<String> getJsonResources() throws IOException {
+    List<String> resources = jsonResources;
+    if (resources == null) {
+      synchronized (EntityUtil.class) {
+        resources = jsonResources;
+        if (resources == null) {
+          resources = Collections.unmodifiableList(CommonUtil.getResources(JSON_RESOURCES));
+          jsonResources = resources;
+        }
+      }
+    }
+    return resources;
+  }
+
   public static <T extends EntityInterface> List<String> toFQNs(List<T> entities) {
     if (entities == null) {
       return Collections.emptyList();
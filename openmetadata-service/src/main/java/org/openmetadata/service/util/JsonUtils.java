@@ -15,9 +15,13 @@ package org.openmetadata.service.util;
 
 import static org.openmetadata.service.util.RestUtil.DATE_TIME_FORMAT;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.core.StreamReadFeature;
 import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
@@ -25,17 +29,21 @@ import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.fasterxml.jackson.datatype.jsr353.JSR353Module;
 import com.networknt.schema.JsonSchema;
 import com.networknt.schema.JsonSchemaFactory;
 import com.networknt.schema.SpecVersion.VersionFlag;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.StringReader;
+import java.io.StringWriter;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -100,6 +108,50 @@ public final class JsonUtils {
         : OBJECT_MAPPER.writeValueAsString(o);
   }
 
+  /**
+   * Serialize an object with some of its top level fields removed or replaced, and new fields added at the end. The
+   * result is the same as converting the object to a map with {@link #getMap(Object)}, removing the excluded fields,
+   * putting the given fields and serializing the map, but without building the map.
+   */
+  public static String pojoToJson(Object o, List<String> excludedFields, Map<String, Object> fields)
+      throws JsonProcessingException {
+    Map<String, Object> remainingFields = new LinkedHashMap<>(fields);
+    StringWriter writer = new StringWriter();
+    try (TokenBuffer buffer = new TokenBuffer(OBJECT_MAPPER, false)) {
+      OBJECT_MAPPER.writeValue(buffer, o);
+      try (JsonParser parser = buffer.asParser();
+          JsonGenerator generator = OBJECT_MAPPER.getFactory().createGenerator(writer)) {
+        parser.nextToken();
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+          String fieldName = parser.getCurrentName();
+          parser.nextToken();
+          if (excludedFields.contains(fieldName)) {
+            // Excluded fields that are put again are added at the end, like in a map
+            parser.skipChildren();
+          } else if (remainingFields.containsKey(fieldName)) {
+            parser.skipChildren();
+            generator.writeFieldName(fieldName);
+            generator.writeObject(remainingFields.remove(fieldName));
+          } else {
+            generator.writeFieldName(fieldName);
+            generator.copyCurrentStructure(parser);
+          }
+        }
+        for (Entry<String, Object> field : remainingFields.entrySet()) {
+          generator.writeFieldName(field.getKey());
+          generator.writeObject(field.getValue());
+        }
+        generator.writeEndObject();
+      }
+    } catch (JsonProcessingException e) {
+      throw e;
+    } catch (IOException e) {
+      throw JsonMappingException.fromUnexpectedIOE(e);
+    }
+    return writer.toString();
+  }
+
   public static JsonStructure getJsonStructure(Object o) {
     return OBJECT_MAPPER.convertValue(o, JsonStructure.class);
   }
@@ -296,6 +348,11 @@ public final class JsonUtils {
     return OBJECT_MAPPER.valueToTree(object);
   }
 
+  /** Create a generator that writes JSON to the given stream, serializing objects the same way as pojoToJson */
+  public static JsonGenerator createGenerator(OutputStream output) throws IOException {
+    return OBJECT_MAPPER.createGenerator(output);
+  }
+
   public static boolean hasAnnotation(JsonNode jsonNode, String annotation) {
     String comment = String.valueOf(jsonNode.get("$comment"));
     return comment != null && comment.contains(annotation);
@@ -305,7 +362,7 @@ public final class JsonUtils {
   public static List<Type> getTypes() throws IOException {
     // Get Field Types
     List<Type> types = new ArrayList<>();
-    List<String> jsonSchemas = EntityUtil.getJsonDataResources(".*json/schema/type/.*\\.json$");
+    List<String> jsonSchemas = EntityUtil.getJsonDataOrSchemaResources(".*json/schema/type/.*\\.json$");
     for (String jsonSchema : jsonSchemas) {
       try {
         types.addAll(JsonUtils.getFieldTypes(jsonSchema));
@@ -315,7 +372,7 @@ public final class JsonUtils {
     }
 
     // Get Entity Types
-    jsonSchemas = EntityUtil.getJsonDataResources(".*json/schema/entity/.*\\.json$");
+    jsonSchemas = EntityUtil.getJsonDataOrSchemaResources(".*json/schema/entity/.*\\.json$");
     for (String jsonSchema : jsonSchemas) {
       try {
         Type entityType = JsonUtils.getEntityType(jsonSchema);
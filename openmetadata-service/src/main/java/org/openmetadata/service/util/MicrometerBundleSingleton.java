@@ -14,8 +14,14 @@
 package org.openmetadata.service.util;
 
 import io.github.maksymdolgykh.dropwizard.micrometer.MicrometerBundle;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 import io.micrometer.prometheus.PrometheusMeterRegistry;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import org.openmetadata.service.monitoring.EventMonitorConfiguration;
 
 public class MicrometerBundleSingleton {
@@ -42,4 +48,82 @@ public class MicrometerBundleSingleton {
         .publishPercentileHistogram()
         .register(prometheusMeterRegistry);
   }
+
+  public static Counter searchResultCacheRequests(String result) {
+    return Counter.builder("search_result_cache_requests")
+        .description("Search result cache lookups by result.")
+        .tag("result", result)
+        .register(getRegistry());
+  }
+
+  public static Counter fernetDecryptCacheRequests(String result) {
+    return Counter.builder("fernet_decrypt_cache_requests")
+        .description("Lookups of decrypted fernet tokens by result.")
+        .tag("result", result)
+        .register(getRegistry());
+  }
+
+  public static Counter jwksRequests(String result) {
+    return Counter.builder("jwks_requests")
+        .description("Signing key lookups by result.")
+        .tag("result", result)
+        .register(getRegistry());
+  }
+
+  public static Counter jwksRefreshes(String result) {
+    return Counter.builder("jwks_refreshes")
+        .description("Fetches of the signing keys from the public key urls by result.")
+        .tag("result", result)
+        .register(getRegistry());
+  }
+
+  public static void searchIndexGeneration(String index, AtomicLong generation) {
+    Gauge.builder("search_index_generation", generation, AtomicLong::get)
+        .description("Number of writes to the search index from this server.")
+        .tag("index", index)
+        .register(getRegistry());
+  }
+
+  public static Timer eventPubSubPublishBlockTime(int partition) {
+    return Timer.builder("event_pubsub_publish_block_time")
+        .description("Time spent publishing change events waiting for room in the ring buffer of a partition.")
+        .tag("partition", String.valueOf(partition))
+        .register(getRegistry());
+  }
+
+  public static void eventPubSubPartition(int partition, Supplier<Number> ringFill, Supplier<Number> lag) {
+    Gauge.builder("event_pubsub_ring_fill", ringFill)
+        .description("Fraction of the ring buffer of a partition holding change events not yet handled.")
+        .tag("partition", String.valueOf(partition))
+        .register(getRegistry());
+    Gauge.builder("event_pubsub_lag", lag)
+        .description("Number of change events of a partition the slowest handler is behind.")
+        .tag("partition", String.valueOf(partition))
+        .register(getRegistry());
+  }
+
+  public static Counter changeEventsPurged(String operation, String eventType) {
+    return Counter.builder("change_events_purged")
+        .description("Change events removed by the retention job, by operation and event type.")
+        .tag("operation", operation)
+        .tag("eventType", eventType)
+        .register(getRegistry());
+  }
+
+  public static Timer changeEventRetentionRuns() {
+    return Timer.builder("change_event_retention_runs")
+        .description("Time taken by the runs of the change event retention job.")
+        .register(getRegistry());
+  }
+
+  public static void changeEventRetentionLastRun(Supplier<Number> lastRun) {
+    Gauge.builder("change_event_retention_last_run", lastRun)
+        .description("Time the last run of the change event retention job completed, in milliseconds since the epoch.")
+        .register(getRegistry());
+  }
+
+  // The bundle is not initialized when the server is not running, such as in unit tests
+  private static MeterRegistry getRegistry() {
+    return prometheusMeterRegistry != null ? prometheusMeterRegistry : Metrics.globalRegistry;
+  }
 }
@@ -13,11 +13,9 @@
 
 package org.openmetadata.service.util;
 
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Locale;
 import org.openmetadata.schema.entity.services.ServiceType;
-import org.openmetadata.service.exception.ReflectionException;
 
 public class ReflectionUtil {
 
@@ -32,32 +30,6 @@ public class ReflectionUtil {
     return Class.forName(clazzName);
   }
 
-  public static void setValueInMethod(Object toEncryptObject, String fieldValue, Method toSet) {
-    try {
-      toSet.invoke(toEncryptObject, fieldValue);
-    } catch (IllegalAccessException | InvocationTargetException e) {
-      throw new ReflectionException(e.getMessage());
-    }
-  }
-
-  public static Method getToSetMethod(Object toEncryptObject, Object obj, String fieldName) {
-    try {
-      return toEncryptObject.getClass().getMethod("set" + fieldName, obj.getClass());
-    } catch (NoSuchMethodException e) {
-      throw new ReflectionException(e.getMessage());
-    }
-  }
-
-  public static Object getObjectFromMethod(Method method, Object toEncryptObject) {
-    Object obj;
-    try {
-      obj = method.invoke(toEncryptObject);
-    } catch (IllegalAccessException | InvocationTargetException e) {
-      throw new ReflectionException(e.getMessage());
-    }
-    return obj;
-  }
-
   public static boolean isGetMethodOfObject(Method method) {
     return method.getName().startsWith("get")
         && !method.getReturnType().equals(Void.TYPE)
@@ -13,6 +13,7 @@
 
 package org.openmetadata.service.util;
 
+import com.fasterxml.jackson.annotation.JsonValue;
 import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
@@ -20,6 +21,7 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Base64;
 import java.util.Date;
+import java.util.List;
 import java.util.TimeZone;
 import java.util.UUID;
 import javax.ws.rs.core.Response;
@@ -154,6 +156,29 @@ public final class RestUtil {
     }
   }
 
+  /**
+   * Response of a request that changes the fields of many entities. Only the summary is returned to the client, while
+   * the change events of the entities are recorded by the change event handler.
+   */
+  public static class BulkChangeResponse<T> {
+    private final T summary;
+    @Getter private final List<ChangeEvent> changeEvents;
+
+    public BulkChangeResponse(T summary, List<ChangeEvent> changeEvents) {
+      this.summary = summary;
+      this.changeEvents = changeEvents;
+    }
+
+    @JsonValue
+    public T getSummary() {
+      return summary;
+    }
+
+    public Response toResponse() {
+      return Response.status(Status.CREATED).header(CHANGE_CUSTOM_HEADER, ENTITY_FIELDS_CHANGED).entity(this).build();
+    }
+  }
+
   public static class PatchResponse<T> {
     @Getter private final T entity;
     private final Response.Status status;
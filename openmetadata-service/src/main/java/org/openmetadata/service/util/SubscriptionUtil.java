@@ -16,20 +16,18 @@ package org.openmetadata.service.util;
 import static org.openmetadata.service.Entity.TEAM;
 import static org.openmetadata.service.Entity.USER;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import java.time.Period;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
-import javax.ws.rs.client.Client;
-import javax.ws.rs.client.ClientBuilder;
-import javax.ws.rs.client.Invocation;
-import javax.ws.rs.core.MediaType;
-import javax.ws.rs.core.Response;
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.openmetadata.common.utils.CommonUtil;
 import org.openmetadata.schema.EntityInterface;
@@ -45,6 +43,7 @@ import org.openmetadata.schema.type.Relationship;
 import org.openmetadata.schema.type.Webhook;
 import org.openmetadata.service.Entity;
 import org.openmetadata.service.events.subscription.SubscriptionPublisher;
+import org.openmetadata.service.events.subscription.WebhookClient;
 import org.openmetadata.service.jdbi3.CollectionDAO;
 import org.openmetadata.service.jdbi3.ListFilter;
 import org.openmetadata.service.jdbi3.UserRepository;
@@ -195,49 +194,30 @@ public class SubscriptionUtil {
     return receiverList;
   }
 
-  public static List<Invocation.Builder> getTargetsForWebhook(
+  public static List<String> getTargetsForWebhook(
       SubscriptionAction action,
       CreateEventSubscription.SubscriptionType type,
-      Client client,
       CollectionDAO daoCollection,
       ChangeEvent event) {
     EntityInterface entityInterface = (EntityInterface) event.getEntity();
-    List<Invocation.Builder> targets = new ArrayList<>();
-    Set<String> receiversUrls =
-        buildReceiversListFromActions(action, type, daoCollection, entityInterface.getId(), event.getEntityType());
-    for (String url : receiversUrls) {
-      targets.add(client.target(url).request());
-    }
-    return targets;
+    return new ArrayList<>(
+        buildReceiversListFromActions(action, type, daoCollection, entityInterface.getId(), event.getEntityType()));
   }
 
-  public static void postWebhookMessage(SubscriptionPublisher publisher, Invocation.Builder target, Object message)
-      throws InterruptedException {
-    long attemptTime = System.currentTimeMillis();
-    Response response = target.post(javax.ws.rs.client.Entity.entity(message, MediaType.APPLICATION_JSON_TYPE));
-    LOG.debug(
-        "Subscription Publisher Posted Message {}:{} received response {}",
-        publisher.getEventSubscription().getName(),
-        publisher.getEventSubscription().getBatchSize(),
-        response.getStatusInfo());
-    if (response.getStatus() >= 300 && response.getStatus() < 400) {
-      // 3xx response/redirection is not allowed for callback. Set the webhook state as in error
-      publisher.setErrorStatus(attemptTime, response.getStatus(), response.getStatusInfo().getReasonPhrase());
-    } else if (response.getStatus() >= 400 && response.getStatus() < 600) {
-      // 4xx, 5xx response retry delivering events after timeout
-      publisher.setNextBackOff();
-      publisher.setAwaitingRetry(attemptTime, response.getStatus(), response.getStatusInfo().getReasonPhrase());
-      Thread.sleep(publisher.getCurrentBackOff());
-    } else if (response.getStatus() == 200) {
-      publisher.setSuccessStatus(System.currentTimeMillis());
-    }
+  public static CompletableFuture<Void> postWebhookMessage(SubscriptionPublisher publisher, String url, Object message)
+      throws JsonProcessingException, InterruptedException {
+    return postWebhookMessage(publisher, url, Collections.emptyMap(), message);
   }
 
-  public static Client getClient(int connectTimeout, int readTimeout) {
-    ClientBuilder clientBuilder = ClientBuilder.newBuilder();
-    clientBuilder.connectTimeout(connectTimeout, TimeUnit.SECONDS);
-    clientBuilder.readTimeout(readTimeout, TimeUnit.SECONDS);
-    return clientBuilder.build();
+  /**
+   * Post a message to a webhook without waiting for the response, see {@link WebhookClient}. The returned future
+   * completes once the message is delivered, or has failed after the retries.
+   */
+  public static CompletableFuture<Void> postWebhookMessage(
+      SubscriptionPublisher publisher, String url, Map<String, String> headers, Object message)
+      throws JsonProcessingException, InterruptedException {
+    String json = message instanceof String ? (String) message : JsonUtils.pojoToJson(message);
+    return WebhookClient.getInstance().post(publisher, url, headers, json);
   }
 
   public static CronScheduleBuilder getCronSchedule(TriggerConfig trigger) {
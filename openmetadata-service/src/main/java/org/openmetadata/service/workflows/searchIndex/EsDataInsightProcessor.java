@@ -29,7 +29,6 @@ import org.openmetadata.schema.system.StepStats;
 import org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinition;
 import org.openmetadata.service.elasticsearch.ReportDataIndexes;
 import org.openmetadata.service.exception.ProcessorException;
-import org.openmetadata.service.util.JsonUtils;
 import org.openmetadata.service.util.ResultList;
 import org.openmetadata.service.workflows.interfaces.Processor;
 
@@ -80,7 +79,7 @@ public class EsDataInsightProcessor implements Processor<ResultList<ReportData>,
     ElasticSearchIndexDefinition.ElasticSearchIndexType indexType =
         ElasticSearchIndexDefinition.getIndexMappingByEntityType(entityType);
     UpdateRequest updateRequest = new UpdateRequest(indexType.indexName, reportData.getId().toString());
-    updateRequest.doc(JsonUtils.pojoToJson(new ReportDataIndexes(reportData).buildESDoc()), XContentType.JSON);
+    updateRequest.doc(new ReportDataIndexes(reportData).buildESDocJson(), XContentType.JSON);
     updateRequest.docAsUpsert(true);
     return updateRequest;
   }
@@ -30,7 +30,6 @@ import org.openmetadata.schema.system.StepStats;
 import org.openmetadata.service.elasticsearch.ElasticSearchIndexDefinition;
 import org.openmetadata.service.elasticsearch.ElasticSearchIndexFactory;
 import org.openmetadata.service.exception.ProcessorException;
-import org.openmetadata.service.util.JsonUtils;
 import org.openmetadata.service.util.ResultList;
 import org.openmetadata.service.workflows.interfaces.Processor;
 
@@ -85,8 +84,7 @@ public class EsEntitiesProcessor implements Processor<ResultList<? extends Entit
         ElasticSearchIndexDefinition.getIndexMappingByEntityType(entityType);
     UpdateRequest updateRequest = new UpdateRequest(indexType.indexName, entity.getId().toString());
     updateRequest.doc(
-        JsonUtils.pojoToJson(
-            Objects.requireNonNull(ElasticSearchIndexFactory.buildIndex(entityType, entity)).buildESDoc()),
+        Objects.requireNonNull(ElasticSearchIndexFactory.buildIndex(entityType, entity)).buildESDocJson(),
         XContentType.JSON);
     updateRequest.docAsUpsert(true);
     return updateRequest;
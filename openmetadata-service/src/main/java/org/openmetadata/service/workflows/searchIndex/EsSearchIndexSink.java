@@ -23,6 +23,7 @@ import org.elasticsearch.action.bulk.BulkResponse;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.openmetadata.schema.system.StepStats;
+import org.openmetadata.service.elasticsearch.SearchResultCache;
 import org.openmetadata.service.exception.SinkException;
 import org.openmetadata.service.workflows.interfaces.Sink;
 
@@ -40,6 +41,7 @@ public class EsSearchIndexSink implements Sink<BulkRequest, BulkResponse> {
     LOG.debug("[EsSearchIndexSink] Processing a Batch of Size: {}", data.numberOfActions());
     try {
       BulkResponse response = client.bulk(data, RequestOptions.DEFAULT);
+      data.requests().forEach(docRequest -> SearchResultCache.onIndexUpdated(docRequest.index()));
       int currentSuccess = getSuccessFromBulkResponse(response);
       int currentFailed = response.getItems().length - currentSuccess;
 
@@ -10,6 +10,8 @@ import static org.openmetadata.csv.EntityCsv.ENTITY_CREATED;
 import static org.openmetadata.csv.EntityCsv.ENTITY_UPDATED;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.commons.csv.CSVPrinter;
@@ -83,6 +85,32 @@ public class EntityCsvTest {
     assertRows(importResult, expectedRecords);
   }
 
+  @Test
+  void test_importCsvStreamsResultsInRecordOrder() throws IOException {
+    // Interleave invalid records with valid ones across multiple batches
+    List<String> records = new ArrayList<>();
+    List<String> expectedRecords = new ArrayList<>();
+    expectedRecords.add(CsvUtil.recordToString(EntityCsv.getResultHeaders(CSV_HEADERS)));
+    for (int i = 0; i < 2 * EntityCsv.BATCH_SIZE + 1; i++) {
+      if (i % 3 == 0) {
+        records.add(",2,3");
+        expectedRecords.add(getFailedRecord(",2,3", TestCsv.fieldRequired(0)));
+      } else {
+        records.add(i + ",2,3");
+        expectedRecords.add(getSuccessRecord(i + ",2,3", ENTITY_CREATED));
+      }
+    }
+    String csv = createCsv(CSV_HEADERS, records);
+
+    TestCsv testCsv = new TestCsv();
+    StringWriter resultsWriter = new StringWriter();
+    CsvImportResult importResult = testCsv.importCsv(new StringReader(csv), resultsWriter, true);
+    int processed = records.size() + 1; // Records and the header
+    int failed = (int) expectedRecords.stream().filter(r -> r.startsWith(EntityCsv.IMPORT_STATUS_FAILED)).count();
+    assertSummary(importResult, Status.PARTIAL_SUCCESS, processed, processed - failed, failed);
+    assertRows(importResult.withImportResultsCsv(resultsWriter.toString()), expectedRecords.toArray(new String[0]));
+  }
+
   public static void assertSummary(
       CsvImportResult importResult,
       Status expectedStatus,
@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.dataInsight;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.analytics.ReportData.ReportDataType;
+import org.openmetadata.schema.dataInsight.DataInsightChart;
+import org.openmetadata.schema.dataInsight.DataInsightChartResult;
+import org.openmetadata.schema.dataInsight.DataInsightChartResult.DataInsightChartType;
+import org.openmetadata.schema.type.DataReportIndex;
+import org.openmetadata.service.jdbi3.DataInsightChartRepository;
+import org.openmetadata.service.jdbi3.ReportDataRepository;
+
+class DataInsightChartResultCacheTest {
+  private static final DataInsightChartType ENTITIES_CHART = DataInsightChartType.TOTAL_ENTITIES_BY_TYPE;
+  private static final DataInsightChartType USERS_CHART = DataInsightChartType.DAILY_ACTIVE_USERS;
+  private static final String ENTITY_INDEX = DataReportIndex.ENTITY_REPORT_DATA_INDEX.value();
+  private static final String USER_INDEX = DataReportIndex.WEB_ANALYTIC_USER_ACTIVITY_REPORT_DATA_INDEX.value();
+
+  private DataInsightChartRepository repository;
+  private ReportDataRepository reportDataRepository;
+  private DataInsightChartResultCache cache;
+
+  @BeforeEach
+  void setUp() throws Exception {
+    repository = mock(DataInsightChartRepository.class);
+    reportDataRepository = mock(ReportDataRepository.class);
+    when(repository.getDataInsightChartResult(any(), anyLong(), anyLong(), any(), any(), any(), any()))
+        .thenAnswer(invocation -> new DataInsightChartResult());
+    when(reportDataRepository.listReportDataTimestamps(ReportDataType.ENTITY_REPORT_DATA))
+        .thenReturn(List.of(100L, 200L, 300L));
+    when(reportDataRepository.listReportDataTimestamps(ReportDataType.WEB_ANALYTIC_USER_ACTIVITY_REPORT_DATA))
+        .thenReturn(List.of(100L));
+    cache =
+        new DataInsightChartResultCache(
+            repository,
+            reportDataRepository,
+            null,
+            new DataInsightConfiguration(),
+            Map.of(ENTITIES_CHART, ENTITY_INDEX, USERS_CHART, USER_INDEX));
+  }
+
+  @Test
+  void testWindowsWithTheSameReportDataShareResults() throws Exception {
+    DataInsightChartResult result = cache.get(50L, 250L, null, null, ENTITIES_CHART, ENTITY_INDEX);
+    assertSame(result, cache.get(90L, 299L, null, null, ENTITIES_CHART, ENTITY_INDEX));
+    verify(repository, times(1)).getDataInsightChartResult(any(), anyLong(), anyLong(), any(), any(), any(), any());
+
+    // A window with other report data, or another team, is another result
+    cache.get(150L, 350L, null, null, ENTITIES_CHART, ENTITY_INDEX);
+    cache.get(50L, 250L, null, "team", ENTITIES_CHART, ENTITY_INDEX);
+    verify(repository, times(3)).getDataInsightChartResult(any(), anyLong(), anyLong(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testReportDataInvalidatesOnlyTheResultsContainingIt() throws Exception {
+    DataInsightChartResult first = cache.get(50L, 150L, null, null, ENTITIES_CHART, ENTITY_INDEX);
+    cache.get(250L, 350L, null, null, ENTITIES_CHART, ENTITY_INDEX);
+    DataInsightChartResult users = cache.get(50L, 150L, null, null, USERS_CHART, USER_INDEX);
+
+    cache.invalidateReportData(ReportDataType.ENTITY_REPORT_DATA, 300L);
+
+    assertSame(first, cache.get(50L, 150L, null, null, ENTITIES_CHART, ENTITY_INDEX));
+    assertSame(users, cache.get(50L, 150L, null, null, USERS_CHART, USER_INDEX));
+    cache.get(250L, 350L, null, null, ENTITIES_CHART, ENTITY_INDEX);
+    verify(repository, times(2))
+        .getDataInsightChartResult(any(), eq(250L), eq(350L), any(), any(), eq(ENTITIES_CHART), eq(ENTITY_INDEX));
+    verify(repository, times(1))
+        .getDataInsightChartResult(any(), eq(50L), eq(150L), any(), any(), eq(ENTITIES_CHART), eq(ENTITY_INDEX));
+    // The report data timestamps are reloaded to find the new ones
+    verify(reportDataRepository, times(2)).listReportDataTimestamps(ReportDataType.ENTITY_REPORT_DATA);
+  }
+
+  @Test
+  void testResultsOfUnknownIndexesAreNotCached() throws Exception {
+    cache.get(50L, 250L, null, null, ENTITIES_CHART, "unknown_index");
+    cache.get(50L, 250L, null, null, ENTITIES_CHART, "unknown_index");
+    verify(repository, times(2)).getDataInsightChartResult(any(), anyLong(), anyLong(), any(), any(), any(), any());
+  }
+
+  @Test
+  void testPrecomputeCountsTheComputedResults() throws Exception {
+    when(repository.getDataInsightChartResult(any(), anyLong(), anyLong(), any(), any(), eq(USERS_CHART), any()))
+        .thenThrow(new RuntimeException("unavailable"));
+    // Each of the default windows of the chart that did not fail
+    assertEquals(new DataInsightConfiguration().getPrecomputeWindowsInDays().size(), cache.precomputeCharts());
+  }
+
+  @Test
+  void testUnknownChartsAreSkipped() {
+    Map<DataInsightChartType, String> chartIndexes =
+        DataInsightChartResultCache.getChartIndexes(
+            List.of(
+                new DataInsightChart()
+                    .withName(ENTITIES_CHART.value())
+                    .withDataIndexType(DataReportIndex.ENTITY_REPORT_DATA_INDEX),
+                new DataInsightChart()
+                    .withName("UnknownChart")
+                    .withDataIndexType(DataReportIndex.ENTITY_REPORT_DATA_INDEX)));
+    assertEquals(Map.of(ENTITIES_CHART, ENTITY_INDEX), chartIndexes);
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.elasticsearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+import org.openmetadata.schema.entity.data.Query;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.type.ChangeDescription;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.Column;
+import org.openmetadata.schema.type.ColumnDataType;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.schema.type.FieldChange;
+import org.openmetadata.schema.type.TagLabel;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.TableRepository;
+import org.openmetadata.service.util.JsonUtils;
+
+class ElasticSearchEventPublisherTest {
+  private static final Table table =
+      new Table()
+          .withId(UUID.randomUUID())
+          .withName("table")
+          .withFullyQualifiedName("service.database.schema.table")
+          .withDescription("description")
+          .withService(
+              new EntityReference().withId(UUID.randomUUID()).withType(Entity.DATABASE_SERVICE).withName("service"))
+          .withDatabase(new EntityReference().withId(UUID.randomUUID()).withType(Entity.DATABASE).withName("database"))
+          .withDatabaseSchema(
+              new EntityReference().withId(UUID.randomUUID()).withType(Entity.DATABASE_SCHEMA).withName("schema"))
+          .withOwner(new EntityReference().withId(UUID.randomUUID()).withType(Entity.USER).withName("user"))
+          .withTags(
+              List.of(
+                  new TagLabel().withTagFQN("PII.Sensitive").withSource(TagLabel.TagSource.CLASSIFICATION),
+                  new TagLabel().withTagFQN("Tier.Tier1").withSource(TagLabel.TagSource.CLASSIFICATION)))
+          .withColumns(
+              List.of(
+                  new Column().withName("c1").withDataType(ColumnDataType.INT).withDescription("column description"),
+                  new Column().withName("c2").withDataType(ColumnDataType.STRING)))
+          .withVersion(0.2)
+          .withUpdatedAt(1680000000000L)
+          .withUpdatedBy("user");
+
+  @BeforeAll
+  static void setup() {
+    TableRepository tableRepository = mock(TableRepository.class);
+    Mockito.when(tableRepository.getAllTags(any()))
+        .thenAnswer((Answer<List<TagLabel>>) invocationOnMock -> table.getTags());
+    Entity.registerEntity(Table.class, Entity.TABLE, tableRepository, null);
+  }
+
+  @Test
+  void testPartialDocMatchesDocument() throws JsonProcessingException {
+    Map<String, Object> partialDoc =
+        ElasticSearchEventPublisher.buildPartialDoc(
+            updateEvent(Entity.TABLE, table, fieldChanges("description", "owner", "tags", "columns.c1.description")));
+    assertNotNull(partialDoc);
+    assertEquals(
+        List.of("columns", "description", "owner", "tags", "tier", "updatedAt", "updatedBy", "version"),
+        new ArrayList<>(new TreeSet<>(partialDoc.keySet())));
+
+    // Each field of the partial document has the same value as in the whole document
+    Map<String, Object> doc = new TableIndex(table).buildESDoc();
+    for (Map.Entry<String, Object> field : partialDoc.entrySet()) {
+      assertEquals(
+          JsonUtils.pojoToJson(doc.get(field.getKey())), JsonUtils.pojoToJson(field.getValue()), field.getKey());
+    }
+  }
+
+  @Test
+  void testPartialDocOfColumnTags() {
+    // Tags of the columns are indexed as the tags of the table
+    Map<String, Object> partialDoc =
+        ElasticSearchEventPublisher.buildPartialDoc(updateEvent(Entity.TABLE, table, fieldChanges("columns.c2.tags")));
+    assertNotNull(partialDoc);
+    assertNotNull(partialDoc.get("columns"));
+    assertNotNull(partialDoc.get("tags"));
+    assertEquals("Tier.Tier1", ((TagLabel) partialDoc.get("tier")).getTagFQN());
+  }
+
+  @Test
+  void testPartialDocNotBuilt() {
+    // Changes to the fields the suggestions are built from need the whole document
+    assertNull(ElasticSearchEventPublisher.buildPartialDoc(updateEvent(Entity.TABLE, table, fieldChanges("name"))));
+    assertNull(
+        ElasticSearchEventPublisher.buildPartialDoc(
+            updateEvent(Entity.TABLE, table, fieldChanges("description", "displayName"))));
+    assertNull(ElasticSearchEventPublisher.buildPartialDoc(updateEvent(Entity.TABLE, table, null)));
+
+    // Indexes without a verified mapping are always updated with the whole document
+    Query query = new Query().withId(UUID.randomUUID()).withName("query").withDescription("description");
+    assertNull(
+        ElasticSearchEventPublisher.buildPartialDoc(updateEvent(Entity.QUERY, query, fieldChanges("description"))));
+  }
+
+  private static ChangeDescription fieldChanges(String... fieldNames) {
+    ChangeDescription changeDescription = new ChangeDescription().withPreviousVersion(0.1);
+    for (String fieldName : fieldNames) {
+      changeDescription.getFieldsUpdated().add(new FieldChange().withName(fieldName));
+    }
+    return changeDescription;
+  }
+
+  private static ChangeEvent updateEvent(String entityType, Object entity, ChangeDescription changeDescription) {
+    return new ChangeEvent()
+        .withEventType(EventType.ENTITY_UPDATED)
+        .withEntityType(entityType)
+        .withEntity(entity)
+        .withPreviousVersion(0.1)
+        .withCurrentVersion(0.2)
+        .withChangeDescription(changeDescription);
+  }
+}
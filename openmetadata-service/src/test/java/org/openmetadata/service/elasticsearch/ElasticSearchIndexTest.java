@@ -0,0 +1,206 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.elasticsearch;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mockito.Mockito;
+import org.mockito.stubbing.Answer;
+import org.openmetadata.schema.EntityInterface;
+import org.openmetadata.schema.analytics.EntityReportData;
+import org.openmetadata.schema.analytics.ReportData;
+import org.openmetadata.schema.entity.classification.Tag;
+import org.openmetadata.schema.entity.data.Container;
+import org.openmetadata.schema.entity.data.Dashboard;
+import org.openmetadata.schema.entity.data.GlossaryTerm;
+import org.openmetadata.schema.entity.data.MlModel;
+import org.openmetadata.schema.entity.data.Pipeline;
+import org.openmetadata.schema.entity.data.Query;
+import org.openmetadata.schema.entity.data.Table;
+import org.openmetadata.schema.entity.data.Topic;
+import org.openmetadata.schema.entity.teams.Team;
+import org.openmetadata.schema.entity.teams.User;
+import org.openmetadata.schema.type.Column;
+import org.openmetadata.schema.type.ColumnDataType;
+import org.openmetadata.schema.type.ContainerDataModel;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Field;
+import org.openmetadata.schema.type.FieldDataType;
+import org.openmetadata.schema.type.MessageSchema;
+import org.openmetadata.schema.type.SchemaType;
+import org.openmetadata.schema.type.TagLabel;
+import org.openmetadata.schema.type.Task;
+import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.ContainerRepository;
+import org.openmetadata.service.jdbi3.DashboardRepository;
+import org.openmetadata.service.jdbi3.EntityRepository;
+import org.openmetadata.service.jdbi3.MlModelRepository;
+import org.openmetadata.service.jdbi3.PipelineRepository;
+import org.openmetadata.service.jdbi3.QueryRepository;
+import org.openmetadata.service.jdbi3.TableRepository;
+import org.openmetadata.service.jdbi3.TopicRepository;
+import org.openmetadata.service.util.JsonUtils;
+
+class ElasticSearchIndexTest {
+  private static final List<TagLabel> TAGS =
+      List.of(
+          new TagLabel().withTagFQN("PII.Sensitive").withSource(TagLabel.TagSource.CLASSIFICATION),
+          new TagLabel().withTagFQN("Tier.Tier1").withSource(TagLabel.TagSource.CLASSIFICATION));
+  private static final List<Column> COLUMNS =
+      List.of(
+          new Column()
+              .withName("c1")
+              .withDataType(ColumnDataType.STRUCT)
+              .withDescription("description")
+              .withTags(List.of(TAGS.get(0)))
+              .withChildren(List.of(new Column().withName("c2").withDataType(ColumnDataType.INT))),
+          new Column().withName("c3").withDataType(ColumnDataType.STRING));
+
+  @BeforeAll
+  static void setup() {
+    registerRepository(Table.class, Entity.TABLE, TableRepository.class);
+    registerRepository(Topic.class, Entity.TOPIC, TopicRepository.class);
+    registerRepository(Dashboard.class, Entity.DASHBOARD, DashboardRepository.class);
+    registerRepository(Pipeline.class, Entity.PIPELINE, PipelineRepository.class);
+    registerRepository(MlModel.class, Entity.MLMODEL, MlModelRepository.class);
+    registerRepository(Container.class, Entity.CONTAINER, ContainerRepository.class);
+    registerRepository(Query.class, Entity.QUERY, QueryRepository.class);
+  }
+
+  static Stream<Arguments> indexes() {
+    return Stream.of(
+        Arguments.of(
+            Entity.TABLE,
+            entity(new Table(), "service.database.schema.table")
+                .withService(reference(Entity.DATABASE_SERVICE, "service"))
+                .withDatabase(reference(Entity.DATABASE, "database"))
+                .withDatabaseSchema(reference(Entity.DATABASE_SCHEMA, "schema"))
+                .withColumns(COLUMNS)
+                .withFollowers(List.of(reference(Entity.USER, "follower")))
+                .withViewDefinition("select 1")),
+        Arguments.of(
+            Entity.TOPIC,
+            entity(new Topic(), "service.topic")
+                .withService(reference(Entity.MESSAGING_SERVICE, "service"))
+                .withPartitions(1)
+                .withMessageSchema(
+                    new MessageSchema()
+                        .withSchemaType(SchemaType.Avro)
+                        .withSchemaFields(
+                            List.of(
+                                new Field()
+                                    .withName("record")
+                                    .withDataType(FieldDataType.RECORD)
+                                    .withChildren(
+                                        List.of(new Field().withName("f1").withDataType(FieldDataType.STRING))))))),
+        Arguments.of(
+            Entity.DASHBOARD,
+            entity(new Dashboard(), "service.dashboard")
+                .withService(reference(Entity.DASHBOARD_SERVICE, "service"))
+                .withCharts(List.of(reference(Entity.CHART, "chart").withDisplayName("chart")))),
+        Arguments.of(
+            Entity.PIPELINE,
+            entity(new Pipeline(), "service.pipeline")
+                .withService(reference(Entity.PIPELINE_SERVICE, "service"))
+                .withTasks(List.of(new Task().withName("task").withDescription("description")))),
+        Arguments.of(
+            Entity.MLMODEL,
+            entity(new MlModel(), "service.mlmodel")
+                .withService(reference(Entity.MLMODEL_SERVICE, "service"))
+                .withAlgorithm("algorithm")),
+        Arguments.of(
+            Entity.CONTAINER,
+            entity(new Container(), "service.container")
+                .withService(reference(Entity.STORAGE_SERVICE, "service"))
+                .withDataModel(new ContainerDataModel().withColumns(COLUMNS))),
+        Arguments.of(Entity.QUERY, entity(new Query(), "query").withQuery("select 1")),
+        Arguments.of(Entity.USER, entity(new User(), "user").withEmail("user@open-metadata.org")),
+        Arguments.of(Entity.TEAM, entity(new Team(), "team").withDisplayName(null)),
+        Arguments.of(
+            Entity.GLOSSARY_TERM,
+            entity(new GlossaryTerm(), "glossary.term").withGlossary(reference(Entity.GLOSSARY, "glossary"))),
+        Arguments.of(Entity.TAG, entity(new Tag(), "Classification.tag")));
+  }
+
+  @ParameterizedTest
+  @MethodSource("indexes")
+  void testDocumentJsonMatchesDocument(String entityType, EntityInterface entity) throws JsonProcessingException {
+    ElasticSearchIndex index = ElasticSearchIndexFactory.buildIndex(entityType, entity);
+    assertSameDocument(index);
+  }
+
+  @ParameterizedTest
+  @MethodSource("reportData")
+  void testReportDataDocumentJsonMatchesDocument(ReportData reportData) throws JsonProcessingException {
+    assertSameDocument(new ReportDataIndexes(reportData));
+  }
+
+  static Stream<ReportData> reportData() {
+    return Stream.of(
+        new ReportData()
+            .withId(UUID.randomUUID())
+            .withTimestamp(1680000000000L)
+            .withReportDataType(ReportData.ReportDataType.ENTITY_REPORT_DATA)
+            .withData(
+                new EntityReportData()
+                    .withEntityType(Entity.TABLE)
+                    .withEntityTier("Tier.Tier1")
+                    .withCompletedDescriptions(1)
+                    .withEntityCount(11)));
+  }
+
+  /** The document written from the entity has the same bytes as the serialized map of the document */
+  private static void assertSameDocument(ElasticSearchIndex index) throws JsonProcessingException {
+    byte[] expected = JsonUtils.pojoToJson(index.buildESDoc()).getBytes(StandardCharsets.UTF_8);
+    byte[] actual = index.buildESDocJson().getBytes(StandardCharsets.UTF_8);
+    assertArrayEquals(expected, actual);
+  }
+
+  private static <T extends EntityInterface> T entity(T entity, String fullyQualifiedName) {
+    String[] parts = fullyQualifiedName.split("\\.");
+    entity.setId(UUID.randomUUID());
+    entity.setName(parts[parts.length - 1]);
+    entity.setFullyQualifiedName(fullyQualifiedName);
+    entity.setDisplayName("display " + entity.getName());
+    entity.setDescription("description");
+    entity.setOwner(reference(Entity.USER, "owner"));
+    entity.setTags(TAGS);
+    entity.setVersion(0.1);
+    entity.setUpdatedAt(1680000000000L);
+    entity.setUpdatedBy("admin");
+    return entity;
+  }
+
+  private static EntityReference reference(String entityType, String name) {
+    return new EntityReference().withId(UUID.randomUUID()).withType(entityType).withName(name);
+  }
+
+  private static <T extends EntityInterface> void registerRepository(
+      Class<T> clazz, String entityType, Class<? extends EntityRepository<T>> repositoryClass) {
+    EntityRepository<T> repository = mock(repositoryClass);
+    Mockito.when(repository.getAllTags(any()))
+        .thenAnswer((Answer<List<TagLabel>>) invocation -> ((EntityInterface) invocation.getArgument(0)).getTags());
+    Entity.registerEntity(clazz, entityType, repository, null);
+  }
+}
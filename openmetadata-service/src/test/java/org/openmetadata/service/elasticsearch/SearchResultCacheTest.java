@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.elasticsearch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SearchResultCacheTest {
+  private static final int INDEX_REFRESH_INTERVAL_MILLIS = 100;
+  private static SearchResultCache cache;
+
+  @BeforeAll
+  static void setup() {
+    SearchResultCacheConfiguration config = new SearchResultCacheConfiguration();
+    config.setIndexRefreshIntervalMillis(INDEX_REFRESH_INTERVAL_MILLIS);
+    // Index updates are only tracked once the cache is enabled
+    SearchResultCache.initialize(config);
+    cache = new SearchResultCache(config);
+  }
+
+  @Test
+  void testResponseCachedUntilIndexUpdated() throws IOException, InterruptedException {
+    String index = ElasticSearchIndexDefinition.ElasticSearchIndexType.TABLE_SEARCH_INDEX.indexName;
+    CountingLoader loader = new CountingLoader();
+    cache.getResponse(index, null, "{\"query\":1}", loader);
+    cache.getResponse(index, null, "{\"query\":1}", loader);
+    assertEquals(1, loader.loads.get());
+
+    // A different source or filter path is a different search
+    cache.getResponse(index, null, "{\"query\":2}", loader);
+    cache.getResponse(index, "suggest", "{\"query\":1}", loader);
+    assertEquals(3, loader.loads.get());
+
+    // Writes to another index don't change the generation of the index
+    SearchResultCache.onIndexUpdated(ElasticSearchIndexDefinition.ElasticSearchIndexType.USER_SEARCH_INDEX.indexName);
+    cache.getResponse(index, null, "{\"query\":1}", loader);
+    assertEquals(3, loader.loads.get());
+
+    // A write to the index changes its generation
+    SearchResultCache.onIndexUpdated(index);
+    waitForIndexRefresh();
+    cache.getResponse(index, null, "{\"query\":1}", loader);
+    assertEquals(4, loader.loads.get());
+    cache.getResponse(index, null, "{\"query\":1}", loader);
+    assertEquals(4, loader.loads.get());
+  }
+
+  @Test
+  void testResponseNotCachedWithinIndexRefreshInterval() throws IOException, InterruptedException {
+    String index = ElasticSearchIndexDefinition.ElasticSearchIndexType.TOPIC_SEARCH_INDEX.indexName;
+    CountingLoader loader = new CountingLoader();
+    SearchResultCache.onIndexUpdated(index);
+
+    // The write may not be visible yet to the searches run right after it
+    cache.getResponse(index, null, "{}", loader);
+    cache.getResponse(index, null, "{}", loader);
+    assertEquals(2, loader.loads.get());
+
+    waitForIndexRefresh();
+    cache.getResponse(index, null, "{}", loader);
+    cache.getResponse(index, null, "{}", loader);
+    assertEquals(3, loader.loads.get());
+  }
+
+  @Test
+  void testAliasesShareGenerationOfAllIndexes() throws IOException, InterruptedException {
+    String index = ElasticSearchIndexDefinition.ElasticSearchIndexType.DASHBOARD_SEARCH_INDEX.indexName;
+    CountingLoader loader = new CountingLoader();
+    waitForIndexRefresh();
+    cache.getResponse("all", null, "{}", loader);
+    cache.getResponse("all", null, "{}", loader);
+    cache.getResponse(index + ",alias", null, "{}", loader);
+    cache.getResponse(index + ",alias", null, "{}", loader);
+    assertEquals(2, loader.loads.get());
+
+    // A write to any index changes the responses of aliases and wildcards
+    SearchResultCache.onIndexUpdated(index);
+    waitForIndexRefresh();
+    cache.getResponse("all", null, "{}", loader);
+    cache.getResponse(index + ",alias", null, "{}", loader);
+    assertEquals(4, loader.loads.get());
+  }
+
+  private static void waitForIndexRefresh() throws InterruptedException {
+    Thread.sleep(INDEX_REFRESH_INTERVAL_MILLIS + 50L);
+  }
+
+  private static class CountingLoader implements SearchResultCache.ResponseLoader {
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Override
+    public byte[] load() {
+      return String.valueOf(loads.incrementAndGet()).getBytes(StandardCharsets.UTF_8);
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO;
+
+class ChangeEventRetentionTest {
+  private static final long NOW = 1_700_000_000_000L;
+  private static final long DAY_MILLIS = TimeUnit.DAYS.toMillis(1);
+
+  private ChangeEventDAO dao;
+  private ChangeEventRetentionConfiguration config;
+
+  @BeforeEach
+  void setUp() {
+    dao = mock(ChangeEventDAO.class);
+    config = new ChangeEventRetentionConfiguration();
+    config.setBatchSize(10);
+    config.setBatchPauseMillis(0);
+  }
+
+  @Test
+  void testEventsArePurgedByEventTypeInBatches() {
+    config.setEventTypeRetentionDays(Map.of(EventType.ENTITY_UPDATED.value(), 7, EventType.ENTITY_DELETED.value(), 0));
+    when(dao.deleteBefore(eq(EventType.ENTITY_UPDATED.value()), anyLong(), anyInt())).thenReturn(10, 10, 3);
+
+    new ChangeEventRetention(dao, config).run(NOW);
+
+    // Full batches are followed by another batch, until the batch is not full
+    verify(dao, times(3)).deleteBefore(EventType.ENTITY_UPDATED.value(), NOW - 7 * DAY_MILLIS, 10);
+    verify(dao).deleteBefore(EventType.ENTITY_CREATED.value(), NOW - 90 * DAY_MILLIS, 10);
+    // Events of event types with no retention are kept
+    verify(dao, never()).deleteBefore(eq(EventType.ENTITY_DELETED.value()), anyLong(), anyInt());
+    verify(dao).deleteSupersededUpdates(NOW - 7 * DAY_MILLIS, 10);
+  }
+
+  @Test
+  void testEventsAreKeptWhenRetentionAndCompactionAreDisabled() {
+    config.setRetentionDays(0);
+    config.setCompactionDays(0);
+
+    new ChangeEventRetention(dao, config).run(NOW);
+
+    verify(dao, never()).deleteBefore(anyString(), anyLong(), anyInt());
+    verify(dao, never()).deleteSupersededUpdates(anyLong(), anyInt());
+  }
+
+  @Test
+  void testUnknownEventTypesAreRejected() {
+    config.setEventTypeRetentionDays(Map.of("entityUpdate", 7));
+    assertThrows(IllegalArgumentException.class, () -> new ChangeEventRetention(dao, config));
+  }
+}
@@ -0,0 +1,205 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.lmax.disruptor.EventHandler;
+import com.lmax.disruptor.LifecycleAware;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.service.events.EventPubSub.ChangeEventHolder;
+import org.openmetadata.service.resources.events.EventResource.EventList;
+
+class EventPubSubTest {
+  private static final int EVENTS_PER_ENTITY = 200;
+
+  @BeforeEach
+  void beforeEach() {
+    EventPubSubConfiguration config = new EventPubSubConfiguration();
+    config.setPartitions(4);
+    config.setRingBufferSize(16);
+    EventPubSub.start(config);
+  }
+
+  @AfterEach
+  void afterEach() throws InterruptedException {
+    EventPubSub.shutdown();
+  }
+
+  @Test
+  void testEventsOfAnEntityAreHandledInOrder() throws Exception {
+    List<UUID> entityIds = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      entityIds.add(UUID.randomUUID());
+    }
+    RecordingHandler handler = new RecordingHandler(entityIds.size() * EVENTS_PER_ENTITY);
+    EventPubSub.EventProcessor processor = EventPubSub.addEventHandler(handler);
+    publishEvents(entityIds);
+
+    assertTrue(handler.received.await(10, TimeUnit.SECONDS));
+    for (UUID entityId : entityIds) {
+      List<Double> versions = handler.versions.get(entityId);
+      assertEquals(EVENTS_PER_ENTITY, versions.size());
+      for (int version = 0; version < EVENTS_PER_ENTITY; version++) {
+        assertEquals((double) version, versions.get(version));
+      }
+    }
+
+    // The handler is started and shut down once for all the partitions
+    assertEquals(1, handler.starts.get());
+    processor.halt();
+    assertTrue(handler.shutdown.await(10, TimeUnit.SECONDS));
+    EventPubSub.removeProcessor(processor);
+  }
+
+  @Test
+  void testPublisherBatchesEventsPerPartition() throws Exception {
+    List<UUID> entityIds = new ArrayList<>();
+    for (int i = 0; i < 8; i++) {
+      entityIds.add(UUID.randomUUID());
+    }
+    BatchingPublisher publisher = new BatchingPublisher(entityIds.size() * EVENTS_PER_ENTITY);
+    EventPubSub.EventProcessor processor = EventPubSub.addEventHandler(publisher);
+    publishEvents(entityIds);
+
+    // Every event is published once, in a batch holding only events of the same partition
+    assertTrue(publisher.published.await(10, TimeUnit.SECONDS));
+    assertEquals(entityIds.size() * EVENTS_PER_ENTITY, publisher.events.size());
+    for (Set<Integer> partitions : publisher.batchPartitions) {
+      assertEquals(1, partitions.size());
+    }
+    processor.halt();
+    EventPubSub.removeProcessor(processor);
+  }
+
+  @Test
+  void testInvalidConfiguration() {
+    EventPubSubConfiguration noPartitions = new EventPubSubConfiguration();
+    noPartitions.setPartitions(0);
+    assertThrows(IllegalArgumentException.class, () -> EventPubSub.start(noPartitions));
+
+    EventPubSubConfiguration ringBufferSize = new EventPubSubConfiguration();
+    ringBufferSize.setRingBufferSize(1000);
+    assertThrows(IllegalArgumentException.class, () -> EventPubSub.start(ringBufferSize));
+  }
+
+  /** Publish the events of each entity from its own thread */
+  private static void publishEvents(List<UUID> entityIds) throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(entityIds.size());
+    try {
+      List<Future<?>> futures = new ArrayList<>();
+      for (UUID entityId : entityIds) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  for (int version = 0; version < EVENTS_PER_ENTITY; version++) {
+                    EventPubSub.publish(new ChangeEvent().withEntityId(entityId).withCurrentVersion((double) version));
+                  }
+                }));
+      }
+      for (Future<?> future : futures) {
+        future.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static class RecordingHandler implements EventHandler<ChangeEventHolder>, LifecycleAware {
+    private final Map<UUID, List<Double>> versions = new ConcurrentHashMap<>();
+    private final CountDownLatch received;
+    private final CountDownLatch shutdown = new CountDownLatch(1);
+    private final AtomicInteger starts = new AtomicInteger();
+
+    private RecordingHandler(int events) {
+      this.received = new CountDownLatch(events);
+    }
+
+    @Override
+    public void onEvent(ChangeEventHolder changeEventHolder, long sequence, boolean endOfBatch) {
+      // The partitions are handled concurrently, but the events of an entity are all handled by one partition
+      ChangeEvent event = changeEventHolder.getEvent();
+      versions.computeIfAbsent(event.getEntityId(), id -> new ArrayList<>()).add(event.getCurrentVersion());
+      received.countDown();
+    }
+
+    @Override
+    public void onStart() {
+      starts.incrementAndGet();
+    }
+
+    @Override
+    public void onShutdown() {
+      shutdown.countDown();
+    }
+  }
+
+  private static class BatchingPublisher extends AbstractEventPublisher {
+    private final List<ChangeEvent> events = Collections.synchronizedList(new ArrayList<>());
+    private final List<Set<Integer>> batchPartitions = Collections.synchronizedList(new ArrayList<>());
+    private final Map<UUID, Integer> entityPartitions = new ConcurrentHashMap<>();
+    private final CountDownLatch published;
+
+    private BatchingPublisher(int events) {
+      super(10);
+      this.published = new CountDownLatch(events);
+    }
+
+    @Override
+    public void onEvent(ChangeEventHolder changeEventHolder, long sequence, boolean endOfBatch) throws Exception {
+      entityPartitions.put(changeEventHolder.getEvent().getEntityId(), changeEventHolder.getPartition());
+      super.onEvent(changeEventHolder, sequence, endOfBatch);
+    }
+
+    @Override
+    public void publish(EventList list) {
+      Set<Integer> partitions = new HashSet<>();
+      for (ChangeEvent event : list.getData()) {
+        partitions.add(entityPartitions.get(event.getEntityId()));
+        events.add(event);
+        published.countDown();
+      }
+      batchPartitions.add(partitions);
+    }
+
+    @Override
+    public void onStart() {
+      /* Nothing to start */
+    }
+
+    @Override
+    public void onShutdown() {
+      /* Nothing to shut down */
+    }
+  }
+}
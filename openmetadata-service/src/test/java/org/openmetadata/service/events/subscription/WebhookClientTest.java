@@ -0,0 +1,194 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.events.subscription;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.sun.net.httpserver.HttpServer;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.entity.events.EventSubscription;
+import org.openmetadata.service.jdbi3.CollectionDAO;
+
+/** Tests the delivery of webhook messages against a local server standing in for the webhook */
+class WebhookClientTest {
+  private static HttpServer server;
+  private static String url;
+  private static final AtomicInteger requests = new AtomicInteger();
+  private static final AtomicInteger failures = new AtomicInteger();
+  private static final AtomicInteger inFlight = new AtomicInteger();
+  private static final AtomicInteger maxInFlight = new AtomicInteger();
+  private static final AtomicReference<String> signature = new AtomicReference<>();
+  private static volatile CountDownLatch release;
+
+  private SubscriptionPublisher publisher;
+  private WebhookClient webhookClient;
+
+  @BeforeAll
+  static void beforeAll() throws Exception {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(Executors.newCachedThreadPool());
+    server.createContext(
+        "/webhook",
+        exchange -> {
+          requests.incrementAndGet();
+          signature.set(exchange.getRequestHeaders().getFirst("X-OM-Signature"));
+          maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+          try {
+            release.await(10, TimeUnit.SECONDS);
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          inFlight.decrementAndGet();
+          exchange.getRequestBody().readAllBytes();
+          int status = failures.getAndDecrement() > 0 ? 500 : 200;
+          exchange.sendResponseHeaders(status, -1);
+          exchange.close();
+        });
+    server.start();
+    url = String.format("http://localhost:%d/webhook", server.getAddress().getPort());
+  }
+
+  @AfterAll
+  static void afterAll() {
+    server.stop(0);
+  }
+
+  @BeforeEach
+  void beforeEach() {
+    requests.set(0);
+    failures.set(0);
+    maxInFlight.set(0);
+    signature.set(null);
+    release = new CountDownLatch(0);
+    publisher = mock(SubscriptionPublisher.class);
+    when(publisher.getEventSubscription())
+        .thenReturn(new EventSubscription().withName("webhook").withTimeout(10).withReadTimeout(12).withBatchSize(10));
+    when(publisher.setNextBackOff(anyLong())).thenReturn(10L);
+    webhookClient = new WebhookClient(2, WebhookClient.MAX_QUEUED_REQUESTS_PER_DESTINATION);
+  }
+
+  @Test
+  void testMessageIsDelivered() throws Exception {
+    webhookClient.post(publisher, url, Map.of("X-OM-Signature", "sha256=abc"), "{}").get(10, TimeUnit.SECONDS);
+    assertEquals(1, requests.get());
+    assertEquals("sha256=abc", signature.get());
+    verify(publisher).setSuccessStatus(anyLong());
+  }
+
+  @Test
+  void testFailedMessageIsRetried() throws Exception {
+    failures.set(2);
+    webhookClient.post(publisher, url, Map.of(), "{}").get(10, TimeUnit.SECONDS);
+    assertEquals(3, requests.get());
+    verify(publisher, times(2)).setAwaitingRetry(anyLong(), anyInt(), anyString());
+    verify(publisher).setSuccessStatus(anyLong());
+  }
+
+  @Test
+  void testRetriesAreLimited() throws Exception {
+    failures.set(WebhookClient.MAX_RETRIES + 1);
+    CompletableFuture<Void> result = webhookClient.post(publisher, url, Map.of(), "{}");
+    assertThrows(ExecutionException.class, () -> result.get(10, TimeUnit.SECONDS));
+    assertEquals(WebhookClient.MAX_RETRIES + 1, requests.get());
+  }
+
+  @Test
+  void testConcurrentRequestsPerDestinationAreLimited() throws Exception {
+    release = new CountDownLatch(1);
+    List<CompletableFuture<Void>> results = new ArrayList<>();
+    for (int i = 0; i < 6; i++) {
+      results.add(webhookClient.post(publisher, url, Map.of(), "{}"));
+    }
+    // Sending the messages does not wait for the webhook
+    assertEquals(6, results.size());
+    Thread.sleep(200);
+    release.countDown();
+    CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+    assertEquals(6, requests.get());
+    assertTrue(maxInFlight.get() <= 2);
+    verify(publisher, times(6)).setSuccessStatus(anyLong());
+  }
+
+  @Test
+  void testPostWaitsWhileQueueIsFull() throws Exception {
+    release = new CountDownLatch(1);
+    WebhookClient smallQueueClient = new WebhookClient(2, 2);
+    List<CompletableFuture<Void>> results = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      results.add(smallQueueClient.post(publisher, url, Map.of(), "{}"));
+    }
+
+    // 2 messages are in flight and 2 are queued, the next message waits for room in the queue instead of being dropped
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<CompletableFuture<Void>> posted =
+          executor.submit(() -> smallQueueClient.post(publisher, url, Map.of(), "{}"));
+      Thread.sleep(200);
+      assertFalse(posted.isDone());
+      release.countDown();
+      results.add(posted.get(10, TimeUnit.SECONDS));
+    } finally {
+      executor.shutdownNow();
+    }
+    CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+    assertEquals(5, requests.get());
+    verify(publisher, times(5)).setSuccessStatus(anyLong());
+  }
+
+  @Test
+  void testBackOffAdvancesOncePerWindow() {
+    SubscriptionPublisher subscriptionPublisher =
+        new SubscriptionPublisher(
+            new EventSubscription().withName("webhook").withBatchSize(10), mock(CollectionDAO.class));
+
+    // Messages of a batch failing together advance the backoff once
+    assertEquals(3000, subscriptionPublisher.setNextBackOff(1000));
+    assertEquals(3000, subscriptionPublisher.setNextBackOff(1100));
+    assertEquals(3000, subscriptionPublisher.setNextBackOff(3999));
+
+    // Their retries failing after the backoff advance it again
+    assertEquals(30000, subscriptionPublisher.setNextBackOff(4000));
+    assertEquals(30000, subscriptionPublisher.setNextBackOff(4100));
+
+    // A successful delivery resets the backoff
+    subscriptionPublisher.setSuccessStatus(5000L);
+    assertEquals(3000, subscriptionPublisher.setNextBackOff(5100));
+  }
+}
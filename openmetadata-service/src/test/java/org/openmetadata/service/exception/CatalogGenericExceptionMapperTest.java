@@ -0,0 +1,40 @@
+package org.openmetadata.service.exception;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.dropwizard.jersey.errors.ErrorMessage;
+import javax.ws.rs.core.Response;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.resources.events.EventResource;
+
+class CatalogGenericExceptionMapperTest {
+  private final CatalogGenericExceptionMapper mapper = new CatalogGenericExceptionMapper();
+
+  @Test
+  void testResourceClasses() {
+    assertTrue(CatalogGenericExceptionMapper.isResourceClass(EventResource.class.getName()));
+    assertFalse(CatalogGenericExceptionMapper.isResourceClass(String.class.getName()));
+    assertFalse(CatalogGenericExceptionMapper.isResourceClass("org.openmetadata.service.Unknown$$Lambda$1"));
+  }
+
+  @Test
+  void testEntityNotFound() {
+    // Only the exceptions of entity lookups skip the stack trace
+    assertTrue(EntityNotFoundException.byName("table").getStackTrace().length > 0);
+    EntityNotFoundException exception = EntityNotFoundException.byLookup("Entity with name [table] not found.");
+    assertEquals(0, exception.getStackTrace().length);
+
+    Response response = mapper.toResponse(exception);
+    assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
+    assertEquals("Entity with name [table] not found.", ((ErrorMessage) response.getEntity()).getMessage());
+  }
+
+  @Test
+  void testBadRequest() {
+    Response response = mapper.toResponse(new IllegalArgumentException("Invalid entity"));
+    assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), response.getStatus());
+    assertEquals("Invalid entity", ((ErrorMessage) response.getEntity()).getMessage());
+  }
+}
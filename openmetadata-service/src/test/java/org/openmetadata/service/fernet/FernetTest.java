@@ -0,0 +1,74 @@
+package org.openmetadata.service.fernet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.macasaet.fernet.TokenValidationException;
+import io.micrometer.core.instrument.Counter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.util.MicrometerBundleSingleton;
+
+class FernetTest {
+  private static final String KEY = "jJ/9sz0g0OHxsfxOoSfdFdmk3ysNmPRnH3TUAbz3IHA=";
+  private static final String OTHER_KEY = "5lm8Qu/fP81ubJFK9ym2g7ILrpVmX80WU+Hl0aIUwIQ=";
+  private final Fernet fernet = Fernet.getInstance();
+  private final Counter hits = MicrometerBundleSingleton.fernetDecryptCacheRequests("hit");
+  private String previousKey;
+
+  @BeforeEach
+  void beforeEach() {
+    previousKey = fernet.getFernetKey();
+  }
+
+  @AfterEach
+  void afterEach() {
+    fernet.setDecryptCacheEnabled(true);
+    fernet.setFernetKey(previousKey);
+  }
+
+  @Test
+  void testDecryptedValuesAreReused() {
+    fernet.setFernetKey(KEY);
+    String encrypted = fernet.encrypt("secret");
+    double hitCount = hits.count();
+    String decrypted = fernet.decrypt(encrypted);
+    assertEquals("secret", decrypted);
+    assertEquals(hitCount, hits.count());
+
+    // The token is decrypted once, then the decrypted value is returned
+    assertSame(decrypted, fernet.decrypt(encrypted));
+    assertSame(decrypted, fernet.decryptIfApplies(encrypted));
+    assertEquals(hitCount + 2, hits.count());
+  }
+
+  @Test
+  void testDecryptedValuesAreNotReusedWhenCacheDisabled() {
+    fernet.setDecryptCacheEnabled(false);
+    fernet.setFernetKey(KEY);
+    String encrypted = fernet.encrypt("secret");
+    double hitCount = hits.count();
+    String decrypted = fernet.decrypt(encrypted);
+    assertEquals("secret", decrypted);
+    assertNotSame(decrypted, fernet.decrypt(encrypted));
+    assertEquals(hitCount, hits.count());
+  }
+
+  @Test
+  void testDecryptedValuesAreDroppedWhenKeyChanges() {
+    fernet.setFernetKey(KEY);
+    String encrypted = fernet.encrypt("secret");
+    assertEquals("secret", fernet.decrypt(encrypted));
+
+    // The token can not be decrypted without its key, even after being decrypted before
+    fernet.setFernetKey(OTHER_KEY);
+    assertThrows(TokenValidationException.class, () -> fernet.decrypt(encrypted));
+
+    // Rotating the key keeps decrypting the tokens of the previous key
+    fernet.setFernetKey(OTHER_KEY + "," + KEY);
+    assertEquals("secret", fernet.decrypt(encrypted));
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.type.ChangeEvent;
+import org.openmetadata.schema.type.EventType;
+import org.openmetadata.service.jdbi3.CollectionDAO.ChangeEventDAO.ChangeEventRecord;
+import org.openmetadata.service.util.JsonUtils;
+import org.openmetadata.service.util.RestUtil;
+import org.openmetadata.service.util.ResultList;
+
+class ChangeEventRepositoryTest {
+  private CollectionDAO.ChangeEventDAO changeEventDAO;
+  private ChangeEventRepository repository;
+
+  @BeforeEach
+  void setUp() {
+    CollectionDAO dao = mock(CollectionDAO.class);
+    changeEventDAO = mock(CollectionDAO.ChangeEventDAO.class);
+    when(dao.changeEventDAO()).thenReturn(changeEventDAO);
+    repository = new ChangeEventRepository(dao);
+  }
+
+  @Test
+  void test_entityTypes() {
+    assertTrue(ChangeEventRepository.isAllEntities(List.of("*")));
+    assertFalse(ChangeEventRepository.isAllEntities(List.of("table")));
+    assertFalse(ChangeEventRepository.isAllEntities(null));
+    assertEquals(List.of(), ChangeEventRepository.getEntityTypes(List.of("*")));
+    assertEquals(List.of(), ChangeEventRepository.getEntityTypes(null));
+    assertEquals(List.of("table", "topic"), ChangeEventRepository.getEntityTypes(List.of("table", "topic")));
+  }
+
+  @Test
+  void test_listAfterPages() throws IOException {
+    List<String> tables = List.of("table");
+    ChangeEventRecord first = record(1000L, 5L);
+    ChangeEventRecord second = record(1000L, 7L);
+    when(changeEventDAO.listAfter(true, List.of(), false, tables, false, List.of(), 1000L, -1L, 2))
+        .thenReturn(List.of(first, second));
+
+    // The first page starts at the timestamp, and its cursor points to its last event
+    ResultList<ChangeEvent> page = repository.listAfter(1000L, List.of("*"), tables, null, 2, null);
+    assertEquals(2, page.getData().size());
+    assertEquals(first.getJson(), JsonUtils.pojoToJson(page.getData().get(0)));
+    String after = page.getPaging().getAfter();
+    assertEquals("1000,7", RestUtil.decodeCursor(after));
+
+    // The next page continues after the event of the cursor, and keeps the cursor when there are no new events
+    when(changeEventDAO.listAfter(true, List.of(), false, tables, false, List.of(), 1000L, 7L, 2))
+        .thenReturn(List.of());
+    page = repository.listAfter(1000L, List.of("*"), tables, null, 2, after);
+    assertTrue(page.getData().isEmpty());
+    assertEquals(after, page.getPaging().getAfter());
+  }
+
+  @Test
+  void test_listAfterCursorBeforeTimestamp() throws IOException {
+    // A cursor before the timestamp starts the page at the timestamp
+    String after = RestUtil.encodeCursor("1000,7");
+    when(changeEventDAO.listAfter(false, List.of(), false, List.of(), true, List.of(), 2000L, -1L, 10))
+        .thenReturn(List.of(record(2000L, 9L)));
+    ResultList<ChangeEvent> page = repository.listAfter(2000L, null, null, List.of("*"), 10, after);
+    assertEquals(1, page.getData().size());
+    assertEquals("2000,9", RestUtil.decodeCursor(page.getPaging().getAfter()));
+  }
+
+  @Test
+  void test_listAfterWithoutEventTypes() throws IOException {
+    ResultList<ChangeEvent> page = repository.listAfter(1000L, null, List.of(), null, 10, null);
+    assertTrue(page.getData().isEmpty());
+    verify(changeEventDAO, never())
+        .listAfter(
+            anyBoolean(), anyList(), anyBoolean(), anyList(), anyBoolean(), anyList(), anyLong(), anyLong(), anyInt());
+  }
+
+  @Test
+  void test_invalidCursor() {
+    List<String> cursors =
+        List.of("not base64!", RestUtil.encodeCursor("1000"), RestUtil.encodeCursor("a,b"), RestUtil.encodeCursor(""));
+    for (String after : cursors) {
+      assertThrows(
+          IllegalArgumentException.class,
+          () -> repository.listAfter(1000L, List.of("*"), null, null, 10, after),
+          after);
+    }
+  }
+
+  private static ChangeEventRecord record(long eventTime, long eventOffset) throws IOException {
+    ChangeEvent changeEvent =
+        new ChangeEvent()
+            .withEventType(EventType.ENTITY_UPDATED)
+            .withEntityType("table")
+            .withEntityId(UUID.randomUUID())
+            .withTimestamp(eventTime);
+    return new ChangeEventRecord(eventTime, eventOffset, JsonUtils.pojoToJson(changeEvent));
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityExtensionDAO;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityExtensionRecord;
+import org.openmetadata.service.jdbi3.locator.ConnectionAwareAnnotationSqlLocator;
+import org.openmetadata.service.util.JsonUtils;
+
+class CustomPropertiesTest {
+  private static final String PREFIX = "table.customProperties";
+
+  @Test
+  void testLegacyRowsAreMergedWithTheSingleRow() throws JsonProcessingException {
+    UUID both = UUID.randomUUID();
+    UUID legacyOnly = UUID.randomUUID();
+    UUID empty = UUID.randomUUID();
+    List<EntityExtensionRecord> records =
+        List.of(
+            new EntityExtensionRecord(both.toString(), PREFIX, "{\"intA\":1,\"stringB\":\"new\"}"),
+            new EntityExtensionRecord(both.toString(), PREFIX + ".intC", "3"),
+            new EntityExtensionRecord(both.toString(), PREFIX + ".stringB", "\"old\""),
+            new EntityExtensionRecord(legacyOnly.toString(), PREFIX + ".intA", "2"),
+            new EntityExtensionRecord(empty.toString(), PREFIX, "{}"));
+
+    Map<UUID, ObjectNode> extensions = EntityRepository.mergeCustomProperties(records, PREFIX);
+
+    // The value in the single row wins over the value stored in a row of its own before
+    assertEquals(JsonUtils.readTree("{\"intA\":1,\"intC\":3,\"stringB\":\"new\"}"), extensions.get(both));
+    assertEquals(JsonUtils.readTree("{\"intA\":2}"), extensions.get(legacyOnly));
+    assertFalse(extensions.containsKey(empty));
+    assertEquals(2, extensions.size());
+  }
+
+  @Test
+  void testCustomPropertiesAreReadInBatches() {
+    EntityExtensionDAO dao = mock(EntityExtensionDAO.class, CALLS_REAL_METHODS);
+    List<Integer> batchSizes = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              List<String> ids = invocation.getArgument(0);
+              batchSizes.add(ids.size());
+              return ids.stream().map(id -> new EntityExtensionRecord(id, PREFIX, "{}")).collect(Collectors.toList());
+            })
+        .when(dao)
+        .getCustomProperties(anyList(), eq(PREFIX));
+
+    int batchSize = EntityExtensionDAO.CUSTOM_PROPERTIES_BATCH_SIZE;
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < 2 * batchSize + 1; i++) {
+      ids.add(UUID.randomUUID().toString());
+    }
+    List<EntityExtensionRecord> records = dao.getCustomPropertiesInBatches(ids, PREFIX);
+
+    assertEquals(List.of(batchSize, batchSize, 1), batchSizes);
+    assertEquals(ids, records.stream().map(EntityExtensionRecord::getId).collect(Collectors.toList()));
+
+    batchSizes.clear();
+    assertTrue(dao.getCustomPropertiesInBatches(List.of(), PREFIX).isEmpty());
+    assertTrue(batchSizes.isEmpty());
+  }
+
+  @Test
+  void testDeleteCustomPropertySqlIsLocatedByConnectionType() throws NoSuchMethodException {
+    Method deleteCustomProperty =
+        EntityExtensionDAO.class.getMethod("deleteCustomProperty", String.class, String.class);
+    String mysql =
+        new ConnectionAwareAnnotationSqlLocator("com.mysql.cj.jdbc.Driver")
+            .locate(EntityExtensionDAO.class, deleteCustomProperty, null);
+    String postgres =
+        new ConnectionAwareAnnotationSqlLocator("org.postgresql.Driver")
+            .locate(EntityExtensionDAO.class, deleteCustomProperty, null);
+    assertTrue(mysql.contains("JSON_REMOVE(json, CONCAT('$.\"', :propertyName, '\"'))"), mysql);
+    assertTrue(postgres.contains("json - (:propertyName :: text)"), postgres);
+    assertTrue(mysql.endsWith("WHERE extension = :extensionPrefix"), mysql);
+    assertTrue(postgres.endsWith("WHERE extension = :extensionPrefix"), postgres);
+  }
+}
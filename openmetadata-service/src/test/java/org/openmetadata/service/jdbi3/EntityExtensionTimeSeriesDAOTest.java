@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.jdbi3.CollectionDAO.EntityExtensionTimeSeriesDAO;
+import org.openmetadata.service.jdbi3.locator.ConnectionAwareAnnotationSqlLocator;
+
+class EntityExtensionTimeSeriesDAOTest {
+  private EntityExtensionTimeSeriesDAO dao;
+
+  @BeforeEach
+  void setUp() {
+    dao = mock(EntityExtensionTimeSeriesDAO.class, CALLS_REAL_METHODS);
+  }
+
+  @Test
+  void testUpsertBatchStoresLastRecordOfEachKey() {
+    dao.upsertBatch(
+        List.of("t.c1", "t.c2", "t.c1", "t.c1"),
+        "ext",
+        "schema",
+        List.of(1L, 1L, 1L, 2L),
+        List.of("c1-first", "c2", "c1-second", "c1-other-time"));
+
+    verify(dao).deleteBatchAtTimestamp(List.of("t.c1", "t.c2", "t.c1"), "ext", List.of(1L, 1L, 2L));
+    verify(dao)
+        .insertBatch(List.of("t.c1", "t.c2", "t.c1"), "ext", "schema", List.of("c1-second", "c2", "c1-other-time"));
+  }
+
+  @Test
+  void testUpsertBatchWithOperationStoresLastRecordOfEachKey() {
+    dao.upsertBatchWithOperation(
+        "t", "ext", "schema", List.of(1L, 1L, 1L), List.of("INSERT", "UPDATE", "INSERT"), List.of("a", "b", "c"));
+
+    verify(dao).deleteBatchAtTimestampWithOperation("t", "ext", List.of(1L, 1L), List.of("INSERT", "UPDATE"));
+    verify(dao).insertBatch(List.of("t", "t"), "ext", "schema", List.of("c", "b"));
+  }
+
+  @Test
+  void testBatchSqlIsLocatedByConnectionType() throws NoSuchMethodException {
+    Method insertBatch =
+        EntityExtensionTimeSeriesDAO.class.getMethod("insertBatch", List.class, String.class, String.class, List.class);
+    String mysql =
+        new ConnectionAwareAnnotationSqlLocator("com.mysql.cj.jdbc.Driver")
+            .locate(EntityExtensionTimeSeriesDAO.class, insertBatch, null);
+    String postgres =
+        new ConnectionAwareAnnotationSqlLocator("org.postgresql.Driver")
+            .locate(EntityExtensionTimeSeriesDAO.class, insertBatch, null);
+    assertTrue(mysql.endsWith("VALUES (:entityFQN, :extension, :jsonSchema, :json)"), mysql);
+    assertTrue(postgres.endsWith("VALUES (:entityFQN, :extension, :jsonSchema, (:json :: jsonb))"), postgres);
+  }
+}
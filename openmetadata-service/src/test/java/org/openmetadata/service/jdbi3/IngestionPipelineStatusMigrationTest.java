@@ -0,0 +1,156 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.dropwizard.testing.ResourceHelpers;
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.openmetadata.schema.entity.services.ingestionPipelines.PipelineStatus;
+import org.openmetadata.schema.entity.services.ingestionPipelines.PipelineStatusType;
+import org.openmetadata.service.util.JsonUtils;
+import org.testcontainers.containers.JdbcDatabaseContainer;
+
+/** Checks that the v013 migration indexes pipeline statuses by run id and fills in the latest status of pipelines */
+@Slf4j
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class IngestionPipelineStatusMigrationTest {
+  private static final String PIPELINE_STATUS_EXTENSION = "ingestionPipeline.pipelineStatus";
+  private static final String LATEST_PIPELINE_STATUS_EXTENSION = "ingestionPipeline.latestPipelineStatus";
+
+  private JdbcDatabaseContainer<?> sqlContainer;
+  private Jdbi jdbi;
+  private boolean postgres;
+
+  @BeforeAll
+  void startDatabase() throws Exception {
+    // The system properties are provided by maven-surefire for testing with mysql and postgres
+    final String jdbcContainerClassName = System.getProperty("jdbcContainerClassName");
+    final String jdbcContainerImage = System.getProperty("jdbcContainerImage");
+    LOG.info("Using test container class {} and image {}", jdbcContainerClassName, jdbcContainerImage);
+    sqlContainer =
+        (JdbcDatabaseContainer<?>)
+            Class.forName(jdbcContainerClassName).getConstructor(String.class).newInstance(jdbcContainerImage);
+    sqlContainer.withReuse(false);
+    sqlContainer.withStartupTimeoutSeconds(240);
+    sqlContainer.withConnectTimeoutSeconds(240);
+    sqlContainer.start();
+    postgres = sqlContainer.getDriverClassName().contains("postgresql");
+    jdbi = Jdbi.create(sqlContainer.getJdbcUrl(), sqlContainer.getUsername(), sqlContainer.getPassword());
+  }
+
+  @AfterAll
+  void stopDatabase() {
+    if (sqlContainer != null) {
+      sqlContainer.stop();
+    }
+  }
+
+  @Test
+  void testLatestPipelineStatusIsBackfilledAndRunIdIsIndexed() throws IOException {
+    migrate("012");
+    UUID withStatuses = UUID.randomUUID();
+    UUID withoutStatus = UUID.randomUUID();
+    try (Handle handle = jdbi.open()) {
+      insertPipeline(handle, withStatuses, "service.withStatuses");
+      insertPipeline(handle, withoutStatus, "service.withoutStatus");
+      // Statuses are not stored in the order of their timestamps
+      insertPipelineStatus(handle, "service.withStatuses", "run1", 1L);
+      insertPipelineStatus(handle, "service.withStatuses", "run3", 3L);
+      insertPipelineStatus(handle, "service.withStatuses", "run2", 2L);
+    }
+
+    migrate(null);
+
+    try (Handle handle = jdbi.open()) {
+      PipelineStatus latest = JsonUtils.readValue(getLatestPipelineStatus(handle, withStatuses), PipelineStatus.class);
+      assertEquals("run3", latest.getRunId());
+      assertEquals(3L, latest.getTimestamp());
+      assertNull(getLatestPipelineStatus(handle, withoutStatus));
+
+      List<String> runIds =
+          handle
+              .createQuery(
+                  "SELECT runId FROM entity_extension_time_series WHERE entityFQN = :entityFQN "
+                      + "AND extension = :extension ORDER BY timestamp")
+              .bind("entityFQN", "service.withStatuses")
+              .bind("extension", PIPELINE_STATUS_EXTENSION)
+              .mapTo(String.class)
+              .list();
+      assertEquals(List.of("run1", "run2", "run3"), runIds);
+    }
+  }
+
+  private void migrate(String target) {
+    String migrationScriptsLocation = ResourceHelpers.resourceFilePath("db/sql/" + sqlContainer.getDriverClassName());
+    Flyway flyway =
+        Flyway.configure()
+            .dataSource(sqlContainer.getJdbcUrl(), sqlContainer.getUsername(), sqlContainer.getPassword())
+            .table("DATABASE_CHANGE_LOG")
+            .locations("filesystem:" + migrationScriptsLocation)
+            .sqlMigrationPrefix("v")
+            .target(target == null ? "latest" : target)
+            .load();
+    flyway.migrate();
+  }
+
+  private void insertPipeline(Handle handle, UUID id, String fqn) {
+    String json =
+        String.format(
+            "{\"id\":\"%s\",\"name\":\"%s\",\"fullyQualifiedName\":\"%s\",\"updatedAt\":1,"
+                + "\"updatedBy\":\"admin\",\"deleted\":false}",
+            id, fqn, fqn);
+    handle
+        .createUpdate("INSERT INTO ingestion_pipeline_entity (json) VALUES (CAST(:json AS JSON))")
+        .bind("json", json)
+        .execute();
+  }
+
+  private void insertPipelineStatus(Handle handle, String fqn, String runId, long timestamp)
+      throws JsonProcessingException {
+    PipelineStatus status =
+        new PipelineStatus().withRunId(runId).withPipelineState(PipelineStatusType.SUCCESS).withTimestamp(timestamp);
+    handle
+        .createUpdate(
+            String.format(
+                "INSERT INTO entity_extension_time_series (entityFQN, extension, jsonSchema, json) "
+                    + "VALUES (:entityFQN, :extension, 'ingestionPipelineStatus', CAST(:json AS %s))",
+                postgres ? "JSONB" : "JSON"))
+        .bind("entityFQN", fqn)
+        .bind("extension", PIPELINE_STATUS_EXTENSION)
+        .bind("json", JsonUtils.pojoToJson(status))
+        .execute();
+  }
+
+  private String getLatestPipelineStatus(Handle handle, UUID id) {
+    return handle
+        .createQuery("SELECT json FROM entity_extension WHERE id = :id AND extension = :extension")
+        .bind("id", id.toString())
+        .bind("extension", LATEST_PIPELINE_STATUS_EXTENSION)
+        .mapTo(String.class)
+        .findOne()
+        .orElse(null);
+  }
+}
@@ -0,0 +1,115 @@
+package org.openmetadata.service.jdbi3;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.type.EntityReference;
+import org.openmetadata.schema.type.Include;
+import org.openmetadata.schema.type.TagLabel;
+
+class RequestEntityCacheTest {
+  private final AtomicInteger reads = new AtomicInteger();
+  private final UUID id = UUID.randomUUID();
+
+  @AfterEach
+  void afterEach() {
+    RequestEntityCache.end();
+  }
+
+  @Test
+  void test_readsAreNotCachedOutsideRequests() throws IOException {
+    assertEquals("{}", readById(Include.NON_DELETED));
+    assertEquals("{}", readById(Include.NON_DELETED));
+    assertEquals(2, reads.get());
+  }
+
+  @Test
+  void test_readsAreCachedDuringRequest() throws IOException {
+    RequestEntityCache.start();
+    assertEquals("{}", readById(Include.NON_DELETED));
+    assertEquals("{}", readById(Include.NON_DELETED));
+    assertEquals(1, reads.get());
+
+    // An entity read without the deleted entities is reused when reading all the entities, but not the other way
+    assertEquals("{}", readById(Include.ALL));
+    assertEquals(1, reads.get());
+    assertEquals("{}", readById(Include.DELETED));
+    assertEquals(2, reads.get());
+
+    // A new request reads the entity again
+    RequestEntityCache.end();
+    RequestEntityCache.start();
+    assertEquals("{}", readById(Include.NON_DELETED));
+    assertEquals(3, reads.get());
+  }
+
+  @Test
+  void test_writesInvalidateCache() throws IOException {
+    RequestEntityCache.start();
+    readById(Include.NON_DELETED);
+    RequestEntityCache.getTags("table", "fqn", () -> List.of(new TagLabel().withTagFQN("tag")));
+    RequestEntityCache.invalidate();
+    readById(Include.NON_DELETED);
+    assertEquals(2, reads.get());
+    assertEquals(List.of(), RequestEntityCache.getTags("table", "fqn", List::of));
+  }
+
+  @Test
+  void test_writeStatementsInvalidateCache() throws IOException {
+    RequestEntityCache.start();
+    readById(Include.NON_DELETED);
+    RequestEntityCache.invalidateOnWrite("SELECT json FROM table_entity WHERE id = :id");
+    RequestEntityCache.invalidateOnWrite(" with data AS (SELECT json FROM table_entity) SELECT * FROM data");
+    readById(Include.NON_DELETED);
+    assertEquals(1, reads.get());
+
+    // Writes run directly with the DAOs, such as deleting tag labels, also invalidate the cache
+    RequestEntityCache.invalidateOnWrite("DELETE FROM tag_usage WHERE source = :source AND tagFQNHash = :tagFQNHash");
+    readById(Include.NON_DELETED);
+    assertEquals(2, reads.get());
+    RequestEntityCache.invalidateOnWrite("INSERT INTO entity_relationship(fromId, toId) VALUES (:fromId, :toId)");
+    readById(Include.NON_DELETED);
+    assertEquals(3, reads.get());
+  }
+
+  @Test
+  void test_ownersAreCopied() throws IOException {
+    RequestEntityCache.start();
+    EntityReference owner = new EntityReference().withId(UUID.randomUUID()).withType("user").withName("owner");
+    EntityReference cachedOwner = RequestEntityCache.getOwner("table", id, () -> owner);
+    cachedOwner.setHref(URI.create("http://localhost/users/owner"));
+
+    // Changes to the owner set on one entity don't change the owner of the entities read later
+    EntityReference readOwner = RequestEntityCache.getOwner("table", id, () -> null);
+    assertNotSame(cachedOwner, readOwner);
+    assertNull(readOwner.getHref());
+    assertEquals(owner.getName(), readOwner.getName());
+    assertEquals(owner.getId(), readOwner.getId());
+  }
+
+  @Test
+  void test_entitiesNotFoundAreNotCached() throws IOException {
+    RequestEntityCache.start();
+    assertNull(RequestEntityCache.getJsonByName("table", "fqn", Include.NON_DELETED, () -> null));
+    assertEquals("{}", RequestEntityCache.getJsonByName("table", "fqn", Include.NON_DELETED, () -> "{}"));
+  }
+
+  private String readById(Include include) throws IOException {
+    return RequestEntityCache.getJsonById(
+        "table",
+        id,
+        include,
+        () -> {
+          reads.incrementAndGet();
+          return "{}";
+        });
+  }
+}
@@ -0,0 +1,143 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.resources;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.type.CollectionDescriptor;
+import org.openmetadata.service.OpenMetadataApplicationConfig;
+
+class CollectionRegistryTest {
+  private static final int LAST_ORDER_RESOURCES = 11;
+
+  @Test
+  void testResourcesOfAnOrderAreInitializedInParallel() {
+    Queue<String> initialized = new ConcurrentLinkedQueue<>();
+    // Every resource of the last order waits until all of them have started, which only happens when they run at
+    // the same time
+    CountDownLatch lastOrderStarted = new CountDownLatch(LAST_ORDER_RESOURCES);
+    AtomicInteger timedOut = new AtomicInteger();
+
+    List<CollectionRegistry.CollectionDetails> collections = new ArrayList<>();
+    for (int i = 0; i < LAST_ORDER_RESOURCES; i++) {
+      collections.add(details(new BlockingResource("order9-" + i, initialized, lastOrderStarted, timedOut), 9, true));
+    }
+    collections.add(details(new RecordingResource("order0", initialized), 0, true));
+    collections.add(details(new RecordingResource("order5", initialized), 5, true));
+
+    CollectionRegistry.initializeResources(collections, null, LAST_ORDER_RESOURCES);
+
+    assertEquals(0, timedOut.get());
+    List<String> order = new ArrayList<>(initialized);
+    assertEquals(LAST_ORDER_RESOURCES + 2, order.size());
+    // Lower orders are initialized before any resource of a higher order starts
+    assertEquals("order0", order.get(0));
+    assertEquals("order5", order.get(1));
+    assertTrue(order.subList(2, order.size()).stream().allMatch(name -> name.startsWith("order9-")));
+  }
+
+  @Test
+  void testResourcesNotOptingInAreInitializedOneAtATime() {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    List<CollectionRegistry.CollectionDetails> collections = new ArrayList<>();
+    for (int i = 0; i < LAST_ORDER_RESOURCES; i++) {
+      collections.add(details(new CountingResource(running, maxRunning), 9, false));
+    }
+
+    CollectionRegistry.initializeResources(collections, null, LAST_ORDER_RESOURCES);
+
+    assertEquals(1, maxRunning.get());
+  }
+
+  @Test
+  void testResourcesWithoutInitializeAreSkipped() {
+    Queue<String> initialized = new ConcurrentLinkedQueue<>();
+    List<CollectionRegistry.CollectionDetails> collections = new ArrayList<>();
+    collections.add(details(new Object(), 0, true));
+    collections.add(details(new RecordingResource("order1", initialized), 1, false));
+
+    CollectionRegistry.initializeResources(collections, null, 2);
+
+    assertEquals(List.of("order1"), new ArrayList<>(initialized));
+  }
+
+  private static CollectionRegistry.CollectionDetails details(Object resource, int order, boolean parallel) {
+    CollectionRegistry.CollectionDetails details =
+        new CollectionRegistry.CollectionDetails(
+            new CollectionDescriptor(), resource.getClass().getName(), order, parallel);
+    details.setResource(resource);
+    return details;
+  }
+
+  public static class RecordingResource {
+    private final String name;
+    private final Queue<String> initialized;
+
+    RecordingResource(String name, Queue<String> initialized) {
+      this.name = name;
+      this.initialized = initialized;
+    }
+
+    public void initialize(OpenMetadataApplicationConfig config) {
+      initialized.add(name);
+    }
+  }
+
+  public static class BlockingResource {
+    private final String name;
+    private final Queue<String> initialized;
+    private final CountDownLatch started;
+    private final AtomicInteger timedOut;
+
+    BlockingResource(String name, Queue<String> initialized, CountDownLatch started, AtomicInteger timedOut) {
+      this.name = name;
+      this.initialized = initialized;
+      this.started = started;
+      this.timedOut = timedOut;
+    }
+
+    public void initialize(OpenMetadataApplicationConfig config) throws InterruptedException {
+      started.countDown();
+      if (!started.await(10, TimeUnit.SECONDS)) {
+        timedOut.incrementAndGet();
+      }
+      initialized.add(name);
+    }
+  }
+
+  public static class CountingResource {
+    private final AtomicInteger running;
+    private final AtomicInteger maxRunning;
+
+    CountingResource(AtomicInteger running, AtomicInteger maxRunning) {
+      this.running = running;
+      this.maxRunning = maxRunning;
+    }
+
+    public void initialize(OpenMetadataApplicationConfig config) throws InterruptedException {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      Thread.sleep(10);
+      running.decrementAndGet();
+    }
+  }
+}
@@ -1515,6 +1515,20 @@ public abstract class EntityResourceTest<T extends EntityInterface, K extends Cr
         () -> createEntity(createRequest(test, 1).withExtension(jsonNode), ADMIN_AUTH_HEADERS),
         BAD_REQUEST,
         CatalogExceptionMessage.unknownCustomField("stringC"));
+
+    // Deleting the custom property stringB from the entity type deletes its value from the entity
+    ObjectNode stringBNode = mapper.createObjectNode();
+    stringBNode.set("stringB", stringBValue);
+    create = createRequest(test).withExtension(stringBNode).withName(entity.getName());
+    entity = updateEntity(create, Status.OK, ADMIN_AUTH_HEADERS);
+    T stored = getEntity(entity.getId(), "extension", ADMIN_AUTH_HEADERS);
+    assertEquals(stringBNode, JsonUtils.valueToTree(stored.getExtension()));
+
+    entityType = typeResourceTest.getEntityByName(this.entityType, "customProperties", ADMIN_AUTH_HEADERS);
+    json = JsonUtils.pojoToJson(entityType);
+    entityType.getCustomProperties().removeIf(property -> property.getName().equals("stringB"));
+    typeResourceTest.patchEntity(id, json, entityType, ADMIN_AUTH_HEADERS);
+    assertNull(getEntity(entity.getId(), "extension", ADMIN_AUTH_HEADERS).getExtension());
   }
 
   ///////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -0,0 +1,89 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.resources.feeds;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.Transition;
+import org.openmetadata.schema.EntityLinkLexer;
+
+/**
+ * Generates entity links that are valid in the EntityLink grammar. The parts of a link are generated from the token
+ * rules of the grammar, by walking the rules in the ATN of the generated lexer and picking random transitions.
+ */
+final class EntityLinkGenerator {
+  private static final String ENTITY_LINK_START = "<#E";
+  private static final String ENTITY_LINK_SEPARATOR = "::";
+  private static final String ENTITY_LINK_END = ">";
+  private static final String ENTITY_TYPE = "ENTITY_TYPE";
+  private static final List<String> ENTITY_RULES =
+      List.of(ENTITY_TYPE, "ENTITY_ATTRIBUTE", "ENTITY_FQN", "ENTITY_FIELD");
+  private static final int MAX_PARTS = 5;
+  private static final int MAX_TOKEN_LENGTH = 32;
+
+  private final Random random;
+
+  EntityLinkGenerator(Random random) {
+    this.random = random;
+  }
+
+  /** A link with an entity type, an entity FQN and up to three more parts, each of any entity token of the grammar */
+  String generateLink() {
+    StringBuilder link = new StringBuilder(ENTITY_LINK_START);
+    link.append(ENTITY_LINK_SEPARATOR).append(generateToken(ENTITY_TYPE));
+    for (int part = 2 + random.nextInt(MAX_PARTS - 1); part > 1; part--) {
+      link.append(ENTITY_LINK_SEPARATOR).append(generateToken(ENTITY_RULES.get(random.nextInt(ENTITY_RULES.size()))));
+    }
+    return link.append(ENTITY_LINK_END).toString();
+  }
+
+  /** A message with a few links among words, some of the links with a fallback text */
+  String generateMessage() {
+    StringBuilder message = new StringBuilder(generateToken("ENTITY_ATTRIBUTE"));
+    for (int i = random.nextInt(4); i >= 0; i--) {
+      String link = generateLink();
+      if (random.nextInt(4) == 0) {
+        link = link.substring(0, link.length() - 1) + "|[@" + generateToken("ENTITY_ATTRIBUTE") + "](/user)>";
+      }
+      message.append(' ').append(link).append(' ').append(generateToken("ENTITY_ATTRIBUTE"));
+    }
+    return message.toString();
+  }
+
+  /** A token of the given lexer rule */
+  String generateToken(String ruleName) {
+    ATN atn = EntityLinkLexer._ATN;
+    int ruleIndex = Arrays.asList(EntityLinkLexer.ruleNames).indexOf(ruleName);
+    if (ruleIndex < 0) {
+      throw new IllegalArgumentException("Unknown lexer rule " + ruleName);
+    }
+    while (true) {
+      StringBuilder token = new StringBuilder();
+      ATNState state = atn.ruleToStartState[ruleIndex];
+      while (state != atn.ruleToStopState[ruleIndex] && token.length() <= MAX_TOKEN_LENGTH) {
+        Transition transition = state.transition(random.nextInt(state.getNumberOfTransitions()));
+        if (!transition.isEpsilon()) {
+          List<Integer> symbols = transition.label().toList();
+          token.appendCodePoint(symbols.get(random.nextInt(symbols.size())));
+        }
+        state = transition.target;
+      }
+      if (token.length() <= MAX_TOKEN_LENGTH) {
+        return token.toString();
+      }
+    }
+  }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.resources.feeds;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
+
+/**
+ * Compares the time to find the entity links of thread messages by hand and with the former regular expression. It
+ * only runs when asked for, with {@code mvn test -Dtest=MessageParserBenchmarkTest -Dbenchmark=true}, and logs the
+ * time per message of each parser.
+ */
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class MessageParserBenchmarkTest {
+  private static final int MESSAGES = 1000;
+  private static final int WARMUP_ROUNDS = 200;
+  private static final int MEASURED_ROUNDS = 500;
+
+  @Test
+  void benchmarkGetEntityLinks() {
+    EntityLinkGenerator generator = new EntityLinkGenerator(new Random(0));
+    List<String> messages = new ArrayList<>(MESSAGES);
+    for (int i = 0; i < MESSAGES; i++) {
+      messages.add(generator.generateMessage());
+    }
+
+    double regex = measure(RegexMessageParser::getEntityLinks, messages);
+    double scanner = measure(MessageParser::getEntityLinks, messages);
+    LOG.info("Regular expression: {} ns per message", String.format("%.1f", regex));
+    LOG.info(
+        "MessageParser: {} ns per message, {} times faster",
+        String.format("%.1f", scanner),
+        String.format("%.1f", regex / scanner));
+  }
+
+  /** Average time in nanoseconds to find the links of a message, after the JIT compiler has warmed up */
+  private static double measure(Function<String, List<EntityLink>> parser, List<String> messages) {
+    long expectedLinks = countLinks(parser, messages);
+    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+      assertEquals(expectedLinks, countLinks(parser, messages));
+    }
+    long links = 0;
+    long start = System.nanoTime();
+    for (int round = 0; round < MEASURED_ROUNDS; round++) {
+      links += countLinks(parser, messages);
+    }
+    long elapsed = System.nanoTime() - start;
+    // Using the result keeps the JIT compiler from removing the parsing
+    assertEquals(expectedLinks * MEASURED_ROUNDS, links);
+    return (double) elapsed / ((long) MEASURED_ROUNDS * messages.size());
+  }
+
+  private static long countLinks(Function<String, List<EntityLink>> parser, List<String> messages) {
+    long links = 0;
+    for (String message : messages) {
+      links += parser.apply(message).size();
+    }
+    return links;
+  }
+}
@@ -15,9 +15,19 @@ package org.openmetadata.service.resources.feeds;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import org.antlr.v4.runtime.BailErrorStrategy;
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.tree.ParseTree;
 import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.EntityLinkLexer;
+import org.openmetadata.schema.EntityLinkParser;
 import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
 
 class MessageParserTest {
@@ -59,4 +69,88 @@ class MessageParserTest {
     assertEquals("user", link.getEntityType());
     assertNull(link.getFieldName());
   }
+
+  @Test
+  void parseMessageAsRegularExpression() {
+    String[] tokens = {"<#E::", "<#E", "::", ":", "<", ">", "|", " ", "table", "tableFQN", "db.schema.\"t.1\""};
+    Random random = new Random(0);
+    for (int i = 0; i < 100000; i++) {
+      StringBuilder message = new StringBuilder();
+      for (int j = random.nextInt(16); j > 0; j--) {
+        message.append(tokens[random.nextInt(tokens.length)]);
+      }
+      String s = message.toString();
+      assertEquals(getEntityLinksWithPattern(s), getEntityLinks(s), s);
+      assertEquals(parseWithPattern(s), parse(s), s);
+    }
+  }
+
+  @Test
+  void parseAsGrammar() {
+    EntityLinkGenerator generator = new EntityLinkGenerator(new Random(0));
+    for (int i = 0; i < 10000; i++) {
+      String link = generator.generateLink();
+      EntityLinkLexer lexer = new EntityLinkLexer(CharStreams.fromString(link));
+      EntityLinkParser parser = new EntityLinkParser(new CommonTokenStream(lexer));
+      parser.setErrorHandler(new BailErrorStrategy());
+      List<String> parts = parser.entitylink().entity().stream().map(ParseTree::getText).collect(Collectors.toList());
+
+      EntityLink entityLink = EntityLink.parse(link);
+      List<String> parsedParts =
+          Arrays.asList(
+              entityLink.getEntityType(),
+              entityLink.getEntityFQN(),
+              entityLink.getFieldName(),
+              entityLink.getArrayFieldName(),
+              entityLink.getArrayFieldValue());
+      assertEquals(parts, parsedParts.subList(0, parts.size()), link);
+      assertEquals(link, entityLink.getLinkString());
+    }
+  }
+
+  @Test
+  void parseGeneratedMessages() {
+    EntityLinkGenerator generator = new EntityLinkGenerator(new Random(0));
+    for (int i = 0; i < 10000; i++) {
+      String message = generator.generateMessage();
+      assertEquals(RegexMessageParser.getEntityLinks(message), MessageParser.getEntityLinks(message), message);
+    }
+  }
+
+  @Test
+  void parsedLinksAreReused() {
+    assertSame(EntityLink.parse("<#E::table::tableFQN::columns>"), EntityLink.parse("<#E::table::tableFQN::columns>"));
+  }
+
+  private static String getEntityLinks(String message) {
+    try {
+      return MessageParser.getEntityLinks(message).toString();
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+
+  private static String parse(String link) {
+    try {
+      return EntityLink.parse(link).toString();
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+
+  private static String getEntityLinksWithPattern(String message) {
+    try {
+      return RegexMessageParser.getEntityLinks(message).toString();
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
+
+  private static String parseWithPattern(String link) {
+    try {
+      return RegexMessageParser.parse(link).toString();
+    } catch (IllegalArgumentException e) {
+      return e.getMessage();
+    }
+  }
 }
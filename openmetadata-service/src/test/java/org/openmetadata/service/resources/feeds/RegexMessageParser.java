@@ -0,0 +1,55 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.resources.feeds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openmetadata.service.resources.feeds.MessageParser.EntityLink;
+
+/** Entity links matched with the regular expression used before they were parsed by hand, to compare against */
+final class RegexMessageParser {
+  private static final Pattern ENTITY_LINK_PATTERN =
+      Pattern.compile("<#E::([^<>]+?)::([^<>]+?)(::([^<>]+?))?(::([^<>]+?))?(::([^<>]+?))?>");
+
+  private RegexMessageParser() {}
+
+  static List<EntityLink> getEntityLinks(String message) {
+    List<EntityLink> links = new ArrayList<>();
+    Matcher matcher = ENTITY_LINK_PATTERN.matcher(message);
+    while (matcher.find()) {
+      links.add(parse(matcher.group()));
+    }
+    return links;
+  }
+
+  static EntityLink parse(String link) {
+    if (link.contains("|")) {
+      link = link.substring(0, link.indexOf("|")) + ">";
+    }
+    Matcher matcher = ENTITY_LINK_PATTERN.matcher(link);
+    EntityLink entityLink = null;
+    while (matcher.find()) {
+      if (entityLink != null) {
+        throw new IllegalArgumentException("Unexpected multiple entity links in " + link);
+      }
+      entityLink =
+          new EntityLink(matcher.group(1), matcher.group(2), matcher.group(4), matcher.group(6), matcher.group(8));
+    }
+    if (entityLink == null) {
+      throw new IllegalArgumentException("Entity link was not found in " + link);
+    }
+    return entityLink;
+  }
+}
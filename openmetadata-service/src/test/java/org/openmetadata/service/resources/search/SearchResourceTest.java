@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.resources.search;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.elasticsearch.search.sort.FieldSortBuilder;
+import org.elasticsearch.search.sort.ScoreSortBuilder;
+import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.search.sort.SortOrder;
+import org.junit.jupiter.api.Test;
+
+class SearchResourceTest {
+  @Test
+  void testSearchAfterFirstPage() {
+    SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().from(20).size(10);
+    SearchResource.addSearchAfter(searchSourceBuilder, "");
+
+    // Without a sort field, hits are sorted by score with the entity id as the tiebreaker
+    List<SortBuilder<?>> sorts = searchSourceBuilder.sorts();
+    assertEquals(2, sorts.size());
+    assertEquals(ScoreSortBuilder.class, sorts.get(0).getClass());
+    assertIdTiebreaker(sorts.get(1));
+    assertEquals(0, searchSourceBuilder.from());
+    assertNull(searchSourceBuilder.searchAfter());
+  }
+
+  @Test
+  void testSearchAfterNextPage() {
+    SearchSourceBuilder searchSourceBuilder = new SearchSourceBuilder().size(10).sort("updatedAt", SortOrder.DESC);
+    SearchResource.addSearchAfter(searchSourceBuilder, "[1680000000000, \"3f0c5ec4-4c4e-4a4e-9cde-8cb6f3e4b35a\"]");
+
+    // The given sort field is kept, followed by the tiebreaker
+    List<SortBuilder<?>> sorts = searchSourceBuilder.sorts();
+    assertEquals(2, sorts.size());
+    assertEquals("updatedAt", ((FieldSortBuilder) sorts.get(0)).getFieldName());
+    assertIdTiebreaker(sorts.get(1));
+    assertArrayEquals(
+        new Object[] {1680000000000L, "3f0c5ec4-4c4e-4a4e-9cde-8cb6f3e4b35a"}, searchSourceBuilder.searchAfter());
+  }
+
+  @Test
+  void testSearchAfterInvalidCursor() {
+    assertThrows(
+        IllegalArgumentException.class, () -> SearchResource.addSearchAfter(new SearchSourceBuilder(), "not-json"));
+
+    // Cursor must have a value for each sort
+    assertThrows(
+        IllegalArgumentException.class, () -> SearchResource.addSearchAfter(new SearchSourceBuilder(), "[1.5]"));
+  }
+
+  @Test
+  void testSearchEndpoint() {
+    assertEquals("/table_search_index/_search", SearchResource.getSearchEndpoint("table_search_index"));
+    assertEquals("/all/_search", SearchResource.getSearchEndpoint("all"));
+    assertEquals(
+        "/table_search_index,topic_search_index/_search",
+        SearchResource.getSearchEndpoint("table_search_index,topic_search_index"));
+
+    // Index must not change the request path or add query parameters
+    for (String index : List.of("", "..", "table_search_index/_doc", "../_cluster", "index?q=x", "index#x", "a b")) {
+      assertThrows(IllegalArgumentException.class, () -> SearchResource.getSearchEndpoint(index), index);
+    }
+  }
+
+  private static void assertIdTiebreaker(SortBuilder<?> sort) {
+    FieldSortBuilder fieldSort = (FieldSortBuilder) sort;
+    assertEquals("id.keyword", fieldSort.getFieldName());
+    assertEquals(SortOrder.ASC, fieldSort.order());
+  }
+}
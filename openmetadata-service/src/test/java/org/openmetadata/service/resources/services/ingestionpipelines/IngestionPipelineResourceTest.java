@@ -17,6 +17,7 @@ import static javax.ws.rs.core.Response.Status.BAD_REQUEST;
 import static javax.ws.rs.core.Response.Status.OK;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.openmetadata.service.Entity.FIELD_OWNER;
 import static org.openmetadata.service.util.EntityUtil.fieldAdded;
@@ -670,6 +671,76 @@ public class IngestionPipelineResourceTest extends EntityResourceTest<IngestionP
     TestUtils.readResponse(response, PipelineStatus.class, Status.NO_CONTENT.getStatusCode());
   }
 
+  @Test
+  void put_pipelineStatus_latestStatus(TestInfo test) throws IOException {
+    CreateDatabaseService createService =
+        new CreateDatabaseService()
+            .withName(getEntityName(test))
+            .withServiceType(CreateDatabaseService.DatabaseServiceType.BigQuery)
+            .withConnection(TestUtils.BIGQUERY_DATABASE_CONNECTION);
+    DatabaseService service = new DatabaseServiceResourceTest().createEntity(createService, ADMIN_AUTH_HEADERS);
+    IngestionPipeline ingestionPipeline =
+        createAndCheckEntity(createRequest(test, 1).withService(service.getEntityReference()), ADMIN_AUTH_HEADERS);
+    IngestionPipeline withoutStatus =
+        createAndCheckEntity(createRequest(test, 2).withService(service.getEntityReference()), ADMIN_AUTH_HEADERS);
+    String fqn = ingestionPipeline.getFullyQualifiedName();
+    String newerRunId = UUID.randomUUID().toString();
+    String olderRunId = UUID.randomUUID().toString();
+
+    putPipelineStatus(fqn, newerRunId, PipelineStatusType.RUNNING, 10L);
+    assertLatestPipelineStatus(ingestionPipeline, newerRunId, PipelineStatusType.RUNNING);
+
+    // An older status arriving after a newer one is stored, but the newer one remains the latest
+    putPipelineStatus(fqn, olderRunId, PipelineStatusType.FAILED, 5L);
+    assertLatestPipelineStatus(ingestionPipeline, newerRunId, PipelineStatusType.RUNNING);
+    PipelineStatus olderStatus =
+        TestUtils.get(getPipelineStatusByRunId(fqn, olderRunId), PipelineStatus.class, ADMIN_AUTH_HEADERS);
+    assertEquals(PipelineStatusType.FAILED, olderStatus.getPipelineState());
+
+    // An update of the latest run updates the latest status
+    putPipelineStatus(fqn, newerRunId, PipelineStatusType.SUCCESS, 10L);
+    assertLatestPipelineStatus(ingestionPipeline, newerRunId, PipelineStatusType.SUCCESS);
+
+    // Pipelines listed with their status get their latest status, and pipelines without any status get none
+    Map<String, String> queryParams = new HashMap<>();
+    queryParams.put("service", service.getName());
+    queryParams.put("fields", "pipelineStatuses");
+    List<IngestionPipeline> pipelines = listEntities(queryParams, ADMIN_AUTH_HEADERS).getData();
+    assertEquals(2, pipelines.size());
+    for (IngestionPipeline pipeline : pipelines) {
+      if (pipeline.getId().equals(ingestionPipeline.getId())) {
+        assertEquals(newerRunId, pipeline.getPipelineStatuses().getRunId());
+        assertEquals(PipelineStatusType.SUCCESS, pipeline.getPipelineStatuses().getPipelineState());
+      } else {
+        assertEquals(withoutStatus.getId(), pipeline.getId());
+        assertNull(pipeline.getPipelineStatuses());
+      }
+    }
+
+    // Deleting the statuses of the pipeline deletes its latest status too
+    TestUtils.delete(getDeletePipelineStatus(ingestionPipeline.getId().toString()), ADMIN_AUTH_HEADERS);
+    assertNull(getEntity(ingestionPipeline.getId(), "pipelineStatuses", ADMIN_AUTH_HEADERS).getPipelineStatuses());
+    pipelines = listEntities(queryParams, ADMIN_AUTH_HEADERS).getData();
+    assertTrue(pipelines.stream().allMatch(pipeline -> pipeline.getPipelineStatuses() == null));
+  }
+
+  private void putPipelineStatus(String fqn, String runId, PipelineStatusType state, long timestamp)
+      throws HttpResponseException {
+    TestUtils.put(
+        getPipelineStatusTarget(fqn),
+        new PipelineStatus().withPipelineState(state).withRunId(runId).withTimestamp(timestamp),
+        Response.Status.CREATED,
+        ADMIN_AUTH_HEADERS);
+  }
+
+  private void assertLatestPipelineStatus(IngestionPipeline ingestionPipeline, String runId, PipelineStatusType state)
+      throws HttpResponseException {
+    PipelineStatus latest =
+        getEntity(ingestionPipeline.getId(), "pipelineStatuses", ADMIN_AUTH_HEADERS).getPipelineStatuses();
+    assertEquals(runId, latest.getRunId());
+    assertEquals(state, latest.getPipelineState());
+  }
+
   private IngestionPipeline updateIngestionPipeline(CreateIngestionPipeline create, Map<String, String> authHeaders)
       throws HttpResponseException {
     return TestUtils.put(getCollection(), create, IngestionPipeline.class, Status.OK, authHeaders);
@@ -28,6 +28,7 @@ import static org.openmetadata.csv.EntityCsvTest.assertRows;
 import static org.openmetadata.csv.EntityCsvTest.assertSummary;
 import static org.openmetadata.csv.EntityCsvTest.createCsv;
 import static org.openmetadata.csv.EntityCsvTest.getFailedRecord;
+import static org.openmetadata.csv.EntityCsvTest.getSuccessRecord;
 import static org.openmetadata.schema.api.teams.CreateTeam.TeamType.BUSINESS_UNIT;
 import static org.openmetadata.schema.api.teams.CreateTeam.TeamType.DEPARTMENT;
 import static org.openmetadata.schema.api.teams.CreateTeam.TeamType.DIVISION;
@@ -70,6 +71,8 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import javax.ws.rs.client.WebTarget;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.csv.CSVPrinter;
+import org.apache.commons.csv.CSVRecord;
 import org.apache.http.client.HttpResponseException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
@@ -95,6 +98,7 @@ import org.openmetadata.schema.type.Include;
 import org.openmetadata.schema.type.MetadataOperation;
 import org.openmetadata.schema.type.Profile;
 import org.openmetadata.schema.type.Webhook;
+import org.openmetadata.schema.type.csv.CsvHeader;
 import org.openmetadata.schema.type.csv.CsvImportResult;
 import org.openmetadata.schema.type.profile.SubscriptionConfig;
 import org.openmetadata.service.Entity;
@@ -812,6 +816,47 @@ public class TeamResourceTest extends EntityResourceTest<Team, CreateTeam> {
     assertTrue(result.getImportResultsCsv().contains(error));
   }
 
+  @Test
+  void testImportCsvBatchTransaction(TestInfo test) throws IOException {
+    // The records of a batch are imported in a transaction, with a savepoint for each record
+    Team team = createEntity(createRequest(test).withTeamType(DEPARTMENT), ADMIN_AUTH_HEADERS);
+    String resultsHeader = recordToString(EntityCsv.getResultHeaders(BatchTestCsv.HEADERS));
+
+    // A failing record is rolled back alone, with the team it wrote, and the other records of its batch persist
+    List<String> records =
+        listOf(team.getName() + "_a", team.getName() + BatchTestCsv.FAIL_RECORD, team.getName() + "_b");
+    CsvImportResult result = new BatchTestCsv(team).importCsv(createCsv(BatchTestCsv.HEADERS, records, null), false);
+    assertSummary(result, CsvImportResult.Status.PARTIAL_SUCCESS, 4, 3, 1);
+    assertRows(
+        result,
+        resultsHeader,
+        getSuccessRecord(records.get(0), EntityCsv.ENTITY_CREATED),
+        getFailedRecord(records.get(1), BatchTestCsv.RECORD_FAILED),
+        getSuccessRecord(records.get(2), EntityCsv.ENTITY_CREATED));
+    assertEquals(records.get(0), getEntityByName(records.get(0), ADMIN_AUTH_HEADERS).getName());
+    assertEquals(records.get(2), getEntityByName(records.get(2), ADMIN_AUTH_HEADERS).getName());
+    String writtenByFailedRecord = BatchTestCsv.getWrittenTeamName(records.get(1));
+    assertResponse(
+        () -> getEntityByName(writtenByFailedRecord, ADMIN_AUTH_HEADERS),
+        NOT_FOUND,
+        entityNotFound(TEAM, writtenByFailedRecord));
+
+    // A failure of the batch rolls back all of its records, including the ones imported before the failure
+    List<String> batchRecords =
+        listOf(team.getName() + "_c", team.getName() + BatchTestCsv.FAIL_BATCH, team.getName() + "_d");
+    result = new BatchTestCsv(team).importCsv(createCsv(BatchTestCsv.HEADERS, batchRecords, null), false);
+    assertSummary(result, CsvImportResult.Status.FAILURE, 4, 1, 3);
+    assertRows(
+        result,
+        resultsHeader,
+        getFailedRecord(batchRecords.get(0), BatchTestCsv.BATCH_FAILED),
+        getFailedRecord(batchRecords.get(1), BatchTestCsv.BATCH_FAILED),
+        getFailedRecord(batchRecords.get(2), BatchTestCsv.BATCH_FAILED));
+    for (String name : List.of(batchRecords.get(0), batchRecords.get(2))) {
+      assertResponse(() -> getEntityByName(name, ADMIN_AUTH_HEADERS), NOT_FOUND, entityNotFound(TEAM, name));
+    }
+  }
+
   private static void validateTeam(
       Team team,
       String expectedDescription,
@@ -1067,4 +1112,53 @@ public class TeamResourceTest extends EntityResourceTest<Team, CreateTeam> {
         defaultRoles,
         policies);
   }
+  /**
+   * Imports the teams named in the records as groups under a team. A record named with {@link #FAIL_RECORD} writes a
+   * team and then fails, and a record named with {@link #FAIL_BATCH} throws an exception that fails its batch.
+   */
+  private static class BatchTestCsv extends EntityCsv<Team> {
+    static final List<CsvHeader> HEADERS = listOf(new CsvHeader().withName("name").withRequired(true));
+    static final String FAIL_RECORD = "_failRecord";
+    static final String FAIL_BATCH = "_failBatch";
+    static final String RECORD_FAILED = EntityCsv.invalidField(0, "Record failed");
+    static final String BATCH_FAILED = EntityCsv.invalidField(0, "Batch failed");
+    private final Team parent;
+
+    BatchTestCsv(Team parent) {
+      super(TEAM, HEADERS, getPrincipalName(ADMIN_AUTH_HEADERS));
+      this.parent = parent;
+    }
+
+    static String getWrittenTeamName(String name) {
+      return name + "_written";
+    }
+
+    @Override
+    protected Team toEntity(CSVPrinter printer, CSVRecord csvRecord) throws IOException {
+      String name = csvRecord.get(0);
+      if (name.endsWith(FAIL_BATCH)) {
+        throw new IllegalStateException(BATCH_FAILED);
+      }
+      if (name.endsWith(FAIL_RECORD)) {
+        String writtenName = getWrittenTeamName(name);
+        Team written =
+            new Team()
+                .withId(UUID.randomUUID())
+                .withName(writtenName)
+                .withFullyQualifiedName(writtenName)
+                .withTeamType(GROUP)
+                .withUpdatedBy(getPrincipalName(ADMIN_AUTH_HEADERS))
+                .withUpdatedAt(System.currentTimeMillis());
+        Entity.getEntityRepository(TEAM).getDao().insert(written);
+        importFailure(printer, RECORD_FAILED, csvRecord);
+        return null;
+      }
+      return new Team().withName(name).withTeamType(GROUP).withParents(listOf(parent.getEntityReference()));
+    }
+
+    @Override
+    protected List<String> toRecord(Team entity) {
+      return listOf(entity.getName());
+    }
+  }
 }
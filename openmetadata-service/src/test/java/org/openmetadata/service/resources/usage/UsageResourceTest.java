@@ -50,7 +50,10 @@ import org.junit.jupiter.api.Order;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInfo;
 import org.junit.jupiter.api.TestMethodOrder;
+import org.openmetadata.schema.api.data.BulkUsageResult;
+import org.openmetadata.schema.api.data.CreateBulkUsage;
 import org.openmetadata.schema.api.data.CreateTable;
+import org.openmetadata.schema.api.data.EntityDailyCount;
 import org.openmetadata.schema.entity.data.Database;
 import org.openmetadata.schema.entity.data.Table;
 import org.openmetadata.schema.type.DailyCount;
@@ -326,6 +329,62 @@ class UsageResourceTest extends OpenMetadataApplicationTest {
     Assertions.assertEquals(usage.getUsage().get(0), database.getUsageSummary());
   }
 
+  @Test
+  void post_bulkUsageWithNonExistentEntityId_4xx() {
+    CreateBulkUsage bulkUsage =
+        new CreateBulkUsage()
+            .withDate(RestUtil.DATE_FORMAT.format(new Date()))
+            .withUsage(
+                List.of(
+                    new EntityDailyCount().withId(TABLES.get(0).getId()).withCount(1),
+                    new EntityDailyCount().withId(NON_EXISTENT_ENTITY).withCount(1)));
+    assertResponse(
+        () -> reportBulkUsage(TABLE, bulkUsage, ADMIN_AUTH_HEADERS),
+        NOT_FOUND,
+        entityNotFound(TABLE, NON_EXISTENT_ENTITY));
+  }
+
+  @Test
+  void post_validBulkUsage_200(TestInfo test) throws IOException {
+    TableResourceTest tableResourceTest = new TableResourceTest();
+    List<Table> tables = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      tables.add(tableResourceTest.createEntity(tableResourceTest.createRequest(test, i), ADMIN_AUTH_HEADERS));
+    }
+
+    // Report usage for two consecutive days far in the future to not overlap with the usage of other tests
+    String today = RestUtil.DATE_FORMAT.format(new Date());
+    for (int day = 0; day < 2; day++) {
+      String date = getDateStringByOffset(RestUtil.DATE_FORMAT, today, 1000 + day);
+      List<EntityDailyCount> counts = new ArrayList<>();
+      for (int i = 0; i < tables.size(); i++) {
+        counts.add(new EntityDailyCount().withId(tables.get(i).getId()).withCount(10 * (i + 1)));
+      }
+      BulkUsageResult result =
+          reportBulkUsage(TABLE, new CreateBulkUsage().withDate(date).withUsage(counts), ADMIN_AUTH_HEADERS);
+
+      // The response summarizes the usage summaries updated instead of returning the change events
+      assertEquals(TABLE, result.getEntityType());
+      assertEquals(date, result.getDate());
+      assertEquals(tables.size(), result.getEntitiesUpdated());
+
+      // Daily count is the reported count and the rolling counts add up the previous days
+      for (int i = 0; i < tables.size(); i++) {
+        int count = 10 * (i + 1);
+        checkUsage(date, TABLE, tables.get(i).getId(), count, count * (day + 1), count * (day + 1), ADMIN_AUTH_HEADERS);
+      }
+    }
+
+    // Reporting the usage again for the same date replaces it
+    String date = getDateStringByOffset(RestUtil.DATE_FORMAT, today, 1001);
+    UUID tableId = tables.get(0).getId();
+    reportBulkUsage(
+        TABLE,
+        new CreateBulkUsage().withDate(date).withUsage(List.of(new EntityDailyCount().withId(tableId).withCount(5))),
+        ADMIN_AUTH_HEADERS);
+    checkUsage(date, TABLE, tableId, 5, 15, 15, ADMIN_AUTH_HEADERS);
+  }
+
   public DailyCount usageReport() {
     Random random = new Random();
     String today = RestUtil.DATE_FORMAT.format(new Date());
@@ -358,6 +417,12 @@ class UsageResourceTest extends OpenMetadataApplicationTest {
     TestUtils.post(target, usage, authHeaders);
   }
 
+  public BulkUsageResult reportBulkUsage(String entity, CreateBulkUsage usage, Map<String, String> authHeaders)
+      throws HttpResponseException {
+    WebTarget target = getResource("usage/").path(entity).path("/bulk");
+    return TestUtils.post(target, usage, BulkUsageResult.class, authHeaders);
+  }
+
   public void reportUsagePut(String entity, UUID id, DailyCount usage, Map<String, String> authHeaders)
       throws HttpResponseException {
     WebTarget target = getResource("usage/").path(entity).path("/").path(id.toString());
@@ -0,0 +1,178 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.exception.SecretsManagerException;
+
+/** Tests writing the secrets of {@link ExternalSecretsManager}, with the in-memory store as the external store */
+class ExternalSecretsManagerWriteTest {
+  private RecordingSecretsManager secretsManager;
+
+  @BeforeEach
+  void setUp() {
+    secretsManager = new RecordingSecretsManager();
+  }
+
+  @Test
+  void testSecretsAreStoredWhenUpserted() {
+    secretsManager.upsertSecret("/openmetadata/a", "value-a");
+    assertEquals("value-a", secretsManager.getSecretsMap().get("/openmetadata/a"));
+    secretsManager.upsertSecret("/openmetadata/a", "new-value-a");
+    assertEquals("new-value-a", secretsManager.getSecretsMap().get("/openmetadata/a"));
+    assertEquals(List.of("store /openmetadata/a", "update /openmetadata/a"), secretsManager.writes);
+
+    // A failing write fails the upsert, and the next upsert checks the store again
+    secretsManager.failWrites = true;
+    assertThrows(SecretsManagerException.class, () -> secretsManager.upsertSecret("/openmetadata/a", "value-c"));
+    secretsManager.failWrites = false;
+    int reads = secretsManager.reads.size();
+    secretsManager.upsertSecret("/openmetadata/a", "value-c");
+    assertEquals(reads + 1, secretsManager.reads.size());
+    assertEquals("value-c", secretsManager.getSecretsMap().get("/openmetadata/a"));
+  }
+
+  @Test
+  void testSecretsAreWrittenBehind() throws InterruptedException {
+    secretsManager.startWriteBehind();
+    secretsManager.upsertSecret("/openmetadata/a", "value-a");
+    secretsManager.upsertSecret("/openmetadata/b", null);
+    secretsManager.flush();
+    assertEquals("value-a", secretsManager.getSecretsMap().get("/openmetadata/a"));
+    assertEquals(ExternalSecretsManager.NULL_SECRET_STRING, secretsManager.getSecretsMap().get("/openmetadata/b"));
+    assertEquals(List.of("store /openmetadata/a", "store /openmetadata/b"), secretsManager.writes);
+
+    // Updating a secret replaces its value
+    secretsManager.startWriteBehind();
+    secretsManager.upsertSecret("/openmetadata/a", "new-value-a");
+    secretsManager.flush();
+    assertEquals("new-value-a", secretsManager.getSecretsMap().get("/openmetadata/a"));
+    assertEquals("update /openmetadata/a", secretsManager.writes.get(2));
+  }
+
+  @Test
+  void testFailedWritesBehindAreReturnedByFlush() throws InterruptedException {
+    secretsManager.startWriteBehind();
+    secretsManager.failWrites = true;
+    secretsManager.upsertSecret("/openmetadata/a", "value-a");
+    secretsManager.upsertSecret("/openmetadata/b", "value-b");
+    assertEquals(Set.of("/openmetadata/a", "/openmetadata/b"), secretsManager.flush());
+
+    // Failures are reported once, and secrets are stored when upserted after the flush
+    secretsManager.failWrites = false;
+    assertEquals(Set.of(), secretsManager.flush());
+    secretsManager.upsertSecret("/openmetadata/a", "value-a");
+    assertEquals("value-a", secretsManager.getSecretsMap().get("/openmetadata/a"));
+  }
+
+  @Test
+  void testFailedWritesBehindAreRetried() throws InterruptedException {
+    secretsManager.startWriteBehind();
+    secretsManager.failNextWrites.set(1);
+    secretsManager.upsertSecret("/openmetadata/a", "value-a");
+    secretsManager.upsertSecret("/openmetadata/b", "value-b");
+    assertEquals(Set.of(), secretsManager.flush());
+
+    // The failed secret is retried after the other queued secrets
+    assertEquals(List.of("store /openmetadata/b", "store /openmetadata/a"), secretsManager.writes);
+    assertEquals("value-a", secretsManager.getSecretsMap().get("/openmetadata/a"));
+  }
+
+  @Test
+  void testUnchangedSecretsAreNotWrittenAgain() {
+    secretsManager.upsertSecret("/openmetadata/a", "value-a");
+    int reads = secretsManager.reads.size();
+
+    secretsManager.upsertSecret("/openmetadata/a", "value-a");
+    assertEquals(1, secretsManager.writes.size());
+    assertEquals(reads, secretsManager.reads.size());
+    assertTrue(secretsManager.existSecret("/openmetadata/a"));
+    assertEquals(reads, secretsManager.reads.size());
+  }
+
+  @Test
+  void testUpsertsOfQueuedSecretsAreCoalesced() throws InterruptedException {
+    secretsManager.startWriteBehind();
+    secretsManager.block = new CountDownLatch(1);
+    secretsManager.upsertSecret("/openmetadata/a", "value-a");
+    assertTrue(secretsManager.blocked.await(10, TimeUnit.SECONDS));
+
+    // Upserts queued while the writer is busy with another secret
+    for (int i = 0; i < 10; i++) {
+      secretsManager.upsertSecret("/openmetadata/b", "value-b-" + i);
+    }
+    assertTrue(secretsManager.existSecret("/openmetadata/b"));
+    secretsManager.block.countDown();
+    secretsManager.flush();
+
+    assertEquals(List.of("store /openmetadata/a", "store /openmetadata/b"), secretsManager.writes);
+    assertEquals("value-b-9", secretsManager.getSecretsMap().get("/openmetadata/b"));
+  }
+
+  private static class RecordingSecretsManager extends InMemorySecretsManager {
+    private final List<String> writes = Collections.synchronizedList(new ArrayList<>());
+    private final List<String> reads = Collections.synchronizedList(new ArrayList<>());
+    private final CountDownLatch blocked = new CountDownLatch(1);
+    private volatile CountDownLatch block = new CountDownLatch(0);
+    private volatile boolean failWrites = false;
+    private final AtomicInteger failNextWrites = new AtomicInteger();
+
+    private RecordingSecretsManager() {
+      super("openmetadata");
+    }
+
+    @Override
+    void storeSecret(String secretName, String secretValue) {
+      blocked.countDown();
+      try {
+        block.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      failWrite();
+      writes.add("store " + secretName);
+      super.storeSecret(secretName, secretValue);
+    }
+
+    @Override
+    void updateSecret(String secretName, String secretValue) {
+      failWrite();
+      writes.add("update " + secretName);
+      getSecretsMap().put(secretName, secretValue);
+    }
+
+    private void failWrite() {
+      if (failWrites || failNextWrites.getAndDecrement() > 0) {
+        throw new SecretsManagerException("Store unavailable");
+      }
+    }
+
+    @Override
+    String getSecret(String secretName) {
+      reads.add(secretName);
+      return super.getSecret(secretName);
+    }
+  }
+}
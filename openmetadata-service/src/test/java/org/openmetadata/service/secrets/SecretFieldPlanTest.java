@@ -0,0 +1,45 @@
+package org.openmetadata.service.secrets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.schema.services.connections.database.MysqlConnection;
+import org.openmetadata.schema.services.connections.pipeline.AirflowConnection;
+
+class SecretFieldPlanTest {
+
+  @Test
+  void testPlanListsFieldsThatMayHoldPasswords() {
+    Map<String, SecretFieldPlan.SecretField> mysqlFields = getFields(MysqlConnection.class);
+    assertTrue(mysqlFields.get("Password").isPassword());
+    // Strings that are not password fields can not hold passwords
+    assertFalse(mysqlFields.containsKey("Username"));
+    assertFalse(mysqlFields.containsKey("Class"));
+
+    // Objects of any class may hold passwords
+    Map<String, SecretFieldPlan.SecretField> airflowFields = getFields(AirflowConnection.class);
+    assertFalse(airflowFields.get("Connection").isPassword());
+
+    // Plans are built once per class
+    assertSame(SecretFieldPlan.of(MysqlConnection.class), SecretFieldPlan.of(MysqlConnection.class));
+  }
+
+  @Test
+  void testPlanReadsAndWritesFields() {
+    MysqlConnection mysqlConnection = new MysqlConnection().withPassword("password");
+    SecretFieldPlan.SecretField password = getFields(MysqlConnection.class).get("Password");
+    assertEquals("password", password.get(mysqlConnection));
+    password.set(mysqlConnection, "secret");
+    assertEquals("secret", mysqlConnection.getPassword());
+  }
+
+  private static Map<String, SecretFieldPlan.SecretField> getFields(Class<?> clazz) {
+    return SecretFieldPlan.of(clazz).getFields().stream()
+        .collect(Collectors.toMap(SecretFieldPlan.SecretField::getName, field -> field));
+  }
+}
@@ -15,6 +15,7 @@ package org.openmetadata.service.security;
 
 import static java.lang.String.format;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -45,6 +46,7 @@ import javax.ws.rs.core.UriInfo;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.openmetadata.service.security.auth.VerifiedTokenCache;
 
 class JwtFilterTest {
 
@@ -219,6 +221,46 @@ class JwtFilterTest {
     assertTrue(exception.getMessage().toLowerCase(Locale.ROOT).contains("invalid token"));
   }
 
+  @Test
+  void testVerifiedTokenIsCached() throws Exception {
+    Jwk jwk = jwkProvider.get(algorithm.getSigningKeyId());
+    JwkProvider cachingJwkProvider = mock(JwkProvider.class);
+    when(cachingJwkProvider.get(algorithm.getSigningKeyId())).thenReturn(jwk);
+    JwtFilter cachingJwtFilter = new JwtFilter(cachingJwkProvider, List.of("sub"), "openmetadata.org", false);
+
+    String jwt =
+        JWT.create()
+            .withExpiresAt(Date.from(Instant.now().plus(1, ChronoUnit.DAYS)))
+            .withClaim("sub", "cached")
+            .sign(algorithm);
+    for (int i = 0; i < 3; i++) {
+      ContainerRequestContext context = createRequestContextWithJwt(jwt);
+      cachingJwtFilter.filter(context);
+
+      ArgumentCaptor<SecurityContext> securityContextArgument = ArgumentCaptor.forClass(SecurityContext.class);
+      verify(context, times(1)).setSecurityContext(securityContextArgument.capture());
+      assertEquals("cached", securityContextArgument.getValue().getUserPrincipal().getName());
+    }
+    // The signature is verified only for the first request
+    verify(cachingJwkProvider, times(1)).get(algorithm.getSigningKeyId());
+  }
+
+  @Test
+  void testVerifiedTokenCacheExpiryAndInvalidation() {
+    VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache();
+    verifiedTokenCache.put("expired", "sam", Date.from(Instant.now().minus(1, ChronoUnit.SECONDS)));
+    verifiedTokenCache.put("valid", "sam", Date.from(Instant.now().plus(1, ChronoUnit.DAYS)));
+    verifiedTokenCache.put("neverExpiring", "bot", null);
+    assertNull(verifiedTokenCache.getUserName("expired"));
+    assertEquals("sam", verifiedTokenCache.getUserName("valid"));
+    assertEquals("bot", verifiedTokenCache.getUserName("neverExpiring"));
+
+    // Revoking the tokens of a user removes only that user's tokens
+    verifiedTokenCache.invalidateTokens("sam");
+    assertNull(verifiedTokenCache.getUserName("valid"));
+    assertEquals("bot", verifiedTokenCache.getUserName("neverExpiring"));
+  }
+
   /**
    * Creates the ContainerRequestsContext that is passed to the filter. This object can be quite complex, but the
    * JwtFilter cares only about the Authorization header and request URI.
@@ -0,0 +1,236 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.auth0.jwk.SigningKeyNotFoundException;
+import com.auth0.jwk.UrlJwkProvider;
+import com.google.common.base.Ticker;
+import com.sun.net.httpserver.HttpServer;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/** Tests the signing key cache against a local server standing in for the identity provider */
+class MultiUrlJwkProviderTest {
+  private static HttpServer server;
+  private static URL jwksUrl;
+  private static final AtomicReference<String> jwks = new AtomicReference<>();
+  private static final AtomicInteger status = new AtomicInteger();
+  private static final AtomicInteger fetches = new AtomicInteger();
+  private static RSAPublicKey key1;
+  private static RSAPublicKey key2;
+
+  private FakeTicker ticker;
+  private MultiUrlJwkProvider jwkProvider;
+
+  @BeforeAll
+  static void beforeAll() throws Exception {
+    KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+    keyPairGenerator.initialize(512);
+    key1 = (RSAPublicKey) keyPairGenerator.generateKeyPair().getPublic();
+    key2 = (RSAPublicKey) keyPairGenerator.generateKeyPair().getPublic();
+
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/jwks",
+        exchange -> {
+          fetches.incrementAndGet();
+          byte[] body = jwks.get().getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(status.get(), body.length);
+          try (OutputStream os = exchange.getResponseBody()) {
+            os.write(body);
+          }
+        });
+    server.start();
+    jwksUrl = new URL(String.format("http://localhost:%d/jwks", server.getAddress().getPort()));
+  }
+
+  @AfterAll
+  static void afterAll() {
+    server.stop(0);
+  }
+
+  @BeforeEach
+  void beforeEach() {
+    jwks.set(jwks(jwk("key-1", key1)));
+    status.set(200);
+    fetches.set(0);
+    ticker = new FakeTicker();
+    jwkProvider = new MultiUrlJwkProvider(List.of(new UrlJwkProvider(jwksUrl)), ticker);
+  }
+
+  @Test
+  void testKeysAreCached() throws Exception {
+    assertEquals(key1, jwkProvider.get("key-1").getPublicKey());
+    assertEquals(key1, jwkProvider.get("key-1").getPublicKey());
+    assertEquals(1, fetches.get());
+
+    // Keys are fetched again once expired
+    ticker.advance(MultiUrlJwkProvider.KEY_TTL.toNanos());
+    assertEquals(key1, jwkProvider.get("key-1").getPublicKey());
+    assertEquals(2, fetches.get());
+  }
+
+  @Test
+  void testTokenWithoutKeyId() throws Exception {
+    assertEquals(key1, jwkProvider.get(null).getPublicKey());
+    assertEquals(1, fetches.get());
+  }
+
+  @Test
+  void testUnknownKeysAreRejectedWithoutFetching() throws Exception {
+    assertThrows(SigningKeyNotFoundException.class, () -> jwkProvider.get("bogus"));
+    assertEquals(1, fetches.get());
+
+    // Other unknown keys do not fetch the keys again until the minimum fetch interval has passed
+    for (int i = 0; i < 10; i++) {
+      String keyId = "bogus-" + i;
+      assertThrows(SigningKeyNotFoundException.class, () -> jwkProvider.get(keyId));
+    }
+    assertThrows(SigningKeyNotFoundException.class, () -> jwkProvider.get("bogus"));
+    assertEquals(1, fetches.get());
+
+    // Once it has passed, a key not found in a fetch fetches the keys again
+    ticker.advance(MultiUrlJwkProvider.MIN_FETCH_INTERVAL.toNanos());
+    assertThrows(SigningKeyNotFoundException.class, () -> jwkProvider.get("bogus-0"));
+    assertEquals(2, fetches.get());
+    assertThrows(SigningKeyNotFoundException.class, () -> jwkProvider.get("bogus"));
+    assertEquals(2, fetches.get());
+  }
+
+  @Test
+  void testNewKeyFetchedAfterMinFetchInterval() throws Exception {
+    assertEquals(key1, jwkProvider.get("key-1").getPublicKey());
+
+    // A new key rejected without fetching is not taken as unknown, and is fetched once a fetch is allowed
+    jwks.set(jwks(jwk("key-1", key1), jwk("key-2", key2)));
+    ticker.advance(MultiUrlJwkProvider.MIN_FETCH_INTERVAL.toNanos() / 2);
+    assertThrows(SigningKeyNotFoundException.class, () -> jwkProvider.get("key-2"));
+    assertEquals(1, fetches.get());
+    ticker.advance(MultiUrlJwkProvider.MIN_FETCH_INTERVAL.toNanos() / 2);
+    assertEquals(key2, jwkProvider.get("key-2").getPublicKey());
+    assertEquals(2, fetches.get());
+  }
+
+  @Test
+  void testKeyNotTakenAsUnknownWhenFetchFails() throws Exception {
+    status.set(500);
+    assertThrows(SigningKeyNotFoundException.class, () -> jwkProvider.get("key-1"));
+    assertEquals(1, fetches.get());
+
+    status.set(200);
+    ticker.advance(MultiUrlJwkProvider.MIN_FETCH_INTERVAL.toNanos());
+    assertEquals(key1, jwkProvider.get("key-1").getPublicKey());
+    assertEquals(2, fetches.get());
+  }
+
+  @Test
+  void testKeyRotation() throws Exception {
+    assertEquals(key1, jwkProvider.get("key-1").getPublicKey());
+
+    jwks.set(jwks(jwk("key-1", key1), jwk("key-2", key2)));
+    ticker.advance(MultiUrlJwkProvider.MIN_FETCH_INTERVAL.toNanos());
+    assertEquals(key2, jwkProvider.get("key-2").getPublicKey());
+    assertEquals(key1, jwkProvider.get("key-1").getPublicKey());
+    assertEquals(2, fetches.get());
+
+    // Refreshing in the background makes new keys available without fetching on the request
+    jwks.set(jwks(jwk("key-3", key1)));
+    jwkProvider.refresh();
+    assertEquals(3, fetches.get());
+    assertEquals(key1, jwkProvider.get("key-3").getPublicKey());
+    assertEquals(3, fetches.get());
+
+    // Keys removed from the url are no longer used
+    assertThrows(SigningKeyNotFoundException.class, () -> jwkProvider.get("key-1"));
+    assertThrows(SigningKeyNotFoundException.class, () -> jwkProvider.get("key-2"));
+    assertEquals(3, fetches.get());
+  }
+
+  @Test
+  void testConcurrentRequestsFetchOnce() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<RSAPublicKey>> futures = new ArrayList<>();
+      Callable<RSAPublicKey> getKey = () -> (RSAPublicKey) jwkProvider.get("key-1").getPublicKey();
+      for (int i = 0; i < 32; i++) {
+        futures.add(executor.submit(getKey));
+      }
+      for (Future<RSAPublicKey> future : futures) {
+        assertEquals(key1, future.get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(1, fetches.get());
+  }
+
+  @Test
+  void testCachedKeysAreKeptWhenFetchFails() throws Exception {
+    assertEquals(key1, jwkProvider.get("key-1").getPublicKey());
+
+    status.set(500);
+    jwkProvider.refresh();
+    assertEquals(2, fetches.get());
+    assertEquals(key1, jwkProvider.get("key-1").getPublicKey());
+    assertEquals(2, fetches.get());
+  }
+
+  private static String jwks(String... keys) {
+    return String.format("{\"keys\":[%s]}", String.join(",", keys));
+  }
+
+  private static String jwk(String keyId, RSAPublicKey publicKey) {
+    Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+    return String.format(
+        "{\"kty\":\"RSA\",\"kid\":\"%s\",\"use\":\"sig\",\"alg\":\"RS256\",\"n\":\"%s\",\"e\":\"%s\"}",
+        keyId,
+        encoder.encodeToString(publicKey.getModulus().toByteArray()),
+        encoder.encodeToString(publicKey.getPublicExponent().toByteArray()));
+  }
+
+  private static class FakeTicker extends Ticker {
+    private final AtomicLong nanos = new AtomicLong(System.nanoTime());
+
+    @Override
+    public long read() {
+      return nanos.get();
+    }
+
+    void advance(long durationNanos) {
+      nanos.addAndGet(durationNanos);
+    }
+  }
+}
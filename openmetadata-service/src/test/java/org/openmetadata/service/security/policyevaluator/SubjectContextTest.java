@@ -16,6 +16,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 import static org.openmetadata.common.utils.CommonUtil.listOrEmpty;
 
 import java.util.ArrayList;
@@ -33,6 +34,7 @@ import org.openmetadata.schema.entity.teams.Team;
 import org.openmetadata.schema.entity.teams.User;
 import org.openmetadata.schema.type.EntityReference;
 import org.openmetadata.service.Entity;
+import org.openmetadata.service.jdbi3.CollectionDAO.TeamParentRecord;
 import org.openmetadata.service.jdbi3.PolicyRepository;
 import org.openmetadata.service.jdbi3.RoleRepository;
 import org.openmetadata.service.jdbi3.TeamRepository;
@@ -63,16 +65,20 @@ public class SubjectContextTest {
 
   private static List<Role> userRoles;
   private static User user;
+  private static final List<TeamParentRecord> teamParents = new ArrayList<>();
 
   @BeforeAll
   public static void setup() {
     Entity.registerEntity(User.class, Entity.USER, mock(UserRepository.class), null);
-    Entity.registerEntity(Team.class, Entity.TEAM, mock(TeamRepository.class), null);
+    TeamRepository teamRepository = mock(TeamRepository.class);
+    Entity.registerEntity(Team.class, Entity.TEAM, teamRepository, null);
     Entity.registerEntity(Policy.class, Entity.POLICY, mock(PolicyRepository.class), null);
     Entity.registerEntity(Role.class, Entity.ROLE, mock(RoleRepository.class), null);
     PolicyCache.initialize();
     RoleCache.initialize();
     SubjectCache.initialize();
+    Team organization = createTeam(Entity.ORGANIZATION_NAME, new ArrayList<>(), new ArrayList<>(), null);
+    SubjectCache.TEAM_CACHE.put(organization.getName(), organization);
 
     // Create team hierarchy:
     //                           team1
@@ -106,6 +112,7 @@ public class SubjectContextTest {
     team131Roles = getRoles("team131");
     team131Policies = getPolicies("team131");
     team131 = createTeam("team131", team131Roles, team131Policies, List.of(team13));
+    when(teamRepository.getParentRelationships()).thenReturn(teamParents);
 
     // Add user to team111
     userRoles = getRoles("user");
@@ -269,6 +276,14 @@ public class SubjectContextTest {
             .withPolicies(toEntityReferences(policies))
             .withParents(parentList);
     SubjectCache.TEAM_CACHE_WITH_ID.put(team.getId(), team);
+    for (Team parent : listOrEmpty(parents)) {
+      teamParents.add(
+          TeamParentRecord.builder()
+              .teamId(team.getId())
+              .parentId(parent.getId())
+              .parentName(parent.getName())
+              .build());
+    }
     return team;
   }
 
@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.openmetadata.service.security.policyevaluator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.openmetadata.service.jdbi3.CollectionDAO.TeamParentRecord;
+
+class TeamHierarchyIndexTest {
+  private final UUID organization = UUID.randomUUID();
+  private final UUID division = UUID.randomUUID();
+  private final UUID department1 = UUID.randomUUID();
+  private final UUID department2 = UUID.randomUUID();
+  private final UUID group = UUID.randomUUID();
+
+  @Test
+  void testParentsAreOrderedByName() {
+    // Relationships are listed in no particular order - parents of a team are ordered by name like Team.getParents()
+    List<TeamParentRecord> records = new ArrayList<>();
+    records.add(parent(group, department2, "b-department"));
+    records.add(parent(group, department1, "a-department"));
+    records.add(parent(department1, division, "division"));
+    records.add(parent(department2, division, "division"));
+    TeamHierarchyIndex index = new TeamHierarchyIndex(organization, "1", records);
+
+    assertEquals(List.of(department1, department2), index.getParents(group));
+    assertEquals(List.of(division), index.getParents(department1));
+  }
+
+  @Test
+  void testTeamsWithoutParentsAreUnderOrganization() {
+    TeamHierarchyIndex index = new TeamHierarchyIndex(organization, "1", List.of());
+    assertEquals(List.of(organization), index.getParents(division));
+    assertTrue(index.getParents(organization).isEmpty());
+  }
+
+  @Test
+  void testAncestorsInDepthFirstOrder() {
+    //            organization
+    //                 |
+    //             division
+    //             /       \
+    //     department1   department2
+    //             \       /
+    //               group
+    List<TeamParentRecord> records = new ArrayList<>();
+    records.add(parent(group, department1, "department1"));
+    records.add(parent(group, department2, "department2"));
+    records.add(parent(department1, division, "division"));
+    records.add(parent(department2, division, "division"));
+    TeamHierarchyIndex index = new TeamHierarchyIndex(organization, "1", records);
+
+    // The team itself first, then the parents walking up the hierarchy depth first, visiting each team once
+    assertEquals(
+        List.of(group, department1, division, organization, department2), new ArrayList<>(index.getAncestors(group)));
+    assertEquals(List.of(department2, division, organization), new ArrayList<>(index.getAncestors(department2)));
+    assertEquals(List.of(organization), new ArrayList<>(index.getAncestors(organization)));
+  }
+
+  @Test
+  void testVersion() {
+    TeamHierarchyIndex index = new TeamHierarchyIndex(organization, "5:1000", List.of());
+    assertEquals("5:1000", index.getVersion());
+    index.setCheckedAt(1234L);
+    assertEquals(1234L, index.getCheckedAt());
+  }
+
+  private static TeamParentRecord parent(UUID team, UUID parent, String parentName) {
+    return TeamParentRecord.builder().teamId(team).parentId(parent).parentName(parentName).build();
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2021 Collate
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+package org.openmetadata.service.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class EntityUtilTest {
+  @Test
+  void test_getJsonDataResources() throws IOException {
+    List<String> roles = EntityUtil.getJsonDataResources(".*json/data/role/.*\\.json$");
+    assertTrue(roles.stream().anyMatch(role -> role.endsWith("json/data/role/DataSteward.json")));
+    assertTrue(roles.stream().allMatch(role -> role.contains("json/data/role/")));
+
+    // Json files outside of json/data and json/schema are found too
+    assertFalse(EntityUtil.getJsonDataResources(".*elasticsearch/.*\\.json$").isEmpty());
+  }
+
+  @Test
+  void test_getJsonDataOrSchemaResources() throws IOException {
+    List<String> roles = EntityUtil.getJsonDataOrSchemaResources(".*json/data/role/.*\\.json$");
+    assertEquals(sorted(EntityUtil.getJsonDataResources(".*json/data/role/.*\\.json$")), sorted(roles));
+
+    // Lookups after the first one are served from the resources found by the first one
+    assertEquals(roles, EntityUtil.getJsonDataOrSchemaResources(".*json/data/role/.*\\.json$"));
+    assertTrue(EntityUtil.getJsonDataOrSchemaResources(".*json/data/unknown/.*\\.json$").isEmpty());
+    assertFalse(EntityUtil.getJsonDataOrSchemaResources(".*json/schema/entity/.*\\.json$").isEmpty());
+
+    // Json files outside of json/data and json/schema are not
+    assertTrue(EntityUtil.getJsonDataOrSchemaResources(".*elasticsearch/.*\\.json$").isEmpty());
+  }
+
+  private static List<String> sorted(List<String> resources) {
+    List<String> copy = new ArrayList<>(resources);
+    Collections.sort(copy);
+    return copy;
+  }
+}
@@ -22,6 +22,8 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import javax.json.Json;
@@ -37,6 +39,7 @@ import org.openmetadata.schema.entity.services.DatabaseService;
 import org.openmetadata.schema.entity.teams.Team;
 import org.openmetadata.schema.services.connections.dashboard.TableauConnection;
 import org.openmetadata.schema.services.connections.database.MysqlConnection;
+import org.openmetadata.schema.type.EntityReference;
 
 /** This test provides examples of how to use applyPatch */
 @Slf4j
@@ -137,4 +140,30 @@ class JsonUtilsTest {
     String actualJson = JsonUtils.pojoToMaskedJson(databaseService);
     assertEquals(expectedJson, actualJson);
   }
+
+  @Test
+  void testPojoToJsonWithFields() throws IOException {
+    Team team =
+        new Team()
+            .withId(UUID.randomUUID())
+            .withName("team")
+            .withDescription("description")
+            .withOwner(new EntityReference().withId(UUID.randomUUID()).withType("user").withName("owner"))
+            .withUsers(List.of(new EntityReference().withId(UUID.randomUUID()).withType("user")))
+            .withVersion(0.1);
+    List<String> excludedFields = List.of("users", "owner");
+    Map<String, Object> fields = new LinkedHashMap<>();
+    fields.put("description", "updated");
+    fields.put("owner", Map.of("name", "owner"));
+    fields.put("suggest", List.of("team"));
+    fields.put("displayName", null);
+
+    // Same as serializing the map of the object with the fields removed and put
+    Map<String, Object> expected = JsonUtils.getMap(team);
+    excludedFields.forEach(expected::remove);
+    expected.putAll(fields);
+    String json = JsonUtils.pojoToJson(team, excludedFields, fields);
+    assertEquals(JsonUtils.pojoToJson(expected), json);
+    assertTrue(json.endsWith("\"owner\":{\"name\":\"owner\"},\"suggest\":[\"team\"],\"displayName\":null}"));
+  }
 }